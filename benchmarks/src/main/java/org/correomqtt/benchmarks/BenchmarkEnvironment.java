@@ -0,0 +1,33 @@
+package org.correomqtt.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Redirects the CorreoMQTT config directory into a temporary directory, so benchmarks never touch the real user
+ * configuration. Must be called before anything reads the config directory.
+ */
+public class BenchmarkEnvironment {
+
+    private static final String TARGET_DIRECTORY_PROPERTY = "correomqtt.dir";
+
+    private BenchmarkEnvironment() {
+        // private constructor
+    }
+
+    public static synchronized Path useTemporaryConfigDirectory() {
+        String existing = System.getProperty(TARGET_DIRECTORY_PROPERTY);
+        if (existing != null) {
+            return Path.of(existing);
+        }
+        try {
+            Path directory = Files.createTempDirectory("correomqtt-benchmarks");
+            System.setProperty(TARGET_DIRECTORY_PROPERTY, directory.toString());
+            return directory;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.correomqtt.benchmarks;
+
+import org.correomqtt.core.utils.CorreoCharsetDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CharsetDecoderBenchmark {
+
+    @Param({"64", "1024", "65536"})
+    private int payloadSize;
+
+    @Param({"true", "false"})
+    private boolean ascii;
+
+    private byte[] payload;
+
+    @Setup
+    public void setup() {
+        payload = Payloads.text(payloadSize, ascii).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String decode() {
+        return CorreoCharsetDecoder.decode(payload);
+    }
+}
@@ -0,0 +1,56 @@
+package org.correomqtt.benchmarks;
+
+import org.correomqtt.core.encryption.EncryptorAesGcm;
+import org.correomqtt.core.fileprovider.EncryptionRecoverableException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encryption of the password store. Every call derives the key from the password with a fresh salt, so the numbers are
+ * dominated by key derivation rather than the cipher itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncryptorBenchmark {
+
+    private static final String PASSWORD = "correo-benchmark";
+
+    @Param({"256", "8192"})
+    private int dataSize;
+
+    private EncryptorAesGcm encryptor;
+    private String plain;
+    private String encrypted;
+
+    @Setup
+    public void setup() throws EncryptionRecoverableException {
+        encryptor = new EncryptorAesGcm(PASSWORD);
+        plain = Payloads.text(dataSize, true);
+        encrypted = encryptor.encrypt(plain);
+    }
+
+    @Benchmark
+    public String encrypt() throws EncryptionRecoverableException {
+        return encryptor.encrypt(plain);
+    }
+
+    @Benchmark
+    public String decrypt() throws EncryptionRecoverableException {
+        return encryptor.decrypt(encrypted);
+    }
+}
@@ -0,0 +1,70 @@
+package org.correomqtt.benchmarks;
+
+import org.correomqtt.benchmarks.events.BenchmarkObserver;
+import org.correomqtt.benchmarks.events.BroadcastBenchmarkEvent;
+import org.correomqtt.benchmarks.events.FilteredBenchmarkEvent;
+import org.correomqtt.di.SoyDi;
+import org.correomqtt.di.SoyEvents;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Synchronous dispatch through the event bus with one observer instance per connection. The filtered event carries a
+ * connection id filter, the broadcast event none. Filter getters of observers are not registered by the event bus, so
+ * both events currently reach every instance and the difference is the cost of the filter lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int connections;
+
+    // the event bus only keeps weak references
+    private final List<BenchmarkObserver> observers = new ArrayList<>();
+
+    private SoyEvents soyEvents;
+    private FilteredBenchmarkEvent filteredEvent;
+    private BroadcastBenchmarkEvent broadcastEvent;
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.useTemporaryConfigDirectory();
+        SoyDi.scan(BenchmarkObserver.class.getPackageName());
+        for (int i = 0; i < connections; i++) {
+            BenchmarkObserver observer = new BenchmarkObserver("connection-" + i);
+            SoyEvents.registerInstance(observer);
+            observers.add(observer);
+        }
+        soyEvents = new SoyEvents();
+        filteredEvent = new FilteredBenchmarkEvent("connection-0");
+        broadcastEvent = new BroadcastBenchmarkEvent();
+    }
+
+    @Benchmark
+    public int fireFiltered() {
+        return soyEvents.fire(filteredEvent);
+    }
+
+    @Benchmark
+    public int fireBroadcast() {
+        return soyEvents.fire(broadcastEvent);
+    }
+}
@@ -0,0 +1,65 @@
+package org.correomqtt.benchmarks;
+
+import org.correomqtt.core.fileprovider.PublishMessageHistory;
+import org.correomqtt.core.model.MessageDTO;
+import org.correomqtt.core.model.MessageType;
+import org.correomqtt.core.model.Qos;
+import org.correomqtt.core.pubsub.PublishEvent;
+import org.correomqtt.di.SoyEvents;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Each publish rewrites the whole history file of the connection. After warmup the history is at its limit, so this
+ * measures the steady state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HistoryPersistenceBenchmark {
+
+    private static final String CONNECTION_ID = "benchmark-history";
+
+    private PublishMessageHistory history;
+    private PublishEvent publishEvent;
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.useTemporaryConfigDirectory();
+        history = new PublishMessageHistory(null, new SoyEvents(), CONNECTION_ID);
+        publishEvent = new PublishEvent(CONNECTION_ID, MessageDTO.builder()
+                .topic("correo/benchmark/history")
+                .payload(Payloads.text(1024, true))
+                .qos(Qos.AT_LEAST_ONCE)
+                .dateTime(LocalDateTime.now())
+                .messageId(UUID.randomUUID().toString())
+                .messageType(MessageType.OUTGOING)
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        history.cleanUp();
+    }
+
+    @Benchmark
+    public void persistPublish() {
+        history.onPublishSucceeded(publishEvent);
+    }
+}
@@ -0,0 +1,49 @@
+package org.correomqtt.benchmarks;
+
+import org.correomqtt.core.model.MessageDTO;
+import org.correomqtt.core.model.MessageType;
+import org.correomqtt.core.model.Qos;
+import org.correomqtt.core.plugin.model.MessageExtensionDTO;
+import org.correomqtt.core.transformer.MessageExtensionTransformer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MergeDTOBenchmark {
+
+    private MessageDTO messageDTO;
+
+    @Setup
+    public void setup() {
+        messageDTO = MessageDTO.builder()
+                .topic("correo/benchmark/sensor")
+                .payload(Payloads.text(1024, true))
+                .qos(Qos.AT_LEAST_ONCE)
+                .dateTime(LocalDateTime.now())
+                .messageId(UUID.randomUUID().toString())
+                .messageType(MessageType.INCOMING)
+                .build();
+    }
+
+    @Benchmark
+    public MessageDTO wrapAndMerge() {
+        return MessageExtensionTransformer.mergeDTO(new MessageExtensionDTO(messageDTO), messageDTO);
+    }
+}
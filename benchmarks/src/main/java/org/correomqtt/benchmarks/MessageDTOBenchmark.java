@@ -0,0 +1,47 @@
+package org.correomqtt.benchmarks;
+
+import com.hivemq.client.mqtt.datatypes.MqttQos;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import org.correomqtt.core.model.MessageDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageDTOBenchmark {
+
+    @Param({"64", "1024", "65536"})
+    private int payloadSize;
+
+    private Mqtt5Publish publish;
+
+    @Setup
+    public void setup() {
+        publish = Mqtt5Publish.builder()
+                .topic("correo/benchmark/sensor")
+                .payload(Payloads.text(payloadSize, true).getBytes(StandardCharsets.UTF_8))
+                .qos(MqttQos.AT_LEAST_ONCE)
+                .build();
+    }
+
+    @Benchmark
+    public MessageDTO fromMqtt5Publish() {
+        return new MessageDTO(publish);
+    }
+}
@@ -0,0 +1,21 @@
+package org.correomqtt.benchmarks;
+
+public class Payloads {
+
+    private static final String ASCII_CHARS = "{\"temperature\": 21.5, \"unit\": \"celsius\"}";
+    private static final String UTF8_CHARS = "Grüße aus Köln, 温度 21.5°C ";
+
+    private Payloads() {
+        // private constructor
+    }
+
+    public static String text(int length, boolean ascii) {
+        String source = ascii ? ASCII_CHARS : UTF8_CHARS;
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            sb.append(source);
+        }
+        sb.setLength(length);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,39 @@
+package org.correomqtt.benchmarks.events;
+
+import lombok.Getter;
+import org.correomqtt.di.Assisted;
+import org.correomqtt.di.DefaultBean;
+import org.correomqtt.di.Inject;
+import org.correomqtt.di.Observes;
+import org.correomqtt.di.ObservesFilter;
+
+import static org.correomqtt.core.events.ObservesFilterNames.CONNECTION_ID;
+
+@DefaultBean
+public class BenchmarkObserver {
+
+    private final String connectionId;
+
+    @Getter
+    private long received;
+
+    @Inject
+    public BenchmarkObserver(@Assisted String connectionId) {
+        this.connectionId = connectionId;
+    }
+
+    @ObservesFilter(CONNECTION_ID)
+    public String getConnectionId() {
+        return connectionId;
+    }
+
+    @SuppressWarnings("unused")
+    public void onFiltered(@Observes FilteredBenchmarkEvent event) {
+        received++;
+    }
+
+    @SuppressWarnings("unused")
+    public void onBroadcast(@Observes BroadcastBenchmarkEvent event) {
+        received++;
+    }
+}
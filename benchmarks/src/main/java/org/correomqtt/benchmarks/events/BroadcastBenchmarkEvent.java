@@ -0,0 +1,11 @@
+package org.correomqtt.benchmarks.events;
+
+import org.correomqtt.di.Event;
+
+public class BroadcastBenchmarkEvent implements Event {
+
+    @Override
+    public boolean isLogable() {
+        return false;
+    }
+}
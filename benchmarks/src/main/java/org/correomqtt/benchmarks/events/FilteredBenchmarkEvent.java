@@ -0,0 +1,23 @@
+package org.correomqtt.benchmarks.events;
+
+import lombok.AllArgsConstructor;
+import org.correomqtt.di.Event;
+import org.correomqtt.di.ObservesFilter;
+
+import static org.correomqtt.core.events.ObservesFilterNames.CONNECTION_ID;
+
+@AllArgsConstructor
+public class FilteredBenchmarkEvent implements Event {
+
+    private final String connectionId;
+
+    @ObservesFilter(CONNECTION_ID)
+    public String getConnectionId() {
+        return connectionId;
+    }
+
+    @Override
+    public boolean isLogable() {
+        return false;
+    }
+}
@@ -0,0 +1,43 @@
+package org.correomqtt.benchmarks.plugin;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.correomqtt.core.plugin.model.MessageExtensionDTO;
+import org.correomqtt.core.plugin.spi.IncomingMessageHook;
+import org.correomqtt.core.plugin.spi.IncomingMessageHookDTO;
+
+import java.util.List;
+
+public class BenchmarkIncomingHook implements IncomingMessageHook<BenchmarkIncomingHook.Config> {
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Config implements IncomingMessageHookDTO {
+        private boolean enabled;
+        private List<String> topicFilter;
+    }
+
+    private Config config;
+
+    @Override
+    public MessageExtensionDTO onMessageIncoming(String connectionId, MessageExtensionDTO messageExtensionDTO) {
+        return messageExtensionDTO;
+    }
+
+    @Override
+    public Class<Config> getConfigClass() {
+        return Config.class;
+    }
+
+    @Override
+    public Config getConfig() {
+        return config;
+    }
+
+    @Override
+    public void onConfigReceived(Config config) {
+        this.config = config;
+    }
+}
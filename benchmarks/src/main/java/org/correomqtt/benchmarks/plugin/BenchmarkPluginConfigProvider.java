@@ -0,0 +1,37 @@
+package org.correomqtt.benchmarks.plugin;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.correomqtt.core.fileprovider.PluginConfigProvider;
+import org.correomqtt.core.model.HooksDTO;
+import org.correomqtt.di.SoyEvents;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Provides a fixed chain of enabled incoming message hooks, as hooks.json can not be mapped to hook definitions yet.
+ */
+public class BenchmarkPluginConfigProvider extends PluginConfigProvider {
+
+    public static final String PLUGIN_ID = "benchmark";
+
+    private final List<HooksDTO.Extension> incomingMessageHooks = new ArrayList<>();
+
+    public BenchmarkPluginConfigProvider(SoyEvents soyEvents, int hooks) {
+        super(soyEvents);
+        ObjectNode config = JsonNodeFactory.instance.objectNode().put("enabled", true);
+        for (int i = 0; i < hooks; i++) {
+            incomingMessageHooks.add(HooksDTO.Extension.builder()
+                    .id("benchmarkIncoming" + i)
+                    .pluginId(PLUGIN_ID)
+                    .config(config)
+                    .build());
+        }
+    }
+
+    @Override
+    public List<HooksDTO.Extension> getIncomingMessageHooks() {
+        return incomingMessageHooks;
+    }
+}
@@ -0,0 +1,66 @@
+package org.correomqtt.benchmarks.plugin;
+
+import org.correomqtt.core.fileprovider.PluginConfigProvider;
+import org.correomqtt.core.plugin.PluginManager;
+import org.pf4j.ExtensionDescriptor;
+import org.pf4j.ExtensionFinder;
+import org.pf4j.ExtensionWrapper;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Plugin manager without plugin jars. The benchmark hook is resolved from the classpath, everything else (config
+ * mapping, extension lookup) runs through the regular {@link PluginManager} code.
+ */
+public class BenchmarkPluginManager extends PluginManager {
+
+    public BenchmarkPluginManager(PluginConfigProvider pluginConfigProvider) {
+        super(null, pluginConfigProvider);
+    }
+
+    @Override
+    protected ExtensionFinder createExtensionFinder() {
+        // called from the super constructor, must not use fields of this class
+        return new BenchmarkExtensionFinder(this);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static class BenchmarkExtensionFinder implements ExtensionFinder {
+
+        private final PluginManager pluginManager;
+        private ExtensionWrapper incomingHook;
+
+        BenchmarkExtensionFinder(PluginManager pluginManager) {
+            this.pluginManager = pluginManager;
+        }
+
+        @Override
+        public synchronized <T> List<ExtensionWrapper<T>> find(Class<T> type) {
+            if (!type.isAssignableFrom(BenchmarkIncomingHook.class)) {
+                return Collections.emptyList();
+            }
+            if (incomingHook == null) {
+                incomingHook = new ExtensionWrapper<>(new ExtensionDescriptor(0, BenchmarkIncomingHook.class),
+                        pluginManager.getExtensionFactory());
+            }
+            return List.of(incomingHook);
+        }
+
+        @Override
+        public <T> List<ExtensionWrapper<T>> find(Class<T> type, String pluginId) {
+            return find(type);
+        }
+
+        @Override
+        public List<ExtensionWrapper> find(String pluginId) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Set<String> findClassNames(String pluginId) {
+            return Collections.emptySet();
+        }
+    }
+}
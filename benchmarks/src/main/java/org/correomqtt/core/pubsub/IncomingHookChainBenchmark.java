@@ -0,0 +1,81 @@
+package org.correomqtt.core.pubsub;
+
+import org.correomqtt.benchmarks.BenchmarkEnvironment;
+import org.correomqtt.benchmarks.Payloads;
+import org.correomqtt.benchmarks.plugin.BenchmarkPluginConfigProvider;
+import org.correomqtt.benchmarks.plugin.BenchmarkPluginManager;
+import org.correomqtt.core.model.MessageDTO;
+import org.correomqtt.core.model.MessageType;
+import org.correomqtt.core.model.Qos;
+import org.correomqtt.core.model.SubscriptionDTO;
+import org.correomqtt.core.plugin.PluginManager;
+import org.correomqtt.di.SoyEvents;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handling of a single incoming message in {@link SubscribeTask}: resolving the configured hooks, running the chain and
+ * merging the result, without a broker connection. It lives in the package of the task to call its message callback
+ * directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IncomingHookChainBenchmark {
+
+    private static final String CONNECTION_ID = "benchmark-hooks";
+
+    @Param({"0", "1", "5"})
+    private int hooks;
+
+    private PluginManager pluginManager;
+    private SubscribeTask task;
+    private MessageDTO messageDTO;
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.useTemporaryConfigDirectory();
+        SoyEvents soyEvents = new SoyEvents();
+        pluginManager = new BenchmarkPluginManager(new BenchmarkPluginConfigProvider(soyEvents, hooks));
+        SubscriptionDTO subscriptionDTO = SubscriptionDTO.builder()
+                .topic("correo/benchmark/#")
+                .qos(Qos.AT_LEAST_ONCE)
+                .build();
+        task = new SubscribeTask(pluginManager, null, null, null, soyEvents, CONNECTION_ID, subscriptionDTO);
+        messageDTO = MessageDTO.builder()
+                .topic("correo/benchmark/sensor")
+                .payload(Payloads.text(1024, true))
+                .qos(Qos.AT_LEAST_ONCE)
+                .dateTime(LocalDateTime.now())
+                .messageId(UUID.randomUUID().toString())
+                .messageType(MessageType.INCOMING)
+                .build();
+    }
+
+    @Benchmark
+    public List<?> resolveHooks() {
+        return pluginManager.getIncomingMessageHooks();
+    }
+
+    @Benchmark
+    public void onIncomingMessage() {
+        task.onIncomingMessage(messageDTO);
+    }
+}
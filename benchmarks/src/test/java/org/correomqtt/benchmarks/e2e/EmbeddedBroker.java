@@ -0,0 +1,82 @@
+package org.correomqtt.benchmarks.e2e;
+
+import com.hivemq.embedded.EmbeddedHiveMQ;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * In-process HiveMQ CE broker bound to a free local port. Supports MQTT 3.1.1 and 5 and can be stopped and started
+ * again to force reconnects.
+ */
+public class EmbeddedBroker implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmbeddedBroker.class);
+
+    private static final String CONFIG_TEMPLATE = """
+            <?xml version="1.0"?>
+            <hivemq>
+                <listeners>
+                    <tcp-listener>
+                        <port>%d</port>
+                        <bind-address>127.0.0.1</bind-address>
+                    </tcp-listener>
+                </listeners>
+                <anonymous-usage-statistics>
+                    <enabled>false</enabled>
+                </anonymous-usage-statistics>
+            </hivemq>
+            """;
+
+    private final EmbeddedHiveMQ hiveMQ;
+    private final int port;
+    private boolean running;
+
+    public EmbeddedBroker(Path workDirectory) throws IOException {
+        port = findFreePort();
+        Path configFolder = Files.createDirectories(workDirectory.resolve("conf"));
+        Files.writeString(configFolder.resolve("config.xml"), String.format(CONFIG_TEMPLATE, port));
+        hiveMQ = EmbeddedHiveMQ.builder()
+                .withConfigurationFolder(configFolder)
+                .withDataFolder(Files.createDirectories(workDirectory.resolve("data")))
+                .withExtensionsFolder(Files.createDirectories(workDirectory.resolve("extensions")))
+                .build();
+    }
+
+    private static int findFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        }
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public synchronized void start() {
+        if (!running) {
+            hiveMQ.start().join();
+            running = true;
+            LOGGER.info("Embedded broker listening on 127.0.0.1:{}", port);
+        }
+    }
+
+    public synchronized void stop() {
+        if (running) {
+            hiveMQ.stop().join();
+            running = false;
+            LOGGER.info("Embedded broker stopped");
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        stop();
+        hiveMQ.close();
+    }
+}
@@ -0,0 +1,134 @@
+package org.correomqtt.benchmarks.e2e;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.correomqtt.benchmarks.BenchmarkEnvironment;
+import org.correomqtt.core.metrics.MetricSnapshot;
+import org.correomqtt.core.model.CorreoMqttVersion;
+import org.correomqtt.core.model.Qos;
+import org.correomqtt.di.SoyDi;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end throughput and latency of the MQTT 3 and 5 clients against an embedded broker, driven through the
+ * connect, subscribe and publish tasks. Each step publishes at a fixed rate; a rate counts as sustainable if the
+ * publisher keeps up, nothing fails or gets lost, and p99 latency stays below one second.
+ *
+ * <p>Usage: {@code EndToEndBenchmark [seconds per step] [payload size] [qos] [rates...]}</p>
+ *
+ * <p>The harness lives in the test sources, so the broker is not part of the benchmarks jar. Run it from the test
+ * classpath, e.g. {@code mvn -Pbenchmarks -pl benchmarks -am test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.correomqtt.benchmarks.e2e.EndToEndBenchmark}.</p>
+ */
+public class EndToEndBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EndToEndBenchmark.class);
+
+    private static final String RESULT_FILE = "correomqtt-e2e.json";
+    private static final int[] DEFAULT_RATES = {100, 500, 1000, 2000, 5000, 10000, 20000};
+    private static final long DRAIN_TIMEOUT_SECONDS = 10;
+    private static final long MAX_P99_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final double MIN_ACHIEVED_RATIO = 0.95;
+
+    private EndToEndBenchmark() {
+        // private constructor
+    }
+
+    public static void main(String[] args) throws Exception {
+        int stepSeconds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        int payloadSize = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+        Qos qos = args.length > 2 ? Qos.valueOf(args[2]) : Qos.AT_LEAST_ONCE;
+        int[] rates = args.length > 3
+                ? Arrays.stream(args, 3, args.length).mapToInt(Integer::parseInt).toArray()
+                : DEFAULT_RATES;
+
+        Path workDirectory = BenchmarkEnvironment.useTemporaryConfigDirectory();
+        SoyDi.scan("org.correomqtt.core");
+        SoyDi.scan(EndToEndBenchmark.class.getPackageName());
+
+        List<EndToEndReport> reports = new ArrayList<>();
+        try (EmbeddedBroker broker = new EmbeddedBroker(workDirectory.resolve("broker"))) {
+            broker.start();
+            for (CorreoMqttVersion version : CorreoMqttVersion.values()) {
+                reports.add(run(broker, version, qos, payloadSize, stepSeconds, rates));
+            }
+        }
+
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(new File(RESULT_FILE), reports);
+        reports.forEach(EndToEndBenchmark::print);
+        LOGGER.info("Results written to {}", new File(RESULT_FILE).getAbsolutePath());
+        System.exit(0);
+    }
+
+    private static EndToEndReport run(EmbeddedBroker broker,
+                                      CorreoMqttVersion version,
+                                      Qos qos,
+                                      int payloadSize,
+                                      int stepSeconds,
+                                      int[] rates) throws InterruptedException {
+        EndToEndHarness harness = new EndToEndHarness("e2e-" + version.name().toLowerCase(), version, broker.getPort());
+        EndToEndProbe probe = harness.getProbe();
+
+        long connectNanos = harness.connect();
+        harness.subscribe(qos);
+
+        // warmup, not part of the report
+        harness.publish(1000, 0, payloadSize, qos);
+        probe.awaitReceived(1000, DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        List<EndToEndReport.Step> steps = new ArrayList<>();
+        int maxSustainableRate = 0;
+        for (int rate : rates) {
+            probe.reset();
+            EndToEndHarness.PublishResult result = harness.publish((long) rate * stepSeconds, rate, payloadSize, qos);
+            long expected = result.sent() - result.failed();
+            probe.awaitReceived(expected, DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            MetricSnapshot latency = probe.getLatency().snapshot();
+            boolean sustainable = result.failed() == 0
+                    && probe.getReceived() >= expected
+                    && result.getRatePerSecond() >= rate * MIN_ACHIEVED_RATIO
+                    && latency.p99() <= MAX_P99_NANOS;
+            steps.add(new EndToEndReport.Step(rate,
+                    result.getRatePerSecond(),
+                    result.sent(),
+                    probe.getReceived(),
+                    result.failed(),
+                    latency,
+                    sustainable));
+            if (!sustainable) {
+                break;
+            }
+            maxSustainableRate = rate;
+        }
+
+        long reconnectNanos = harness.reconnect(broker);
+        harness.disconnect();
+
+        return new EndToEndReport(version.getDescription(),
+                qos.name(),
+                payloadSize,
+                connectNanos / 1_000_000d,
+                reconnectNanos / 1_000_000d,
+                steps,
+                maxSustainableRate);
+    }
+
+    private static void print(EndToEndReport report) {
+        System.out.printf("%n%s, %s, %d bytes: connect %.1f ms, reconnect %.1f ms, max sustainable %d msg/s%n",
+                report.mqttVersion(), report.qos(), report.payloadSize(),
+                report.connectMillis(), report.reconnectMillis(), report.maxSustainableRate());
+        System.out.printf("%10s %10s %10s %8s %10s %10s %10s %s%n",
+                "target/s", "achieved/s", "received", "failed", "p50 ms", "p99 ms", "max ms", "");
+        report.steps().forEach(s -> System.out.printf("%10d %10.0f %10d %8d %10.2f %10.2f %10.2f %s%n",
+                s.targetRate(), s.achievedRate(), s.received(), s.failed(),
+                s.latency().p50() / 1_000_000d, s.latency().p99() / 1_000_000d, s.latency().max() / 1_000_000d,
+                s.sustainable() ? "" : "<- not sustainable"));
+    }
+}
@@ -0,0 +1,172 @@
+package org.correomqtt.benchmarks.e2e;
+
+import org.correomqtt.core.connection.ConnectTaskFactory;
+import org.correomqtt.core.connection.ConnectionState;
+import org.correomqtt.core.connection.DisconnectTaskFactory;
+import org.correomqtt.core.model.ConnectionConfigDTO;
+import org.correomqtt.core.model.CorreoMqttVersion;
+import org.correomqtt.core.model.MessageDTO;
+import org.correomqtt.core.model.MessageType;
+import org.correomqtt.core.model.Qos;
+import org.correomqtt.core.model.SubscriptionDTO;
+import org.correomqtt.core.pubsub.PublishTaskFactory;
+import org.correomqtt.core.pubsub.SubscribeTaskFactory;
+import org.correomqtt.core.settings.SettingsManager;
+import org.correomqtt.core.utils.ConnectionManager;
+import org.correomqtt.di.SoyDi;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a single connection through the same tasks the GUI uses, without JavaFX. Core must have been scanned
+ * before a harness is created.
+ */
+public class EndToEndHarness {
+
+    private static final long TASK_TIMEOUT_SECONDS = 30;
+    private static final int MAX_IN_FLIGHT_PUBLISHES = 1000;
+
+    public record PublishResult(long sent, long failed, long durationNanos) {
+
+        public double getRatePerSecond() {
+            return durationNanos == 0 ? 0 : sent * 1_000_000_000d / durationNanos;
+        }
+    }
+
+    private final String connectionId;
+    private final String topic;
+    private final EndToEndProbe probe;
+
+    public EndToEndHarness(String connectionId, CorreoMqttVersion mqttVersion, int port) {
+        this.connectionId = connectionId;
+        this.topic = "correo/e2e/" + connectionId;
+        SettingsManager settings = SoyDi.inject(SettingsManager.class);
+        settings.getConnectionConfigs().removeIf(c -> c.getId().equals(connectionId));
+        // added in memory only, saving would require a master password for the secret store
+        settings.getConnectionConfigs().add(ConnectionConfigDTO.builder()
+                .id(connectionId)
+                .name(connectionId)
+                .url("127.0.0.1")
+                .port(port)
+                .clientId(connectionId)
+                .cleanSession(true)
+                .mqttVersion(mqttVersion)
+                .build());
+        SoyDi.inject(ConnectionManager.class).refresh();
+        probe = SoyDi.inject(EndToEndProbeFactory.class).create(connectionId);
+    }
+
+    public EndToEndProbe getProbe() {
+        return probe;
+    }
+
+    public long connect() throws InterruptedException {
+        probe.clearStates();
+        long start = System.nanoTime();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        awaitTask(SoyDi.inject(ConnectTaskFactory.class)
+                .create(connectionId)
+                .onError(r -> error.set(r.getUnexpectedError()))
+                .run(), error, "connect");
+        if (!probe.awaitState(ConnectionState.CONNECTED, TASK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Connection " + connectionId + " did not reach CONNECTED.");
+        }
+        return System.nanoTime() - start;
+    }
+
+    public void subscribe(Qos qos) {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        awaitTask(SoyDi.inject(SubscribeTaskFactory.class)
+                .create(connectionId, SubscriptionDTO.builder().topic(topic).qos(qos).build())
+                .onError(r -> error.set(r.getUnexpectedError()))
+                .run(), error, "subscribe");
+    }
+
+    /**
+     * Publishes {@code count} messages paced to {@code ratePerSecond}. A rate of 0 publishes as fast as the in-flight
+     * limit allows.
+     */
+    public PublishResult publish(long count, int ratePerSecond, int payloadSize, Qos qos) throws InterruptedException {
+        PublishTaskFactory publishTaskFactory = SoyDi.inject(PublishTaskFactory.class);
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT_PUBLISHES);
+        AtomicLong failed = new AtomicLong();
+        long interval = ratePerSecond > 0 ? 1_000_000_000L / ratePerSecond : 0;
+        long start = System.nanoTime();
+        for (long i = 0; i < count; i++) {
+            long due = start + i * interval;
+            long wait;
+            while ((wait = due - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.acquire();
+            publishTaskFactory.create(connectionId, createMessage(payloadSize, qos))
+                    .onError(r -> failed.incrementAndGet())
+                    .onFinally(inFlight::release)
+                    .run();
+        }
+        inFlight.acquire(MAX_IN_FLIGHT_PUBLISHES);
+        inFlight.release(MAX_IN_FLIGHT_PUBLISHES);
+        return new PublishResult(count, failed.get(), System.nanoTime() - start);
+    }
+
+    private MessageDTO createMessage(int payloadSize, Qos qos) {
+        StringBuilder payload = new StringBuilder(Math.max(payloadSize, 24))
+                .append(System.nanoTime())
+                .append(EndToEndProbe.TIMESTAMP_SEPARATOR);
+        while (payload.length() < payloadSize) {
+            payload.append('x');
+        }
+        return MessageDTO.builder()
+                .topic(topic)
+                .payload(payload.toString())
+                .qos(qos)
+                .messageType(MessageType.OUTGOING)
+                .build();
+    }
+
+    /**
+     * Stops the broker until the client notices, starts it again and returns the time until the client is connected
+     * again.
+     */
+    public long reconnect(EmbeddedBroker broker) throws InterruptedException {
+        probe.clearStates();
+        broker.stop();
+        if (!probe.awaitState(ConnectionState.RECONNECTING, TASK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Connection " + connectionId + " did not notice the broker shutdown.");
+        }
+        probe.clearStates();
+        long start = System.nanoTime();
+        broker.start();
+        if (!probe.awaitState(ConnectionState.CONNECTED, TASK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Connection " + connectionId + " did not reconnect.");
+        }
+        return System.nanoTime() - start;
+    }
+
+    public void disconnect() {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        awaitTask(SoyDi.inject(DisconnectTaskFactory.class)
+                .create(connectionId)
+                .onError(r -> error.set(r.getUnexpectedError()))
+                .run(), error, "disconnect");
+    }
+
+    private void awaitTask(CompletableFuture<Void> future, AtomicReference<Throwable> error, String action) {
+        try {
+            future.get(TASK_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during " + action + " of " + connectionId, e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to " + action + " " + connectionId, e);
+        }
+        if (error.get() != null) {
+            throw new IllegalStateException("Unable to " + action + " " + connectionId, error.get());
+        }
+    }
+}
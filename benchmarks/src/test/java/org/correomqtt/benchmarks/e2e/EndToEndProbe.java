@@ -0,0 +1,103 @@
+package org.correomqtt.benchmarks.e2e;
+
+import org.correomqtt.core.connection.ConnectionState;
+import org.correomqtt.core.connection.ConnectionStateChangedEvent;
+import org.correomqtt.core.metrics.Metrics;
+import org.correomqtt.core.metrics.Timer;
+import org.correomqtt.core.pubsub.IncomingMessageEvent;
+import org.correomqtt.di.Assisted;
+import org.correomqtt.di.DefaultBean;
+import org.correomqtt.di.Inject;
+import org.correomqtt.di.Observes;
+import org.correomqtt.di.ObservesFilter;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.correomqtt.core.events.ObservesFilterNames.CONNECTION_ID;
+
+/**
+ * Sees the connection exactly like the GUI does: incoming messages and state changes arrive through the event bus.
+ * The publisher writes its {@link System#nanoTime()} in front of the payload, which gives the end-to-end latency.
+ */
+@DefaultBean
+public class EndToEndProbe {
+
+    static final char TIMESTAMP_SEPARATOR = '|';
+
+    private final String connectionId;
+    private final Timer latency;
+    private final AtomicLong received = new AtomicLong();
+    // state events are fired async and may arrive out of order, so remember every state seen
+    private final Set<ConnectionState> seenStates = EnumSet.noneOf(ConnectionState.class);
+
+    @Inject
+    public EndToEndProbe(@Assisted String connectionId) {
+        this.connectionId = connectionId;
+        this.latency = Metrics.timer("e2e." + connectionId + ".latency");
+    }
+
+    @ObservesFilter(CONNECTION_ID)
+    public String getConnectionId() {
+        return connectionId;
+    }
+
+    @SuppressWarnings("unused")
+    public void onIncomingMessage(@Observes IncomingMessageEvent event) {
+        long now = System.nanoTime();
+        String payload = event.getMessageDTO().getPayload();
+        int separator = payload == null ? -1 : payload.indexOf(TIMESTAMP_SEPARATOR);
+        if (separator > 0) {
+            latency.record(now - Long.parseLong(payload, 0, separator, 10));
+        }
+        received.incrementAndGet();
+    }
+
+    @SuppressWarnings("unused")
+    public synchronized void onConnectionStateChanged(@Observes ConnectionStateChangedEvent event) {
+        seenStates.add(event.getState());
+        notifyAll();
+    }
+
+    public synchronized boolean awaitState(ConnectionState expected, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!seenStates.contains(expected)) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+    }
+
+    public synchronized void clearStates() {
+        seenStates.clear();
+    }
+
+    public boolean awaitReceived(long count, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (received.get() < count) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    public long getReceived() {
+        return received.get();
+    }
+
+    public Timer getLatency() {
+        return latency;
+    }
+
+    public void reset() {
+        received.set(0);
+        latency.reset();
+    }
+}
@@ -0,0 +1,23 @@
+package org.correomqtt.benchmarks.e2e;
+
+import org.correomqtt.core.metrics.MetricSnapshot;
+
+import java.util.List;
+
+public record EndToEndReport(String mqttVersion,
+                             String qos,
+                             int payloadSize,
+                             double connectMillis,
+                             double reconnectMillis,
+                             List<Step> steps,
+                             int maxSustainableRate) {
+
+    public record Step(int targetRate,
+                       double achievedRate,
+                       long sent,
+                       long received,
+                       long failed,
+                       MetricSnapshot latency,
+                       boolean sustainable) {
+    }
+}
@@ -0,0 +1,218 @@
+package org.correomqtt.cli;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.correomqtt.core.metrics.Histogram;
+import org.correomqtt.core.metrics.Metrics;
+import org.correomqtt.core.model.ConnectionConfigDTO;
+import org.correomqtt.core.model.MessageDTO;
+import org.correomqtt.core.model.MessageType;
+import org.correomqtt.core.model.Proxy;
+import org.correomqtt.core.model.Qos;
+import org.correomqtt.core.model.SubscriptionDTO;
+import org.correomqtt.core.mqtt.CorreoMqttClient;
+import org.correomqtt.di.DefaultBean;
+import org.correomqtt.di.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load generator: N clients publish with a fixed rate each, one additional client subscribes to all of them and
+ * measures the end-to-end latency from a send timestamp in the payload.
+ * <p>
+ * The core clients publish blocking, so every client gets its own platform thread.
+ */
+@DefaultBean
+public class BenchCommand implements CliCommand {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BenchCommand.class);
+
+    private static final String LATENCY = "cli.bench.latency";
+    private static final String PUBLISH = "cli.bench.publish";
+    private static final char TIMESTAMP_SEPARATOR = '|';
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final CliClients clients;
+
+    @Inject
+    public BenchCommand(CliClients clients) {
+        this.clients = clients;
+    }
+
+    @Override
+    public String getName() {
+        return "bench";
+    }
+
+    @Override
+    public String getUsage() {
+        return "bench --connection <id|name> [--clients 10] [--rate <msg/s per client, 0 = unlimited>] "
+                + "[--size <payload bytes>] [--duration <seconds>] [--qos 0|1|2] [--topic <prefix>] [--output <report.json>]";
+    }
+
+    @Override
+    public int run(CliArguments arguments) throws Exception {
+        int clientCount = Math.max(1, arguments.getInt("clients", 10));
+        long rate = arguments.getLong("rate", 100);
+        int size = arguments.getInt("size", 64);
+        long duration = Math.max(1, arguments.getLong("duration", 10));
+        Qos qos = arguments.getQos("qos", Qos.AT_MOST_ONCE);
+        String topic = arguments.getString("topic", "correomqtt/bench/" + UUID.randomUUID().toString().substring(0, 8));
+
+        ConnectionConfigDTO connection = clients.getConnection(arguments);
+        if (connection.getProxy() == Proxy.SSH) {
+            // every client would open its own tunnel on the same local port
+            throw new CliUsageException("bench does not support connections using a SSH proxy.");
+        }
+
+        Histogram latency = Metrics.histogram(LATENCY);
+        Histogram publish = Metrics.histogram(PUBLISH);
+        latency.reset();
+        publish.reset();
+        LongAdder sent = new LongAdder();
+        LongAdder received = new LongAdder();
+        LongAdder failed = new LongAdder();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(clientCount, r -> {
+            Thread t = new Thread(r, "correomqtt-bench-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        List<CorreoMqttClient> publishers = new ArrayList<>();
+        CorreoMqttClient subscriber = null;
+        try {
+            subscriber = clients.connect(connection, "bench-sub");
+            subscriber.subscribe(SubscriptionDTO.builder().topic(topic + "/#").qos(qos).build(), message -> {
+                long sentAt = parseTimestamp(message.getPayload());
+                if (sentAt > 0) {
+                    latency.record(System.nanoTime() - sentAt);
+                    received.increment();
+                }
+            });
+
+            List<Future<CorreoMqttClient>> connecting = new ArrayList<>();
+            for (int i = 0; i < clientCount; i++) {
+                String suffix = "bench-" + i;
+                connecting.add(executor.submit(() -> clients.connect(connection, suffix)));
+            }
+            for (Future<CorreoMqttClient> f : connecting) {
+                publishers.add(f.get());
+            }
+            LOGGER.info("Connected {} clients, publishing for {} s.", clientCount, duration);
+
+            String padding = "x".repeat(Math.max(0, size - 20));
+            long start = System.nanoTime();
+            long end = start + TimeUnit.SECONDS.toNanos(duration);
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < clientCount; i++) {
+                CorreoMqttClient publisher = publishers.get(i);
+                String clientTopic = topic + "/" + i;
+                running.add(executor.submit(() -> publishLoop(publisher, clientTopic, qos, padding, rate, end, publish, sent, failed)));
+            }
+            for (Future<?> f : running) {
+                f.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            drain(received, sent);
+
+            BenchReport report = new BenchReport(clientCount,
+                    rate,
+                    size,
+                    qos.toString(),
+                    seconds,
+                    sent.sum(),
+                    received.sum(),
+                    failed.sum(),
+                    sent.sum() / seconds,
+                    received.sum() / seconds,
+                    BenchReport.distribution(latency),
+                    BenchReport.distribution(publish));
+            report.print(System.out);
+            if (arguments.has("output")) {
+                new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(new File(arguments.getString("output")), report);
+            }
+            return report.failed() == 0 ? 0 : 1;
+        } finally {
+            publishers.forEach(clients::disconnectQuietly);
+            clients.disconnectQuietly(subscriber);
+            executor.shutdownNow();
+        }
+    }
+
+    private static void publishLoop(CorreoMqttClient publisher,
+                                    String topic,
+                                    Qos qos,
+                                    String padding,
+                                    long rate,
+                                    long end,
+                                    Histogram publish,
+                                    LongAdder sent,
+                                    LongAdder failed) {
+        long interval = rate == 0 ? 0 : TimeUnit.SECONDS.toNanos(1) / rate;
+        long next = System.nanoTime();
+        while (next < end && !Thread.currentThread().isInterrupted()) {
+            long now = System.nanoTime();
+            MessageDTO messageDTO = MessageDTO.builder()
+                    .topic(topic)
+                    .payload(now + String.valueOf(TIMESTAMP_SEPARATOR) + padding)
+                    .qos(qos)
+                    .messageId(UUID.randomUUID().toString())
+                    .messageType(MessageType.OUTGOING)
+                    .build();
+            try {
+                publisher.publish(messageDTO);
+                publish.record(System.nanoTime() - now);
+                sent.increment();
+            } catch (InterruptedException e) {
+                // the benchmark is over, executor.shutdownNow() interrupts the publishers
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException | TimeoutException | RuntimeException e) {
+                failed.increment();
+                LOGGER.debug("Publish failed.", e);
+            }
+            next = interval == 0 ? System.nanoTime() : next + interval;
+            LockSupport.parkNanos(next - System.nanoTime());
+        }
+    }
+
+    private static void drain(LongAdder received, LongAdder sent) throws InterruptedException {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        long last = -1;
+        while (received.sum() < sent.sum() && System.nanoTime() < deadline) {
+            long current = received.sum();
+            if (current == last) {
+                // nothing arrived for a while, remaining messages are lost (QoS 0)
+                return;
+            }
+            last = current;
+            Thread.sleep(500);
+        }
+    }
+
+    private static long parseTimestamp(String payload) {
+        int idx = payload == null ? -1 : payload.indexOf(TIMESTAMP_SEPARATOR);
+        if (idx <= 0) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(payload, 0, idx, 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
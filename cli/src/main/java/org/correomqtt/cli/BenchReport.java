@@ -0,0 +1,52 @@
+package org.correomqtt.cli;
+
+import org.correomqtt.core.metrics.Histogram;
+
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Result of a {@link BenchCommand} run. Latencies are in microseconds.
+ */
+public record BenchReport(int clients,
+                          long ratePerClient,
+                          int payloadSize,
+                          String qos,
+                          double durationSeconds,
+                          long sent,
+                          long received,
+                          long failed,
+                          double sentPerSecond,
+                          double receivedPerSecond,
+                          Map<String, Long> latency,
+                          Map<String, Long> publish) {
+
+    private static final double[] PERCENTILES = {50, 75, 90, 95, 99, 99.9, 100};
+
+    static Map<String, Long> distribution(Histogram histogram) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        result.put("count", histogram.getCount());
+        for (double p : PERCENTILES) {
+            String name = p == 100 ? "max" : "p" + (p == Math.rint(p) ? String.valueOf((long) p) : String.valueOf(p));
+            result.put(name, histogram.getPercentile(p) / 1000);
+        }
+        return result;
+    }
+
+    void print(PrintStream out) {
+        out.printf("clients:     %d (%s msg/s each, %d bytes, %s)%n",
+                clients, ratePerClient == 0 ? "unlimited" : String.valueOf(ratePerClient), payloadSize, qos);
+        out.printf("duration:    %.1f s%n", durationSeconds);
+        out.printf("sent:        %d (%.1f msg/s)%n", sent, sentPerSecond);
+        out.printf("received:    %d (%.1f msg/s)%n", received, receivedPerSecond);
+        out.printf("failed:      %d%n", failed);
+        printDistribution(out, "end-to-end latency (us)", latency);
+        printDistribution(out, "publish duration (us)", publish);
+    }
+
+    private static void printDistribution(PrintStream out, String title, Map<String, Long> distribution) {
+        out.println(title + ":");
+        distribution.forEach((k, v) -> out.printf("  %-8s %12d%n", k, v));
+    }
+}
@@ -0,0 +1,90 @@
+package org.correomqtt.cli;
+
+import org.correomqtt.core.model.Qos;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal parser for {@code --option value} and {@code --flag} arguments.
+ */
+public class CliArguments {
+
+    private static final String PREFIX = "--";
+
+    private final List<String> positional = new ArrayList<>();
+    private final Map<String, String> options = new HashMap<>();
+
+    public CliArguments(List<String> args) {
+        for (int i = 0; i < args.size(); i++) {
+            String arg = args.get(i);
+            if (!arg.startsWith(PREFIX)) {
+                positional.add(arg);
+                continue;
+            }
+            String name = arg.substring(PREFIX.length());
+            int eq = name.indexOf('=');
+            if (eq >= 0) {
+                options.put(name.substring(0, eq), name.substring(eq + 1));
+            } else if (i + 1 < args.size() && !args.get(i + 1).startsWith(PREFIX)) {
+                options.put(name, args.get(++i));
+            } else {
+                options.put(name, "");
+            }
+        }
+    }
+
+    public List<String> getPositional() {
+        return positional;
+    }
+
+    public boolean has(String name) {
+        return options.containsKey(name);
+    }
+
+    public String getString(String name) {
+        String value = options.get(name);
+        if (value == null || value.isEmpty()) {
+            throw new CliUsageException("Missing option --" + name);
+        }
+        return value;
+    }
+
+    public String getString(String name, String defaultValue) {
+        String value = options.get(name);
+        return value == null || value.isEmpty() ? defaultValue : value;
+    }
+
+    public int getInt(String name, int defaultValue) {
+        return (int) getLong(name, defaultValue);
+    }
+
+    public long getLong(String name, long defaultValue) {
+        String value = options.get(name);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            long parsed = Long.parseLong(value);
+            if (parsed < 0) {
+                throw new CliUsageException("Option --" + name + " must not be negative.");
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new CliUsageException("Option --" + name + " expects a number, but was " + value);
+        }
+    }
+
+    public Qos getQos(String name, Qos defaultValue) {
+        if (!has(name)) {
+            return defaultValue;
+        }
+        Qos qos = Qos.fromJsonValue(getInt(name, 0));
+        if (qos == null) {
+            throw new CliUsageException("Option --" + name + " must be 0, 1 or 2.");
+        }
+        return qos;
+    }
+}
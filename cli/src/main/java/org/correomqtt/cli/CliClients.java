@@ -0,0 +1,64 @@
+package org.correomqtt.cli;
+
+import org.correomqtt.core.headless.HeadlessRuntime;
+import org.correomqtt.core.model.ConnectionConfigDTO;
+import org.correomqtt.core.mqtt.CorreoMqttClient;
+import org.correomqtt.core.mqtt.CorreoMqttClientFactory;
+import org.correomqtt.di.DefaultBean;
+import org.correomqtt.di.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.SSLException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Creates clients for connections from config.json. Each client gets its own client id, so the CLI does not kick a
+ * running GUI session of the same connection from the broker.
+ */
+@DefaultBean
+public class CliClients {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CliClients.class);
+
+    public static final String CONNECTION_OPTION = "connection";
+
+    private final HeadlessRuntime runtime;
+    private final CorreoMqttClientFactory clientFactory;
+
+    @Inject
+    public CliClients(HeadlessRuntime runtime,
+                      CorreoMqttClientFactory clientFactory) {
+        this.runtime = runtime;
+        this.clientFactory = clientFactory;
+    }
+
+    public ConnectionConfigDTO getConnection(CliArguments arguments) {
+        return runtime.findConnection(arguments.getString(CONNECTION_OPTION));
+    }
+
+    public CorreoMqttClient connect(ConnectionConfigDTO connection, String suffix)
+            throws InterruptedException, ExecutionException, TimeoutException, SSLException {
+        ConnectionConfigDTO config = new ConnectionConfigDTO(connection);
+        String clientId = connection.getClientId() == null || connection.getClientId().isEmpty()
+                ? "correomqtt"
+                : connection.getClientId();
+        config.setId(connection.getId() + "-" + suffix);
+        config.setClientId(clientId + "-" + suffix);
+        CorreoMqttClient client = clientFactory.createClient(config);
+        client.connect();
+        return client;
+    }
+
+    public void disconnectQuietly(CorreoMqttClient client) {
+        if (client == null) {
+            return;
+        }
+        try {
+            client.disconnect();
+        } catch (RuntimeException e) {
+            LOGGER.debug("Disconnect failed.", e);
+        }
+    }
+}
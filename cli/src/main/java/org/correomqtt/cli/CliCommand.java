@@ -0,0 +1,10 @@
+package org.correomqtt.cli;
+
+public interface CliCommand {
+
+    String getName();
+
+    String getUsage();
+
+    int run(CliArguments arguments) throws Exception;
+}
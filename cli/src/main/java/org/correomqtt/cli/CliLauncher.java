@@ -0,0 +1,75 @@
+package org.correomqtt.cli;
+
+import org.correomqtt.core.exception.CorreoMqttException;
+import org.correomqtt.core.headless.HeadlessLauncher;
+import org.correomqtt.core.headless.HeadlessRuntime;
+import org.correomqtt.di.SoyDi;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of correomqtt-cli. Connections, passwords and plugins are taken from the CorreoMQTT config directory.
+ */
+public class CliLauncher {
+
+    private CliLauncher() {
+        // private constructor
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    public static int run(String[] args) {
+        HeadlessLauncher.configureLogger();
+        final Logger logger = LoggerFactory.getLogger(CliLauncher.class);
+
+        boolean withPlugins = Arrays.stream(args).noneMatch(HeadlessLauncher.NO_PLUGINS::equals);
+        List<String> arguments = Arrays.stream(args).filter(a -> !HeadlessLauncher.NO_PLUGINS.equals(a)).toList();
+
+        HeadlessRuntime runtime = HeadlessLauncher.boot();
+        SoyDi.scan("org.correomqtt.cli");
+        List<CliCommand> commands = List.of(SoyDi.inject(PublishCommand.class),
+                SoyDi.inject(SubscribeCommand.class),
+                SoyDi.inject(RecordCommand.class),
+                SoyDi.inject(BenchCommand.class),
+                SoyDi.inject(ValidateCommand.class));
+
+        CliCommand command = arguments.isEmpty() ? null : commands.stream()
+                .filter(c -> c.getName().equals(arguments.get(0)))
+                .findFirst()
+                .orElse(null);
+        if (command == null) {
+            printUsage(commands);
+            return HeadlessLauncher.EXIT_USAGE;
+        }
+
+        try {
+            runtime.init(withPlugins);
+            return command.run(new CliArguments(arguments.subList(1, arguments.size())));
+        } catch (CliUsageException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: correomqtt-cli " + command.getUsage());
+            return HeadlessLauncher.EXIT_USAGE;
+        } catch (CorreoMqttException e) {
+            logger.error("{}", e.getInfo(), e.getCause());
+            return HeadlessLauncher.EXIT_FAILED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return HeadlessLauncher.EXIT_FAILED;
+        } catch (Exception e) {
+            logger.error("{} failed: ", command.getName(), e);
+            return HeadlessLauncher.EXIT_FAILED;
+        } finally {
+            runtime.shutdown();
+        }
+    }
+
+    private static void printUsage(List<CliCommand> commands) {
+        System.err.println("Usage: correomqtt-cli [" + HeadlessLauncher.NO_PLUGINS + "] <command> [options]");
+        commands.forEach(c -> System.err.println("  " + c.getUsage()));
+    }
+}
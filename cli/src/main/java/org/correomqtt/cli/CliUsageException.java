@@ -0,0 +1,8 @@
+package org.correomqtt.cli;
+
+class CliUsageException extends IllegalArgumentException {
+
+    CliUsageException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,70 @@
+package org.correomqtt.cli;
+
+import org.correomqtt.core.model.MessageDTO;
+import org.correomqtt.core.model.MessageType;
+import org.correomqtt.core.model.Qos;
+import org.correomqtt.core.mqtt.CorreoMqttClient;
+import org.correomqtt.di.DefaultBean;
+import org.correomqtt.di.Inject;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@DefaultBean
+public class PublishCommand implements CliCommand {
+
+    private final CliClients clients;
+
+    @Inject
+    public PublishCommand(CliClients clients) {
+        this.clients = clients;
+    }
+
+    @Override
+    public String getName() {
+        return "pub";
+    }
+
+    @Override
+    public String getUsage() {
+        return "pub --connection <id|name> --topic <topic> (--message <text> | --file <path>) "
+                + "[--qos 0|1|2] [--retain] [--count 1] [--rate <msg/s>]";
+    }
+
+    @Override
+    public int run(CliArguments arguments) throws Exception {
+        String topic = arguments.getString("topic");
+        String payload = arguments.has("file")
+                ? Files.readString(Path.of(arguments.getString("file")), StandardCharsets.UTF_8)
+                : arguments.getString("message");
+        Qos qos = arguments.getQos("qos", Qos.AT_MOST_ONCE);
+        boolean retain = arguments.has("retain");
+        long count = arguments.getLong("count", 1);
+        long rate = arguments.getLong("rate", 0);
+        long interval = rate == 0 ? 0 : TimeUnit.SECONDS.toNanos(1) / rate;
+
+        CorreoMqttClient client = clients.connect(clients.getConnection(arguments), "pub");
+        try {
+            long next = System.nanoTime();
+            for (long i = 0; i < count; i++) {
+                client.publish(MessageDTO.builder()
+                        .topic(topic)
+                        .payload(payload)
+                        .qos(qos)
+                        .isRetained(retain)
+                        .messageId(UUID.randomUUID().toString())
+                        .messageType(MessageType.OUTGOING)
+                        .build());
+                next += interval;
+                LockSupport.parkNanos(next - System.nanoTime());
+            }
+        } finally {
+            clients.disconnectQuietly(client);
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,116 @@
+package org.correomqtt.cli;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.correomqtt.core.model.MessageDTO;
+import org.correomqtt.core.model.Qos;
+import org.correomqtt.core.model.SubscriptionDTO;
+import org.correomqtt.core.mqtt.CorreoMqttClient;
+import org.correomqtt.di.DefaultBean;
+import org.correomqtt.di.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records incoming messages as JSON lines, one {@link MessageDTO} per line.
+ */
+@DefaultBean
+public class RecordCommand implements CliCommand {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RecordCommand.class);
+
+    private final CliClients clients;
+
+    @Inject
+    public RecordCommand(CliClients clients) {
+        this.clients = clients;
+    }
+
+    @Override
+    public String getName() {
+        return "record";
+    }
+
+    @Override
+    public String getUsage() {
+        return "record --connection <id|name> --output <file> [--topic <filter>[,<filter>...]] [--qos 0|1|2] "
+                + "[--count <messages>] [--duration <seconds>]";
+    }
+
+    @Override
+    public int run(CliArguments arguments) throws Exception {
+        Path output = Path.of(arguments.getString("output"));
+        String[] topics = arguments.getString("topic", "#").split(",");
+        Qos qos = arguments.getQos("qos", Qos.AT_MOST_ONCE);
+        long count = arguments.getLong("count", 0);
+        long duration = arguments.getLong("duration", 0);
+
+        ObjectMapper om = new ObjectMapper();
+        om.registerModule(new JavaTimeModule());
+        ObjectWriter writer = om.writer();
+
+        AtomicLong recorded = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(1);
+        CorreoMqttClient client = clients.connect(clients.getConnection(arguments), "record");
+        BufferedWriter out;
+        try {
+            out = Files.newBufferedWriter(output, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            clients.disconnectQuietly(client);
+            throw e;
+        }
+        try (ShutdownAction ignored = new ShutdownAction(() -> {
+            clients.disconnectQuietly(client);
+            close(out);
+            LOGGER.info("Recorded {} messages to {}", recorded.get(), output);
+        })) {
+            for (String topic : topics) {
+                client.subscribe(SubscriptionDTO.builder().topic(topic).qos(qos).build(), message -> {
+                    write(out, writer, message);
+                    if (recorded.incrementAndGet() == count) {
+                        done.countDown();
+                    }
+                });
+            }
+            if (duration > 0) {
+                done.await(duration, TimeUnit.SECONDS);
+            } else {
+                done.await();
+            }
+        }
+        return 0;
+    }
+
+    private static void write(BufferedWriter out, ObjectWriter writer, MessageDTO message) {
+        try {
+            String line = writer.writeValueAsString(message);
+            synchronized (out) {
+                out.write(line);
+                out.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void close(BufferedWriter out) {
+        try {
+            synchronized (out) {
+                out.close();
+            }
+        } catch (IOException e) {
+            LOGGER.error("Unable to close recording.", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.correomqtt.cli;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs a cleanup exactly once, either when closed or when the JVM is stopped, e.g. with Ctrl+C.
+ */
+class ShutdownAction implements AutoCloseable {
+
+    private final AtomicBoolean done = new AtomicBoolean();
+    private final Runnable action;
+    private final Thread hook;
+
+    ShutdownAction(Runnable action) {
+        this.action = action;
+        this.hook = new Thread(this::runOnce, "correomqtt-cli-shutdown");
+        Runtime.getRuntime().addShutdownHook(hook);
+    }
+
+    private void runOnce() {
+        if (done.compareAndSet(false, true)) {
+            action.run();
+        }
+    }
+
+    @Override
+    public void close() {
+        runOnce();
+        try {
+            Runtime.getRuntime().removeShutdownHook(hook);
+        } catch (IllegalStateException e) {
+            // already shutting down
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.correomqtt.cli;
+
+import org.correomqtt.core.model.MessageDTO;
+import org.correomqtt.core.model.Qos;
+import org.correomqtt.core.model.SubscriptionDTO;
+import org.correomqtt.core.mqtt.CorreoMqttClient;
+import org.correomqtt.di.DefaultBean;
+import org.correomqtt.di.Inject;
+
+import java.io.PrintStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@DefaultBean
+public class SubscribeCommand implements CliCommand {
+
+    private final CliClients clients;
+
+    @Inject
+    public SubscribeCommand(CliClients clients) {
+        this.clients = clients;
+    }
+
+    @Override
+    public String getName() {
+        return "sub";
+    }
+
+    @Override
+    public String getUsage() {
+        return "sub --connection <id|name> [--topic <filter>[,<filter>...]] [--qos 0|1|2] "
+                + "[--count <messages>] [--duration <seconds>] [--verbose]";
+    }
+
+    @Override
+    public int run(CliArguments arguments) throws Exception {
+        String[] topics = arguments.getString("topic", "#").split(",");
+        Qos qos = arguments.getQos("qos", Qos.AT_MOST_ONCE);
+        long count = arguments.getLong("count", 0);
+        long duration = arguments.getLong("duration", 0);
+        boolean verbose = arguments.has("verbose");
+        PrintStream out = System.out;
+
+        AtomicLong received = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(1);
+        CorreoMqttClient client = clients.connect(clients.getConnection(arguments), "sub");
+        try (ShutdownAction ignored = new ShutdownAction(() -> clients.disconnectQuietly(client))) {
+            for (String topic : topics) {
+                client.subscribe(SubscriptionDTO.builder().topic(topic).qos(qos).build(), message -> {
+                    out.println(format(message, verbose));
+                    if (count > 0 && received.incrementAndGet() >= count) {
+                        done.countDown();
+                    }
+                });
+            }
+            if (duration > 0) {
+                done.await(duration, TimeUnit.SECONDS);
+            } else {
+                done.await();
+            }
+        }
+        return 0;
+    }
+
+    private static String format(MessageDTO message, boolean verbose) {
+        if (!verbose) {
+            return message.getTopic() + "\t" + message.getPayload();
+        }
+        return message.getDateTime() + "\t" + message.getQos() + "\t"
+                + (message.isRetained() ? "retained\t" : "")
+                + message.getTopic() + "\t" + message.getPayload();
+    }
+}
@@ -0,0 +1,98 @@
+package org.correomqtt.cli;
+
+import org.correomqtt.core.headless.HeadlessLauncher;
+import org.correomqtt.core.validation.BatchValidationTask;
+import org.correomqtt.core.validation.BatchValidationTaskFactory;
+import org.correomqtt.core.validation.MessageSource;
+import org.correomqtt.core.validation.ValidationReport;
+import org.correomqtt.di.DefaultBean;
+import org.correomqtt.di.Inject;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Validates a recording against the validators configured for its topics. Fails, if any message is invalid or if
+ * no message could be validated at all.
+ */
+@DefaultBean
+public class ValidateCommand implements CliCommand {
+
+    private final BatchValidationTaskFactory batchValidationTaskFactory;
+
+    @Inject
+    public ValidateCommand(BatchValidationTaskFactory batchValidationTaskFactory) {
+        this.batchValidationTaskFactory = batchValidationTaskFactory;
+    }
+
+    @Override
+    public String getName() {
+        return "validate";
+    }
+
+    @Override
+    public String getUsage() {
+        return "validate --input <file> [--failures <count>]";
+    }
+
+    @Override
+    public int run(CliArguments arguments) throws Exception {
+        Path input = Path.of(arguments.getString("input"));
+        int maxFailures = arguments.getInt("failures", 20);
+
+        AtomicReference<ValidationReport> result = new AtomicReference<>();
+        AtomicReference<String> error = new AtomicReference<>();
+        batchValidationTaskFactory.create(MessageSource.journal(input), maxFailures)
+                .onProgress(p -> System.err.printf("validated %d messages%n", p.getProcessed()))
+                .onSuccess(result::set)
+                .onError(r -> error.set(r.isExpected()
+                        ? describe(r.getExpectedError(), input)
+                        : String.valueOf(r.getUnexpectedError())))
+                .run()
+                .get();
+
+        if (error.get() != null) {
+            System.err.println(error.get());
+            return HeadlessLauncher.EXIT_FAILED;
+        }
+        ValidationReport report = result.get();
+        print(System.out, report);
+        if (report.getProcessed() > 0 && report.getUnvalidated() == report.getProcessed()) {
+            // nothing was checked at all, that must not look like a successful validation
+            System.err.println("No validator is configured for any topic of " + input + ", no message was validated.");
+            return HeadlessLauncher.EXIT_FAILED;
+        }
+        if (report.getUnvalidated() > 0) {
+            System.err.printf("Warning: %d messages were not validated, because no validator is configured for their topic.%n",
+                    report.getUnvalidated());
+        }
+        return report.getFailed() == 0 ? HeadlessLauncher.EXIT_OK : HeadlessLauncher.EXIT_FAILED;
+    }
+
+    private static String describe(BatchValidationTask.Error error, Path input) {
+        return switch (error) {
+            case SOURCE_CAN_NOT_BE_READ -> "Unable to read " + input;
+        };
+    }
+
+    private static void print(PrintStream out, ValidationReport report) {
+        out.printf("messages:     %d%n", report.getProcessed());
+        out.printf("passed:       %d%n", report.getPassed());
+        out.printf("failed:       %d%n", report.getFailed());
+        out.printf("no validator: %d%n", report.getUnvalidated());
+        out.println("topics:");
+        report.getTopics().forEach((topic, stats) -> out.printf("  %-40s %8d passed %8d failed %8d no validator%n",
+                topic, stats.getPassed(), stats.getFailed(), stats.getUnvalidated()));
+        if (!report.getFailures().isEmpty()) {
+            out.printf("first %d failures:%n", report.getFailures().size());
+            report.getFailures().forEach(f -> {
+                if (f.topic() == null) {
+                    out.printf("  %s%n", f.reason());
+                } else {
+                    out.printf("  %s %s %s: %s%n", f.dateTime(), f.topic(), f.messageId(), f.reason());
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.correomqtt.core.concurrent;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+
+/**
+ * Cancellation state of a task. A cancel without reason ends the task silently, a reason (e.g. a timeout) is reported
+ * to the error listeners.
+ */
+public class CancellationToken {
+
+    private final Set<Consumer<Throwable>> callbacks = new LinkedHashSet<>();
+    private boolean cancelled;
+    private Throwable reason;
+
+    public void cancel() {
+        cancel(null);
+    }
+
+    public void cancel(Throwable reason) {
+        List<Consumer<Throwable>> toRun;
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            this.reason = reason;
+            toRun = new ArrayList<>(callbacks);
+            callbacks.clear();
+        }
+        toRun.forEach(c -> c.accept(reason));
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    public synchronized Throwable getReason() {
+        return reason;
+    }
+
+    public void throwIfCancelled() {
+        if (isCancelled()) {
+            throw new CancellationException();
+        }
+    }
+
+    /**
+     * Runs the callback on cancel, or immediately if already cancelled.
+     */
+    public void onCancel(Consumer<Throwable> callback) {
+        Throwable r;
+        synchronized (this) {
+            if (!cancelled) {
+                callbacks.add(callback);
+                return;
+            }
+            r = reason;
+        }
+        callback.accept(r);
+    }
+
+    public synchronized void removeOnCancel(Consumer<Throwable> callback) {
+        callbacks.remove(callback);
+    }
+
+    /**
+     * Creates a token that is cancelled together with this one, but can also be cancelled on its own.
+     */
+    public CancellationToken child() {
+        CancellationToken child = new CancellationToken();
+        onCancel(child::cancel);
+        return child;
+    }
+}
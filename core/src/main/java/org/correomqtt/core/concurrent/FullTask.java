@@ -2,6 +2,8 @@ package org.correomqtt.core.concurrent;
 
 import org.correomqtt.di.SoyEvents;
 
+import java.time.Duration;
+
 public abstract class FullTask<T, P, E> extends TaskImpl<T, P, E, TaskErrorResult<E>> {
 
     protected FullTask(SoyEvents soyEvents) {
@@ -33,6 +35,11 @@ public abstract class FullTask<T, P, E> extends TaskImpl<T, P, E, TaskErrorResul
         return this;
     }
 
+    public FullTask<T, P, E> timeout(Duration timeout) {
+        timeoutImpl(timeout);
+        return this;
+    }
+
     protected void reportProgress(P progress) {
         reportProgressImpl(progress);
     }
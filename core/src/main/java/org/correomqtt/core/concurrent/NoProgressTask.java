@@ -2,6 +2,8 @@ package org.correomqtt.core.concurrent;
 
 import org.correomqtt.di.SoyEvents;
 
+import java.time.Duration;
+
 public abstract class NoProgressTask<T, E> extends TaskImpl<T, Void, E, TaskErrorResult<E>> {
 
     public NoProgressTask(SoyEvents soyEvents) {
@@ -28,6 +30,11 @@ public abstract class NoProgressTask<T, E> extends TaskImpl<T, Void, E, TaskErro
         return this;
     }
 
+    public NoProgressTask<T, E> timeout(Duration timeout) {
+        timeoutImpl(timeout);
+        return this;
+    }
+
     protected abstract T execute() throws Exception;
 
     @Override
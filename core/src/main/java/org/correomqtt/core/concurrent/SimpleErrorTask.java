@@ -2,6 +2,8 @@ package org.correomqtt.core.concurrent;
 
 import org.correomqtt.di.SoyEvents;
 
+import java.time.Duration;
+
 public abstract class SimpleErrorTask<E> extends TaskImpl<Void, Void, E, TaskErrorResult<E>> {
 
     protected SimpleErrorTask(SoyEvents soyEvents){
@@ -15,7 +17,7 @@ public abstract class SimpleErrorTask<E> extends TaskImpl<Void, Void, E, TaskErr
     }
 
     public SimpleErrorTask<E> onSuccess(SimpleSuccessListener listener) {
-        onSuccessImpl(ignore -> listener.success());
+        onSuccessImpl(listener);
         return this;
     }
 
@@ -30,6 +32,11 @@ public abstract class SimpleErrorTask<E> extends TaskImpl<Void, Void, E, TaskErr
         return this;
     }
 
+    public SimpleErrorTask<E> timeout(Duration timeout) {
+        timeoutImpl(timeout);
+        return this;
+    }
+
     protected abstract void execute();
 
     @Override
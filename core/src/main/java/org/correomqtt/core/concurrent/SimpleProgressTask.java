@@ -2,6 +2,8 @@ package org.correomqtt.core.concurrent;
 
 import org.correomqtt.di.SoyEvents;
 
+import java.time.Duration;
+
 public abstract class SimpleProgressTask<P> extends TaskImpl<Void, P, Void, SimpleTaskErrorResult> {
 
     protected SimpleProgressTask(SoyEvents soyEvents) {
@@ -19,7 +21,7 @@ public abstract class SimpleProgressTask<P> extends TaskImpl<Void, P, Void, Simp
     }
 
     public SimpleProgressTask<P> onSuccess(SimpleSuccessListener listener) {
-        onSuccessImpl(ignore -> listener.success());
+        onSuccessImpl(listener);
 
         return this;
     }
@@ -34,6 +36,11 @@ public abstract class SimpleProgressTask<P> extends TaskImpl<Void, P, Void, Simp
         return this;
     }
 
+    public SimpleProgressTask<P> timeout(Duration timeout) {
+        timeoutImpl(timeout);
+        return this;
+    }
+
     protected void reportProgress(P progress) {
         reportProgressImpl(progress);
     }
@@ -2,6 +2,8 @@ package org.correomqtt.core.concurrent;
 
 import org.correomqtt.di.SoyEvents;
 
+import java.time.Duration;
+
 public abstract class SimpleResultTask<T> extends TaskImpl<T, Void, Void, SimpleTaskErrorResult> {
 
     protected SimpleResultTask(SoyEvents soyEvents) {
@@ -19,7 +21,7 @@ public abstract class SimpleResultTask<T> extends TaskImpl<T, Void, Void, Simple
     }
 
     public SimpleResultTask<T> onError(SimpleTaskErrorResultListener listener) {
-        onErrorImpl(errorResult -> listener.error(TaskErrorResultTransformer.implToSimple(errorResult)));
+        onErrorImpl(listener);
         return this;
     }
 
@@ -28,6 +30,11 @@ public abstract class SimpleResultTask<T> extends TaskImpl<T, Void, Void, Simple
         return this;
     }
 
+    public SimpleResultTask<T> timeout(Duration timeout) {
+        timeoutImpl(timeout);
+        return this;
+    }
+
     protected abstract T execute();
 
     @Override
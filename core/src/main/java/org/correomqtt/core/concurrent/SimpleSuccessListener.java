@@ -1,6 +1,11 @@
 package org.correomqtt.core.concurrent;
 
 @FunctionalInterface
-public interface SimpleSuccessListener {
+public interface SimpleSuccessListener extends SuccessListener<Void> {
     void success();
+
+    @Override
+    default void success(Void ignore) {
+        success();
+    }
 }
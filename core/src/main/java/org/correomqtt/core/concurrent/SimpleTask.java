@@ -2,6 +2,8 @@ package org.correomqtt.core.concurrent;
 
 import org.correomqtt.di.SoyEvents;
 
+import java.time.Duration;
+
 public abstract class SimpleTask extends TaskImpl<Void, Void, Void, SimpleTaskErrorResult> {
 
     protected SimpleTask(SoyEvents soyEvents) {
@@ -14,12 +16,12 @@ public abstract class SimpleTask extends TaskImpl<Void, Void, Void, SimpleTaskEr
     }
 
     public SimpleTask onSuccess(SimpleSuccessListener listener) {
-        onSuccessImpl(ignore -> listener.success());
+        onSuccessImpl(listener);
         return this;
     }
 
     public SimpleTask onError(SimpleTaskErrorResultListener listener) {
-        onErrorImpl(errorResult -> listener.error(TaskErrorResultTransformer.implToSimple(errorResult)));
+        onErrorImpl(listener);
         return this;
     }
 
@@ -28,6 +30,15 @@ public abstract class SimpleTask extends TaskImpl<Void, Void, Void, SimpleTaskEr
         return this;
     }
 
+    /**
+     * Cancels the task, if it is still running after the given duration. It is then reported as failed with a
+     * {@link java.util.concurrent.TimeoutException}.
+     */
+    public SimpleTask timeout(Duration timeout) {
+        timeoutImpl(timeout);
+        return this;
+    }
+
     protected abstract void execute();
 
     @Override
@@ -68,7 +79,7 @@ public abstract class SimpleTask extends TaskImpl<Void, Void, Void, SimpleTaskEr
 
     @Override
     void errorHookImpl(SimpleTaskErrorResult errorResult) {
-        errorHook(TaskErrorResultTransformer.implToSimple(errorResult));
+        errorHook(errorResult);
     }
 
     @Override
@@ -1,6 +1,7 @@
 package org.correomqtt.core.concurrent;
 
 @FunctionalInterface
-public interface SimpleTaskErrorResultListener {
+public interface SimpleTaskErrorResultListener extends TaskErrorResultListener<SimpleTaskErrorResult> {
+    @Override
     void error(SimpleTaskErrorResult errorResult);
 }
@@ -0,0 +1,14 @@
+package org.correomqtt.core.concurrent;
+
+public enum TaskExecutorType {
+
+    /**
+     * Tasks waiting for the network or the file system, e.g. connect, subscribe or script execution.
+     */
+    BLOCKING_IO,
+
+    /**
+     * Tasks mostly using CPU, e.g. key derivation. Runs on a pool bounded by the number of processors.
+     */
+    CPU
+}
@@ -0,0 +1,67 @@
+package org.correomqtt.core.concurrent;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors used to run tasks, selected by {@link TaskExecutorType}. Blocking tasks get their own threads, so a few
+ * slow connects can not starve the common pool. Executors can be replaced, e.g. by a headless runtime or benchmarks.
+ */
+public class TaskExecutors {
+
+    private static final Map<TaskExecutorType, Executor> EXECUTORS = new EnumMap<>(TaskExecutorType.class);
+    private static final ScheduledThreadPoolExecutor TIMEOUTS = new ScheduledThreadPoolExecutor(1, threadFactory("correomqtt-timeout-"));
+
+    static {
+        // Java 17 has no virtual threads, so blocking tasks use a cached pool of daemon threads that shrinks when idle.
+        EXECUTORS.put(TaskExecutorType.BLOCKING_IO, Executors.newCachedThreadPool(threadFactory("correomqtt-io-")));
+        EXECUTORS.put(TaskExecutorType.CPU, Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()),
+                threadFactory("correomqtt-cpu-")));
+        // cancelled timeouts of finished tasks must not keep the tasks reachable until they would have fired
+        TIMEOUTS.setRemoveOnCancelPolicy(true);
+    }
+
+    private TaskExecutors() {
+        // private constructor
+    }
+
+    public static synchronized Executor get(TaskExecutorType type) {
+        return EXECUTORS.get(type);
+    }
+
+    /**
+     * Replaces the executor for the given type. The previous executor is shut down, if it is an {@link ExecutorService}.
+     */
+    public static synchronized void set(TaskExecutorType type, Executor executor) {
+        Executor previous = EXECUTORS.put(type, executor);
+        if (previous != executor && previous instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    static ScheduledFuture<?> schedule(Runnable runnable, Duration delay) {
+        return TIMEOUTS.schedule(runnable, delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    static int getPendingTimeouts() {
+        return TIMEOUTS.getQueue().size();
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
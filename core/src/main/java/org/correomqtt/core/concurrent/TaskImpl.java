@@ -1,13 +1,23 @@
 package org.correomqtt.core.concurrent;
 
+import org.correomqtt.core.metrics.Metrics;
+import org.correomqtt.core.metrics.Timer;
 import org.correomqtt.di.SoyEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 abstract class TaskImpl<T, P, E, R> {
 
@@ -28,76 +38,255 @@ abstract class TaskImpl<T, P, E, R> {
     abstract void finalHookImpl();
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TaskImpl.class);
-    private final Set<SuccessListener<T>> successListener = new HashSet<>();
-    private final Set<StartListener> startListener = new HashSet<>();
-    private final Set<ProgressListener<P>> progressListener = new HashSet<>();
-    private final Set<FinallyListener> finallyListener = new HashSet<>();
-    private final Set<TaskErrorResultListener<R>> errorListener = new HashSet<>();
+    private static final ThreadLocal<TaskImpl<?, ?, ?, ?>> CURRENT = new ThreadLocal<>();
+    private static final ClassValue<Timer> TASK_TIMERS = new ClassValue<>() {
+        @Override
+        protected Timer computeValue(Class<?> type) {
+            return Metrics.timer(Metrics.TASK_PREFIX + type.getSimpleName());
+        }
+    };
+    private static final ClassValue<AtomicBoolean> MISSING_ERROR_LISTENER_LOGGED = new ClassValue<>() {
+        @Override
+        protected AtomicBoolean computeValue(Class<?> type) {
+            return new AtomicBoolean();
+        }
+    };
+    private static final Object[] NO_LISTENERS = {};
+
+    // Plain arrays instead of sets: tasks run once per publish and usually have one or two listeners. The arrays are
+    // copied on write, so listeners can be iterated on any thread while others are added.
+    private volatile Object[] successListener = NO_LISTENERS;
+    private volatile Object[] startListener = NO_LISTENERS;
+    private volatile Object[] progressListener = NO_LISTENERS;
+    private volatile Object[] finallyListener = NO_LISTENERS;
+    private volatile Object[] errorListener = NO_LISTENERS;
+    private final CancellationToken cancellationToken = new CancellationToken();
+    private final Object listenerLock = new Object();
+    private final Object workerLock = new Object();
+    private Thread worker;
+    private Duration timeout;
+    private TaskImpl<?, ?, ?, ?> parent;
+    private CompletableFuture<Void> running;
 
     void onStartedImpl(StartListener listener) {
-        this.startListener.add(listener);
+        synchronized (listenerLock) {
+            startListener = append(startListener, listener);
+        }
     }
 
     void onProgressImpl(ProgressListener<P> listener) {
-        this.progressListener.add(listener);
+        synchronized (listenerLock) {
+            progressListener = append(progressListener, listener);
+        }
     }
 
     void onSuccessImpl(SuccessListener<T> listener) {
-        this.successListener.add(listener);
+        synchronized (listenerLock) {
+            successListener = append(successListener, listener);
+        }
     }
 
     void onErrorImpl(TaskErrorResultListener<R> listener) {
-        this.errorListener.add(listener);
+        synchronized (listenerLock) {
+            errorListener = append(errorListener, listener);
+        }
     }
 
     void onFinallyImpl(FinallyListener listener) {
-        this.finallyListener.add(listener);
+        synchronized (listenerLock) {
+            finallyListener = append(finallyListener, listener);
+        }
+    }
+
+    private static Object[] append(Object[] listeners, Object listener) {
+        Object[] result = Arrays.copyOf(listeners, listeners.length + 1);
+        result[listeners.length] = listener;
+        return result;
+    }
+
+    void timeoutImpl(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public CancellationToken getCancellationToken() {
+        return cancellationToken;
+    }
+
+    /**
+     * Cancels the task. A running task is interrupted and its listeners are skipped, except the finally listeners. Those
+     * run once executeImpl has returned, never concurrently to it.
+     */
+    public void cancel() {
+        cancellationToken.cancel();
+    }
+
+    /**
+     * Called once when the task is cancelled or times out while running, e.g. to close resources that do not react
+     * to interrupts.
+     */
+    protected void cancelHook() {
+        // to be overridden by child on demand
+    }
+
+    /**
+     * Tokens of the tasks that started this task from within their execution, nearest first.
+     */
+    protected List<CancellationToken> getParentTokens() {
+        List<CancellationToken> tokens = new ArrayList<>();
+        for (TaskImpl<?, ?, ?, ?> p = parent; p != null; p = p.parent) {
+            tokens.add(p.cancellationToken);
+        }
+        return tokens;
     }
 
+    /**
+     * Running tasks are registered in the scope, so they can be cancelled together.
+     */
+    protected TaskScope getScope() {
+        return null;
+    }
+
+    /**
+     * Selects the executor this task runs on. Tasks are expected to block by default.
+     */
+    protected TaskExecutorType getExecutorType() {
+        return TaskExecutorType.BLOCKING_IO;
+    }
+
+    @SuppressWarnings("unchecked")
     void reportProgressImpl(P progress) {
-        progressListener.forEach(l ->  l.progress(progress));
+        for (Object l : progressListener) {
+            ((ProgressListener<P>) l).progress(progress);
+        }
     }
 
+    /**
+     * Runs the task. A task can only be run once.
+     */
     @SuppressWarnings("unchecked")
-    public CompletableFuture<Void> run() {
-        startListener.forEach(StartListener::start);
-        if (errorListener.isEmpty()) {
+    public synchronized CompletableFuture<Void> run() {
+        if (running != null) {
+            throw new IllegalStateException(getClass().getSimpleName() + " has already been run.");
+        }
+        Timer timer = TASK_TIMERS.get(getClass());
+        long start = timer.start();
+        for (Object l : startListener) {
+            ((StartListener) l).start();
+        }
+        if (errorListener.length == 0 && MISSING_ERROR_LISTENER_LOGGED.get(getClass()).compareAndSet(false, true)) {
             LOGGER.warn("You executed {} without providing ExceptionListener. While unexpected Exceptions will be logged please consider adding custom error handling.", this.getClass());
         }
+        CancellationToken token = cancellationToken;
         beforeHookImpl();
-        return this.getFuture()
+        Executor executor = TaskExecutors.get(getExecutorType());
+        TaskScope scope = getScope();
+        if (scope != null) {
+            scope.add(token);
+        }
+        // a task started while another task executes is cancelled together with it
+        parent = CURRENT.get();
+        CancellationToken parentToken = parent == null ? null : parent.cancellationToken;
+        Consumer<Throwable> cancelWithParent = parentToken == null ? null : reason -> token.cancel();
+        if (parentToken != null) {
+            parentToken.onCancel(cancelWithParent);
+        }
+        AtomicBoolean started = new AtomicBoolean();
+        CompletableFuture<T> execution = this.getFuture(executor, token, started);
+        Consumer<Throwable> cancelExecution = reason -> {
+            if (execution.isDone()) {
+                return;
+            }
+            cancelHook();
+            synchronized (workerLock) {
+                if (!started.get()) {
+                    // the body will never run, so there is no need to wait for a free thread
+                    execution.completeExceptionally(new CancellationException());
+                } else if (worker != null) {
+                    // the future completes once executeImpl has returned
+                    worker.interrupt();
+                }
+            }
+        };
+        token.onCancel(cancelExecution);
+        ScheduledFuture<?> timeoutFuture = null;
+        if (timeout != null) {
+            Duration runTimeout = timeout;
+            timeoutFuture = TaskExecutors.schedule(() -> {
+                if (!execution.isDone()) {
+                    token.cancel(new TimeoutException(
+                            getClass().getSimpleName() + " timed out after " + runTimeout.toMillis() + "ms."));
+                }
+            }, runTimeout);
+        }
+        ScheduledFuture<?> runTimeoutFuture = timeoutFuture;
+        running = execution
                 .handleAsync((result, t) -> {
-                    if (t != null) {
+                    if (runTimeoutFuture != null) {
+                        runTimeoutFuture.cancel(false);
+                    }
+                    token.removeOnCancel(cancelExecution);
+                    if (scope != null) {
+                        scope.remove(token);
+                    }
+                    if (parentToken != null) {
+                        parentToken.removeOnCancel(cancelWithParent);
+                    }
+                    // a cancelled task skips its success listeners, even if executeImpl returned regularly
+                    Throwable error = token.isCancelled() ? token.getReason() : t;
+                    if (token.isCancelled() && error == null) {
+                        LOGGER.debug("Cancelled {}.", getClass().getSimpleName());
+                    } else if (error != null) {
                         E expectedError = null;
-                        if (t instanceof CompletionException ce && ce.getCause() instanceof TaskException taskException) {
+                        if (error instanceof CompletionException ce && ce.getCause() instanceof TaskException taskException) {
                             expectedError = (E) taskException.getError();
                         }
-                        if (errorListener.isEmpty()) {
-                            LOGGER.error("Unhandled exeception executing Task. Please consider using an ExceptionListener. ", t);
-                            soyEvents.fireAsync(new UnhandledTaskExceptionEvent<E>(expectedError, t));
+                        if (errorListener.length == 0) {
+                            LOGGER.error("Unhandled exeception executing Task. Please consider using an ExceptionListener. ", error);
+                            soyEvents.fireAsync(new UnhandledTaskExceptionEvent<E>(expectedError, error));
                         }
-                        R errorResult = createTaskErrorResult(expectedError, t);
+                        R errorResult = createTaskErrorResult(expectedError, error);
                         errorHookImpl(errorResult);
-                        errorListener.forEach(l -> l.error(errorResult));
+                        for (Object l : errorListener) {
+                            ((TaskErrorResultListener<R>) l).error(errorResult);
+                        }
                     } else {
                         successHookImpl(result);
-                        successListener.forEach(l -> l.success(result));
+                        for (Object l : successListener) {
+                            ((SuccessListener<T>) l).success(result);
+                        }
                     }
                     finalHookImpl();
-                    finallyListener.forEach(FinallyListener::run);
+                    for (Object l : finallyListener) {
+                        ((FinallyListener) l).run();
+                    }
+                    timer.stop(start);
                     return null;
-                });
+                }, executor);
+        return running;
     }
 
     abstract R createTaskErrorResult(E expectedError, Throwable throwable);
 
-    private CompletableFuture<T> getFuture() {
+    private CompletableFuture<T> getFuture(Executor executor, CancellationToken token, AtomicBoolean started) {
         return CompletableFuture.supplyAsync(() -> {
+            synchronized (workerLock) {
+                token.throwIfCancelled();
+                started.set(true);
+                worker = Thread.currentThread();
+            }
+            CURRENT.set(this);
             try {
                 return executeImpl();
             } catch (Exception e) {
                 throw new CompletionException(e);
+            } finally {
+                CURRENT.remove();
+                synchronized (workerLock) {
+                    worker = null;
+                    // do not leak an interrupt of a cancel into the next task of the pooled thread
+                    Thread.interrupted();
+                }
             }
-        });
+        }, executor);
     }
 }
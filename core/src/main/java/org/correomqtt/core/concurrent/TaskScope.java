@@ -0,0 +1,56 @@
+package org.correomqtt.core.concurrent;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Group of running tasks that can be cancelled together, e.g. all tasks of a connection. The scope stays usable
+ * after cancelling, tasks started later are not affected.
+ */
+public class TaskScope {
+
+    private final String name;
+    private final Set<CancellationToken> running = ConcurrentHashMap.newKeySet();
+
+    TaskScope(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Registers running work, that is cancelled together with the tasks of the scope. Tasks register themselves, other
+     * work, e.g. a publish stream of a script, until it is removed again.
+     */
+    public void add(CancellationToken token) {
+        running.add(token);
+    }
+
+    public void remove(CancellationToken token) {
+        running.remove(token);
+    }
+
+    public int getRunningCount() {
+        return running.size();
+    }
+
+    public void cancelAll() {
+        cancelAll(List.of());
+    }
+
+    /**
+     * Cancels all running tasks except the given ones, e.g. a script disconnecting its own connection.
+     */
+    public void cancelAll(Collection<CancellationToken> keep) {
+        for (CancellationToken token : running) {
+            if (!keep.contains(token)) {
+                running.remove(token);
+                token.cancel();
+            }
+        }
+    }
+}
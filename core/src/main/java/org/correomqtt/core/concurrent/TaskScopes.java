@@ -0,0 +1,45 @@
+package org.correomqtt.core.concurrent;
+
+import org.correomqtt.di.Inject;
+import org.correomqtt.di.SingletonBean;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@SingletonBean
+public class TaskScopes {
+
+    private final Map<String, TaskScope> scopes = new ConcurrentHashMap<>();
+
+    @Inject
+    public TaskScopes() {
+        // empty constructor for injection
+    }
+
+    public TaskScope get(String name) {
+        return scopes.computeIfAbsent(name, TaskScope::new);
+    }
+
+    /**
+     * Cancels all running tasks of the scope, e.g. on connection teardown.
+     */
+    public void cancel(String name) {
+        cancel(name, List.of());
+    }
+
+    public void cancel(String name, Collection<CancellationToken> keep) {
+        TaskScope scope = scopes.get(name);
+        if (scope != null) {
+            scope.cancelAll(keep);
+        }
+    }
+
+    public void remove(String name) {
+        TaskScope scope = scopes.remove(name);
+        if (scope != null) {
+            scope.cancelAll();
+        }
+    }
+}
@@ -5,6 +5,8 @@ import org.correomqtt.di.DefaultBean;
 import org.correomqtt.di.Inject;
 import org.correomqtt.core.concurrent.SimpleProgressTask;
 import org.correomqtt.core.concurrent.TaskException;
+import org.correomqtt.core.concurrent.TaskScope;
+import org.correomqtt.core.concurrent.TaskScopes;
 import org.correomqtt.di.SoyEvents;
 import org.correomqtt.di.Observes;
 import org.correomqtt.di.ObservesFilter;
@@ -23,6 +25,7 @@ import static org.correomqtt.core.events.ObservesFilterNames.CONNECTION_ID;
 public class ConnectTask extends SimpleProgressTask<ConnectionStateChangedEvent> {
 
     private final ConnectionManager connectionManager;
+    private final TaskScopes taskScopes;
     private final CorreoMqttClientFactory correoMqttClientFactory;
     private final String connectionId;
 
@@ -30,14 +33,21 @@ public class ConnectTask extends SimpleProgressTask<ConnectionStateChangedEvent>
     @Inject
     public ConnectTask(ConnectionManager connectionManager,
                        CorreoMqttClientFactory correoMqttClientFactory,
+                       TaskScopes taskScopes,
                        SoyEvents soyEvents,
                        @Assisted String connectionId) {
         super(soyEvents);
+        this.taskScopes = taskScopes;
         this.connectionManager = connectionManager;
         this.correoMqttClientFactory = correoMqttClientFactory;
         this.connectionId = connectionId;
     }
 
+    @Override
+    protected TaskScope getScope() {
+        return taskScopes.get(connectionId);
+    }
+
     @Override
     protected void execute() {
         CorreoMqttClient client = connectionManager.getClient(connectionId);
@@ -4,6 +4,7 @@ import org.correomqtt.di.Assisted;
 import org.correomqtt.di.DefaultBean;
 import org.correomqtt.di.Inject;
 import org.correomqtt.core.concurrent.SimpleTask;
+import org.correomqtt.core.concurrent.TaskScopes;
 import org.correomqtt.di.SoyEvents;
 import org.correomqtt.core.mqtt.CorreoMqttClient;
 import org.correomqtt.core.utils.ConnectionManager;
@@ -12,19 +13,24 @@ import org.correomqtt.core.utils.ConnectionManager;
 public class DisconnectTask extends SimpleTask {
 
     private final ConnectionManager connectionManager;
+    private final TaskScopes taskScopes;
     private final String connectionId;
 
     @Inject
     public DisconnectTask(ConnectionManager connectionManager,
+                          TaskScopes taskScopes,
                           SoyEvents soyEvents,
                           @Assisted String connectionId) {
         super(soyEvents);
         this.connectionManager = connectionManager;
+        this.taskScopes = taskScopes;
         this.connectionId = connectionId;
     }
 
     @Override
     protected void execute() {
+        // abort everything still running on this connection, but not a script disconnecting its own connection
+        taskScopes.cancel(connectionId, getParentTokens());
         CorreoMqttClient client = connectionManager.getClient(connectionId);
         client.disconnect();
     }
@@ -1,6 +1,8 @@
 package org.correomqtt.core.connection;
 
 import org.correomqtt.core.concurrent.NoProgressTask;
+import org.correomqtt.core.concurrent.TaskScope;
+import org.correomqtt.core.concurrent.TaskScopes;
 import org.correomqtt.di.SoyEvents;
 import org.correomqtt.core.model.SubscriptionDTO;
 import org.correomqtt.core.mqtt.CorreoMqttClient;
@@ -18,6 +20,7 @@ import java.util.Set;
 public class ReconnectTask extends NoProgressTask<Void, Void> {
 
     private final SubscribeTaskFactory subscribeTaskFactory;
+    private final TaskScopes taskScopes;
     private final CorreoMqttClientFactory correoMqttClientFactory;
     private final ConnectionManager connectionManager;
     private final String connectionId;
@@ -25,17 +28,24 @@ public class ReconnectTask extends NoProgressTask<Void, Void> {
 
     @Inject
     public ReconnectTask(SubscribeTaskFactory subscribeTaskFactory,
+                         TaskScopes taskScopes,
                          SoyEvents soyEvents,
                          CorreoMqttClientFactory correoMqttClientFactory,
                          ConnectionManager connectionManager,
                          @Assisted String connectionId) {
         super(soyEvents);
+        this.taskScopes = taskScopes;
         this.subscribeTaskFactory = subscribeTaskFactory;
         this.correoMqttClientFactory = correoMqttClientFactory;
         this.connectionManager = connectionManager;
         this.connectionId = connectionId;
     }
 
+    @Override
+    protected TaskScope getScope() {
+        return taskScopes.get(connectionId);
+    }
+
     @Override
     protected Void execute() throws Exception {
         CorreoMqttConnection connection = connectionManager.getConnection(connectionId);
@@ -0,0 +1,17 @@
+package org.correomqtt.core.exception;
+
+public class CorreoMqttHeadlessException extends CorreoMqttException {
+
+    public CorreoMqttHeadlessException(String message) {
+        super(message);
+    }
+
+    public CorreoMqttHeadlessException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    @Override
+    public String getInfo() {
+        return getMessage();
+    }
+}
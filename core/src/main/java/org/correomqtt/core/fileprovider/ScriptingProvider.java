@@ -1,30 +1,45 @@
 package org.correomqtt.core.fileprovider;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
 import org.correomqtt.di.DefaultBean;
 import org.correomqtt.di.SoyEvents;
 import org.correomqtt.core.scripting.ExecutionDTO;
-import org.correomqtt.core.scripting.ScriptExecutionError;
+import org.correomqtt.core.scripting.ExecutionIndexEntry;
 import org.correomqtt.core.scripting.ScriptFileDTO;
+import org.correomqtt.core.scripting.ScriptLogReader;
 import org.correomqtt.core.scripting.ScriptingBackend;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.correomqtt.di.Inject;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
-
-import static org.apache.commons.io.FilenameUtils.removeExtension;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 @DefaultBean
 public class ScriptingProvider extends BaseUserFileProvider {
@@ -32,6 +47,15 @@ public class ScriptingProvider extends BaseUserFileProvider {
     private static final Logger LOGGER = LoggerFactory.getLogger(ScriptingProvider.class);
 
     private static final String SCRIPT_FOLDER = "scripts";
+    public static final String EXECUTION_INDEX_FILE = "index.json";
+    private static final String LOG_EXTENSION = ".log";
+    private static final String GZIP_EXTENSION = ".gz";
+    private static final TypeReference<List<ExecutionIndexEntry>> EXECUTION_INDEX_TYPE = new TypeReference<>() {
+    };
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+    // the catalog file of a script is read, changed and written as a whole
+    private static final Object INDEX_LOCK = new Object();
+    private static final Map<String, Map<String, ExecutionIndexEntry>> INDEXES = new HashMap<>();
 
     @Inject
     public ScriptingProvider(SoyEvents soyEvents) {
@@ -63,34 +87,248 @@ public class ScriptingProvider extends BaseUserFileProvider {
                     .toList();
         }
 
-        scripts.forEach(script -> {
-            ObjectMapper om = new ObjectMapper();
-            om.registerModule(new JavaTimeModule());
-            String scriptExecutionFolder = getScriptExecutionsDirectory(script.getName());
-            try (Stream<Path> pathStream = Files.walk(new File(scriptExecutionFolder).toPath())) {
-                pathStream
-                        .filter(f -> Files.isRegularFile(f) && f.getFileName().toString().endsWith(".json"))
-                        .filter(f -> ScriptingBackend.getExecutionDTO(removeExtension(f.getFileName().toString())) == null)
-                        .forEach(f -> {
-                            try {
-                                ExecutionDTO dto = om.readValue(f.toFile(), ExecutionDTO.class);
-                                dto.setScriptFile(script);
-                                if (dto.getExecutionTime() == null) {
-                                    dto.setExecutionTime(0L);
-                                    dto.setError(new ScriptExecutionError(ScriptExecutionError.Type.HOST, "Unfinished"));
-                                    dto.setCancelled(true);
-                                }
-                                ScriptingBackend.putExecutionDTO(dto.getExecutionId(), dto);
-                            } catch (IOException e) {
-                                LOGGER.error("Unable to load execution file for {}", f.getFileName(), e);
-                            }
-                        });
+        scripts.forEach(this::loadExecutionIndex);
+
+        return scripts;
+    }
+
+    /**
+     * Puts the executions of the script from its catalog into the {@link ScriptingBackend}. Only execution files, that
+     * are missing in the catalog are read, and the catalog is written back if it changed.
+     */
+    public void loadExecutionIndex(ScriptFileDTO script) {
+        String scriptExecutionFolder = getScriptExecutionsDirectory(script.getName());
+        synchronized (INDEX_LOCK) {
+            Map<String, ExecutionIndexEntry> index = syncExecutionIndex(scriptExecutionFolder);
+            if (index == null) {
+                return;
+            }
+            index.values().stream()
+                    .filter(entry -> ScriptingBackend.getExecutionDTO(entry.getExecutionId()) == null)
+                    .forEach(entry -> {
+                        ExecutionDTO dto = entry.toExecutionDTO(script);
+                        markUnfinishedUnlessRunning(dto);
+                        ScriptingBackend.putExecutionDTO(entry.getExecutionId(), dto);
+                    });
+        }
+    }
+
+    /**
+     * Executions without execution time, that do not run in this process, were stopped together with the application.
+     */
+    private static void markUnfinishedUnlessRunning(ExecutionDTO dto) {
+        if (ScriptingBackend.getExecutionTask(dto.getExecutionId()) == null) {
+            dto.markUnfinished();
+        }
+    }
+
+    /**
+     * @return the catalog entries of all executions of the script, that are stored on disk
+     */
+    public List<ExecutionIndexEntry> getExecutionIndex(String filename) {
+        synchronized (INDEX_LOCK) {
+            Map<String, ExecutionIndexEntry> index = syncExecutionIndex(getScriptExecutionsDirectory(filename, false));
+            return index == null ? List.of() : new ArrayList<>(index.values());
+        }
+    }
+
+    private Map<String, ExecutionIndexEntry> syncExecutionIndex(String scriptExecutionFolder) {
+        Path folder = Path.of(scriptExecutionFolder);
+        if (!Files.isDirectory(folder)) {
+            // the script was not executed yet
+            return Map.of();
+        }
+        Map<String, ExecutionIndexEntry> index = readExecutionIndex(scriptExecutionFolder);
+        Set<String> executionIds;
+        try (Stream<Path> pathStream = Files.list(folder)) {
+            executionIds = pathStream
+                    .map(f -> f.getFileName().toString())
+                    .filter(f -> f.endsWith(".json") && !f.equals(EXECUTION_INDEX_FILE))
+                    .map(FilenameUtils::removeExtension)
+                    .collect(Collectors.toSet());
+        } catch (IOException e) {
+            LOGGER.error("Unable to load execution files for folder {}", scriptExecutionFolder, e);
+            return null;
+        }
+
+        boolean changed = index.keySet().retainAll(executionIds);
+        for (String executionId : executionIds) {
+            if (!index.containsKey(executionId)) {
+                ExecutionDTO known = ScriptingBackend.getExecutionDTO(executionId);
+                ExecutionDTO dto = known != null && !known.isSummary() ? known : readExecution(scriptExecutionFolder, executionId);
+                if (dto != null) {
+                    index.put(executionId, ExecutionIndexEntry.of(dto));
+                    changed = true;
+                }
+            }
+        }
+        if (changed) {
+            writeExecutionIndex(scriptExecutionFolder, index);
+        }
+        return index;
+    }
+
+    /**
+     * @return the names of all scripts, that have an executions folder, none if there is no executions folder yet
+     */
+    public List<String> getExecutionScriptNames() throws IOException {
+        Path root = Path.of(getFromCache(SCRIPT_EXECUTIONS_FOLDER_NAME, false));
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+        try (Stream<Path> pathStream = Files.list(root)) {
+            return pathStream
+                    .filter(Files::isDirectory)
+                    .map(f -> f.getFileName().toString())
+                    .toList();
+        }
+    }
+
+    /**
+     * Deletes the execution files and logs of the given executions and removes them from the catalog.
+     */
+    public void deleteExecutions(String filename, Collection<String> executionIds) throws IOException {
+        String scriptExecutionFolder = getScriptExecutionsDirectory(filename, false);
+        String scriptLogFolder = getScriptLogDirectory(filename, false);
+        synchronized (INDEX_LOCK) {
+            Map<String, ExecutionIndexEntry> index = readExecutionIndex(scriptExecutionFolder);
+            try {
+                for (String executionId : executionIds) {
+                    Files.deleteIfExists(Path.of(scriptLogFolder, executionId + LOG_EXTENSION));
+                    Files.deleteIfExists(Path.of(scriptLogFolder, executionId + LOG_EXTENSION + GZIP_EXTENSION));
+                    Files.deleteIfExists(Path.of(scriptExecutionFolder, executionId + ".json"));
+                    index.remove(executionId);
+                }
+            } finally {
+                writeExecutionIndex(scriptExecutionFolder, index);
+            }
+        }
+    }
+
+    /**
+     * @return the bytes used on disk by the execution file and log of an execution
+     */
+    public long getExecutionSize(String filename, String executionId) {
+        String scriptLogFolder = getScriptLogDirectory(filename, false);
+        return new File(getScriptExecutionsDirectory(filename, false), executionId + ".json").length()
+                + new File(scriptLogFolder, executionId + LOG_EXTENSION).length()
+                + new File(scriptLogFolder, executionId + LOG_EXTENSION + GZIP_EXTENSION).length();
+    }
+
+    /**
+     * Replaces the plain log of an execution by a gzip archive.
+     *
+     * @return true, if the log was compacted
+     */
+    public boolean compactLog(String filename, String executionId) throws IOException {
+        Path logFile = Path.of(getScriptLogDirectory(filename, false), executionId + LOG_EXTENSION);
+        if (!Files.exists(logFile)) {
+            return false;
+        }
+        Path archive = Path.of(logFile + GZIP_EXTENSION);
+        Path tmpFile = Path.of(archive + ".tmp");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmpFile))) {
+            Files.copy(logFile, out);
+        }
+        Files.move(tmpFile, archive, StandardCopyOption.REPLACE_EXISTING);
+        Files.delete(logFile);
+        return true;
+    }
+
+    /**
+     * Updates the catalog entry of a single execution from its file, e.g. after it was changed outside of this process.
+     * An execution without execution time is returned as running, as its file is just being written.
+     *
+     * @return the execution as found in the catalog, or null if the execution file does not exist (anymore)
+     */
+    public ExecutionDTO refreshExecutionIndex(ScriptFileDTO script, String executionId) {
+        String scriptExecutionFolder = getScriptExecutionsDirectory(script.getName(), false);
+        File file = new File(scriptExecutionFolder, executionId + ".json");
+        synchronized (INDEX_LOCK) {
+            Map<String, ExecutionIndexEntry> index = readExecutionIndex(scriptExecutionFolder);
+            if (!file.exists()) {
+                if (index.remove(executionId) != null) {
+                    writeExecutionIndex(scriptExecutionFolder, index);
+                }
+                return null;
+            }
+            ExecutionIndexEntry entry;
+            try {
+                entry = ExecutionIndexEntry.of(OBJECT_MAPPER.readValue(file, ExecutionDTO.class));
             } catch (IOException e) {
-                LOGGER.error("Unable to load execution files for folder {}", scriptExecutionFolder);
+                // the file might still be written, the next change will bring it up to date
+                LOGGER.debug("Unable to read execution file {}", file, e);
+                entry = index.get(executionId);
+                return entry == null ? null : entry.toExecutionDTO(script);
             }
-        });
+            index.put(executionId, entry);
+            writeExecutionIndex(scriptExecutionFolder, index);
+            return entry.toExecutionDTO(script);
+        }
+    }
 
-        return scripts;
+    public ScriptFileDTO getScriptFile(String filename) {
+        return ScriptFileDTO.builder()
+                .name(filename)
+                .path(Path.of(getScriptFolder(), filename).toAbsolutePath())
+                .build();
+    }
+
+    /**
+     * @return the complete execution for an execution, that was loaded from the catalog
+     */
+    public ExecutionDTO loadExecution(ExecutionDTO summary) throws IOException {
+        File file = new File(getScriptExecutionsDirectory(summary.getScriptFile().getName()), summary.getExecutionId() + ".json");
+        ExecutionDTO dto = OBJECT_MAPPER.readValue(file, ExecutionDTO.class);
+        dto.setScriptFile(summary.getScriptFile());
+        markUnfinishedUnlessRunning(dto);
+        return dto;
+    }
+
+    public String getScriptExecutionsRootDirectory() {
+        return getFromCache(SCRIPT_EXECUTIONS_FOLDER_NAME);
+    }
+
+    private ExecutionDTO readExecution(String scriptExecutionFolder, String executionId) {
+        try {
+            return OBJECT_MAPPER.readValue(new File(scriptExecutionFolder, executionId + ".json"), ExecutionDTO.class);
+        } catch (IOException e) {
+            LOGGER.error("Unable to load execution file for {}", executionId, e);
+            return null;
+        }
+    }
+
+    private Map<String, ExecutionIndexEntry> readExecutionIndex(String scriptExecutionFolder) {
+        return INDEXES.computeIfAbsent(scriptExecutionFolder, this::readExecutionIndexFile);
+    }
+
+    private Map<String, ExecutionIndexEntry> readExecutionIndexFile(String scriptExecutionFolder) {
+        Map<String, ExecutionIndexEntry> index = new LinkedHashMap<>();
+        File indexFile = new File(scriptExecutionFolder, EXECUTION_INDEX_FILE);
+        if (indexFile.exists()) {
+            try {
+                OBJECT_MAPPER.readValue(indexFile, EXECUTION_INDEX_TYPE)
+                        .forEach(entry -> index.put(entry.getExecutionId(), entry));
+            } catch (IOException e) {
+                LOGGER.warn("Execution catalog {} is broken and will be rebuilt.", indexFile, e);
+            }
+        }
+        return index;
+    }
+
+    private void writeExecutionIndex(String scriptExecutionFolder, Map<String, ExecutionIndexEntry> index) {
+        File indexFile = new File(scriptExecutionFolder, EXECUTION_INDEX_FILE);
+        File tmpFile = new File(scriptExecutionFolder, EXECUTION_INDEX_FILE + ".tmp");
+        try {
+            OBJECT_MAPPER.writeValue(tmpFile, index.values());
+            try {
+                Files.move(tmpFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmpFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Unable to write execution catalog {}", indexFile, e);
+        }
     }
 
     private String getScriptFolder() {
@@ -132,6 +370,9 @@ public class ScriptingProvider extends BaseUserFileProvider {
         if (!oldFile.renameTo(newFile)) {
             throw new FileAlreadyExistsException(absoluteNewFilename);
         }
+        synchronized (INDEX_LOCK) {
+            INDEXES.remove(oldExecutionDir.getPath());
+        }
         if (oldExecutionDir.exists() && !oldExecutionDir.renameTo(newExecutionDir)) {
             throw new FileAlreadyExistsException(newExecutionDir.getAbsolutePath());
         }
@@ -158,6 +399,9 @@ public class ScriptingProvider extends BaseUserFileProvider {
     }
 
     public void deleteExecutions(String filename) throws IOException {
+        synchronized (INDEX_LOCK) {
+            INDEXES.remove(getScriptExecutionsDirectory(filename, false));
+        }
         FileUtils.deleteDirectory(new File(getScriptLogFolder(filename)));
         FileUtils.deleteDirectory(new File(getScriptExecutionsDirectory(filename)));
     }
@@ -180,7 +424,7 @@ public class ScriptingProvider extends BaseUserFileProvider {
         File file = new File(logFolder);
 
         if (!file.exists()) {
-            return null;
+            return loadCompactedLog(new File(logFolder + GZIP_EXTENSION));
         }
 
         try (Stream<String> lines = Files.lines(file.toPath(), StandardCharsets.UTF_8)) {
@@ -189,13 +433,41 @@ public class ScriptingProvider extends BaseUserFileProvider {
         }
     }
 
+    /**
+     * @return a reader for the log of an execution, or null if there is no log
+     */
+    public ScriptLogReader openLog(String filename, String executionId) throws IOException {
+        String logFile = getSingleScriptLogPath(filename, executionId);
+        return ScriptLogReader.open(Path.of(logFile), Path.of(logFile + GZIP_EXTENSION));
+    }
+
+    private String loadCompactedLog(File file) throws IOException {
+        if (!file.exists()) {
+            return null;
+        }
+        try (InputStream in = new GZIPInputStream(new FileInputStream(file))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).strip();
+        }
+    }
+
     public String getSingleScriptLogPath(String filename, String executionId) {
-        return getScriptLogFolder(filename) + File.separator + executionId + ".log";
+        return getScriptLogFolder(filename) + File.separator + executionId + LOG_EXTENSION;
     }
 
+    /**
+     * Writes the execution file. The catalog is only updated for finished executions, running ones are listed from the
+     * {@link ScriptingBackend}.
+     */
     public void saveExecution(ExecutionDTO dto) throws IOException {
-        ObjectMapper om = new ObjectMapper();
-        om.registerModule(new JavaTimeModule());
-        om.writeValue(new File(getScriptExecutionsDirectory(dto.getScriptFile().getName()) + File.separator + dto.getExecutionId() + ".json"), dto);
+        String scriptExecutionFolder = getScriptExecutionsDirectory(dto.getScriptFile().getName());
+        OBJECT_MAPPER.writeValue(new File(scriptExecutionFolder, dto.getExecutionId() + ".json"), dto);
+        if (dto.getExecutionTime() == null) {
+            return;
+        }
+        synchronized (INDEX_LOCK) {
+            Map<String, ExecutionIndexEntry> index = readExecutionIndex(scriptExecutionFolder);
+            index.put(dto.getExecutionId(), ExecutionIndexEntry.of(dto));
+            writeExecutionIndex(scriptExecutionFolder, index);
+        }
     }
 }
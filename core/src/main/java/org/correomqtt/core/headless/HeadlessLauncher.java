@@ -0,0 +1,136 @@
+package org.correomqtt.core.headless;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.joran.JoranConfigurator;
+import ch.qos.logback.core.joran.spi.JoranException;
+import org.correomqtt.core.exception.CorreoMqttException;
+import org.correomqtt.core.model.ConnectionConfigDTO;
+import org.correomqtt.core.scripting.ExecutionDTO;
+import org.correomqtt.core.scripting.ScriptFileDTO;
+import org.correomqtt.core.utils.DirectoryUtils;
+import org.correomqtt.di.SoyDi;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.bridge.SLF4JBridgeHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point to run CorreoMQTT without JavaFX, e.g. to execute scripts on a server.
+ * <p>
+ * Usage: {@code connections | scripts | script <script> <connection>}. Add {@code --no-plugins} to skip loading plugins.
+ */
+public class HeadlessLauncher {
+
+    public static final int EXIT_OK = 0;
+    public static final int EXIT_FAILED = 1;
+    public static final int EXIT_USAGE = 2;
+
+    public static final String NO_PLUGINS = "--no-plugins";
+
+    static {
+        SLF4JBridgeHandler.install();
+    }
+
+    private HeadlessLauncher() {
+        // private constructor
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    public static int run(String[] args) {
+        configureLogger();
+        final Logger logger = LoggerFactory.getLogger(HeadlessLauncher.class);
+        PrintStream out = System.out;
+
+        boolean withPlugins = Arrays.stream(args).noneMatch(NO_PLUGINS::equals);
+        List<String> arguments = Arrays.stream(args).filter(a -> !NO_PLUGINS.equals(a)).toList();
+        if (arguments.isEmpty()) {
+            printUsage();
+            return EXIT_USAGE;
+        }
+
+        HeadlessRuntime runtime = boot();
+
+        try {
+            runtime.init(withPlugins);
+            return switch (arguments.get(0)) {
+                case "connections" -> {
+                    for (ConnectionConfigDTO c : runtime.getConnections()) {
+                        out.println(c.getId() + "\t" + c.getName() + "\t" + c.getUrl() + ":" + c.getPort());
+                    }
+                    yield EXIT_OK;
+                }
+                case "scripts" -> {
+                    for (ScriptFileDTO s : runtime.getScripts()) {
+                        out.println(s.getName());
+                    }
+                    yield EXIT_OK;
+                }
+                case "script" -> runScript(runtime, arguments);
+                default -> {
+                    printUsage();
+                    yield EXIT_USAGE;
+                }
+            };
+        } catch (CorreoMqttException e) {
+            logger.error("{}", e.getInfo(), e.getCause());
+            return EXIT_FAILED;
+        } catch (IOException e) {
+            logger.error("Unable to read scripts: ", e);
+            return EXIT_FAILED;
+        } finally {
+            runtime.shutdown();
+        }
+    }
+
+    /**
+     * Scans the core beans and returns the runtime. The logger must be configured before.
+     */
+    public static HeadlessRuntime boot() {
+        // See Launcher in gui: loading lib secret keyring requires asm, which clashes with lombok.
+        System.setProperty("jnr.ffi.asm.enabled", "false");
+        Thread.setDefaultUncaughtExceptionHandler((t, e) -> LoggerFactory.getLogger(HeadlessLauncher.class)
+                .error("Uncaught Exception: ", e));
+
+        SoyDi.scan("org.correomqtt.core");
+        return SoyDi.inject(HeadlessRuntime.class);
+    }
+
+    private static int runScript(HeadlessRuntime runtime, List<String> arguments) throws IOException {
+        if (arguments.size() != 3) {
+            printUsage();
+            return EXIT_USAGE;
+        }
+        ConnectionConfigDTO connection = runtime.findConnection(arguments.get(2));
+        ExecutionDTO result = runtime.runScript(arguments.get(1), connection.getId());
+        return result.getError() == null ? EXIT_OK : EXIT_FAILED;
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: correomqtt-headless [--no-plugins] <command>");
+        System.err.println("  connections                      list configured connections");
+        System.err.println("  scripts                          list available scripts");
+        System.err.println("  script <script> <connection>     run a script against a connection (id or name)");
+    }
+
+    public static void configureLogger() {
+        System.setProperty("correomqtt-logfile", DirectoryUtils.getLogDirectory());
+
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        loggerContext.reset();
+        JoranConfigurator configurator = new JoranConfigurator();
+        try (InputStream configStream = HeadlessLauncher.class.getResourceAsStream("logback-headless.xml")) {
+            configurator.setContext(loggerContext);
+            configurator.doConfigure(configStream);
+        } catch (JoranException | IOException e) {
+            throw new IllegalStateException("Problem configuring logger: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package org.correomqtt.core.headless;
+
+import org.correomqtt.core.CorreoCore;
+import org.correomqtt.core.applifecycle.ShutdownEvent;
+import org.correomqtt.core.connection.ConnectionLifecycleTaskFactories;
+import org.correomqtt.core.exception.CorreoMqttHeadlessException;
+import org.correomqtt.core.fileprovider.EncryptionRecoverableException;
+import org.correomqtt.core.fileprovider.ScriptingProvider;
+import org.correomqtt.core.keyring.Keyring;
+import org.correomqtt.core.keyring.KeyringFactory;
+import org.correomqtt.core.model.ConnectionConfigDTO;
+import org.correomqtt.core.plugin.CorreoExtensionFactory;
+import org.correomqtt.core.plugin.PluginManager;
+import org.correomqtt.core.scripting.ExecutionDTO;
+import org.correomqtt.core.scripting.ScriptExecuteTaskFactories;
+import org.correomqtt.core.scripting.ScriptFileDTO;
+import org.correomqtt.core.settings.SettingsManager;
+import org.correomqtt.di.Inject;
+import org.correomqtt.di.SingletonBean;
+import org.correomqtt.di.SoyEvents;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Boots the core without JavaFX: settings, secrets, plugins and connections. Everything that needs user interaction in
+ * the GUI is either taken from the environment or skipped.
+ */
+@SingletonBean
+public class HeadlessRuntime {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HeadlessRuntime.class);
+
+    public static final String MASTER_PASSWORD_ENV = "CORREO_MASTER_PASSWORD";
+    private static final long CONNECT_TIMEOUT_SECONDS = 60;
+
+    private final SettingsManager settingsManager;
+    private final PluginManager pluginManager;
+    private final KeyringFactory keyringFactory;
+    private final ScriptingProvider scriptingProvider;
+    private final ScriptExecuteTaskFactories scriptExecuteTaskFactories;
+    private final ConnectionLifecycleTaskFactories connectionLifecycleTaskFactories;
+    private final CorreoCore correoCore;
+    private final SoyEvents soyEvents;
+    private boolean pluginsStarted;
+
+    @Inject
+    public HeadlessRuntime(SettingsManager settingsManager,
+                           PluginManager pluginManager,
+                           KeyringFactory keyringFactory,
+                           ScriptingProvider scriptingProvider,
+                           ScriptExecuteTaskFactories scriptExecuteTaskFactories,
+                           ConnectionLifecycleTaskFactories connectionLifecycleTaskFactories,
+                           CorreoCore correoCore,
+                           SoyEvents soyEvents) {
+        this.settingsManager = settingsManager;
+        this.pluginManager = pluginManager;
+        this.keyringFactory = keyringFactory;
+        this.scriptingProvider = scriptingProvider;
+        this.scriptExecuteTaskFactories = scriptExecuteTaskFactories;
+        this.connectionLifecycleTaskFactories = connectionLifecycleTaskFactories;
+        this.correoCore = correoCore;
+        this.soyEvents = soyEvents;
+    }
+
+    public void init(boolean loadPlugins) {
+        pluginManager.setExtensionFactory(new CorreoExtensionFactory());
+        if (loadPlugins) {
+            // no update checks, plugins are used as installed by the GUI
+            pluginManager.loadPlugins();
+            pluginManager.startPlugins();
+            pluginManager.registerStartedPlugins();
+            pluginsStarted = true;
+        }
+
+        initializePasswords();
+        correoCore.init();
+    }
+
+    private void initializePasswords() {
+        String masterPassword = findMasterPassword();
+        if (masterPassword == null) {
+            LOGGER.warn("No master password available. Set {} to use stored connection passwords.", MASTER_PASSWORD_ENV);
+            return;
+        }
+        try {
+            settingsManager.initializePasswords(masterPassword);
+        } catch (EncryptionRecoverableException e) {
+            throw new CorreoMqttHeadlessException("Unable to decrypt stored passwords with the given master password.", e);
+        }
+    }
+
+    private String findMasterPassword() {
+        String fromEnv = System.getenv(MASTER_PASSWORD_ENV);
+        if (fromEnv != null && !fromEnv.isEmpty()) {
+            return fromEnv;
+        }
+        String keyringIdentifier = settingsManager.getSettings().getKeyringIdentifier();
+        if (keyringIdentifier == null || !pluginsStarted) {
+            return null;
+        }
+        Keyring keyring = keyringFactory.createKeyringByIdentifier(keyringIdentifier);
+        if (keyring == null || keyring.requiresUserinput()) {
+            return null;
+        }
+        return keyring.getPassword(Keyring.MASTER_PASSWORD_LABEL);
+    }
+
+    public List<ConnectionConfigDTO> getConnections() {
+        return settingsManager.getConnectionConfigs();
+    }
+
+    public ConnectionConfigDTO findConnection(String idOrName) {
+        return settingsManager.getConnectionConfigs()
+                .stream()
+                .filter(c -> idOrName.equals(c.getId()) || idOrName.equals(c.getName()))
+                .findFirst()
+                .orElseThrow(() -> new CorreoMqttHeadlessException("Unknown connection: " + idOrName));
+    }
+
+    public void connect(String connectionId) {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        await(connectionLifecycleTaskFactories.getConnectFactory()
+                .create(connectionId)
+                .onError(r -> error.set(r.getUnexpectedError()))
+                .run(), CONNECT_TIMEOUT_SECONDS, "connect " + connectionId);
+        if (error.get() != null) {
+            throw new CorreoMqttHeadlessException("Unable to connect " + connectionId, error.get());
+        }
+    }
+
+    public void disconnect(String connectionId) {
+        await(connectionLifecycleTaskFactories.getDisconnectFactory()
+                .create(connectionId)
+                .onError(r -> LOGGER.warn("Unable to disconnect {}", connectionId, r.getUnexpectedError()))
+                .run(), CONNECT_TIMEOUT_SECONDS, "disconnect " + connectionId);
+    }
+
+    public List<ScriptFileDTO> getScripts() throws IOException {
+        return scriptingProvider.getScripts();
+    }
+
+    /**
+     * Runs a script against a connection and blocks until it is done. Scripts connect on their own, like in the GUI.
+     */
+    public ExecutionDTO runScript(String scriptName, String connectionId) throws IOException {
+        ScriptFileDTO scriptFile = getScripts()
+                .stream()
+                .filter(s -> s.getName().equals(scriptName) || s.getName().equals(scriptName + ".js"))
+                .findFirst()
+                .orElseThrow(() -> new CorreoMqttHeadlessException("Unknown script: " + scriptName));
+
+        ExecutionDTO executionDTO = ExecutionDTO.builder()
+                .jsCode(scriptingProvider.loadScript(scriptFile))
+                .scriptFile(scriptFile)
+                .connectionId(connectionId)
+                .build();
+
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        await(scriptExecuteTaskFactories.getExecutionFactory()
+                .create(executionDTO)
+                .onError(r -> error.set(r.getUnexpectedError()))
+                .run(), 0, "run " + scriptName);
+        if (error.get() != null) {
+            throw new CorreoMqttHeadlessException("Script " + scriptName + " failed unexpectedly.", error.get());
+        }
+        return executionDTO;
+    }
+
+    public void shutdown() {
+        LOGGER.info("Shutting down connections.");
+        soyEvents.fire(new ShutdownEvent());
+        if (pluginsStarted) {
+            LOGGER.info("Shutting down plugins.");
+            pluginManager.stopPlugins();
+        }
+    }
+
+    private static void await(CompletableFuture<Void> future, long timeoutSeconds, String action) {
+        try {
+            if (timeoutSeconds > 0) {
+                future.get(timeoutSeconds, TimeUnit.SECONDS);
+            } else {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CorreoMqttHeadlessException("Interrupted while waiting to " + action, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new CorreoMqttHeadlessException("Unable to " + action, e);
+        }
+    }
+}
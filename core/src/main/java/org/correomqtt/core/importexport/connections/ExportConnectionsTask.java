@@ -6,6 +6,7 @@ import org.correomqtt.di.DefaultBean;
 import org.correomqtt.di.Inject;
 import org.correomqtt.core.concurrent.NoProgressTask;
 import org.correomqtt.core.concurrent.TaskException;
+import org.correomqtt.core.concurrent.TaskExecutorType;
 import org.correomqtt.core.encryption.Encryptor;
 import org.correomqtt.core.encryption.EncryptorAesGcm;
 import org.correomqtt.di.SoyEvents;
@@ -45,6 +46,12 @@ public class ExportConnectionsTask extends NoProgressTask<Integer, ExportConnect
         this.password = password;
     }
 
+    @Override
+    protected TaskExecutorType getExecutorType() {
+        // deriving the export key is the expensive part
+        return TaskExecutorType.CPU;
+    }
+
     @Override
     protected Integer execute() throws EncryptionRecoverableException, IOException, TaskException {
 
@@ -8,6 +8,7 @@ import org.correomqtt.di.DefaultBean;
 import org.correomqtt.di.Inject;
 import org.correomqtt.core.concurrent.NoProgressTask;
 import org.correomqtt.core.concurrent.TaskException;
+import org.correomqtt.core.concurrent.TaskExecutorType;
 import org.correomqtt.core.encryption.EncryptorAesGcm;
 import org.correomqtt.di.SoyEvents;
 import org.correomqtt.core.fileprovider.EncryptionRecoverableException;
@@ -41,6 +42,11 @@ public class ImportDecryptConnectionsTask extends NoProgressTask<List<Connection
         this.password = password;
     }
 
+    @Override
+    protected TaskExecutorType getExecutorType() {
+        return TaskExecutorType.CPU;
+    }
+
     @Override
     protected List<ConnectionConfigDTO> execute() throws TaskException, EncryptionRecoverableException, JsonProcessingException {
         EncryptorAesGcm encryptor = new EncryptorAesGcm(password);
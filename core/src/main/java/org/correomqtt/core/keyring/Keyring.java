@@ -2,6 +2,8 @@ package org.correomqtt.core.keyring;
 
 public interface Keyring {
 
+    String MASTER_PASSWORD_LABEL = "CorreoMQTT_MasterPassword";
+
     String getPassword(String label);
 
     void setPassword(String label, String password);
@@ -8,17 +8,24 @@ import lombok.Setter;
 import org.correomqtt.di.SoyEvents;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 @Setter
 @Getter
 public class LogDispatchAppender extends AppenderBase<ILoggingEvent> {
 
+    public static final int DEFAULT_CACHE_SIZE = 1000;
+
     private PatternLayoutEncoder encoder;
 
-    private final List<String> cache = new CopyOnWriteArrayList<>();
+    /**
+     * Messages, that arrived while nobody was listening. Only the latest {@link #cacheSize} are kept.
+     */
+    private final ArrayDeque<String> cache = new ArrayDeque<>();
+
+    private int cacheSize = DEFAULT_CACHE_SIZE;
 
     private SoyEvents soyEvents;
 
@@ -41,9 +48,13 @@ public class LogDispatchAppender extends AppenderBase<ILoggingEvent> {
 
     @Override
     protected void append(ILoggingEvent eventObject) {
+        // called synchronized by doAppend, so the cache needs no further locking
         String logMsg = new String(this.encoder.encode(eventObject), StandardCharsets.UTF_8);
         if (soyEvents == null || soyEvents.fireAsync(new LogEvent(logMsg)) == 0) {
-            cache.add(logMsg);
+            if (cache.size() >= cacheSize) {
+                cache.pollFirst();
+            }
+            cache.addLast(logMsg);
         }
     }
-}
\ No newline at end of file
+}
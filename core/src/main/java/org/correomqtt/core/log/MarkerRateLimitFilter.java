@@ -0,0 +1,82 @@
+package org.correomqtt.core.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.Marker;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the number of events per marker and second, so a connection with a high message rate can not flood the log.
+ * Only events of the loggers starting with {@link #getLoggerPrefix()} are limited, so the output of scripts always
+ * passes. Events above {@link #getLevel()} always pass. Additionally only every {@link #getSampleRate()}th of the
+ * limited events is logged.
+ */
+@Getter
+@Setter
+public class MarkerRateLimitFilter extends Filter<ILoggingEvent> {
+
+    private static final String NO_MARKER = "";
+    private static final long WINDOW_MILLIS = 1000;
+
+    private int maxPerSecond = 200;
+    private int sampleRate = 1;
+    private Level level = Level.INFO;
+    private String loggerPrefix = "org.correomqtt";
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (!isStarted()
+                || event.getLevel().toInt() > level.toInt()
+                || !event.getLoggerName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        Window window = windows.computeIfAbsent(getMarkerName(event), m -> new Window());
+        if (sampleRate > 1 && window.seen.getAndIncrement() % sampleRate != 0) {
+            return FilterReply.DENY;
+        }
+        return window.tryAcquire(maxPerSecond) ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private static String getMarkerName(ILoggingEvent event) {
+        List<Marker> markers = event.getMarkerList();
+        if (markers == null || markers.isEmpty()) {
+            return NO_MARKER;
+        }
+        return markers.get(0).getName();
+    }
+
+    @Override
+    public void stop() {
+        windows.clear();
+        super.stop();
+    }
+
+    private static class Window {
+        private final AtomicLong seen = new AtomicLong();
+        private long start;
+        private int count;
+
+        private synchronized boolean tryAcquire(int max) {
+            long now = System.currentTimeMillis();
+            if (now - start >= WINDOW_MILLIS) {
+                start = now;
+                count = 0;
+            }
+            if (count < max) {
+                count++;
+                return true;
+            }
+            return false;
+        }
+    }
+}
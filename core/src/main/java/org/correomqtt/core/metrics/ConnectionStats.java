@@ -0,0 +1,111 @@
+package org.correomqtt.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live traffic counters of a single connection. Payload sizes are counted in UTF-8 encoded bytes.
+ */
+public class ConnectionStats {
+
+    private static final int RATE_WINDOW_SECONDS = 5;
+
+    private final String connectionId;
+    private final LongAdder messagesIn = new LongAdder();
+    private final LongAdder messagesOut = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder reconnects = new LongAdder();
+    private final SlidingWindowRate messagesInRate = new SlidingWindowRate(RATE_WINDOW_SECONDS);
+    private final SlidingWindowRate messagesOutRate = new SlidingWindowRate(RATE_WINDOW_SECONDS);
+    private final SlidingWindowRate bytesInRate = new SlidingWindowRate(RATE_WINDOW_SECONDS);
+    private final SlidingWindowRate bytesOutRate = new SlidingWindowRate(RATE_WINDOW_SECONDS);
+    private final Histogram publishLatency;
+
+    ConnectionStats(String connectionId) {
+        this.connectionId = connectionId;
+        this.publishLatency = new Histogram(connectionId + ".publish.latency");
+    }
+
+    public void incoming(int bytes) {
+        messagesIn.increment();
+        bytesIn.add(bytes);
+        messagesInRate.add(1);
+        bytesInRate.add(bytes);
+    }
+
+    public void outgoing(int bytes, long latencyNanos) {
+        messagesOut.increment();
+        bytesOut.add(bytes);
+        messagesOutRate.add(1);
+        bytesOutRate.add(bytes);
+        publishLatency.record(latencyNanos);
+    }
+
+    public void dropped() {
+        dropped.increment();
+    }
+
+    public void reconnect() {
+        reconnects.increment();
+    }
+
+    public ConnectionStatsSnapshot snapshot() {
+        return new ConnectionStatsSnapshot(connectionId,
+                messagesIn.sum(),
+                messagesOut.sum(),
+                bytesIn.sum(),
+                bytesOut.sum(),
+                messagesInRate.getRatePerSecond(),
+                messagesOutRate.getRatePerSecond(),
+                bytesInRate.getRatePerSecond(),
+                bytesOutRate.getRatePerSecond(),
+                publishLatency.getPercentile(50),
+                publishLatency.getPercentile(90),
+                publishLatency.getPercentile(99),
+                dropped.sum(),
+                reconnects.sum());
+    }
+
+    /**
+     * The number of bytes of the text in UTF-8, without encoding it. Unpaired surrogates count as the one byte
+     * replacement character, like {@link String#getBytes(java.nio.charset.Charset)} does.
+     */
+    public static int utf8Length(String text) {
+        if (text == null) {
+            return 0;
+        }
+        int length = text.length();
+        int bytes = 0;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (!Character.isSurrogate(c)) {
+                bytes += 3;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes++;
+            }
+        }
+        return bytes;
+    }
+
+    public void reset() {
+        messagesIn.reset();
+        messagesOut.reset();
+        bytesIn.reset();
+        bytesOut.reset();
+        dropped.reset();
+        reconnects.reset();
+        messagesInRate.reset();
+        messagesOutRate.reset();
+        bytesInRate.reset();
+        bytesOutRate.reset();
+        publishLatency.reset();
+    }
+}
@@ -0,0 +1,51 @@
+package org.correomqtt.core.metrics;
+
+import org.correomqtt.core.connection.ConnectionState;
+import org.correomqtt.core.connection.ConnectionStateChangedEvent;
+import org.correomqtt.di.Inject;
+import org.correomqtt.di.Observes;
+import org.correomqtt.di.SingletonBean;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@SingletonBean
+public class ConnectionStatsCollector {
+
+    private final Map<String, ConnectionStats> stats = new ConcurrentHashMap<>();
+
+    @Inject
+    public ConnectionStatsCollector() {
+        // empty constructor for injection
+    }
+
+    public ConnectionStats get(String connectionId) {
+        ConnectionStats connectionStats = stats.get(connectionId);
+        if (connectionStats == null) {
+            connectionStats = stats.computeIfAbsent(connectionId, ConnectionStats::new);
+        }
+        return connectionStats;
+    }
+
+    /**
+     * Does not register the connection, so polling a removed connection does not bring its statistics back.
+     */
+    public ConnectionStatsSnapshot snapshot(String connectionId) {
+        ConnectionStats connectionStats = stats.get(connectionId);
+        return (connectionStats == null ? new ConnectionStats(connectionId) : connectionStats).snapshot();
+    }
+
+    /**
+     * Forgets the statistics of a deleted or derived connection.
+     */
+    public void remove(String connectionId) {
+        stats.remove(connectionId);
+    }
+
+    @SuppressWarnings("unused")
+    public void onConnectionStateChanged(@Observes(autocreate = true) ConnectionStateChangedEvent event) {
+        if (event.getState() == ConnectionState.RECONNECTING) {
+            get(event.getConnectionId()).reconnect();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.correomqtt.core.metrics;
+
+/**
+ * Latencies are in nanoseconds, rates per second.
+ */
+public record ConnectionStatsSnapshot(String connectionId,
+                                      long messagesIn,
+                                      long messagesOut,
+                                      long bytesIn,
+                                      long bytesOut,
+                                      double messagesInPerSecond,
+                                      double messagesOutPerSecond,
+                                      double bytesInPerSecond,
+                                      double bytesOutPerSecond,
+                                      long publishLatencyP50,
+                                      long publishLatencyP90,
+                                      long publishLatencyP99,
+                                      long dropped,
+                                      long reconnects) {
+}
@@ -0,0 +1,41 @@
+package org.correomqtt.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class Counter implements Metric {
+
+    private final String name;
+    private final LongAdder value = new LongAdder();
+
+    Counter(String name) {
+        this.name = name;
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long delta) {
+        value.add(delta);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public MetricSnapshot snapshot() {
+        long count = value.sum();
+        return new MetricSnapshot(name, MetricType.COUNTER, count, 0, 0, 0, 0, 0);
+    }
+
+    @Override
+    public void reset() {
+        value.reset();
+    }
+}
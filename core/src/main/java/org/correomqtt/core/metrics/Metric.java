@@ -0,0 +1,10 @@
+package org.correomqtt.core.metrics;
+
+public interface Metric {
+
+    String getName();
+
+    MetricSnapshot snapshot();
+
+    void reset();
+}
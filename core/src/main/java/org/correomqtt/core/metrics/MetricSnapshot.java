@@ -0,0 +1,14 @@
+package org.correomqtt.core.metrics;
+
+/**
+ * Point in time view of a single metric. Timer values are in nanoseconds, counters only fill {@code count}.
+ */
+public record MetricSnapshot(String name,
+                             MetricType type,
+                             long count,
+                             double mean,
+                             long p50,
+                             long p90,
+                             long p99,
+                             long max) {
+}
@@ -0,0 +1,7 @@
+package org.correomqtt.core.metrics;
+
+public enum MetricType {
+    COUNTER,
+    HISTOGRAM,
+    TIMER
+}
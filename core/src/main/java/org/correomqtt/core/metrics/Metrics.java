@@ -0,0 +1,65 @@
+package org.correomqtt.core.metrics;
+
+import org.correomqtt.di.SoyDi;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public class Metrics {
+
+    public static final String TASK_PREFIX = "task.";
+    public static final String PUBLISH_EXECUTE = "publish.execute";
+    public static final String SUBSCRIBE_INCOMING = "subscribe.incoming";
+    public static final String HOOKS_INCOMING = "hooks.incoming";
+    public static final String HOOKS_OUTGOING = "hooks.outgoing";
+
+    private static final ConcurrentHashMap<String, Metric> METRICS = new ConcurrentHashMap<>();
+
+    private Metrics() {
+        // private constructor
+    }
+
+    public static Counter counter(String name) {
+        return get(name, Counter.class, Counter::new);
+    }
+
+    public static Histogram histogram(String name) {
+        return get(name, Histogram.class, Histogram::new);
+    }
+
+    public static Timer timer(String name) {
+        return get(name, Timer.class, Timer::new);
+    }
+
+    public static List<MetricSnapshot> snapshot() {
+        return METRICS.values()
+                .stream()
+                .map(Metric::snapshot)
+                .sorted(Comparator.comparing(MetricSnapshot::name))
+                .toList();
+    }
+
+    public static void reset() {
+        METRICS.values().forEach(Metric::reset);
+    }
+
+    /**
+     * The di module can not depend on core, so it reports its timings through a callback.
+     */
+    public static void installDiInstrumentation() {
+        SoyDi.setInstrumentation((name, durationNanos) -> timer(name).record(durationNanos));
+    }
+
+    private static <M extends Metric> M get(String name, Class<M> type, Function<String, M> creator) {
+        Metric metric = METRICS.get(name);
+        if (metric == null) {
+            metric = METRICS.computeIfAbsent(name, creator);
+        }
+        if (metric.getClass() != type) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as " + metric.getClass().getSimpleName());
+        }
+        return type.cast(metric);
+    }
+}
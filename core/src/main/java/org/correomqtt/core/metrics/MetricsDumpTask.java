@@ -0,0 +1,34 @@
+package org.correomqtt.core.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.correomqtt.core.concurrent.SimpleResultTask;
+import org.correomqtt.core.concurrent.TaskException;
+import org.correomqtt.core.utils.DirectoryUtils;
+import org.correomqtt.di.DefaultBean;
+import org.correomqtt.di.Inject;
+import org.correomqtt.di.SoyEvents;
+
+import java.io.File;
+import java.io.IOException;
+
+@DefaultBean
+public class MetricsDumpTask extends SimpleResultTask<File> {
+
+    private static final String DIAGNOSTICS_FILE_NAME = "diagnostics.json";
+
+    @Inject
+    public MetricsDumpTask(SoyEvents soyEvents) {
+        super(soyEvents);
+    }
+
+    @Override
+    protected File execute() {
+        File file = new File(DirectoryUtils.getTargetDirectoryPath() + File.separator + DIAGNOSTICS_FILE_NAME);
+        try {
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file, Metrics.snapshot());
+        } catch (IOException e) {
+            throw new TaskException(e);
+        }
+        return file;
+    }
+}
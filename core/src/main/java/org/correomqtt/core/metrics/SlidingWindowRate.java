@@ -0,0 +1,71 @@
+package org.correomqtt.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free per second rate over the last completed seconds. Buckets are recycled with a CAS on their second stamp,
+ * so concurrent adds during a bucket switch may get lost. That is fine for a live estimate.
+ */
+public class SlidingWindowRate {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final int windowSeconds;
+    private final LongSupplier nanoTime;
+    private final AtomicLongArray counts;
+    private final AtomicLongArray seconds;
+
+    public SlidingWindowRate(int windowSeconds) {
+        this(windowSeconds, System::nanoTime);
+    }
+
+    SlidingWindowRate(int windowSeconds, LongSupplier nanoTime) {
+        this.windowSeconds = windowSeconds;
+        this.nanoTime = nanoTime;
+        // one extra bucket for the currently running second
+        this.counts = new AtomicLongArray(windowSeconds + 1);
+        this.seconds = new AtomicLongArray(windowSeconds + 1);
+        for (int i = 0; i <= windowSeconds; i++) {
+            seconds.set(i, Long.MIN_VALUE);
+        }
+    }
+
+    public void add(long amount) {
+        long second = currentSecond();
+        int index = indexOf(second);
+        long bucketSecond = seconds.get(index);
+        if (bucketSecond != second && seconds.compareAndSet(index, bucketSecond, second)) {
+            counts.set(index, amount);
+            return;
+        }
+        counts.addAndGet(index, amount);
+    }
+
+    public double getRatePerSecond() {
+        long now = currentSecond();
+        long sum = 0;
+        for (int i = 0; i <= windowSeconds; i++) {
+            long bucketSecond = seconds.get(i);
+            if (bucketSecond < now && bucketSecond >= now - windowSeconds) {
+                sum += counts.get(i);
+            }
+        }
+        return (double) sum / windowSeconds;
+    }
+
+    public void reset() {
+        for (int i = 0; i <= windowSeconds; i++) {
+            seconds.set(i, Long.MIN_VALUE);
+            counts.set(i, 0);
+        }
+    }
+
+    private int indexOf(long second) {
+        return (int) Math.floorMod(second, (long) windowSeconds + 1);
+    }
+
+    private long currentSecond() {
+        return Math.floorDiv(nanoTime.getAsLong(), NANOS_PER_SECOND);
+    }
+}
@@ -0,0 +1,40 @@
+package org.correomqtt.core.metrics;
+
+/**
+ * Histogram of durations in nanoseconds. Optionally emits a JFR event per measurement, if the JVM was started with
+ * {@code -Dcorreomqtt.jfr=true}.
+ */
+public class Timer extends Histogram {
+
+    private static final boolean JFR_ENABLED = Boolean.getBoolean("correomqtt.jfr");
+
+    Timer(String name) {
+        super(name);
+    }
+
+    public long start() {
+        return System.nanoTime();
+    }
+
+    public void stop(long start) {
+        record(System.nanoTime() - start);
+    }
+
+    @Override
+    public void record(long durationNanos) {
+        super.record(durationNanos);
+        if (JFR_ENABLED) {
+            TimerJfrEvent event = new TimerJfrEvent();
+            if (event.shouldCommit()) {
+                event.setMetric(getName());
+                event.setDuration(durationNanos);
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    MetricType getType() {
+        return MetricType.TIMER;
+    }
+}
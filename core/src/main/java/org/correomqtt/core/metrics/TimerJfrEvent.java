@@ -0,0 +1,22 @@
+package org.correomqtt.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+import lombok.Setter;
+
+@Name("org.correomqtt.Timer")
+@Label("CorreoMQTT Timer")
+@Category("CorreoMQTT")
+@Setter
+class TimerJfrEvent extends Event {
+
+    @Label("Metric")
+    private String metric;
+
+    @Label("Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long duration;
+}
@@ -77,13 +77,20 @@ public class ConnectionConfigDTO {
         ssl = configDTO.ssl;
         sslKeystore = configDTO.sslKeystore;
         sslKeystorePassword = configDTO.sslKeystorePassword;
+        sslHostVerification = configDTO.sslHostVerification;
         proxy = configDTO.proxy;
         sshHost = configDTO.sshHost;
         sshPort = configDTO.sshPort;
         localPort = configDTO.localPort;
         auth = configDTO.auth;
+        authUsername = configDTO.authUsername;
         authPassword = configDTO.authPassword;
         authKeyfile = configDTO.authKeyfile;
+        lwt = configDTO.lwt;
+        lwtTopic = configDTO.lwtTopic;
+        lwtQoS = configDTO.lwtQoS;
+        lwtRetained = configDTO.lwtRetained;
+        lwtPayload = configDTO.lwtPayload;
         connectionUISettings = configDTO.connectionUISettings;
         publishListViewConfig = configDTO.publishListViewConfig;
         subscribeListViewConfig = configDTO.subscribeListViewConfig;
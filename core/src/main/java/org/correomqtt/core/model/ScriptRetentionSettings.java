@@ -0,0 +1,36 @@
+package org.correomqtt.core.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Limits for the stored executions and logs of scripts. A limit of 0 disables that limit. Retention deletes files and
+ * therefore has to be enabled explicitly.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ScriptRetentionSettings {
+
+    @Builder.Default
+    private boolean enabled = false;
+    @Builder.Default
+    private int maxAgeDays = 30;
+    @Builder.Default
+    private int maxExecutionsPerScript = 500;
+    @Builder.Default
+    private long maxTotalBytes = 512L * 1024 * 1024;
+    @Builder.Default
+    private int compactLogsAfterHours = 24;
+    @Builder.Default
+    private int intervalMinutes = 60;
+}
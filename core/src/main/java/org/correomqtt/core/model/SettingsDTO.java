@@ -36,6 +36,8 @@ public class SettingsDTO {
     private GlobalUISettings globalUISettings = null;
     @Builder.Default
     private String configCreatedWithCorreoVersion = null;
+    @Builder.Default
+    private ScriptRetentionSettings scriptRetentionSettings = null;
 
     public boolean isUseRegexForSearch() {
         return useRegexForSearch;
@@ -69,6 +71,13 @@ public class SettingsDTO {
         this.globalUISettings = globalUISettings;
     }
 
+    public ScriptRetentionSettings getScriptRetentionSettings() {
+        if (scriptRetentionSettings == null) {
+            scriptRetentionSettings = new ScriptRetentionSettings();
+        }
+        return scriptRetentionSettings;
+    }
+
     public Locale getCurrentLocale(){
         if(currentLocale == null){
             return new Locale("en","US");
@@ -11,6 +11,9 @@ import org.correomqtt.core.connection.ConnectionState;
 import org.correomqtt.core.connection.ConnectionStateChangedEvent;
 import org.correomqtt.di.SoyEvents;
 import org.correomqtt.core.exception.CorreoMqttAlreadySubscribedException;
+import org.correomqtt.core.metrics.ConnectionStats;
+import org.correomqtt.core.metrics.ConnectionStats;
+import org.correomqtt.core.metrics.ConnectionStatsCollector;
 import org.correomqtt.core.model.ConnectionConfigDTO;
 import org.correomqtt.core.model.MessageDTO;
 import org.correomqtt.core.model.Proxy;
@@ -41,6 +44,7 @@ abstract class BaseCorreoMqttClient implements CorreoMqttClient, MqttClientDisco
     private final ConnectionConfigDTO configDTO;
     private final AtomicInteger triedReconnects = new AtomicInteger(0);
     private final Set<SubscriptionDTO> subscriptions = new HashSet<>();
+    private final ConnectionStats stats;
 
     @Getter
     private SshProxy proxy;
@@ -49,9 +53,11 @@ abstract class BaseCorreoMqttClient implements CorreoMqttClient, MqttClientDisco
     private ConnectionState state = ConnectionState.DISCONNECTED_GRACEFUL;
 
     protected BaseCorreoMqttClient(SoyEvents soyEvents,
+                                   ConnectionStatsCollector connectionStatsCollector,
                                    ConnectionConfigDTO configDTO) {
         this.soyEvents = soyEvents;
         this.configDTO = configDTO;
+        this.stats = connectionStatsCollector.get(configDTO.getId());
     }
 
     ConnectionConfigDTO getConfigDTO() {
@@ -147,7 +153,14 @@ abstract class BaseCorreoMqttClient implements CorreoMqttClient, MqttClientDisco
 
     @Override
     public synchronized void publish(MessageDTO messageDTO) throws InterruptedException, ExecutionException, TimeoutException {
-        doPublish(messageDTO);
+        long start = System.nanoTime();
+        try {
+            doPublish(messageDTO);
+        } catch (InterruptedException | ExecutionException | TimeoutException | RuntimeException e) {
+            stats.dropped();
+            throw e;
+        }
+        stats.outgoing(getPayloadSize(messageDTO), System.nanoTime() - start);
     }
 
     abstract void doPublish(MessageDTO messageDTO) throws InterruptedException, ExecutionException, TimeoutException;
@@ -162,7 +175,15 @@ abstract class BaseCorreoMqttClient implements CorreoMqttClient, MqttClientDisco
         if (subscriptions.contains(subscriptionDTO)) {
             throw new CorreoMqttAlreadySubscribedException(getConfigDTO().getId(), subscriptionDTO);
         }
-        doSubscribe(subscriptionDTO, incomingCallback);
+        doSubscribe(subscriptionDTO, messageDTO -> {
+            stats.incoming(getPayloadSize(messageDTO));
+            try {
+                incomingCallback.accept(messageDTO);
+            } catch (RuntimeException e) {
+                stats.dropped();
+                throw e;
+            }
+        });
         subscriptions.add(subscriptionDTO);
     }
 
@@ -191,6 +212,10 @@ abstract class BaseCorreoMqttClient implements CorreoMqttClient, MqttClientDisco
                 MAX_RECONNECTS));
     }
 
+    private static int getPayloadSize(MessageDTO messageDTO) {
+        return ConnectionStats.utf8Length(messageDTO.getPayload());
+    }
+
     /* SSH Proxy Helper */
 
     private void executeConditionallyOnSshProxy(Consumer<SshProxy> sshProxyCallback) {
@@ -19,6 +19,7 @@ import org.correomqtt.di.SoyEvents;
 import org.correomqtt.core.exception.CorreoMqtt3SubscriptionFailed;
 import org.correomqtt.core.exception.CorreoMqttConnectionFailedException;
 import org.correomqtt.core.exception.CorreoMqttNotConnectedException;
+import org.correomqtt.core.metrics.ConnectionStatsCollector;
 import org.correomqtt.core.model.ConnectionConfigDTO;
 import org.correomqtt.core.model.Lwt;
 import org.correomqtt.core.model.MessageDTO;
@@ -47,8 +48,9 @@ public class CorreoMqtt3Client extends BaseCorreoMqttClient {
 
     @Inject
     public CorreoMqtt3Client(SoyEvents soyEvents,
+                      ConnectionStatsCollector connectionStatsCollector,
                       @Assisted ConnectionConfigDTO configDTO) {
-        super(soyEvents, configDTO);
+        super(soyEvents, connectionStatsCollector, configDTO);
     }
 
     @Override
@@ -18,6 +18,7 @@ import org.correomqtt.di.SoyEvents;
 import org.correomqtt.core.exception.CorreoMqtt5SubscriptionFailed;
 import org.correomqtt.core.exception.CorreoMqttConnectionFailedException;
 import org.correomqtt.core.exception.CorreoMqttNotConnectedException;
+import org.correomqtt.core.metrics.ConnectionStatsCollector;
 import org.correomqtt.core.model.ConnectionConfigDTO;
 import org.correomqtt.core.model.Lwt;
 import org.correomqtt.core.model.MessageDTO;
@@ -48,8 +49,9 @@ public class CorreoMqtt5Client extends BaseCorreoMqttClient {
 
     @Inject
     public CorreoMqtt5Client(SoyEvents soyEvents,
+                      ConnectionStatsCollector connectionStatsCollector,
                       @Assisted ConnectionConfigDTO configDTO) {
-        super(soyEvents, configDTO);
+        super(soyEvents, connectionStatsCollector, configDTO);
     }
 
     @Override
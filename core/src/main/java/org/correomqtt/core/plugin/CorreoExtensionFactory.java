@@ -1,6 +1,5 @@
-package org.correomqtt.gui.plugin;
+package org.correomqtt.core.plugin;
 
-import org.correomqtt.core.plugin.PluginManager;
 import org.correomqtt.di.SoyDi;
 import org.pf4j.ExtensionFactory;
 import org.pf4j.PluginRuntimeException;
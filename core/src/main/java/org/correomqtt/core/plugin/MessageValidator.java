@@ -1,24 +1,131 @@
 package org.correomqtt.core.plugin;
 
-import org.correomqtt.di.DefaultBean;
+import org.correomqtt.core.plugin.marketplace.PluginDisabledEvent;
+import org.correomqtt.core.plugin.marketplace.PluginEnabledEvent;
+import org.correomqtt.core.plugin.marketplace.PluginInstallEvent;
+import org.correomqtt.core.plugin.marketplace.PluginUninstallEvent;
 import org.correomqtt.core.plugin.spi.MessageValidatorHook;
-
 import org.correomqtt.di.Inject;
+import org.correomqtt.di.Observes;
+import org.correomqtt.di.SingletonBean;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 
-@DefaultBean
+/**
+ * Validates messages with the validators configured for their topic. The results are cached per message id, until
+ * plugins change. Can be used from any thread. A validator instance is only used by one thread at a time, so
+ * validators do not have to be thread-safe. Threads validating the same topic at the same time get their own
+ * instances, the idle ones are kept per topic for reuse.
+ */
+@SingletonBean
 public class MessageValidator {
 
-    private final PluginManager pluginManager;
+    private static final int MAX_CACHED_TOPICS = 1_000;
+    private static final int MAX_CACHED_RESULTS = 10_000;
+    private static final int MAX_IDLE_PER_TOPIC = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private final Function<String, List<MessageValidatorHook<?>>> validatorFactory;
+    private final Map<String, Deque<List<MessageValidatorHook<?>>>> idleValidators = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Deque<List<MessageValidatorHook<?>>>> eldest) {
+            return size() > MAX_CACHED_TOPICS;
+        }
+    };
+    // guarded by idleValidators, counts the invalidations
+    private long validatorsGeneration;
+    private final Map<String, CachedValidation> results = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedValidation> eldest) {
+            return size() > MAX_CACHED_RESULTS;
+        }
+    };
 
     @Inject
     public MessageValidator(PluginManager pluginManager) {
-        this.pluginManager = pluginManager;
+        this(pluginManager::getMessageValidators);
+    }
+
+    MessageValidator(Function<String, List<MessageValidatorHook<?>>> validatorFactory) {
+        this.validatorFactory = validatorFactory;
     }
 
     public MessageValidatorHook.Validation validateMessage(String topic, String payload) {
-        List<MessageValidatorHook<?>> validators = pluginManager.getMessageValidators(topic);
+        if (topic == null) {
+            return null;
+        }
+        Validators validators = acquire(topic);
+        try {
+            return validate(validators.hooks(), payload);
+        } finally {
+            release(topic, validators);
+        }
+    }
+
+    /**
+     * Like {@link #validateMessage(String, String)}, but reuses the result of an earlier validation of the message.
+     */
+    public MessageValidatorHook.Validation validateMessage(String messageId, String topic, String payload) {
+        if (messageId == null || topic == null) {
+            return validateMessage(topic, payload);
+        }
+        long generation;
+        synchronized (idleValidators) {
+            generation = validatorsGeneration;
+        }
+        synchronized (results) {
+            CachedValidation cached = results.get(messageId);
+            if (cached != null && cached.generation() == generation && Objects.equals(cached.payload(), payload)) {
+                return cached.validation();
+            }
+        }
+        Validators validators = acquire(topic);
+        try {
+            MessageValidatorHook.Validation validation = validate(validators.hooks(), payload);
+            synchronized (results) {
+                results.put(messageId, new CachedValidation(validators.generation(), payload, validation));
+            }
+            return validation;
+        } finally {
+            release(topic, validators);
+        }
+    }
+
+    /**
+     * @return validators of the topic, that no other thread uses until they are released
+     */
+    private Validators acquire(String topic) {
+        long generation;
+        synchronized (idleValidators) {
+            generation = validatorsGeneration;
+            Deque<List<MessageValidatorHook<?>>> idle = idleValidators.get(topic);
+            if (idle != null && !idle.isEmpty()) {
+                return new Validators(idle.pop(), generation);
+            }
+        }
+        // creating the validators may take a while, other topics should not wait for it
+        return new Validators(validatorFactory.apply(topic), generation);
+    }
 
+    private void release(String topic, Validators validators) {
+        synchronized (idleValidators) {
+            if (validators.generation() != validatorsGeneration) {
+                // plugins changed in the meantime, the validators are outdated
+                return;
+            }
+            Deque<List<MessageValidatorHook<?>>> idle = idleValidators.computeIfAbsent(topic, t -> new ArrayDeque<>());
+            if (idle.size() < MAX_IDLE_PER_TOPIC) {
+                idle.push(validators.hooks());
+            }
+        }
+    }
+
+    private static MessageValidatorHook.Validation validate(List<MessageValidatorHook<?>> validators, String payload) {
         MessageValidatorHook.Validation validation = null;
         for (MessageValidatorHook<?> validator : validators) {
             validation = validator.isMessageValid(payload);
@@ -26,4 +133,42 @@ public class MessageValidator {
         }
         return validation;
     }
+
+    private void invalidate() {
+        synchronized (idleValidators) {
+            idleValidators.clear();
+            validatorsGeneration++;
+        }
+        synchronized (results) {
+            results.clear();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public void onPluginInstalled(@Observes PluginInstallEvent event) {
+        invalidate();
+    }
+
+    @SuppressWarnings("unused")
+    public void onPluginUninstalled(@Observes PluginUninstallEvent event) {
+        invalidate();
+    }
+
+    @SuppressWarnings("unused")
+    public void onPluginEnabled(@Observes PluginEnabledEvent event) {
+        invalidate();
+    }
+
+    @SuppressWarnings("unused")
+    public void onPluginDisabled(@Observes PluginDisabledEvent event) {
+        invalidate();
+    }
+
+    private record Validators(List<MessageValidatorHook<?>> hooks, long generation) {
+    }
+
+    private record CachedValidation(long generation,
+                                    String payload,
+                                    MessageValidatorHook.Validation validation) {
+    }
 }
@@ -20,6 +20,7 @@ import org.correomqtt.core.utils.VendorConstants;
 import org.correomqtt.core.utils.VersionUtils;
 import org.correomqtt.di.Inject;
 import org.correomqtt.di.SingletonBean;
+import org.correomqtt.di.SoyDi;
 import org.pf4j.DefaultExtensionFactory;
 import org.pf4j.ExtensionFactory;
 import org.pf4j.JarPluginManager;
@@ -236,6 +237,10 @@ public class PluginManager extends JarPluginManager {
                 .toList();
     }
 
+    /**
+     * Creates the validators configured for the topic. Each validator is a new instance with its own configuration, so
+     * validators of different topics can be used concurrently.
+     */
     public List<MessageValidatorHook<?>> getMessageValidators(String topic) {
         List<HooksDTO.MessageValidator> validators = pluginConfigProvider.getMessageValidators();
         if (validators == null) {
@@ -252,9 +257,11 @@ public class PluginManager extends JarPluginManager {
                                 LOGGER.warn("Plugin extension {}:{} in messageValidators is configured, but does not exist.", pluginId, extensionId);
                                 return null;
                             }
-                            enrichExtensionWithConfig(extension, extensionDefinition.getConfig());
-                            return extension;
+                            MessageValidatorHook<?> instance = getExtensionFactory().create(extension.getClass());
+                            enrichExtensionWithConfig(instance, extensionDefinition.getConfig());
+                            return instance;
                         })
+                        .filter(Objects::nonNull)
                         .toList())
                 .flatMap(Collection::stream)
                 .collect(Collectors.toList());
@@ -348,4 +355,16 @@ public class PluginManager extends JarPluginManager {
     public void setExtensionFactory(ExtensionFactory extensionFactory) {
         this.extensionFactory = extensionFactory;
     }
+
+    /**
+     * Makes beans of all started plugins available for dependency injection.
+     */
+    public void registerStartedPlugins() {
+        getPlugins().stream()
+                .filter(pw -> pw.getPluginState() == PluginState.STARTED)
+                .forEach(pw -> {
+                    SoyDi.addClassLoader(pw.getPluginClassLoader());
+                    SoyDi.scan(pw.getPlugin().getClass().getPackageName());
+                });
+    }
 }
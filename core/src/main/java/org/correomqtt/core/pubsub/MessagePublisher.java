@@ -0,0 +1,117 @@
+package org.correomqtt.core.pubsub;
+
+import com.hivemq.client.mqtt.datatypes.MqttTopic;
+import com.hivemq.client.mqtt.datatypes.MqttTopicFilter;
+import org.correomqtt.core.exception.CorreoMqttNotConnectedException;
+import org.correomqtt.core.metrics.Metrics;
+import org.correomqtt.core.metrics.Timer;
+import org.correomqtt.core.model.MessageDTO;
+import org.correomqtt.core.mqtt.CorreoMqttClient;
+import org.correomqtt.core.plugin.PluginManager;
+import org.correomqtt.core.plugin.model.MessageExtensionDTO;
+import org.correomqtt.core.plugin.spi.OutgoingMessageHook;
+import org.correomqtt.core.plugin.spi.OutgoingMessageHookDTO;
+import org.correomqtt.core.transformer.MessageExtensionTransformer;
+import org.correomqtt.core.utils.ConnectionManager;
+import org.correomqtt.core.utils.LoggerUtils;
+import org.correomqtt.di.Inject;
+import org.correomqtt.di.SingletonBean;
+import org.correomqtt.di.SoyEvents;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes a message through the outgoing message hooks and fires the publish event. Used by {@link PublishTask} and
+ * directly by callers, that publish many messages in a row and do not want a task per message.
+ */
+@SingletonBean
+public class MessagePublisher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MessagePublisher.class);
+
+    private static final Timer HOOKS_TIMER = Metrics.timer(Metrics.HOOKS_OUTGOING);
+
+    private final PluginManager pluginManager;
+    private final ConnectionManager connectionManager;
+    private final LoggerUtils loggerUtils;
+    private final SoyEvents soyEvents;
+
+    @Inject
+    public MessagePublisher(PluginManager pluginManager,
+                            ConnectionManager connectionManager,
+                            LoggerUtils loggerUtils,
+                            SoyEvents soyEvents) {
+        this.pluginManager = pluginManager;
+        this.connectionManager = connectionManager;
+        this.loggerUtils = loggerUtils;
+        this.soyEvents = soyEvents;
+    }
+
+    /**
+     * @return the message as it was sent, after the hooks were applied
+     */
+    public MessageDTO publish(String connectionId, MessageDTO messageDTO)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        CorreoMqttClient client = connectionManager.getClient(connectionId);
+        if (client == null) {
+            throw new CorreoMqttNotConnectedException();
+        }
+        MessageDTO manipulatedMessageDTO = executeOnPublishMessageExtensions(connectionId, messageDTO);
+        client.publish(manipulatedMessageDTO);
+        soyEvents.fireAsync(new PublishEvent(connectionId, manipulatedMessageDTO));
+        return manipulatedMessageDTO;
+    }
+
+    public void publishFailed(String connectionId, MessageDTO messageDTO) {
+        soyEvents.fireAsync(new PublishFailedEvent(connectionId, messageDTO));
+    }
+
+    private MessageDTO executeOnPublishMessageExtensions(String connectionId, MessageDTO messageDTO) {
+        List<? extends OutgoingMessageHook<?>> hooks = pluginManager.getOutgoingMessageHooks();
+        if (hooks.isEmpty()) {
+            return messageDTO;
+        }
+        long start = HOOKS_TIMER.start();
+        try {
+            return runOutgoingHooks(connectionId, messageDTO, hooks);
+        } finally {
+            HOOKS_TIMER.stop(start);
+        }
+    }
+
+    private MessageDTO runOutgoingHooks(String connectionId, MessageDTO messageDTO, List<? extends OutgoingMessageHook<?>> hooks) {
+        MessageExtensionDTO messageExtensionDTO = new MessageExtensionDTO(messageDTO);
+        for (OutgoingMessageHook<?> p : hooks) {
+            OutgoingMessageHookDTO config = p.getConfig();
+
+            if(config == null){
+                LOGGER.info(loggerUtils.getConnectionMarker(connectionId), "[HOOK] Skipping outgoing message extension " +
+                        "point {} due to empty config.",p.getClass().getName());
+                continue;
+            }
+
+            if(!config.isEnabled()){
+                LOGGER.info(loggerUtils.getConnectionMarker(connectionId), "[HOOK] Skipping outgoing message extension " +
+                        "point {} due to disabled config.",p.getClass().getName());
+                continue;
+            }
+
+            if(config.getTopicFilter() != null && config.getTopicFilter()
+                    .stream()
+                    .anyMatch(tp -> MqttTopicFilter.of(tp)
+                            .matches(MqttTopic.of(messageDTO.getTopic()))
+                    )){
+                LOGGER.info(loggerUtils.getConnectionMarker(connectionId), "[HOOK] Skipping outgoing message extension " +
+                        "point {} due to not matching topic filter: {}",p.getClass().getName(), config.getTopicFilter());
+                continue;
+            }
+
+            messageExtensionDTO = p.onPublishMessage(connectionId, messageExtensionDTO);
+        }
+        return MessageExtensionTransformer.mergeDTO(messageExtensionDTO, messageDTO);
+    }
+}
@@ -8,7 +8,11 @@ import org.correomqtt.di.Inject;
 import org.correomqtt.core.concurrent.SimpleTask;
 import org.correomqtt.core.concurrent.SimpleTaskErrorResult;
 import org.correomqtt.core.concurrent.TaskException;
+import org.correomqtt.core.concurrent.TaskScope;
+import org.correomqtt.core.concurrent.TaskScopes;
 import org.correomqtt.di.SoyEvents;
+import org.correomqtt.core.metrics.Metrics;
+import org.correomqtt.core.metrics.Timer;
 import org.correomqtt.core.model.MessageDTO;
 import org.correomqtt.core.model.SubscriptionDTO;
 import org.correomqtt.core.mqtt.CorreoMqttClient;
@@ -32,7 +36,11 @@ public class SubscribeTask extends SimpleTask {
     private static final Logger LOGGER = LoggerFactory.getLogger(SubscribeTask.class);
 
 
+    private static final Timer EXECUTE_TIMER = Metrics.timer(Metrics.SUBSCRIBE_INCOMING);
+    private static final Timer HOOKS_TIMER = Metrics.timer(Metrics.HOOKS_INCOMING);
+
     private final PluginManager pluginManager;
+    private final TaskScopes taskScopes;
     private final LoggerUtils loggerUtils;
     private final ConnectionManager connectionManager;
     private final SoyEvents soyEvents;
@@ -43,10 +51,12 @@ public class SubscribeTask extends SimpleTask {
     public SubscribeTask(PluginManager pluginManager,
                   ConnectionManager connectionManager,
                   LoggerUtils loggerUtils,
+                  TaskScopes taskScopes,
                   SoyEvents soyEvents,
                   @Assisted String connectionId,
                   @Assisted SubscriptionDTO subscriptionDTO) {
         super(soyEvents);
+        this.taskScopes = taskScopes;
         this.pluginManager = pluginManager;
         this.loggerUtils = loggerUtils;
         this.connectionManager = connectionManager;
@@ -55,6 +65,11 @@ public class SubscribeTask extends SimpleTask {
         this.subscriptionDTO = subscriptionDTO;
     }
 
+    @Override
+    protected TaskScope getScope() {
+        return taskScopes.get(connectionId);
+    }
+
     @Override
     protected void execute() {
         CorreoMqttClient client = connectionManager.getClient(connectionId);
@@ -75,14 +90,28 @@ public class SubscribeTask extends SimpleTask {
         soyEvents.fireAsync(new SubscribeFailedEvent(connectionId, subscriptionDTO));
     }
 
-    private void onIncomingMessage(MessageDTO messageDTO) {
-
-        MessageDTO manipulatedMessageDTO = executeOnMessageIncomingExtensions(messageDTO);
-        soyEvents.fireAsync(new IncomingMessageEvent(connectionId, manipulatedMessageDTO, subscriptionDTO));
+    // package-private for the incoming hook benchmark
+    void onIncomingMessage(MessageDTO messageDTO) {
+        long start = EXECUTE_TIMER.start();
+        try {
+            MessageDTO manipulatedMessageDTO = executeOnMessageIncomingExtensions(messageDTO);
+            soyEvents.fireAsync(new IncomingMessageEvent(connectionId, manipulatedMessageDTO, subscriptionDTO));
+        } finally {
+            EXECUTE_TIMER.stop(start);
+        }
     }
 
     private MessageDTO executeOnMessageIncomingExtensions(MessageDTO messageDTO) {
 
+        long start = HOOKS_TIMER.start();
+        try {
+            return runIncomingHooks(messageDTO);
+        } finally {
+            HOOKS_TIMER.stop(start);
+        }
+    }
+
+    private MessageDTO runIncomingHooks(MessageDTO messageDTO) {
         MessageExtensionDTO messageExtensionDTO = new MessageExtensionDTO(messageDTO);
         for (IncomingMessageHook<?> p : pluginManager.getIncomingMessageHooks()) {
             IncomingMessageHookDTO config = p.getConfig();
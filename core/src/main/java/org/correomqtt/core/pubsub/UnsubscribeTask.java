@@ -5,6 +5,8 @@ import org.correomqtt.di.DefaultBean;
 import org.correomqtt.di.Inject;
 import org.correomqtt.core.concurrent.SimpleTask;
 import org.correomqtt.core.concurrent.SimpleTaskErrorResult;
+import org.correomqtt.core.concurrent.TaskScope;
+import org.correomqtt.core.concurrent.TaskScopes;
 import org.correomqtt.di.SoyEvents;
 import org.correomqtt.core.model.SubscriptionDTO;
 import org.correomqtt.core.mqtt.CorreoMqttClient;
@@ -14,22 +16,30 @@ import org.correomqtt.core.utils.ConnectionManager;
 public class UnsubscribeTask extends SimpleTask {
 
     private final ConnectionManager connectionManager;
+    private final TaskScopes taskScopes;
     private final SoyEvents soyEvents;
     private final String connectionId;
     private final SubscriptionDTO subscriptionDTO;
 
     @Inject
     public UnsubscribeTask(ConnectionManager connectionManager,
+                           TaskScopes taskScopes,
                            SoyEvents soyEvents,
                            @Assisted String connectionId,
                            @Assisted SubscriptionDTO subscriptionDTO) {
         super(soyEvents);
+        this.taskScopes = taskScopes;
         this.connectionManager = connectionManager;
         this.soyEvents = soyEvents;
         this.connectionId = connectionId;
         this.subscriptionDTO = subscriptionDTO;
     }
 
+    @Override
+    protected TaskScope getScope() {
+        return taskScopes.get(connectionId);
+    }
+
     @Override
     protected void execute() {
         CorreoMqttClient client = connectionManager.getClient(connectionId);
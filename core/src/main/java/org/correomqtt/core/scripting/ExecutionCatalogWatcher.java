@@ -0,0 +1,173 @@
+package org.correomqtt.core.scripting;
+
+import org.correomqtt.core.applifecycle.ShutdownEvent;
+import org.correomqtt.core.fileprovider.ScriptingProvider;
+import org.correomqtt.di.Inject;
+import org.correomqtt.di.Observes;
+import org.correomqtt.di.SingletonBean;
+import org.correomqtt.di.SoyEvents;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static org.correomqtt.core.fileprovider.ScriptingProvider.EXECUTION_INDEX_FILE;
+
+/**
+ * Keeps the execution catalogs and the {@link ScriptingBackend} in sync with execution files, that are changed
+ * outside of this application. Executions running in this application are left alone.
+ */
+@SingletonBean
+public class ExecutionCatalogWatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionCatalogWatcher.class);
+
+    private final ScriptingProvider scriptingProvider;
+    private final SoyEvents soyEvents;
+    private final Map<WatchKey, Path> scriptDirectories = new HashMap<>();
+    private WatchService watchService;
+    private Path rootDirectory;
+
+    @Inject
+    public ExecutionCatalogWatcher(ScriptingProvider scriptingProvider, SoyEvents soyEvents) {
+        this.scriptingProvider = scriptingProvider;
+        this.soyEvents = soyEvents;
+    }
+
+    public synchronized void start() {
+        if (watchService != null) {
+            return;
+        }
+        try {
+            rootDirectory = Path.of(scriptingProvider.getScriptExecutionsRootDirectory());
+            watchService = FileSystems.getDefault().newWatchService();
+            rootDirectory.register(watchService, ENTRY_CREATE);
+            try (DirectoryStream<Path> directories = Files.newDirectoryStream(rootDirectory, Files::isDirectory)) {
+                for (Path directory : directories) {
+                    register(directory);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Unable to watch execution files. Changes from outside will not show up.", e);
+            return;
+        }
+        Thread thread = new Thread(this::watch, "correomqtt-execution-catalog");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void register(Path directory) throws IOException {
+        WatchKey key = directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        synchronized (scriptDirectories) {
+            scriptDirectories.put(key, directory);
+        }
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                Path directory;
+                synchronized (scriptDirectories) {
+                    directory = scriptDirectories.get(key);
+                }
+                if (directory == null) {
+                    onRootChanged(key);
+                } else {
+                    onExecutionsChanged(directory, key);
+                }
+                if (!key.reset()) {
+                    synchronized (scriptDirectories) {
+                        scriptDirectories.remove(key);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            LOGGER.debug("Stopped watching execution files.");
+        }
+    }
+
+    private void onRootChanged(WatchKey key) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == ENTRY_CREATE) {
+                Path directory = rootDirectory.resolve((Path) event.context());
+                try {
+                    if (Files.isDirectory(directory)) {
+                        register(directory);
+                    }
+                } catch (IOException e) {
+                    LOGGER.warn("Unable to watch execution files in {}.", directory, e);
+                }
+            }
+        }
+    }
+
+    private void onExecutionsChanged(Path directory, WatchKey key) {
+        ScriptFileDTO script = scriptingProvider.getScriptFile(directory.getFileName().toString());
+        boolean changed = false;
+        Set<String> executionIds = new HashSet<>();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                scriptingProvider.loadExecutionIndex(script);
+                changed = true;
+                continue;
+            }
+            String filename = event.context().toString();
+            if (filename.endsWith(".json") && !filename.equals(EXECUTION_INDEX_FILE)) {
+                executionIds.add(filename.substring(0, filename.length() - ".json".length()));
+            }
+        }
+        for (String executionId : executionIds) {
+            changed |= refresh(script, executionId);
+        }
+        if (changed) {
+            soyEvents.fire(new ScriptExecutionsChangedEvent(script.getName()));
+        }
+    }
+
+    private boolean refresh(ScriptFileDTO script, String executionId) {
+        ExecutionDTO known = ScriptingBackend.getExecutionDTO(executionId);
+        if (known != null && !known.isSummary()) {
+            return false;
+        }
+        ExecutionDTO dto = scriptingProvider.refreshExecutionIndex(script, executionId);
+        if (dto == null) {
+            ScriptingBackend.removeExecutionDTO(executionId);
+            return known != null;
+        }
+        ScriptingBackend.putExecutionDTO(executionId, dto);
+        return true;
+    }
+
+    @SuppressWarnings("unused")
+    public void onShutdown(@Observes ShutdownEvent event) {
+        synchronized (this) {
+            if (watchService == null) {
+                return;
+            }
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOGGER.debug("Unable to close execution file watcher.", e);
+            }
+        }
+    }
+}
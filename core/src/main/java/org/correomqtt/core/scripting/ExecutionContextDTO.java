@@ -7,7 +7,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.graalvm.polyglot.Context;
 
-import java.io.PipedOutputStream;
+import java.io.OutputStream;
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,6 +18,6 @@ class ExecutionContextDTO {
 
     private Context context;
     private ExecutionDTO executionDTO;
-    private PipedOutputStream out;
+    private OutputStream out;
 
 }
@@ -8,6 +8,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.correomqtt.core.scripting.binding.Queue;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -29,14 +30,45 @@ public class ExecutionDTO {
     private String jsCode;
     @JsonIgnore
     private Logger logger;
-    private ScriptExecutionError error;
+    // state fields are written by the executing thread and read by fan-out progress and the UI
+    private volatile ScriptExecutionError error;
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
-    private LocalDateTime startTime;
-    private Long executionTime;
+    private volatile LocalDateTime startTime;
+    private volatile Long executionTime;
     @Builder.Default
-    private boolean cancelled = false;
+    private volatile boolean cancelled = false;
+    private String fanOutId;
+    private Integer instance;
+    @JsonIgnore
+    private Queue queue;
+    private Integer queuePeakDepth;
+    private Long queueDropped;
+    /**
+     * Only the fields of the execution catalog are set, see {@link ExecutionIndexEntry}.
+     */
+    @JsonIgnore
+    private boolean summary;
 
     public void updateExecutionTime() {
         executionTime = getStartTime().until(LocalDateTime.now(), ChronoUnit.MILLIS);
+        updateQueueStats();
+    }
+
+    /**
+     * Executions without execution time were still running, when the application was stopped.
+     */
+    public void markUnfinished() {
+        if (executionTime == null) {
+            executionTime = 0L;
+            error = new ScriptExecutionError(ScriptExecutionError.Type.HOST, "Unfinished");
+            cancelled = true;
+        }
+    }
+
+    public void updateQueueStats() {
+        if (queue != null) {
+            queuePeakDepth = queue.getPeakDepth();
+            queueDropped = queue.getDropped();
+        }
     }
 }
@@ -0,0 +1,61 @@
+package org.correomqtt.core.scripting;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entry of the execution catalog of a script. Holds what the execution lists need, the full {@link ExecutionDTO} is
+ * only read once an execution is opened.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ExecutionIndexEntry {
+
+    private String executionId;
+    private String connectionId;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime startTime;
+    private Long executionTime;
+    private ScriptExecutionError.Type errorType;
+    private boolean cancelled;
+
+    public static ExecutionIndexEntry of(ExecutionDTO dto) {
+        return ExecutionIndexEntry.builder()
+                .executionId(dto.getExecutionId())
+                .connectionId(dto.getConnectionId())
+                .startTime(dto.getStartTime())
+                .executionTime(dto.getExecutionTime())
+                .errorType(dto.getError() == null ? null : dto.getError().type())
+                .cancelled(dto.isCancelled())
+                .build();
+    }
+
+    /**
+     * An execution without execution time is returned as still running, see {@link ExecutionDTO#markUnfinished()}.
+     */
+    public ExecutionDTO toExecutionDTO(ScriptFileDTO scriptFile) {
+        return ExecutionDTO.builder()
+                .executionId(executionId)
+                .connectionId(connectionId)
+                .scriptFile(scriptFile)
+                .startTime(startTime)
+                .executionTime(executionTime)
+                .error(errorType == null ? null : new ScriptExecutionError(errorType, null))
+                .cancelled(cancelled)
+                .summary(true)
+                .build();
+    }
+}
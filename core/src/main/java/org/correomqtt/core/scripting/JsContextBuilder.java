@@ -5,13 +5,12 @@ import org.correomqtt.core.scripting.binding.AsyncLatch;
 import org.correomqtt.core.scripting.binding.ClientFactory;
 import org.correomqtt.core.scripting.binding.Queue;
 import org.graalvm.polyglot.Context;
-import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.Value;
 import org.slf4j.Logger;
 import org.slf4j.Marker;
 
 import org.correomqtt.di.Inject;
-import java.io.PipedOutputStream;
+import java.io.OutputStream;
 import java.util.function.Consumer;
 
 @DefaultBean
@@ -23,18 +22,20 @@ public class JsContextBuilder {
     public static final String CORREO_SCRIPT_MARKER = "marker";
     public static final String CORREO_ASYNC_LATCH = "latch";
     private final ClientFactory clientFactory;
+    private final JsContextPool jsContextPool;
     private Context context;
-    private PipedOutputStream out;
+    private OutputStream out;
     private ExecutionDTO dto;
     private Logger scriptLogger;
     private Marker marker;
 
     @Inject
-    public JsContextBuilder(ClientFactory clientFactory){
+    public JsContextBuilder(ClientFactory clientFactory, JsContextPool jsContextPool){
         this.clientFactory = clientFactory;
+        this.jsContextPool = jsContextPool;
     }
 
-    JsContextBuilder out(PipedOutputStream out) {
+    JsContextBuilder out(OutputStream out) {
         this.out = out;
         return this;
     }
@@ -70,21 +71,13 @@ public class JsContextBuilder {
     }
 
     private void createContext() {
-        context = Context.newBuilder("js")
-                .allowHostAccess(HostAccess.ALL)
-                .allowHostClassLookup(className -> true)
-                .allowExperimentalOptions(true) // required for top level await
-                .out(out)
-                .err(out)
-                .allowAllAccess(true)
-                .option("js.esm-eval-returns-exports", "true")
-                .option("js.ecmascript-version", "2023")
-                .build();
+        context = jsContextPool.acquire(out).context();
     }
 
     private void bindContext() {
         Value binding = context.getBindings("js");
         Queue queue = new Queue(scriptLogger);
+        dto.setQueue(queue);
         AsyncLatch asyncLatch = new AsyncLatch(marker);
 
         Value polyglotBindings = context.getPolyglotBindings();
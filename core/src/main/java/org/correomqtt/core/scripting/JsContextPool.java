@@ -0,0 +1,164 @@
+package org.correomqtt.core.scripting;
+
+import org.correomqtt.core.applifecycle.ShutdownEvent;
+import org.correomqtt.core.concurrent.TaskExecutorType;
+import org.correomqtt.core.concurrent.TaskExecutors;
+import org.correomqtt.di.Inject;
+import org.correomqtt.di.Observes;
+import org.correomqtt.di.SingletonBean;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.HostAccess;
+import org.graalvm.polyglot.Source;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Shares one polyglot {@link Engine} between all script executions, so compiled code survives across runs, and keeps a
+ * few initialized contexts ready. A context is handed out once and never returned, because evaluated modules and
+ * globals stay in it.
+ */
+@SingletonBean
+public class JsContextPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JsContextPool.class);
+    private static final int POOL_SIZE = 2;
+    private static final int SOURCE_CACHE_SIZE = 64;
+
+    private final Engine engine;
+    private final Deque<PooledContext> contexts = new ArrayDeque<>();
+    private final Map<String, Source> sources = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Source> eldest) {
+            return size() > SOURCE_CACHE_SIZE;
+        }
+    };
+    private int warming;
+    private boolean closed;
+
+    @Inject
+    public JsContextPool() {
+        engine = Engine.newBuilder()
+                .option("engine.WarnInterpreterOnly", "false")
+                .build();
+        refill();
+    }
+
+    /**
+     * @return an initialized context, that writes its output to the given stream
+     */
+    PooledContext acquire(OutputStream out) {
+        PooledContext pooled;
+        synchronized (this) {
+            pooled = contexts.pollFirst();
+        }
+        if (pooled == null) {
+            pooled = createContext();
+        }
+        pooled.out().setTarget(out);
+        refill();
+        return pooled;
+    }
+
+    synchronized Source getSource(String name, String code) {
+        return sources.computeIfAbsent(name + '\0' + code, key -> Source.newBuilder("js", code, name)
+                .mimeType("application/javascript+module") // required for top level await
+                .cached(true)
+                .buildLiteral());
+    }
+
+    private void refill() {
+        int missing;
+        synchronized (this) {
+            missing = closed ? 0 : POOL_SIZE - contexts.size() - warming;
+            warming += Math.max(0, missing);
+        }
+        for (int i = 0; i < missing; i++) {
+            TaskExecutors.get(TaskExecutorType.CPU).execute(this::warmUp);
+        }
+    }
+
+    private void warmUp() {
+        PooledContext pooled = null;
+        try {
+            pooled = createContext();
+            pooled.context().initialize("js");
+        } catch (Exception e) {
+            LOGGER.warn("Failed to prepare script context.", e);
+        }
+        synchronized (this) {
+            warming--;
+            if (pooled != null && !closed) {
+                contexts.addLast(pooled);
+                pooled = null;
+            }
+        }
+        if (pooled != null) {
+            pooled.context().close();
+        }
+    }
+
+    private PooledContext createContext() {
+        RedirectOutputStream out = new RedirectOutputStream();
+        Context context = Context.newBuilder("js")
+                .engine(engine)
+                .allowHostAccess(HostAccess.ALL)
+                .allowHostClassLookup(className -> true)
+                .allowExperimentalOptions(true) // required for top level await
+                .out(out)
+                .err(out)
+                .allowAllAccess(true)
+                .option("js.esm-eval-returns-exports", "true")
+                .option("js.ecmascript-version", "2023")
+                .build();
+        return new PooledContext(context, out);
+    }
+
+    @SuppressWarnings("unused")
+    public void onShutdown(@Observes ShutdownEvent event) {
+        synchronized (this) {
+            closed = true;
+            contexts.forEach(pooled -> pooled.context().close());
+            contexts.clear();
+            sources.clear();
+        }
+        engine.close(true);
+    }
+
+    record PooledContext(Context context, RedirectOutputStream out) {
+    }
+
+    /**
+     * Output of a pooled context. The target is only known once the context is handed out.
+     */
+    static class RedirectOutputStream extends OutputStream {
+
+        private volatile OutputStream target = OutputStream.nullOutputStream();
+
+        void setTarget(OutputStream target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            target.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            target.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target.flush();
+        }
+    }
+}
@@ -13,16 +13,31 @@ public class ScriptExecuteTaskFactories {
     private final ScriptExecutionTaskFactory executionFactory;
     private final ScriptLoadLogTaskFactory loadLogFactory;
     private final ScriptDeleteExecutionsTaskFactory deleteExecutionsTask;
+    private final ScriptFanOutTaskFactory fanOutFactory;
+    private final ScriptLoadExecutionTaskFactory loadExecutionFactory;
+    private final ScriptOpenLogTaskFactory openLogFactory;
+    private final ScriptReadLogTaskFactory readLogFactory;
+    private final ScriptSearchLogTaskFactory searchLogFactory;
 
     @Inject
     public ScriptExecuteTaskFactories(ScriptCancelTaskFactory cancelFactory,
                                       ScriptExecutionTaskFactory executionFactory,
                                       ScriptLoadLogTaskFactory loadLogFactory,
-                                      ScriptDeleteExecutionsTaskFactory deleteExecutionsTask) {
+                                      ScriptDeleteExecutionsTaskFactory deleteExecutionsTask,
+                                      ScriptFanOutTaskFactory fanOutFactory,
+                                      ScriptLoadExecutionTaskFactory loadExecutionFactory,
+                                      ScriptOpenLogTaskFactory openLogFactory,
+                                      ScriptReadLogTaskFactory readLogFactory,
+                                      ScriptSearchLogTaskFactory searchLogFactory) {
 
         this.cancelFactory = cancelFactory;
         this.executionFactory = executionFactory;
         this.loadLogFactory = loadLogFactory;
         this.deleteExecutionsTask = deleteExecutionsTask;
+        this.fanOutFactory = fanOutFactory;
+        this.loadExecutionFactory = loadExecutionFactory;
+        this.openLogFactory = openLogFactory;
+        this.readLogFactory = readLogFactory;
+        this.searchLogFactory = searchLogFactory;
     }
 }
@@ -6,6 +6,8 @@ import org.correomqtt.di.DefaultBean;
 import org.correomqtt.di.Inject;
 import org.correomqtt.core.concurrent.FullTask;
 import org.correomqtt.core.concurrent.TaskException;
+import org.correomqtt.core.concurrent.TaskScope;
+import org.correomqtt.core.concurrent.TaskScopes;
 import org.correomqtt.di.SoyEvents;
 import org.correomqtt.core.fileprovider.ScriptingProvider;
 import org.graalvm.polyglot.Context;
@@ -15,7 +17,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Marker;
 
-import java.io.PipedOutputStream;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 
 import static org.correomqtt.core.scripting.ScriptExecutionError.Type.GUEST;
@@ -27,26 +29,37 @@ public class ScriptExecutionTask extends FullTask<ExecutionDTO, ExecutionDTO, Ex
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ScriptExecutionTask.class);
     private final ScriptLoggerContextFactory scriptLoggerContextFactory;
+    private final TaskScopes taskScopes;
     private final ScriptingProvider scriptingProvider;
     private final JsContextBuilderFactory jsContextBuilderFactory;
+    private final JsContextPool jsContextPool;
     @Getter
     private final ExecutionDTO dto;
-    private Context context;
+    private volatile Context context;
 
     @Inject
     public ScriptExecutionTask(
             ScriptLoggerContextFactory scriptLoggerContextFactory,
             ScriptingProvider scriptingProvider,
             JsContextBuilderFactory jsContextBuilderFactory,
+            JsContextPool jsContextPool,
+            TaskScopes taskScopes,
             SoyEvents soyEvents,
             @Assisted ExecutionDTO executionDTO) {
         super(soyEvents);
+        this.taskScopes = taskScopes;
         this.scriptLoggerContextFactory = scriptLoggerContextFactory;
         this.scriptingProvider = scriptingProvider;
         this.jsContextBuilderFactory = jsContextBuilderFactory;
+        this.jsContextPool = jsContextPool;
         this.dto = executionDTO;
     }
 
+    @Override
+    protected TaskScope getScope() {
+        return dto.getConnectionId() == null ? null : taskScopes.get(dto.getConnectionId());
+    }
+
     public ExecutionDTO execute() throws TaskException {
         LOGGER.debug(marker(), "Submit script: {}", dto.getExecutionId());
         ScriptingBackend.putExecutionTask(this);
@@ -77,7 +90,7 @@ public class ScriptExecutionTask extends FullTask<ExecutionDTO, ExecutionDTO, Ex
     }
 
     private void executeJs(ScriptLoggerContext slc, ch.qos.logback.classic.Logger scriptLogger) {
-        try (PipedOutputStream out = new PipedOutputStream();
+        try (OutputStream out = slc.createOutputStream();
              Context c = jsContextBuilderFactory.create()
                      .dto(dto)
                      .out(out)
@@ -85,15 +98,12 @@ public class ScriptExecutionTask extends FullTask<ExecutionDTO, ExecutionDTO, Ex
                      .logger(slc.getScriptLogger())
                      .build()) {
             context = c;
-            slc.connectSnk(out);
             soyEvents.fire(new ScriptExecutionProgressEvent(dto));
             reportProgress(dto);
-            Source source = Source.newBuilder("js",
-                            "logger.info(marker,\"Running script with ECMAScript {} on GraalJS.\", Graal.versionECMAScript);\n" +
-                                    dto.getJsCode() +
-                                    "\njoin();", "jscode")
-                    .mimeType("application/javascript+module") // required for top level await
-                    .build();
+            Source source = jsContextPool.getSource("jscode",
+                    "logger.info(marker,\"Running script with ECMAScript {} on GraalJS.\", Graal.versionECMAScript);\n" +
+                            dto.getJsCode() +
+                            "\njoin();");
             context.eval(source);
             dto.updateExecutionTime();
             scriptLogger.info(marker(), "Script returned in {}ms.", dto.getExecutionTime());
@@ -115,11 +125,19 @@ public class ScriptExecutionTask extends FullTask<ExecutionDTO, ExecutionDTO, Ex
             dto.updateExecutionTime();
             dto.setError(new ScriptExecutionError(HOST, e.getMessage()));
             soyEvents.fire(new ScriptExecutionFailedEvent(dto));
+        } finally {
+            if (dto.getQueue() != null) {
+                dto.getQueue().close();
+            }
         }
     }
 
-    public void cancel() {
+    @Override
+    protected void cancelHook() {
         dto.setCancelled(true);
-        this.context.close(true);
+        Context c = this.context;
+        if (c != null) {
+            c.close(true);
+        }
     }
 }
@@ -0,0 +1,15 @@
+package org.correomqtt.core.scripting;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.correomqtt.di.Event;
+
+/**
+ * Executions of a script were added, changed or removed on disk by someone else than this application.
+ */
+@AllArgsConstructor
+@Getter
+public class ScriptExecutionsChangedEvent implements Event {
+
+    private String filename;
+}
@@ -0,0 +1,116 @@
+package org.correomqtt.core.scripting;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One script started as several parallel executions. The executions are created upfront, so they can be listed before
+ * they start.
+ */
+@Getter
+public class ScriptFanOutDTO {
+
+    private final String fanOutId = UUID.randomUUID().toString();
+    private final ScriptFileDTO scriptFile;
+    private final ScriptFanOutMode mode;
+    private final int concurrency;
+    private final List<ExecutionDTO> executions;
+
+    private ScriptFanOutDTO(ScriptFileDTO scriptFile, ScriptFanOutMode mode, int concurrency, List<ExecutionDTO> executions) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1.");
+        }
+        this.scriptFile = scriptFile;
+        this.mode = mode;
+        this.concurrency = concurrency;
+        this.executions = Collections.unmodifiableList(executions);
+        for (int i = 0; i < executions.size(); i++) {
+            executions.get(i).setFanOutId(fanOutId);
+            executions.get(i).setInstance(i + 1);
+        }
+    }
+
+    public static ScriptFanOutDTO forConnections(ScriptFileDTO scriptFile, String jsCode, List<String> connectionIds, int concurrency) {
+        List<ExecutionDTO> executions = new ArrayList<>();
+        for (String connectionId : connectionIds) {
+            executions.add(createExecution(scriptFile, jsCode, connectionId));
+        }
+        return new ScriptFanOutDTO(scriptFile, ScriptFanOutMode.CONNECTIONS, concurrency, executions);
+    }
+
+    public static ScriptFanOutDTO forInstances(ScriptFileDTO scriptFile, String jsCode, String connectionId, int instances, int concurrency) {
+        List<ExecutionDTO> executions = new ArrayList<>();
+        for (int i = 0; i < instances; i++) {
+            executions.add(createExecution(scriptFile, jsCode, connectionId));
+        }
+        return new ScriptFanOutDTO(scriptFile, ScriptFanOutMode.INSTANCES, concurrency, executions);
+    }
+
+    private static ExecutionDTO createExecution(ScriptFileDTO scriptFile, String jsCode, String connectionId) {
+        return ExecutionDTO.builder()
+                .jsCode(jsCode)
+                .scriptFile(scriptFile)
+                .connectionId(connectionId)
+                .build();
+    }
+
+    public int getTotal() {
+        return executions.size();
+    }
+
+    public int getRunning() {
+        return getCounts().running();
+    }
+
+    public int getSucceeded() {
+        return getCounts().succeeded();
+    }
+
+    public int getFailed() {
+        return getCounts().failed();
+    }
+
+    public int getCancelled() {
+        return getCounts().cancelled();
+    }
+
+    public boolean isFinished() {
+        return getCounts().finished() == getTotal();
+    }
+
+    /**
+     * Counts the executions in one pass. The executions are updated by their own threads, so use one snapshot
+     * instead of several getters to get consistent numbers.
+     */
+    public Counts getCounts() {
+        int running = 0;
+        int succeeded = 0;
+        int failed = 0;
+        int cancelled = 0;
+        for (ExecutionDTO execution : executions) {
+            if (execution.isCancelled()) {
+                cancelled++;
+            } else if (execution.getExecutionTime() != null) {
+                if (execution.getError() == null) {
+                    succeeded++;
+                } else {
+                    failed++;
+                }
+            } else if (execution.getStartTime() != null) {
+                running++;
+            }
+        }
+        return new Counts(executions.size(), running, succeeded, failed, cancelled);
+    }
+
+    public record Counts(int total, int running, int succeeded, int failed, int cancelled) {
+
+        public int finished() {
+            return succeeded + failed + cancelled;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.correomqtt.core.scripting;
+
+public enum ScriptFanOutMode {
+    /**
+     * One execution per connection.
+     */
+    CONNECTIONS,
+    /**
+     * Several executions on one connection, each with its own client id.
+     */
+    INSTANCES
+}
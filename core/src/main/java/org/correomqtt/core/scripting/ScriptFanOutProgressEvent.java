@@ -0,0 +1,21 @@
+package org.correomqtt.core.scripting;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.correomqtt.di.Event;
+import org.correomqtt.di.ObservesFilter;
+
+import static org.correomqtt.core.events.ObservesFilterNames.SCRIPT_NAME;
+
+@AllArgsConstructor
+@Getter
+public class ScriptFanOutProgressEvent implements Event {
+
+    private ScriptFanOutDTO fanOutDTO;
+
+    @SuppressWarnings("unused")
+    @ObservesFilter(SCRIPT_NAME)
+    public String getFileName() {
+        return fanOutDTO.getScriptFile().getName();
+    }
+}
@@ -0,0 +1,98 @@
+package org.correomqtt.core.scripting;
+
+import lombok.Getter;
+import org.correomqtt.core.concurrent.SimpleProgressTask;
+import org.correomqtt.core.utils.ConnectionManager;
+import org.correomqtt.di.Assisted;
+import org.correomqtt.di.DefaultBean;
+import org.correomqtt.di.Inject;
+import org.correomqtt.di.SoyEvents;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs the executions of a {@link ScriptFanOutDTO} with at most {@link ScriptFanOutDTO#getConcurrency()} at a time.
+ * Cancelling this task cancels all running executions and skips the pending ones.
+ */
+@DefaultBean
+public class ScriptFanOutTask extends SimpleProgressTask<ScriptFanOutDTO> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScriptFanOutTask.class);
+    private static final int FAN_OUT_TOKEN_LENGTH = 8;
+
+    private final ScriptExecutionTaskFactory executionTaskFactory;
+    private final ConnectionManager connectionManager;
+    @Getter
+    private final ScriptFanOutDTO dto;
+
+    @Inject
+    public ScriptFanOutTask(ScriptExecutionTaskFactory executionTaskFactory,
+                            ConnectionManager connectionManager,
+                            SoyEvents soyEvents,
+                            @Assisted ScriptFanOutDTO dto) {
+        super(soyEvents);
+        this.executionTaskFactory = executionTaskFactory;
+        this.connectionManager = connectionManager;
+        this.dto = dto;
+    }
+
+    @Override
+    protected void execute() throws InterruptedException {
+        Semaphore permits = new Semaphore(dto.getConcurrency());
+        CountDownLatch finished = new CountDownLatch(dto.getTotal());
+        updateProgress();
+        try {
+            for (ExecutionDTO execution : dto.getExecutions()) {
+                permits.acquire();
+                getCancellationToken().throwIfCancelled();
+                start(execution, () -> {
+                    permits.release();
+                    finished.countDown();
+                    updateProgress();
+                });
+            }
+            finished.await();
+        } finally {
+            dto.getExecutions().stream()
+                    .filter(e -> e.getStartTime() == null)
+                    .forEach(e -> e.setCancelled(true));
+            updateProgress();
+        }
+    }
+
+    private void start(ExecutionDTO execution, Runnable onFinished) {
+        String derivedConnectionId;
+        if (dto.getMode() == ScriptFanOutMode.INSTANCES) {
+            // the fan-out id keeps ids and client ids apart, when a script fans out twice on the same connection
+            derivedConnectionId = connectionManager.addDerivedConnection(execution.getConnectionId(),
+                    "fan" + dto.getFanOutId().substring(0, FAN_OUT_TOKEN_LENGTH) + "-" + execution.getInstance());
+            execution.setConnectionId(derivedConnectionId);
+        } else {
+            derivedConnectionId = null;
+        }
+        executionTaskFactory.create(execution)
+                .onFinally(() -> {
+                    if (derivedConnectionId != null) {
+                        removeDerivedConnection(derivedConnectionId);
+                    }
+                    onFinished.run();
+                })
+                .run();
+    }
+
+    private void removeDerivedConnection(String connectionId) {
+        try {
+            connectionManager.removeDerivedConnection(connectionId);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to clean up connection {} of script fan-out.", connectionId, e);
+        }
+    }
+
+    private void updateProgress() {
+        reportProgress(dto);
+        soyEvents.fire(new ScriptFanOutProgressEvent(dto));
+    }
+}
@@ -3,16 +3,120 @@ package org.correomqtt.core.scripting;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.FileAppender;
 import ch.qos.logback.core.recovery.ResilientFileOutputStream;
+import org.correomqtt.core.concurrent.TaskExecutorType;
+import org.correomqtt.core.concurrent.TaskExecutors;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileLock;
 import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Writes the log of a single script execution. Events are queued by the logging thread and written in batches on the
+ * blocking IO executor, so a chatty script does not wait for the disk.
+ */
 public class ScriptFileAppender extends FileAppender<ILoggingEvent> {
 
+    private static final int MAX_BATCH_SIZE = 256;
+
+    private final Queue<ILoggingEvent> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    // only held while queueing, so an event is either queued before stop() writes the queue or rejected
+    private final Object queueLock = new Object();
+    private boolean accepting;
+
+    @Override
+    public void start() {
+        super.start();
+        synchronized (queueLock) {
+            accepting = isStarted();
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // the event is encoded on another thread, so capture thread name, mdc and message now
+        event.prepareForDeferredProcessing();
+        synchronized (queueLock) {
+            if (!accepting) {
+                return;
+            }
+            pending.add(event);
+        }
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (!scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            TaskExecutors.get(TaskExecutorType.BLOCKING_IO).execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // the executor is shut down, e.g. on exit, so the events are written by the caller
+            drain();
+        }
+    }
+
+    private void drain() {
+        scheduled.set(false);
+        writePending();
+        if (!pending.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    private synchronized void writePending() {
+        if (!isStarted()) {
+            pending.clear();
+            return;
+        }
+        ByteArrayOutputStream batch = new ByteArrayOutputStream();
+        int count = 0;
+        ILoggingEvent event;
+        while ((event = pending.poll()) != null) {
+            batch.writeBytes(encoder.encode(event));
+            if (++count == MAX_BATCH_SIZE) {
+                writeBatch(batch.toByteArray());
+                batch.reset();
+                count = 0;
+            }
+        }
+        if (count > 0) {
+            writeBatch(batch.toByteArray());
+        }
+    }
+
+    private void writeBatch(byte[] bytes) {
+        if (isPrudent()) {
+            mySafeWriteBytes(bytes);
+            return;
+        }
+        try {
+            writeByteArrayToOutputStreamWithPossibleFlush(bytes);
+        } catch (IOException e) {
+            addError("Failed to write script log.", e);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        synchronized (queueLock) {
+            accepting = false;
+        }
+        writePending();
+        super.stop();
+    }
+
     @SuppressWarnings("unused")
-    public void writePlainString(String msg) {
+    public synchronized void writePlainString(String msg) {
+        writePending();
         mySafeWriteBytes(msg.getBytes(StandardCharsets.UTF_8));
     }
 
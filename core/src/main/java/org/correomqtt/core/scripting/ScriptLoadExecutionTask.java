@@ -0,0 +1,56 @@
+package org.correomqtt.core.scripting;
+
+import org.correomqtt.core.concurrent.NoProgressTask;
+import org.correomqtt.core.concurrent.TaskException;
+import org.correomqtt.core.fileprovider.ScriptingProvider;
+import org.correomqtt.di.Assisted;
+import org.correomqtt.di.DefaultBean;
+import org.correomqtt.di.Inject;
+import org.correomqtt.di.SoyEvents;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+import static org.correomqtt.core.scripting.ScriptLoadExecutionTask.Error.IOERROR;
+
+/**
+ * Reads the complete execution for an execution, that is only known from the catalog, and replaces it in the
+ * {@link ScriptingBackend}.
+ */
+@DefaultBean
+public class ScriptLoadExecutionTask extends NoProgressTask<ExecutionDTO, ScriptLoadExecutionTask.Error> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScriptLoadExecutionTask.class);
+
+    private final ScriptingProvider scriptingProvider;
+    private final ExecutionDTO dto;
+
+    public enum Error {
+        IOERROR
+    }
+
+    @Inject
+    public ScriptLoadExecutionTask(ScriptingProvider scriptingProvider,
+                                   SoyEvents soyEvents,
+                                   @Assisted ExecutionDTO dto) {
+        super(soyEvents);
+        this.scriptingProvider = scriptingProvider;
+        this.dto = dto;
+    }
+
+    @Override
+    protected ExecutionDTO execute() {
+        if (!dto.isSummary()) {
+            return dto;
+        }
+        try {
+            ExecutionDTO loaded = scriptingProvider.loadExecution(dto);
+            ScriptingBackend.putExecutionDTO(loaded.getExecutionId(), loaded);
+            return loaded;
+        } catch (IOException e) {
+            LOGGER.error("Exception loading execution.", e);
+            throw new TaskException(IOERROR);
+        }
+    }
+}
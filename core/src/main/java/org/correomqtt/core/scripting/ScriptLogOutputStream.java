@@ -0,0 +1,117 @@
+package org.correomqtt.core.scripting;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Collects the standard output of a script and hands every complete line to a consumer on the writing thread. A
+ * trailing line without line break is handed over on {@link #close()}.
+ */
+class ScriptLogOutputStream extends OutputStream {
+
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    private final Consumer<String> lineConsumer;
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+    private boolean closed;
+
+    ScriptLogOutputStream(Consumer<String> lineConsumer) {
+        this.lineConsumer = lineConsumer;
+    }
+
+    @Override
+    public synchronized void write(int b) {
+        if (closed) {
+            return;
+        }
+        if (b == '\n') {
+            emit();
+            return;
+        }
+        line.write(b);
+        if (line.size() >= MAX_LINE_LENGTH) {
+            emitLongLine();
+        }
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) {
+        if (closed) {
+            return;
+        }
+        int start = off;
+        int end = off + len;
+        for (int i = off; i < end; i++) {
+            if (b[i] == '\n') {
+                line.write(b, start, i - start);
+                emit();
+                start = i + 1;
+            } else if (line.size() + i - start + 1 >= MAX_LINE_LENGTH) {
+                line.write(b, start, i - start + 1);
+                emitLongLine();
+                start = i + 1;
+            }
+        }
+        line.write(b, start, end - start);
+    }
+
+    private void emit() {
+        String text = line.toString(StandardCharsets.UTF_8);
+        line.reset();
+        if (text.endsWith("\r")) {
+            text = text.substring(0, text.length() - 1);
+        }
+        lineConsumer.accept(text);
+    }
+
+    /**
+     * Hands over the part of an overlong line up to the last complete character. The bytes of a character, that is
+     * cut by the limit, start the next part.
+     */
+    private void emitLongLine() {
+        byte[] bytes = line.toByteArray();
+        int end = characterBoundary(bytes);
+        line.reset();
+        line.write(bytes, end, bytes.length - end);
+        lineConsumer.accept(new String(bytes, 0, end, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the length of the bytes without a trailing incomplete UTF-8 sequence
+     */
+    static int characterBoundary(byte[] bytes) {
+        int length = bytes.length;
+        for (int back = 1; back <= 3 && back <= length; back++) {
+            byte b = bytes[length - back];
+            if ((b & 0xC0) == 0x80) {
+                // continuation byte, the start of the sequence is further back
+                continue;
+            }
+            int sequenceLength;
+            if ((b & 0xE0) == 0xC0) {
+                sequenceLength = 2;
+            } else if ((b & 0xF0) == 0xE0) {
+                sequenceLength = 3;
+            } else if ((b & 0xF8) == 0xF0) {
+                sequenceLength = 4;
+            } else {
+                sequenceLength = 1;
+            }
+            return back < sequenceLength ? length - back : length;
+        }
+        return length;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        if (line.size() > 0) {
+            emit();
+        }
+        closed = true;
+    }
+}
@@ -0,0 +1,241 @@
+package org.correomqtt.core.scripting;
+
+import org.correomqtt.core.concurrent.CancellationToken;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads windows of lines from a script log without loading the whole file. Only the offset of every
+ * {@value #CHECKPOINT_LINES}th line is kept, a window is read from the nearest offset with positional reads. Lines
+ * appended to a log of a running execution are picked up by {@link #refresh()}.
+ * <p>
+ * Positional reads are used instead of memory mapping, because the log is still appended to and may be deleted by the
+ * retention while it is open, which a mapped file does not allow on all platforms.
+ */
+public class ScriptLogReader implements AutoCloseable {
+
+    public static final int WINDOW_LINES = 1000;
+    /**
+     * Logs up to this size are shown as a whole.
+     */
+    public static final long LARGE_LOG_BYTES = 2L * 1024 * 1024;
+    private static final int CHECKPOINT_LINES = 128;
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int CANCEL_CHECK_LINES = 1024;
+
+    private final FileChannel channel;
+    private final Path tempFile;
+    private long[] checkpoints = new long[64];
+    private int completeLines;
+    private long indexedBytes;
+    private long size;
+
+    private ScriptLogReader(FileChannel channel, Path tempFile) {
+        this.channel = channel;
+        this.tempFile = tempFile;
+    }
+
+    /**
+     * Opens the plain log, or inflates the compacted log to a temporary file, if there is no plain log anymore.
+     *
+     * @return the reader or null, if there is no log at all
+     */
+    public static ScriptLogReader open(Path log, Path archive) throws IOException {
+        ScriptLogReader reader;
+        if (Files.exists(log)) {
+            reader = new ScriptLogReader(FileChannel.open(log, StandardOpenOption.READ), null);
+        } else if (Files.exists(archive)) {
+            Path tempFile = Files.createTempFile("correomqtt-script-log", ".log");
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(archive))) {
+                Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                reader = new ScriptLogReader(FileChannel.open(tempFile, StandardOpenOption.READ), tempFile);
+            } catch (IOException e) {
+                Files.deleteIfExists(tempFile);
+                throw e;
+            }
+        } else {
+            return null;
+        }
+        reader.refresh();
+        return reader;
+    }
+
+    /**
+     * Indexes lines, that were appended since the last refresh.
+     *
+     * @return the number of lines
+     */
+    public synchronized int refresh() throws IOException {
+        long position = indexedBytes;
+        long end = channel.size();
+        ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(CHUNK_SIZE, end - position));
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            byte[] bytes = buffer.array();
+            for (int i = 0; i < read; i++) {
+                if (bytes[i] == '\n') {
+                    completeLines++;
+                    indexedBytes = position + i + 1;
+                    if (completeLines % CHECKPOINT_LINES == 0) {
+                        addCheckpoint(indexedBytes);
+                    }
+                }
+            }
+            position += read;
+        }
+        size = Math.max(size, end);
+        return getLineCount();
+    }
+
+    private void addCheckpoint(long offset) {
+        int index = completeLines / CHECKPOINT_LINES;
+        if (index >= checkpoints.length) {
+            checkpoints = Arrays.copyOf(checkpoints, checkpoints.length * 2);
+        }
+        checkpoints[index] = offset;
+    }
+
+    /**
+     * @return the number of lines, including an unfinished last line
+     */
+    public synchronized int getLineCount() {
+        return completeLines + (size > indexedBytes ? 1 : 0);
+    }
+
+    public synchronized long getSize() {
+        return size;
+    }
+
+    public synchronized boolean isLarge() {
+        return size > LARGE_LOG_BYTES;
+    }
+
+    /**
+     * @param firstLine index of the first line to read, or a negative value to read the last lines
+     */
+    public ScriptLogWindow read(int firstLine, int count) throws IOException {
+        int lineCount;
+        long from;
+        int skip;
+        long end;
+        synchronized (this) {
+            lineCount = getLineCount();
+            int first = firstLine < 0 ? lineCount - count : Math.min(firstLine, lineCount - count);
+            firstLine = Math.max(0, first);
+            from = checkpoints[firstLine / CHECKPOINT_LINES];
+            skip = firstLine % CHECKPOINT_LINES;
+            end = size;
+        }
+        List<String> lines = new ArrayList<>(Math.min(count, lineCount));
+        int[] skipped = {0};
+        scanLines(from, end, line -> {
+            if (skipped[0] < skip) {
+                skipped[0]++;
+                return true;
+            }
+            lines.add(decode(line));
+            return lines.size() < count;
+        });
+        return new ScriptLogWindow(firstLine, lines, lineCount);
+    }
+
+    /**
+     * @return index of the first line at or after fromLine, that contains the text, or -1
+     */
+    public int find(String text, boolean ignoreCase, int fromLine, CancellationToken cancellationToken) throws IOException {
+        String needle = ignoreCase ? text.toLowerCase(Locale.ROOT) : text;
+        long from;
+        long end;
+        synchronized (this) {
+            fromLine = Math.max(0, Math.min(fromLine, getLineCount()));
+            from = checkpoints[fromLine / CHECKPOINT_LINES];
+            end = size;
+        }
+        int[] current = {fromLine - fromLine % CHECKPOINT_LINES};
+        int start = fromLine;
+        int[] match = {-1};
+        scanLines(from, end, line -> {
+            int lineIndex = current[0]++;
+            if (lineIndex % CANCEL_CHECK_LINES == 0) {
+                cancellationToken.throwIfCancelled();
+            }
+            if (lineIndex < start) {
+                return true;
+            }
+            String decoded = decode(line);
+            if ((ignoreCase ? decoded.toLowerCase(Locale.ROOT) : decoded).contains(needle)) {
+                match[0] = lineIndex;
+                return false;
+            }
+            return true;
+        });
+        return match[0];
+    }
+
+    private void scanLines(long from, long end, LineVisitor visitor) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+        ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+        long position = from;
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(CHUNK_SIZE, end - position));
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            byte[] bytes = buffer.array();
+            int start = 0;
+            for (int i = 0; i < read; i++) {
+                if (bytes[i] == '\n') {
+                    line.write(bytes, start, i - start);
+                    start = i + 1;
+                    if (!visitor.visit(line)) {
+                        return;
+                    }
+                    line.reset();
+                }
+            }
+            line.write(bytes, start, read - start);
+            position += read;
+        }
+        if (line.size() > 0) {
+            visitor.visit(line);
+        }
+    }
+
+    private static String decode(ByteArrayOutputStream line) {
+        String decoded = line.toString(StandardCharsets.UTF_8);
+        return decoded.endsWith("\r") ? decoded.substring(0, decoded.length() - 1) : decoded;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+        if (tempFile != null) {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private interface LineVisitor {
+        boolean visit(ByteArrayOutputStream line);
+    }
+}
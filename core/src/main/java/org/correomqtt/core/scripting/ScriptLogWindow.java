@@ -0,0 +1,17 @@
+package org.correomqtt.core.scripting;
+
+import java.util.List;
+
+/**
+ * Consecutive lines of a script log.
+ *
+ * @param firstLine index of the first line in the log
+ * @param lines     the lines without line breaks
+ * @param lineCount number of lines in the whole log
+ */
+public record ScriptLogWindow(int firstLine, List<String> lines, int lineCount) {
+
+    public int lastLine() {
+        return firstLine + lines.size();
+    }
+}
@@ -13,13 +13,7 @@ import org.correomqtt.core.fileprovider.ScriptingProvider;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Marker;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
-import java.nio.charset.StandardCharsets;
-import java.util.concurrent.CompletableFuture;
+import java.io.OutputStream;
 
 import static org.correomqtt.core.utils.LoggerUtils.SCRIPT_APPENDER_NAME;
 import static org.correomqtt.core.utils.LoggerUtils.SCRIPT_COLOR_PATTERN_APPENDER_NAME;
@@ -30,12 +24,9 @@ import static org.correomqtt.core.utils.LoggerUtils.findPatternEncoder;
 public class ScriptLoggerContext implements AutoCloseable {
 
     private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(ScriptLoggerContext.class);
-    private static final int MAX_WAIT = 5000;
-    private static final int WAIT_STEP = 100;
     @Getter
     private final Logger scriptLogger;
-    private CompletableFuture<Void> outputStreamListener;
-    private PipedInputStream snk;
+    private ScriptLogOutputStream out;
     private final Marker marker;
     private final Appender<ILoggingEvent> scriptAppender;
     private final ScriptFileAppender fileAppender;
@@ -68,48 +59,21 @@ public class ScriptLoggerContext implements AutoCloseable {
         scriptLogger.setAdditive(false);
     }
 
-    public void connectSnk(PipedOutputStream out) throws IOException {
-        snk = new PipedInputStream(out);
-        outputStreamListener = CompletableFuture.runAsync(this::readLog);
-    }
-
-
-    private void readLog() {
-
-        final int BUFFER_SIZE = 8192;
-        try (
-                final InputStreamReader isr = new InputStreamReader(snk, StandardCharsets.UTF_8);
-                final BufferedReader br = new BufferedReader(isr, BUFFER_SIZE);
-        ) {
-            // stream log output
-            String line;
-            while ((line = br.readLine()) != null) {
-                scriptLogger.info(marker, line);
-            }
-        } catch (IOException e) {
-            // this is normal if SNK is closed.
-            LOGGER.trace("Pipe to script log broke.", e);
-        }
+    /**
+     * @return a stream for the standard output of the script, that logs each line to the script logger
+     */
+    public OutputStream createOutputStream() {
+        out = new ScriptLogOutputStream(line -> scriptLogger.info(marker, line));
+        return out;
     }
 
     @Override
-    public void close() throws Exception {
+    public void close() {
+        if (out != null) {
+            out.close();
+        }
         scriptLogger.detachAppender(scriptAppender);
         scriptLogger.detachAppender(fileAppender);
-        if (snk != null) {
-            for (int currentWait = 0; currentWait < MAX_WAIT; currentWait += WAIT_STEP) {
-                if (snk.available() <= 0) {
-                    break;
-                }
-                Thread.sleep(WAIT_STEP);
-            }
-            if (LOGGER.isDebugEnabled() && snk.available() > 0)
-                LOGGER.debug("SNK still has data available after {}ms => Stopping now.", MAX_WAIT);
-            snk.close();
-        }
-        if (outputStreamListener != null) {
-            outputStreamListener.cancel(true);
-        }
         fileAppender.stop();
     }
 }
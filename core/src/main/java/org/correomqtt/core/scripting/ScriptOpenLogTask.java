@@ -0,0 +1,50 @@
+package org.correomqtt.core.scripting;
+
+import org.correomqtt.core.concurrent.NoProgressTask;
+import org.correomqtt.core.concurrent.TaskException;
+import org.correomqtt.core.fileprovider.ScriptingProvider;
+import org.correomqtt.di.Assisted;
+import org.correomqtt.di.DefaultBean;
+import org.correomqtt.di.Inject;
+import org.correomqtt.di.SoyEvents;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+import static org.correomqtt.core.scripting.ScriptOpenLogTask.Error.IOERROR;
+
+/**
+ * Opens the log of an execution for paged reading. The caller has to close the reader.
+ */
+@DefaultBean
+public class ScriptOpenLogTask extends NoProgressTask<ScriptLogReader, ScriptOpenLogTask.Error> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScriptOpenLogTask.class);
+
+    private final ScriptingProvider scriptingProvider;
+    private final ExecutionDTO dto;
+
+    public enum Error {
+        IOERROR
+    }
+
+    @Inject
+    public ScriptOpenLogTask(ScriptingProvider scriptingProvider,
+                             SoyEvents soyEvents,
+                             @Assisted ExecutionDTO dto) {
+        super(soyEvents);
+        this.scriptingProvider = scriptingProvider;
+        this.dto = dto;
+    }
+
+    @Override
+    protected ScriptLogReader execute() {
+        try {
+            return scriptingProvider.openLog(dto.getScriptFile().getName(), dto.getExecutionId());
+        } catch (IOException e) {
+            LOGGER.error("Exception opening log.", e);
+            throw new TaskException(IOERROR);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.correomqtt.core.scripting;
+
+import org.correomqtt.core.concurrent.NoProgressTask;
+import org.correomqtt.core.concurrent.TaskException;
+import org.correomqtt.di.Assisted;
+import org.correomqtt.di.DefaultBean;
+import org.correomqtt.di.Inject;
+import org.correomqtt.di.SoyEvents;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+import static org.correomqtt.core.scripting.ScriptReadLogTask.Error.IOERROR;
+
+/**
+ * Reads a window of {@link ScriptLogReader#WINDOW_LINES} lines, after picking up lines appended in the meantime. A
+ * negative first line reads the end of the log.
+ */
+@DefaultBean
+public class ScriptReadLogTask extends NoProgressTask<ScriptLogWindow, ScriptReadLogTask.Error> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScriptReadLogTask.class);
+
+    private final ScriptLogReader reader;
+    private final Integer firstLine;
+
+    public enum Error {
+        IOERROR
+    }
+
+    @Inject
+    public ScriptReadLogTask(SoyEvents soyEvents,
+                             @Assisted ScriptLogReader reader,
+                             @Assisted Integer firstLine) {
+        super(soyEvents);
+        this.reader = reader;
+        this.firstLine = firstLine;
+    }
+
+    @Override
+    protected ScriptLogWindow execute() {
+        try {
+            reader.refresh();
+            return reader.read(firstLine, ScriptLogReader.WINDOW_LINES);
+        } catch (IOException e) {
+            LOGGER.error("Exception reading log.", e);
+            throw new TaskException(IOERROR);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.correomqtt.core.scripting;
+
+import org.correomqtt.core.applifecycle.ShutdownEvent;
+import org.correomqtt.core.model.ScriptRetentionSettings;
+import org.correomqtt.core.settings.SettingsManager;
+import org.correomqtt.di.Inject;
+import org.correomqtt.di.Observes;
+import org.correomqtt.di.SingletonBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs the {@link ScriptRetentionTask} shortly after start and then in the configured interval. The settings are read
+ * before every run, so enabling or disabling retention and changing the interval take effect without a restart.
+ */
+@SingletonBean
+public class ScriptRetentionScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScriptRetentionScheduler.class);
+    private static final long INITIAL_DELAY_MINUTES = 1;
+
+    private final ScriptRetentionTaskFactory retentionTaskFactory;
+    private final SettingsManager settingsManager;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private ScheduledExecutorService scheduler;
+
+    @Inject
+    public ScriptRetentionScheduler(ScriptRetentionTaskFactory retentionTaskFactory,
+                                    SettingsManager settingsManager) {
+        this.retentionTaskFactory = retentionTaskFactory;
+        this.settingsManager = settingsManager;
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "correomqtt-script-retention");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.schedule(this::runRetention, INITIAL_DELAY_MINUTES, TimeUnit.MINUTES);
+    }
+
+    private void runRetention() {
+        ScriptRetentionSettings settings = settingsManager.getSettings().getScriptRetentionSettings();
+        try {
+            if (!settings.isEnabled()) {
+                LOGGER.debug("Retention of script executions is disabled.");
+            } else if (running.compareAndSet(false, true)) {
+                retentionTaskFactory.create()
+                        .onError(error -> LOGGER.warn("Retention of script executions failed.", error.getUnexpectedError()))
+                        .onFinally(() -> running.set(false))
+                        .run();
+            }
+        } finally {
+            scheduleNext(settings);
+        }
+    }
+
+    private synchronized void scheduleNext(ScriptRetentionSettings settings) {
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(this::runRetention, Math.max(1, settings.getIntervalMinutes()), TimeUnit.MINUTES);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public synchronized void onShutdown(@Observes ShutdownEvent event) {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.correomqtt.core.scripting;
+
+import org.correomqtt.core.model.ScriptRetentionSettings;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Decides which executions the {@link ScriptRetentionTask} deletes or compacts. Kept free of any file access.
+ */
+final class ScriptRetentionSelection {
+
+    static final Comparator<RetainedExecution> OLDEST_FIRST = Comparator.comparing(RetainedExecution::startTime,
+            Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private ScriptRetentionSelection() {
+        // static helper
+    }
+
+    /**
+     * Splits the executions of one script into the ones to keep and the ones beyond the maximum age or count.
+     *
+     * @return the expired executions, the kept ones are added to {@code retained}
+     */
+    static List<RetainedExecution> expired(List<RetainedExecution> executions,
+                                           ScriptRetentionSettings settings,
+                                           LocalDateTime now,
+                                           List<RetainedExecution> retained) {
+        List<RetainedExecution> newestFirst = new ArrayList<>(executions);
+        newestFirst.sort(OLDEST_FIRST.reversed());
+        List<RetainedExecution> expired = new ArrayList<>();
+        for (int i = 0; i < newestFirst.size(); i++) {
+            RetainedExecution execution = newestFirst.get(i);
+            if (isExpired(execution, i, settings, now)) {
+                expired.add(execution);
+            } else {
+                retained.add(execution);
+            }
+        }
+        return expired;
+    }
+
+    static List<RetainedExecution> toCompact(List<RetainedExecution> retained,
+                                             ScriptRetentionSettings settings,
+                                             LocalDateTime now) {
+        if (settings.getCompactLogsAfterHours() <= 0) {
+            return List.of();
+        }
+        LocalDateTime compactBefore = now.minusHours(settings.getCompactLogsAfterHours());
+        return retained.stream()
+                .filter(execution -> execution.startTime() != null && execution.startTime().isBefore(compactBefore))
+                .toList();
+    }
+
+    /**
+     * @return the oldest executions that have to be deleted, so the remaining ones fit into {@code maxTotalBytes}
+     */
+    static List<RetainedExecution> exceedingTotalSize(List<RetainedExecution> retained,
+                                                      long maxTotalBytes,
+                                                      ToLongFunction<RetainedExecution> sizeOf) {
+        if (maxTotalBytes <= 0) {
+            return List.of();
+        }
+        List<RetainedExecution> oldestFirst = new ArrayList<>(retained);
+        oldestFirst.sort(OLDEST_FIRST);
+        Map<RetainedExecution, Long> sizes = new HashMap<>();
+        long total = 0;
+        for (RetainedExecution execution : oldestFirst) {
+            long size = sizeOf.applyAsLong(execution);
+            sizes.put(execution, size);
+            total += size;
+        }
+        List<RetainedExecution> exceeding = new ArrayList<>();
+        for (RetainedExecution execution : oldestFirst) {
+            if (total <= maxTotalBytes) {
+                break;
+            }
+            exceeding.add(execution);
+            total -= sizes.get(execution);
+        }
+        return exceeding;
+    }
+
+    static Map<String, List<String>> byScript(List<RetainedExecution> executions) {
+        Map<String, List<String>> byScript = new LinkedHashMap<>();
+        for (RetainedExecution execution : executions) {
+            byScript.computeIfAbsent(execution.filename(), f -> new ArrayList<>()).add(execution.executionId());
+        }
+        return byScript;
+    }
+
+    private static boolean isExpired(RetainedExecution execution, int newerExecutions, ScriptRetentionSettings settings, LocalDateTime now) {
+        if (settings.getMaxExecutionsPerScript() > 0 && newerExecutions >= settings.getMaxExecutionsPerScript()) {
+            return true;
+        }
+        return settings.getMaxAgeDays() > 0
+                && execution.startTime() != null
+                && execution.startTime().isBefore(now.minusDays(settings.getMaxAgeDays()));
+    }
+
+    record RetainedExecution(String filename, String executionId, LocalDateTime startTime) {
+    }
+}
@@ -0,0 +1,89 @@
+package org.correomqtt.core.scripting;
+
+import org.correomqtt.core.concurrent.SimpleTask;
+import org.correomqtt.core.concurrent.TaskException;
+import org.correomqtt.core.fileprovider.ScriptingProvider;
+import org.correomqtt.core.model.ScriptRetentionSettings;
+import org.correomqtt.core.scripting.ScriptRetentionSelection.RetainedExecution;
+import org.correomqtt.core.settings.SettingsManager;
+import org.correomqtt.di.DefaultBean;
+import org.correomqtt.di.Inject;
+import org.correomqtt.di.SoyEvents;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies the {@link ScriptRetentionSettings} to the stored executions of all scripts. Executions beyond the maximum
+ * age or count are deleted first, then the logs of older executions are compacted and finally the oldest executions
+ * are deleted until the total size fits. Running executions are never touched.
+ */
+@DefaultBean
+public class ScriptRetentionTask extends SimpleTask {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScriptRetentionTask.class);
+
+    private final ScriptingProvider scriptingProvider;
+    private final SettingsManager settingsManager;
+
+    @Inject
+    public ScriptRetentionTask(ScriptingProvider scriptingProvider,
+                               SettingsManager settingsManager,
+                               SoyEvents soyEvents) {
+        super(soyEvents);
+        this.scriptingProvider = scriptingProvider;
+        this.settingsManager = settingsManager;
+    }
+
+    @Override
+    protected void execute() {
+        ScriptRetentionSettings settings = settingsManager.getSettings().getScriptRetentionSettings();
+        LocalDateTime now = LocalDateTime.now();
+        List<RetainedExecution> retained = new ArrayList<>();
+        List<RetainedExecution> expired = new ArrayList<>();
+
+        try {
+            for (String filename : scriptingProvider.getExecutionScriptNames()) {
+                getCancellationToken().throwIfCancelled();
+                List<RetainedExecution> executions = scriptingProvider.getExecutionIndex(filename).stream()
+                        .filter(entry -> !isRunning(entry))
+                        .map(entry -> new RetainedExecution(filename, entry.getExecutionId(), entry.getStartTime()))
+                        .toList();
+                expired.addAll(ScriptRetentionSelection.expired(executions, settings, now, retained));
+            }
+            delete(expired);
+
+            for (RetainedExecution execution : ScriptRetentionSelection.toCompact(retained, settings, now)) {
+                getCancellationToken().throwIfCancelled();
+                scriptingProvider.compactLog(execution.filename(), execution.executionId());
+            }
+
+            delete(ScriptRetentionSelection.exceedingTotalSize(retained, settings.getMaxTotalBytes(),
+                    execution -> scriptingProvider.getExecutionSize(execution.filename(), execution.executionId())));
+        } catch (IOException e) {
+            LOGGER.error("Exception applying retention to script executions.", e);
+            throw new TaskException(e);
+        }
+    }
+
+    private boolean isRunning(ExecutionIndexEntry entry) {
+        ExecutionDTO dto = ScriptingBackend.getExecutionDTO(entry.getExecutionId());
+        return dto != null && !dto.isSummary() && dto.getExecutionTime() == null;
+    }
+
+    private void delete(List<RetainedExecution> executions) throws IOException {
+        for (Map.Entry<String, List<String>> entry : ScriptRetentionSelection.byScript(executions).entrySet()) {
+            String filename = entry.getKey();
+            List<String> executionIds = entry.getValue();
+            LOGGER.info("Deleting {} old executions of script {}.", executionIds.size(), filename);
+            scriptingProvider.deleteExecutions(filename, executionIds);
+            executionIds.forEach(ScriptingBackend::removeExecutionDTO);
+            soyEvents.fire(new ScriptExecutionsChangedEvent(filename));
+        }
+    }
+}
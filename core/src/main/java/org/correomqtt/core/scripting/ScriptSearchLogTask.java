@@ -0,0 +1,53 @@
+package org.correomqtt.core.scripting;
+
+import org.correomqtt.core.concurrent.NoProgressTask;
+import org.correomqtt.core.concurrent.TaskException;
+import org.correomqtt.di.Assisted;
+import org.correomqtt.di.DefaultBean;
+import org.correomqtt.di.Inject;
+import org.correomqtt.di.SoyEvents;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+import static org.correomqtt.core.scripting.ScriptSearchLogTask.Error.IOERROR;
+
+/**
+ * Searches a log case-insensitive for the next line containing the text. Results in the line index or -1.
+ */
+@DefaultBean
+public class ScriptSearchLogTask extends NoProgressTask<Integer, ScriptSearchLogTask.Error> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScriptSearchLogTask.class);
+
+    private final ScriptLogReader reader;
+    private final String text;
+    private final Integer fromLine;
+
+    public enum Error {
+        IOERROR
+    }
+
+    @Inject
+    public ScriptSearchLogTask(SoyEvents soyEvents,
+                               @Assisted ScriptLogReader reader,
+                               @Assisted String text,
+                               @Assisted Integer fromLine) {
+        super(soyEvents);
+        this.reader = reader;
+        this.text = text;
+        this.fromLine = fromLine;
+    }
+
+    @Override
+    protected Integer execute() {
+        try {
+            reader.refresh();
+            return reader.find(text, true, fromLine, getCancellationToken());
+        } catch (IOException e) {
+            LOGGER.error("Exception searching log.", e);
+            throw new TaskException(IOERROR);
+        }
+    }
+}
@@ -27,6 +27,10 @@ public class ScriptingBackend {
         return EXECUTIONS_DTOS.get(executionId);
     }
 
+    public static void removeExecutionDTO(String executionId) {
+        EXECUTIONS_DTOS.remove(executionId);
+    }
+
     public static void removeExecutionsForScript(String filename) {
         EXECUTION_TASKS.entrySet().removeIf(task -> task.getValue().getDto().getScriptFile().getName().equals(filename));
         EXECUTIONS_DTOS.entrySet().removeIf(exec -> exec.getValue().getScriptFile().getName().equals(filename));
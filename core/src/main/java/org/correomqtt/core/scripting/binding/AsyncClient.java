@@ -2,6 +2,7 @@ package org.correomqtt.core.scripting.binding;
 
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.HostAccess.Export;
+import org.graalvm.polyglot.Value;
 
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.atomic.AtomicReference;
@@ -130,6 +131,46 @@ public class AsyncClient {
         }), onSuccess, onError);
     }
 
+    @Export
+    public void publishAll(Value messages) throws InterruptedException {
+        publishAll(messages, 0, stats -> {}, () -> {});
+    }
+
+    @Export
+    public void publishAll(Value messages, Consumer<PublishStats> onSuccess) throws InterruptedException {
+        publishAll(messages, 0, onSuccess, () -> {});
+    }
+
+    @Export
+    public void publishAll(Value messages, double ratePerSecond, Consumer<PublishStats> onSuccess) throws InterruptedException {
+        publishAll(messages, ratePerSecond, onSuccess, () -> {});
+    }
+
+    @Export
+    public void publishAll(Value messages, double ratePerSecond, Consumer<PublishStats> onSuccess, Runnable onError) throws InterruptedException {
+        PublishStats stats = client.publishAll(messages, ratePerSecond);
+        if (stats.getPublished() == 0 && stats.getFailed() > 0) {
+            onError.run();
+        } else {
+            onSuccess.accept(stats);
+        }
+    }
+
+    @Export
+    public PublishStream stream(String topic, int qos) {
+        return client.stream(topic, qos, false, 0);
+    }
+
+    @Export
+    public PublishStream stream(String topic, int qos, double ratePerSecond) {
+        return client.stream(topic, qos, false, ratePerSecond);
+    }
+
+    @Export
+    public PublishStream stream(String topic, int qos, boolean retained, double ratePerSecond) {
+        return client.stream(topic, qos, retained, ratePerSecond);
+    }
+
     @Export
     public void subscribe(String topic, Integer qos, Consumer<String> onIncomingMessage) throws InterruptedException {
         subscribe(topic, qos, () -> {}, () -> {}, onIncomingMessage);
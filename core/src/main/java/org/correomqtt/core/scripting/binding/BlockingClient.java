@@ -71,6 +71,31 @@ public class BlockingClient {
                 }));
     }
 
+    @Export
+    public PublishStats publishAll(Value messages) throws InterruptedException {
+        return client.publishAll(messages, 0);
+    }
+
+    @Export
+    public PublishStats publishAll(Value messages, double ratePerSecond) throws InterruptedException {
+        return client.publishAll(messages, ratePerSecond);
+    }
+
+    @Export
+    public PublishStream stream(String topic, int qos) {
+        return client.stream(topic, qos, false, 0);
+    }
+
+    @Export
+    public PublishStream stream(String topic, int qos, double ratePerSecond) {
+        return client.stream(topic, qos, false, ratePerSecond);
+    }
+
+    @Export
+    public PublishStream stream(String topic, int qos, boolean retained, double ratePerSecond) {
+        return client.stream(topic, qos, retained, ratePerSecond);
+    }
+
     @Export
     public void subscribe(String topic, Integer qos, Value onIncomingMessage) throws Throwable {
         blockify((q, t) -> client.subscribe(topic, qos,
@@ -1,18 +1,21 @@
 package org.correomqtt.core.scripting.binding;
 
 import lombok.Getter;
+import org.correomqtt.core.concurrent.TaskScopes;
 import org.correomqtt.core.connection.ConnectionLifecycleTaskFactories;
 import org.correomqtt.core.model.MessageDTO;
 import org.correomqtt.core.model.MessageType;
 import org.correomqtt.core.model.Qos;
 import org.correomqtt.core.model.SubscriptionDTO;
 import org.correomqtt.core.pubsub.IncomingMessageEvent;
+import org.correomqtt.core.pubsub.MessagePublisher;
 import org.correomqtt.core.pubsub.PubSubTaskFactories;
 import org.correomqtt.di.DefaultBean;
 import org.correomqtt.di.Inject;
 import org.correomqtt.di.Observes;
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.HostAccess.Export;
+import org.graalvm.polyglot.Value;
 import org.slf4j.Logger;
 import org.slf4j.Marker;
 
@@ -36,6 +39,8 @@ public class ClientImpl {
 
     private final ConnectionLifecycleTaskFactories connectionLifecycleTaskFactories;
     private final PubSubTaskFactories pubSubTaskFactories;
+    private final MessagePublisher messagePublisher;
+    private final TaskScopes taskScopes;
     private String connectionId;
     private Logger scriptLogger;
     private Queue queue;
@@ -50,9 +55,13 @@ public class ClientImpl {
 
     @Inject
     public ClientImpl(ConnectionLifecycleTaskFactories connectionLifecycleTaskFactories,
-               PubSubTaskFactories pubSubTaskFactories) {
+               PubSubTaskFactories pubSubTaskFactories,
+               MessagePublisher messagePublisher,
+               TaskScopes taskScopes) {
         this.connectionLifecycleTaskFactories = connectionLifecycleTaskFactories;
         this.pubSubTaskFactories = pubSubTaskFactories;
+        this.messagePublisher = messagePublisher;
+        this.taskScopes = taskScopes;
     }
 
     public void setContext(Context context) {
@@ -136,6 +145,40 @@ public class ClientImpl {
         }).run();
     }
 
+    PublishStream stream(String topic, int qos, boolean retained, double ratePerSecond) {
+        return new PublishStream(messagePublisher, taskScopes.get(connectionId), connectionId, topic, qos, retained, ratePerSecond, scriptLogger, marker);
+    }
+
+    /**
+     * Publishes an array, iterable or iterator of messages on the calling script thread.
+     */
+    PublishStats publishAll(Value messages, double ratePerSecond) throws InterruptedException {
+        PublishStream stream = stream(null, 0, false, ratePerSecond);
+        try {
+            if (messages.hasArrayElements()) {
+                long size = messages.getArraySize();
+                for (long i = 0; i < size; i++) {
+                    stream.sendMessage(messages.getArrayElement(i));
+                }
+            } else {
+                Value iterator;
+                if (messages.isIterator()) {
+                    iterator = messages;
+                } else if (messages.hasIterator()) {
+                    iterator = messages.getIterator();
+                } else {
+                    throw new IllegalArgumentException("Messages must be an array, an iterable or an iterator.");
+                }
+                while (iterator.hasIteratorNextElement()) {
+                    stream.sendMessage(iterator.getIteratorNextElement());
+                }
+            }
+        } finally {
+            stream.close();
+        }
+        return stream.getStats();
+    }
+
     void subscribe(String topic, Integer qos, Runnable onSuccess, Consumer<Throwable> onError, Consumer<String> onIncomingMessage) {
         subscriptions.put(topic, onIncomingMessage);
         pubSubTaskFactories.getSubscribeFactory().create(connectionId, SubscriptionDTO.builder().topic(topic).qos(Qos.fromJsonValue(qos)).build()).onSuccess(() -> {
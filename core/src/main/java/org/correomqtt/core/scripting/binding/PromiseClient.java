@@ -82,6 +82,38 @@ public class PromiseClient {
         }), resolve, reject);
     }
 
+    @Export
+    public PromiseInterface publishAll(Value messages) {
+        return publishAll(messages, 0);
+    }
+
+    @Export
+    public PromiseInterface publishAll(Value messages, double ratePerSecond) {
+        return (resolve, reject) -> {
+            PublishStats stats = client.publishAll(messages, ratePerSecond);
+            if (stats.getPublished() == 0 && stats.getFailed() > 0) {
+                reject.executeVoid(stats.getLastError());
+            } else {
+                resolve.executeVoid(stats);
+            }
+        };
+    }
+
+    @Export
+    public PublishStream stream(String topic, int qos) {
+        return client.stream(topic, qos, false, 0);
+    }
+
+    @Export
+    public PublishStream stream(String topic, int qos, double ratePerSecond) {
+        return client.stream(topic, qos, false, ratePerSecond);
+    }
+
+    @Export
+    public PublishStream stream(String topic, int qos, boolean retained, double ratePerSecond) {
+        return client.stream(topic, qos, retained, ratePerSecond);
+    }
+
     @Export
     public PromiseInterface subscribe(String topic, Integer qos, Consumer<String> onIncomingMessage) {
         return (resolve, reject) -> asyncify((q, t) -> client.subscribe(topic, qos, () -> q.add(true), ex -> {
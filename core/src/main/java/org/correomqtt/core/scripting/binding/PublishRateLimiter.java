@@ -0,0 +1,34 @@
+package org.correomqtt.core.scripting.binding;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces calls evenly to the given rate. Time lost by a slow publish is not made up with a burst afterwards.
+ */
+class PublishRateLimiter {
+
+    private final long intervalNanos;
+    private long next;
+
+    /**
+     * @param ratePerSecond messages per second, {@code 0} or less for no limit
+     */
+    PublishRateLimiter(double ratePerSecond) {
+        this.intervalNanos = ratePerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond) : 0;
+        this.next = System.nanoTime();
+    }
+
+    void acquire() throws InterruptedException {
+        if (intervalNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long wait = next - now;
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+            next += intervalNanos;
+        } else {
+            next = now + intervalNanos;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.correomqtt.core.scripting.binding;
+
+import org.graalvm.polyglot.HostAccess.Export;
+
+/**
+ * Throughput of a bulk or stream publish, as seen by the script.
+ */
+public class PublishStats {
+
+    private final long published;
+    private final long failed;
+    private final long bytes;
+    private final long durationMillis;
+    private final String lastError;
+
+    PublishStats(long published, long failed, long bytes, long durationMillis, String lastError) {
+        this.published = published;
+        this.failed = failed;
+        this.bytes = bytes;
+        this.durationMillis = durationMillis;
+        this.lastError = lastError;
+    }
+
+    @Export
+    public long getPublished() {
+        return published;
+    }
+
+    @Export
+    public long getFailed() {
+        return failed;
+    }
+
+    @Export
+    public long getBytes() {
+        return bytes;
+    }
+
+    @Export
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    @Export
+    public double getMessagesPerSecond() {
+        return durationMillis == 0 ? published : published * 1000.0 / durationMillis;
+    }
+
+    @Export
+    public String getLastError() {
+        return lastError;
+    }
+
+    @Export
+    @Override
+    public String toString() {
+        return String.format("%d published, %d failed, %d bytes in %dms (%.1f msg/s)",
+                published, failed, bytes, durationMillis, getMessagesPerSecond());
+    }
+}
@@ -0,0 +1,164 @@
+package org.correomqtt.core.scripting.binding;
+
+import org.correomqtt.core.concurrent.CancellationToken;
+import org.correomqtt.core.concurrent.TaskScope;
+import org.correomqtt.core.model.MessageDTO;
+import org.correomqtt.core.model.MessageType;
+import org.correomqtt.core.model.Qos;
+import org.correomqtt.core.pubsub.MessagePublisher;
+import org.graalvm.polyglot.HostAccess.Export;
+import org.graalvm.polyglot.Value;
+import org.slf4j.Logger;
+import org.slf4j.Marker;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes messages directly on the script thread, without a task per message. Sends are paced by the configured rate
+ * and failures are counted instead of thrown, so a long running stream survives a single failed publish. From opening
+ * until {@link #close()}, the stream is registered in the task scope of the connection, so cancelling the tasks of the
+ * connection, e.g. on disconnect, also ends the stream.
+ */
+public class PublishStream {
+
+    private final MessagePublisher messagePublisher;
+    private final TaskScope scope;
+    private final CancellationToken cancellationToken = new CancellationToken();
+    private final String connectionId;
+    private final String topic;
+    private final int qos;
+    private final boolean retained;
+    private final PublishRateLimiter rateLimiter;
+    private final Logger scriptLogger;
+    private final Marker marker;
+    private final long start = System.nanoTime();
+    private long published;
+    private long failed;
+    private long bytes;
+    private String lastError;
+    private PublishStats closedStats;
+
+    PublishStream(MessagePublisher messagePublisher,
+                  TaskScope scope,
+                  String connectionId,
+                  String topic,
+                  int qos,
+                  boolean retained,
+                  double ratePerSecond,
+                  Logger scriptLogger,
+                  Marker marker) {
+        this.messagePublisher = messagePublisher;
+        this.scope = scope;
+        this.connectionId = connectionId;
+        this.topic = topic;
+        this.qos = qos;
+        this.retained = retained;
+        this.rateLimiter = new PublishRateLimiter(ratePerSecond);
+        this.scriptLogger = scriptLogger;
+        this.marker = marker;
+        scope.add(cancellationToken);
+    }
+
+    @Export
+    public void send(String payload) throws InterruptedException {
+        send(topic, qos, retained, payload);
+    }
+
+    @Export
+    public void send(String topic, String payload) throws InterruptedException {
+        send(topic, qos, retained, payload);
+    }
+
+    /**
+     * Sends a message object with {@code topic}, {@code payload}, {@code qos} and {@code retained}. Missing fields
+     * fall back to the defaults of this stream.
+     */
+    @Export
+    public void sendMessage(Value message) throws InterruptedException {
+        if (message.isString()) {
+            send(message.asString());
+            return;
+        }
+        send(stringMember(message, "topic", topic),
+                message.hasMember("qos") && message.getMember("qos").fitsInInt() ? message.getMember("qos").asInt() : qos,
+                message.hasMember("retained") && message.getMember("retained").isBoolean() ? message.getMember("retained").asBoolean() : retained,
+                stringMember(message, "payload", ""));
+    }
+
+    private static String stringMember(Value message, String name, String defaultValue) {
+        if (!message.hasMember(name)) {
+            return defaultValue;
+        }
+        Value member = message.getMember(name);
+        if (member == null || member.isNull()) {
+            return defaultValue;
+        }
+        return member.isString() ? member.asString() : member.toString();
+    }
+
+    private void send(String topic, int qos, boolean retained, String payload) throws InterruptedException {
+        if (closedStats != null) {
+            throw new IllegalStateException("Publish stream is closed.");
+        }
+        if (topic == null || topic.isEmpty()) {
+            throw new IllegalArgumentException("Topic is missing.");
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        cancellationToken.throwIfCancelled();
+        rateLimiter.acquire();
+        cancellationToken.throwIfCancelled();
+        publish(topic, qos, retained, payload);
+    }
+
+    private void publish(String topic, int qos, boolean retained, String payload) throws InterruptedException {
+        MessageDTO messageDTO = MessageDTO.builder()
+                .topic(topic)
+                .qos(Qos.fromJsonValue(qos))
+                .payload(payload == null ? "" : payload)
+                .isRetained(retained)
+                .messageId(UUID.randomUUID().toString())
+                .messageType(MessageType.OUTGOING)
+                .dateTime(LocalDateTime.now())
+                .build();
+        try {
+            messagePublisher.publish(connectionId, messageDTO);
+            published++;
+            bytes += messageDTO.getPayload().getBytes(StandardCharsets.UTF_8).length;
+        } catch (ExecutionException | TimeoutException | RuntimeException e) {
+            onFailure(messageDTO, e);
+        }
+    }
+
+    private void onFailure(MessageDTO messageDTO, Exception e) {
+        if (failed == 0) {
+            scriptLogger.error(marker, "Failed to publish message to {}: {}", messageDTO.getTopic(), e.getMessage());
+        }
+        failed++;
+        lastError = e.getMessage();
+        messagePublisher.publishFailed(connectionId, messageDTO);
+    }
+
+    @Export
+    public PublishStats getStats() {
+        if (closedStats != null) {
+            return closedStats;
+        }
+        return new PublishStats(published, failed, bytes, (System.nanoTime() - start) / 1_000_000, lastError);
+    }
+
+    @Export
+    public PublishStats close() {
+        if (closedStats == null) {
+            scope.remove(cancellationToken);
+            closedStats = getStats();
+            scriptLogger.info(marker, "Publish stream finished: {}.", closedStats);
+        }
+        return closedStats;
+    }
+}
@@ -3,41 +3,243 @@ package org.correomqtt.core.scripting.binding;
 import org.graalvm.polyglot.HostAccess.Export;
 import org.slf4j.Logger;
 
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class Queue {
 
-    private final LinkedBlockingDeque<QueueEvent> events = new LinkedBlockingDeque<>();
+    public static final int DEFAULT_CAPACITY = 10_000;
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private final ArrayDeque<QueueEvent> events = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
     private final Logger scriptLogger;
 
+    private int capacity = DEFAULT_CAPACITY;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private QueueOverflowPolicy overflowPolicy = QueueOverflowPolicy.DROP_OLDEST;
+    // continue markers are not counted, so a full queue can always be left
+    private int depth;
+    private int peakDepth;
+    private long dropped;
+    private boolean closed;
+
     public Queue(Logger scriptLogger) {
         this.scriptLogger = scriptLogger;
     }
 
     @Export
     public void add(QueueEvent event) {
-        events.add(event);
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            if (depth >= capacity && !makeRoom()) {
+                drop();
+                return;
+            }
+            events.addLast(event);
+            depth++;
+            peakDepth = Math.max(peakDepth, depth);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean makeRoom() {
+        if (overflowPolicy == QueueOverflowPolicy.DROP_OLDEST) {
+            while (depth >= capacity && removeOldest()) {
+                drop();
+            }
+        }
+        return depth < capacity;
+    }
+
+    private boolean removeOldest() {
+        var it = events.iterator();
+        while (it.hasNext()) {
+            if (!it.next().isContinue()) {
+                it.remove();
+                depth--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void drop() {
+        if (dropped == 0) {
+            scriptLogger.warn("Event queue reached its capacity of {}. Messages are dropped ({}).", capacity, overflowPolicy);
+        }
+        dropped++;
     }
 
     @Export
     public void process() throws InterruptedException {
-        QueueEvent event;
-        do {
-            event = events.take();
-            if (event.isContinue())
-                continue;
+        List<QueueEvent> batch = new ArrayList<>();
+        boolean jumpOut = false;
+        while (!jumpOut) {
+            lock.lockInterruptibly();
+            try {
+                while (events.isEmpty()) {
+                    notEmpty.await();
+                }
+                int size = batchSize;
+                while (batch.size() < size && !events.isEmpty()) {
+                    QueueEvent event = events.pollFirst();
+                    if (event.isContinue()) {
+                        jumpOut = true;
+                        break;
+                    }
+                    depth--;
+                    batch.add(event);
+                }
+            } finally {
+                lock.unlock();
+            }
 
-            event.callback().run();
-
-        } while (!event.isContinue());
+            for (QueueEvent event : batch) {
+                event.callback().run();
+            }
+            batch.clear();
+        }
     }
 
     @SuppressWarnings("unused")
     @Export
     public void jumpOut() {
-        if (!events.offer(new QueueEvent(null))) {
-            scriptLogger.error("Internal event queue is out of capacity.");
+        lock.lock();
+        try {
+            events.addLast(new QueueEvent(null));
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    @Export
+    public void configure(int capacity, String overflowPolicy) {
+        setCapacity(capacity);
+        setOverflowPolicy(overflowPolicy);
+    }
+
+    @Export
+    public void setCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be at least 1.");
+        }
+        lock.lock();
+        try {
+            this.capacity = capacity;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Export
+    public void setOverflowPolicy(String overflowPolicy) {
+        QueueOverflowPolicy policy = QueueOverflowPolicy.valueOf(overflowPolicy);
+        lock.lock();
+        try {
+            this.overflowPolicy = policy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    @Export
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1.");
+        }
+        lock.lock();
+        try {
+            this.batchSize = batchSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    @Export
+    public int getBatchSize() {
+        lock.lock();
+        try {
+            return batchSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Export
+    public int getCapacity() {
+        lock.lock();
+        try {
+            return capacity;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Export
+    public String getOverflowPolicy() {
+        lock.lock();
+        try {
+            return overflowPolicy.name();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Export
+    public int getDepth() {
+        lock.lock();
+        try {
+            return depth;
+        } finally {
+            lock.unlock();
         }
     }
 
+    @Export
+    public int getPeakDepth() {
+        lock.lock();
+        try {
+            return peakDepth;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Export
+    public long getDropped() {
+        lock.lock();
+        try {
+            return dropped;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting events. Called once the script has finished.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            events.clear();
+            depth = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
 }
@@ -0,0 +1,10 @@
+package org.correomqtt.core.scripting.binding;
+
+/**
+ * What the script queue does with incoming messages, when it is full. Messages are delivered by the event bus thread
+ * shared by all connections and scripts, so a full queue never blocks the producer.
+ */
+public enum QueueOverflowPolicy {
+    DROP_OLDEST,
+    DROP_NEWEST
+}
@@ -1,5 +1,8 @@
 package org.correomqtt.core.utils;
 
+import org.correomqtt.core.concurrent.TaskScopes;
+import org.correomqtt.core.connection.ConnectionState;
+import org.correomqtt.core.metrics.ConnectionStatsCollector;
 import org.correomqtt.core.model.ConnectionConfigDTO;
 import org.correomqtt.core.mqtt.CorreoMqttClient;
 import org.correomqtt.core.settings.SettingsManager;
@@ -17,12 +20,19 @@ import java.util.concurrent.ConcurrentHashMap;
 public class ConnectionManager {
 
     private final Map<String /* connectionId*/, CorreoMqttConnection> connectionMap = new ConcurrentHashMap<>();
+    private final Set<String> derivedConnectionIds = ConcurrentHashMap.newKeySet();
 
     private final SettingsManager settings;
+    private final TaskScopes taskScopes;
+    private final ConnectionStatsCollector connectionStatsCollector;
 
     @Inject
-    public ConnectionManager(SettingsManager settings) {
+    public ConnectionManager(SettingsManager settings,
+                             TaskScopes taskScopes,
+                             ConnectionStatsCollector connectionStatsCollector) {
         this.settings = settings;
+        this.taskScopes = taskScopes;
+        this.connectionStatsCollector = connectionStatsCollector;
         refresh();
         settings.addConnectionChangeListener(this::refresh);
     }
@@ -31,6 +41,7 @@ public class ConnectionManager {
         int sort = 0;
 
         Set<String> existingConnectionIds = new HashSet<>(connectionMap.keySet());
+        existingConnectionIds.removeAll(derivedConnectionIds);
 
         for (ConnectionConfigDTO c : settings.getConnectionConfigs()) {
             CorreoMqttConnection connection = connectionMap.get(c.getId());
@@ -47,7 +58,57 @@ public class ConnectionManager {
             sort++;
         }
 
-        existingConnectionIds.forEach(connectionMap::remove);
+        existingConnectionIds.forEach(id -> {
+            connectionMap.remove(id);
+            taskScopes.remove(id);
+            connectionStatsCollector.remove(id);
+        });
+    }
+
+    /**
+     * Registers a temporary copy of a configured connection with its own id and client id. Derived connections are not
+     * persisted and not listed in {@link #getSortedConnections()}.
+     *
+     * @return the id of the derived connection
+     * @throws IllegalStateException if a connection with the derived id already exists
+     */
+    public String addDerivedConnection(String connectionId, String suffix) {
+        CorreoMqttConnection base = connectionMap.get(connectionId);
+        if (base == null) {
+            throw new IllegalArgumentException("Connection " + connectionId + " does not exist.");
+        }
+        ConnectionConfigDTO config = new ConnectionConfigDTO(base.getConfigDTO());
+        String clientId = config.getClientId() == null || config.getClientId().isEmpty()
+                ? "correomqtt"
+                : config.getClientId();
+        config.setId(connectionId + "-" + suffix);
+        config.setClientId(clientId + "-" + suffix);
+        // mark as derived first, so a concurrent refresh does not drop it
+        if (!derivedConnectionIds.add(config.getId())) {
+            throw new IllegalStateException("Connection " + config.getId() + " already exists.");
+        }
+        if (connectionMap.putIfAbsent(config.getId(), new CorreoMqttConnection(config, Integer.MAX_VALUE)) != null) {
+            derivedConnectionIds.remove(config.getId());
+            throw new IllegalStateException("Connection " + config.getId() + " already exists.");
+        }
+        return config.getId();
+    }
+
+    /**
+     * Removes a connection created by {@link #addDerivedConnection(String, String)}. The client is disconnected, if the
+     * script did not do it.
+     */
+    public void removeDerivedConnection(String connectionId) {
+        if (!derivedConnectionIds.remove(connectionId)) {
+            return;
+        }
+        CorreoMqttConnection connection = connectionMap.remove(connectionId);
+        taskScopes.remove(connectionId);
+        connectionStatsCollector.remove(connectionId);
+        CorreoMqttClient client = connection == null ? null : connection.getClient();
+        if (client != null && client.getState() == ConnectionState.CONNECTED) {
+            client.disconnect();
+        }
     }
 
     public CorreoMqttConnection getConnection(String connectionId) {
@@ -82,6 +143,7 @@ public class ConnectionManager {
     public List<ConnectionConfigDTO> getSortedConnections() {
         return connectionMap.values()
                 .stream()
+                .filter(c -> !derivedConnectionIds.contains(c.getConfigDTO().getId()))
                 .sorted(Comparator.comparing(CorreoMqttConnection::getSort))
                 .map(CorreoMqttConnection::getConfigDTO)
                 .toList();
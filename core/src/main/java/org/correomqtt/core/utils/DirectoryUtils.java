@@ -7,6 +7,7 @@ public class DirectoryUtils {
     private static final String MAC_APP_FOLDER_NAME = "CorreoMqtt";
     private static final String WIN_APP_FOLDER_NAME = MAC_APP_FOLDER_NAME;
     private static final String LIN_APP_FOLDER_NAME = ".correomqtt";
+    private static final String TARGET_DIRECTORY_PROPERTY = "correomqtt.dir";
     private static final String USER_DIR = System.getProperty("user.dir");
     private static final String USER_HOME = System.getProperty("user.home");
 
@@ -14,20 +15,32 @@ public class DirectoryUtils {
     private static String targetDirectoryPathCache;
 
     public static boolean isWindows() {
-        return OPERATING_SYSTEM.startsWith("windows");
+        return isWindows(OPERATING_SYSTEM);
     }
 
     public static boolean isMacOS() {
-        return OPERATING_SYSTEM.contains("mac os");
+        return isMacOS(OPERATING_SYSTEM);
     }
 
     public static boolean isLinux() {
-        return OPERATING_SYSTEM.contains("linux")
-                || OPERATING_SYSTEM.contains("mpe/ix")
-                || OPERATING_SYSTEM.contains("freebsd")
-                || OPERATING_SYSTEM.contains("irix")
-                || OPERATING_SYSTEM.contains("digital unix")
-                || OPERATING_SYSTEM.contains("unix");
+        return isLinux(OPERATING_SYSTEM);
+    }
+
+    private static boolean isWindows(String operatingSystem) {
+        return operatingSystem.startsWith("windows");
+    }
+
+    private static boolean isMacOS(String operatingSystem) {
+        return operatingSystem.contains("mac os");
+    }
+
+    private static boolean isLinux(String operatingSystem) {
+        return operatingSystem.contains("linux")
+                || operatingSystem.contains("mpe/ix")
+                || operatingSystem.contains("freebsd")
+                || operatingSystem.contains("irix")
+                || operatingSystem.contains("digital unix")
+                || operatingSystem.contains("unix");
     }
 
     private DirectoryUtils(){
@@ -35,32 +48,42 @@ public class DirectoryUtils {
     }
 
     public static String getTargetDirectoryPath() {
+        String targetDirectoryOverride = System.getProperty(TARGET_DIRECTORY_PROPERTY);
+        if (targetDirectoryOverride != null) {
+            return targetDirectoryOverride;
+        }
         if (targetDirectoryPathCache != null) {
             return targetDirectoryPathCache;
         }
-        if (isWindows()) {
-            String appData = System.getenv("APPDATA");
+        targetDirectoryPathCache = getPlatformDirectoryPath(OPERATING_SYSTEM, USER_HOME, System.getenv("APPDATA"), USER_DIR);
+        return targetDirectoryPathCache;
+    }
+
+    /**
+     * @param operatingSystem the lower case name of the operating system
+     */
+    static String getPlatformDirectoryPath(String operatingSystem, String userHome, String appData, String userDir) {
+        if (isWindows(operatingSystem)) {
             if (appData == null) {
                 throw new IllegalStateException("Unable to find windows user directory.");
             } else {
-                targetDirectoryPathCache = appData + File.separator + WIN_APP_FOLDER_NAME;
+                return appData + File.separator + WIN_APP_FOLDER_NAME;
             }
-        } else if (isMacOS()) {
-            if (USER_HOME == null) {
+        } else if (isMacOS(operatingSystem)) {
+            if (userHome == null) {
                 throw new IllegalStateException("Unable to find mac OS user directory.");
             } else {
-                targetDirectoryPathCache = USER_HOME + File.separator + "Library" + File.separator + "Application Support" + File.separator + MAC_APP_FOLDER_NAME;
+                return userHome + File.separator + "Library" + File.separator + "Application Support" + File.separator + MAC_APP_FOLDER_NAME;
             }
-        } else if (isLinux()) {
-            if (USER_HOME == null) {
+        } else if (isLinux(operatingSystem)) {
+            if (userHome == null) {
                 throw new IllegalStateException("Unable to find linux user directory.");
             } else {
-                targetDirectoryPathCache = USER_HOME + File.separator + LIN_APP_FOLDER_NAME;
+                return userHome + File.separator + LIN_APP_FOLDER_NAME;
             }
         } else {
-            targetDirectoryPathCache = USER_DIR;
+            return userDir;
         }
-        return targetDirectoryPathCache;
     }
 
     public static String getLogDirectory() {
@@ -6,6 +6,7 @@ import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Appender;
 import ch.qos.logback.core.FileAppender;
 import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.spi.AppenderAttachable;
 import org.correomqtt.di.DefaultBean;
 import org.correomqtt.core.model.ConnectionConfigDTO;
 import org.slf4j.LoggerFactory;
@@ -55,10 +56,26 @@ public class LoggerUtils {
     public static Appender<ILoggingEvent> findLogAppender(String appenderName) {
         LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
         for (Logger candidate : context.getLoggerList()) {
-            for (Iterator<Appender<ILoggingEvent>> index = candidate.iteratorForAppenders(); index.hasNext(); ) {
-                Appender<ILoggingEvent> appender = index.next();
-                if (appender.getName().equals(appenderName)) {
-                    return appender;
+            Appender<ILoggingEvent> appender = findLogAppender(candidate.iteratorForAppenders(), appenderName);
+            if (appender != null) {
+                return appender;
+            }
+        }
+        return null;
+    }
+
+    // appenders may be wrapped, e.g. by an AsyncAppender
+    private static Appender<ILoggingEvent> findLogAppender(Iterator<Appender<ILoggingEvent>> appenders, String appenderName) {
+        while (appenders.hasNext()) {
+            Appender<ILoggingEvent> appender = appenders.next();
+            if (appenderName.equals(appender.getName())) {
+                return appender;
+            }
+            if (appender instanceof AppenderAttachable<?> attachable) {
+                @SuppressWarnings("unchecked")
+                Appender<ILoggingEvent> nested = findLogAppender(((AppenderAttachable<ILoggingEvent>) attachable).iteratorForAppenders(), appenderName);
+                if (nested != null) {
+                    return nested;
                 }
             }
         }
@@ -0,0 +1,139 @@
+package org.correomqtt.core.validation;
+
+import org.correomqtt.core.concurrent.FullTask;
+import org.correomqtt.core.concurrent.TaskException;
+import org.correomqtt.core.concurrent.TaskExecutorType;
+import org.correomqtt.core.concurrent.TaskExecutors;
+import org.correomqtt.core.model.MessageDTO;
+import org.correomqtt.core.plugin.MessageValidator;
+import org.correomqtt.di.Assisted;
+import org.correomqtt.di.DefaultBean;
+import org.correomqtt.di.Inject;
+import org.correomqtt.di.SoyEvents;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validates all messages of a {@link MessageSource} with the validators configured for their topics. The source is
+ * read in this task, the messages are validated in batches on the CPU executor. Progress is reported as snapshots of
+ * the {@link ValidationReport}.
+ */
+@DefaultBean
+public class BatchValidationTask extends FullTask<ValidationReport, ValidationReport, BatchValidationTask.Error> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchValidationTask.class);
+
+    private static final int BATCH_SIZE = 64;
+    private static final long PROGRESS_INTERVAL = TimeUnit.MILLISECONDS.toNanos(200);
+
+    public enum Error {
+        SOURCE_CAN_NOT_BE_READ
+    }
+
+    private final MessageValidator messageValidator;
+    private final MessageSource source;
+    private final int maxFailures;
+
+    @Inject
+    public BatchValidationTask(MessageValidator messageValidator,
+                               SoyEvents soyEvents,
+                               @Assisted MessageSource source,
+                               @Assisted Integer maxFailures) {
+        super(soyEvents);
+        this.messageValidator = messageValidator;
+        this.source = source;
+        this.maxFailures = maxFailures;
+    }
+
+    @Override
+    protected ValidationReport execute() throws InterruptedException {
+        ValidationReport report = new ValidationReport(maxFailures);
+        Executor executor = TaskExecutors.get(TaskExecutorType.CPU);
+        // limits the batches in memory, reading waits for the validation
+        int maxPending = 2 * Math.max(2, Runtime.getRuntime().availableProcessors());
+        Semaphore permits = new Semaphore(maxPending);
+        long lastProgress = System.nanoTime();
+
+        try (MessageSource messages = source) {
+            List<MessageDTO> batch = new ArrayList<>(BATCH_SIZE);
+            for (MessageDTO message = next(messages, report); message != null; message = next(messages, report)) {
+                batch.add(message);
+                if (batch.size() == BATCH_SIZE) {
+                    submit(executor, permits, batch, report);
+                    batch = new ArrayList<>(BATCH_SIZE);
+                    if (System.nanoTime() - lastProgress > PROGRESS_INTERVAL) {
+                        reportProgress(report.snapshot());
+                        lastProgress = System.nanoTime();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                submit(executor, permits, batch, report);
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Messages can not be read.", e);
+            throw new TaskException(Error.SOURCE_CAN_NOT_BE_READ);
+        } finally {
+            // wait for the running batches, also when cancelled, so none of them outlives the task
+            permits.acquireUninterruptibly(maxPending);
+        }
+
+        getCancellationToken().throwIfCancelled();
+        reportProgress(report.snapshot());
+        LOGGER.info("Validated {} messages: {} passed, {} failed, {} without validator.",
+                report.getProcessed(), report.getPassed(), report.getFailed(), report.getUnvalidated());
+        return report;
+    }
+
+    /**
+     * Skips messages, that can not be read. They are counted as failed.
+     */
+    private static MessageDTO next(MessageSource messages, ValidationReport report) throws IOException {
+        while (true) {
+            try {
+                return messages.next();
+            } catch (MalformedMessageException e) {
+                LOGGER.debug("Message in line {} can not be read.", e.getLine(), e);
+                report.addMalformed(e);
+            }
+        }
+    }
+
+    private void submit(Executor executor, Semaphore permits, List<MessageDTO> batch, ValidationReport report)
+            throws InterruptedException {
+        getCancellationToken().throwIfCancelled();
+        permits.acquire();
+        try {
+            executor.execute(() -> {
+                try {
+                    validate(batch, report);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void validate(List<MessageDTO> batch, ValidationReport report) {
+        for (MessageDTO message : batch) {
+            if (getCancellationToken().isCancelled()) {
+                return;
+            }
+            try {
+                report.add(message, messageValidator.validateMessage(message.getTopic(), message.getPayload()));
+            } catch (RuntimeException e) {
+                report.addError(message, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.correomqtt.core.validation;
+
+import lombok.Getter;
+
+import java.io.IOException;
+
+/**
+ * A single message of a {@link MessageSource} can not be read. The source can still be read further.
+ */
+@Getter
+public class MalformedMessageException extends IOException {
+
+    private final long line;
+
+    public MalformedMessageException(long line, String message, Throwable cause) {
+        super(message, cause);
+        this.line = line;
+    }
+}
@@ -0,0 +1,77 @@
+package org.correomqtt.core.validation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.correomqtt.core.model.MessageDTO;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Messages read one after the other, so large captures do not have to be loaded at once.
+ */
+public interface MessageSource extends Closeable {
+
+    /**
+     * @return the next message or null, if there are no more messages
+     * @throws MalformedMessageException if the next message can not be read, the one after it may be read again
+     */
+    MessageDTO next() throws IOException;
+
+    @Override
+    default void close() throws IOException {
+        // nothing to close by default
+    }
+
+    /**
+     * Messages of a list, e.g. the messages of a subscription view. The list is copied, so it may change afterwards.
+     */
+    static MessageSource of(Collection<MessageDTO> messages) {
+        Iterator<MessageDTO> iterator = new ArrayList<>(messages).iterator();
+        return () -> iterator.hasNext() ? iterator.next() : null;
+    }
+
+    /**
+     * Messages of a capture journal with one {@link MessageDTO} as JSON per line, as written by the cli record command.
+     */
+    static MessageSource journal(Path file) throws IOException {
+        ObjectMapper om = new ObjectMapper();
+        om.registerModule(new JavaTimeModule());
+        ObjectReader reader = om.readerFor(MessageDTO.class);
+        BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        return new MessageSource() {
+            private long lineNumber;
+
+            @Override
+            public MessageDTO next() throws IOException {
+                String line;
+                do {
+                    line = in.readLine();
+                    if (line == null) {
+                        return null;
+                    }
+                    lineNumber++;
+                } while (line.isBlank());
+                try {
+                    return reader.readValue(line);
+                } catch (JsonProcessingException e) {
+                    throw new MalformedMessageException(lineNumber, "Line " + lineNumber + " is not a message: " + e.getOriginalMessage(), e);
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                in.close();
+            }
+        };
+    }
+}
@@ -0,0 +1,113 @@
+package org.correomqtt.core.validation;
+
+import lombok.Getter;
+import org.correomqtt.core.model.MessageDTO;
+import org.correomqtt.core.plugin.spi.MessageValidatorHook;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Result of a {@link BatchValidationTask}. Messages without a configured validator are counted as unvalidated.
+ * Messages, that can not be read, are counted as failed without a topic. Only the first {@link #getMaxFailures()}
+ * failures are kept with their reason.
+ */
+@Getter
+public class ValidationReport {
+
+    private final int maxFailures;
+    private final Map<String, TopicStats> topics = new TreeMap<>();
+    private final List<ValidationFailure> failures = new ArrayList<>();
+    private long processed;
+    private long passed;
+    private long failed;
+    private long unvalidated;
+
+    public ValidationReport(int maxFailures) {
+        this.maxFailures = maxFailures;
+    }
+
+    public Map<String, TopicStats> getTopics() {
+        return Collections.unmodifiableMap(topics);
+    }
+
+    public List<ValidationFailure> getFailures() {
+        return Collections.unmodifiableList(failures);
+    }
+
+    synchronized void add(MessageDTO message, MessageValidatorHook.Validation validation) {
+        TopicStats stats = topics.computeIfAbsent(String.valueOf(message.getTopic()), t -> new TopicStats());
+        processed++;
+        if (validation == null) {
+            unvalidated++;
+            stats.unvalidated++;
+        } else if (validation.isValid()) {
+            passed++;
+            stats.passed++;
+        } else {
+            addFailure(message, stats, validation.getTooltip());
+        }
+    }
+
+    synchronized void addError(MessageDTO message, RuntimeException e) {
+        processed++;
+        addFailure(message, topics.computeIfAbsent(String.valueOf(message.getTopic()), t -> new TopicStats()),
+                "Validator failed: " + e.getMessage());
+    }
+
+    synchronized void addMalformed(MalformedMessageException e) {
+        processed++;
+        failed++;
+        if (failures.size() < maxFailures) {
+            failures.add(new ValidationFailure(null, null, null, e.getMessage()));
+        }
+    }
+
+    private void addFailure(MessageDTO message, TopicStats stats, String reason) {
+        failed++;
+        stats.failed++;
+        if (failures.size() < maxFailures) {
+            failures.add(new ValidationFailure(message.getMessageId(), message.getTopic(), message.getDateTime(), reason));
+        }
+    }
+
+    /**
+     * A copy, that is not changed by the running validation anymore.
+     */
+    synchronized ValidationReport snapshot() {
+        ValidationReport copy = new ValidationReport(maxFailures);
+        topics.forEach((topic, stats) -> copy.topics.put(topic, stats.copy()));
+        copy.failures.addAll(failures);
+        copy.processed = processed;
+        copy.passed = passed;
+        copy.failed = failed;
+        copy.unvalidated = unvalidated;
+        return copy;
+    }
+
+    @Getter
+    public static class TopicStats {
+        private long passed;
+        private long failed;
+        private long unvalidated;
+
+        public long getTotal() {
+            return passed + failed + unvalidated;
+        }
+
+        private TopicStats copy() {
+            TopicStats copy = new TopicStats();
+            copy.passed = passed;
+            copy.failed = failed;
+            copy.unvalidated = unvalidated;
+            return copy;
+        }
+    }
+
+    public record ValidationFailure(String messageId, String topic, LocalDateTime dateTime, String reason) {
+    }
+}
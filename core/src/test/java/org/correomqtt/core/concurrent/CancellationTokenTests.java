@@ -0,0 +1,83 @@
+package org.correomqtt.core.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CancellationTokenTests {
+
+    @Test
+    void testCancelRunsCallbacksOnce() {
+        CancellationToken token = new CancellationToken();
+        List<Throwable> reasons = new ArrayList<>();
+        token.onCancel(reasons::add);
+        TimeoutException reason = new TimeoutException();
+
+        token.cancel(reason);
+        token.cancel();
+
+        assertTrue(token.isCancelled());
+        assertSame(reason, token.getReason());
+        assertEquals(1, reasons.size());
+        assertSame(reason, reasons.get(0));
+    }
+
+    @Test
+    void testCallbackOfCancelledTokenRunsImmediately() {
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+        List<Throwable> reasons = new ArrayList<>();
+
+        token.onCancel(reasons::add);
+
+        assertEquals(1, reasons.size());
+        assertNull(reasons.get(0));
+    }
+
+    @Test
+    void testRemovedCallbackIsNotRun() {
+        CancellationToken token = new CancellationToken();
+        List<Throwable> reasons = new ArrayList<>();
+        java.util.function.Consumer<Throwable> callback = reasons::add;
+        token.onCancel(callback);
+
+        token.removeOnCancel(callback);
+        token.cancel();
+
+        assertTrue(reasons.isEmpty());
+    }
+
+    @Test
+    void testThrowIfCancelled() {
+        CancellationToken token = new CancellationToken();
+        token.throwIfCancelled();
+
+        token.cancel();
+
+        assertThrows(CancellationException.class, token::throwIfCancelled);
+    }
+
+    @Test
+    void testChildIsCancelledWithParentOnly() {
+        CancellationToken parent = new CancellationToken();
+        CancellationToken child = parent.child();
+        CancellationToken otherChild = parent.child();
+
+        child.cancel();
+        assertFalse(parent.isCancelled());
+        assertFalse(otherChild.isCancelled());
+
+        parent.cancel();
+        assertTrue(otherChild.isCancelled());
+    }
+}
@@ -0,0 +1,268 @@
+package org.correomqtt.core.concurrent;
+
+import org.correomqtt.di.SoyEvents;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskImplTests {
+
+    private static final SoyEvents SOY_EVENTS = new SoyEvents();
+
+    private static class TestTask extends SimpleTask {
+
+        private final Runnable body;
+
+        TestTask(Runnable body) {
+            super(SOY_EVENTS);
+            this.body = body;
+        }
+
+        @Override
+        protected void execute() {
+            body.run();
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void testSuccess() throws Exception {
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger finished = new AtomicInteger();
+
+        new TestTask(() -> {
+        })
+                .onSuccess(success::incrementAndGet)
+                .onError(error -> {
+                })
+                .onFinally(finished::incrementAndGet)
+                .run()
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, success.get());
+        assertEquals(1, finished.get());
+    }
+
+    @Test
+    void testCancelWaitsForRunningBody() throws Exception {
+        CountDownLatch bodyStarted = new CountDownLatch(1);
+        CountDownLatch releaseBody = new CountDownLatch(1);
+        AtomicBoolean bodyReturned = new AtomicBoolean();
+        AtomicBoolean bodyReturnedBeforeFinally = new AtomicBoolean();
+        AtomicBoolean success = new AtomicBoolean();
+        AtomicBoolean error = new AtomicBoolean();
+        CountDownLatch finished = new CountDownLatch(1);
+
+        TestTask task = new TestTask(() -> {
+            bodyStarted.countDown();
+            // ignores the interrupt of the cancel, like a parser would
+            awaitUninterruptibly(releaseBody);
+            bodyReturned.set(true);
+        });
+        task.onSuccess(() -> success.set(true))
+                .onError(e -> error.set(true))
+                .onFinally(() -> {
+                    bodyReturnedBeforeFinally.set(bodyReturned.get());
+                    finished.countDown();
+                });
+        task.run();
+        assertTrue(bodyStarted.await(5, TimeUnit.SECONDS));
+
+        task.cancel();
+
+        assertFalse(finished.await(200, TimeUnit.MILLISECONDS));
+        releaseBody.countDown();
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertTrue(bodyReturnedBeforeFinally.get());
+        assertFalse(success.get());
+        assertFalse(error.get());
+    }
+
+    @Test
+    void testCancelBeforeStartSkipsBody() throws Exception {
+        AtomicBoolean childBodyRun = new AtomicBoolean();
+        CountDownLatch childFinished = new CountDownLatch(1);
+        AtomicReference<TestTask> parent = new AtomicReference<>();
+        parent.set(new TestTask(() -> {
+            // the child is started by an already cancelled parent and must not run at all
+            parent.get().cancel();
+            new TestTask(() -> childBodyRun.set(true))
+                    .onError(e -> {
+                    })
+                    .onFinally(childFinished::countDown)
+                    .run();
+            awaitUninterruptibly(childFinished);
+        }));
+        parent.get().onError(e -> {
+        });
+
+        parent.get().run().get(5, TimeUnit.SECONDS);
+
+        assertEquals(0, childFinished.getCount());
+        assertFalse(childBodyRun.get());
+    }
+
+    @Test
+    void testTimeoutIsReportedAsError() throws Exception {
+        CountDownLatch releaseBody = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        TestTask task = new TestTask(() -> {
+            try {
+                releaseBody.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        task.timeout(Duration.ofMillis(50))
+                .onError(e -> error.set(e.getUnexpectedError()))
+                .run()
+                .get(5, TimeUnit.SECONDS);
+
+        assertInstanceOf(TimeoutException.class, error.get());
+    }
+
+    @Test
+    void testTimeoutIsReleasedWhenTaskFinishes() throws Exception {
+        int pendingBefore = TaskExecutors.getPendingTimeouts();
+
+        new TestTask(() -> {
+        })
+                .timeout(Duration.ofHours(1))
+                .onError(e -> {
+                })
+                .run()
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals(pendingBefore, TaskExecutors.getPendingTimeouts());
+    }
+
+    @Test
+    void testChildTaskIsCancelledWithParent() throws Exception {
+        CountDownLatch childStarted = new CountDownLatch(1);
+        CountDownLatch parentMayReturn = new CountDownLatch(1);
+        AtomicReference<TestTask> child = new AtomicReference<>();
+        CountDownLatch childFinished = new CountDownLatch(1);
+
+        TestTask parent = new TestTask(() -> {
+            TestTask c = new TestTask(() -> {
+                childStarted.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            c.onError(e -> {
+            }).onFinally(childFinished::countDown);
+            child.set(c);
+            c.run();
+            awaitUninterruptibly(parentMayReturn);
+        });
+        parent.onError(e -> {
+        });
+        parent.run();
+        assertTrue(childStarted.await(5, TimeUnit.SECONDS));
+        assertEquals(1, child.get().getParentTokens().size());
+
+        parent.cancel();
+
+        assertTrue(child.get().getCancellationToken().isCancelled());
+        assertTrue(childFinished.await(5, TimeUnit.SECONDS));
+        parentMayReturn.countDown();
+    }
+
+    @Test
+    void testScopeCancelsRunningTask() throws Exception {
+        TaskScope scope = new TaskScope("connection");
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean success = new AtomicBoolean();
+        TestTask task = new TestTask(() -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }) {
+            @Override
+            protected TaskScope getScope() {
+                return scope;
+            }
+        };
+        task.onSuccess(() -> success.set(true)).onError(e -> {
+        });
+
+        var future = task.run();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(1, scope.getRunningCount());
+        scope.cancelAll();
+        future.get(5, TimeUnit.SECONDS);
+
+        assertFalse(success.get());
+        assertEquals(0, scope.getRunningCount());
+    }
+
+    @Test
+    void testTaskCanOnlyRunOnce() throws Exception {
+        TestTask task = new TestTask(() -> {
+        });
+        task.onError(e -> {
+        });
+
+        task.run().get(5, TimeUnit.SECONDS);
+
+        assertThrows(IllegalStateException.class, task::run);
+    }
+
+    @Test
+    void testListenersAddedConcurrentlyAreKept() throws Exception {
+        AtomicInteger finished = new AtomicInteger();
+        TestTask task = new TestTask(() -> {
+        });
+        task.onError(e -> {
+        });
+
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1_000; j++) {
+                    task.onFinally(finished::incrementAndGet);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        task.run().get(5, TimeUnit.SECONDS);
+
+        assertEquals(4_000, finished.get());
+    }
+}
@@ -0,0 +1,63 @@
+package org.correomqtt.core.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskScopeTests {
+
+    @Test
+    void testCancelAllKeepsGivenTokens() {
+        TaskScope scope = new TaskScope("connection");
+        CancellationToken first = new CancellationToken();
+        CancellationToken second = new CancellationToken();
+        CancellationToken own = new CancellationToken();
+        scope.add(first);
+        scope.add(second);
+        scope.add(own);
+
+        scope.cancelAll(List.of(own));
+
+        assertTrue(first.isCancelled());
+        assertTrue(second.isCancelled());
+        assertFalse(own.isCancelled());
+        assertEquals(1, scope.getRunningCount());
+    }
+
+    @Test
+    void testScopeStaysUsableAfterCancel() {
+        TaskScope scope = new TaskScope("connection");
+        scope.add(new CancellationToken());
+        scope.cancelAll();
+
+        CancellationToken later = new CancellationToken();
+        scope.add(later);
+
+        assertFalse(later.isCancelled());
+        assertEquals(1, scope.getRunningCount());
+        scope.remove(later);
+        assertEquals(0, scope.getRunningCount());
+    }
+
+    @Test
+    void testScopesByName() {
+        TaskScopes scopes = new TaskScopes();
+        TaskScope scope = scopes.get("a");
+        CancellationToken token = new CancellationToken();
+        scope.add(token);
+
+        assertSame(scope, scopes.get("a"));
+        scopes.cancel("b");
+        assertFalse(token.isCancelled());
+
+        scopes.remove("a");
+        assertTrue(token.isCancelled());
+        assertNotSame(scope, scopes.get("a"));
+    }
+}
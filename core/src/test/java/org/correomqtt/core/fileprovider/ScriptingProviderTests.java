@@ -0,0 +1,180 @@
+package org.correomqtt.core.fileprovider;
+
+import org.apache.commons.io.FileUtils;
+import org.correomqtt.core.scripting.ExecutionDTO;
+import org.correomqtt.core.scripting.ExecutionIndexEntry;
+import org.correomqtt.core.scripting.ScriptExecutionError;
+import org.correomqtt.core.scripting.ScriptFileDTO;
+import org.correomqtt.core.scripting.ScriptingBackend;
+import org.correomqtt.di.SoyEvents;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScriptingProviderTests {
+
+    private static final String TARGET_DIRECTORY_PROPERTY = "correomqtt.dir";
+    private static final String SCRIPT = "script.js";
+
+    private Path directory;
+    private ScriptingProvider scriptingProvider;
+    private ScriptFileDTO script;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("correomqtt");
+        System.setProperty(TARGET_DIRECTORY_PROPERTY, directory.toString());
+        scriptingProvider = new ScriptingProvider(new SoyEvents());
+        script = scriptingProvider.getScriptFile(SCRIPT);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        ScriptingBackend.removeExecutionsForScript(SCRIPT);
+        System.clearProperty(TARGET_DIRECTORY_PROPERTY);
+        FileUtils.deleteDirectory(directory.toFile());
+    }
+
+    private ExecutionDTO execution(Long executionTime) {
+        return ExecutionDTO.builder()
+                .scriptFile(script)
+                .connectionId("connection")
+                .startTime(LocalDateTime.of(2024, 6, 1, 12, 0))
+                .executionTime(executionTime)
+                .build();
+    }
+
+    private Path executionsFolder() {
+        return Path.of(scriptingProvider.getScriptExecutionsDirectory(SCRIPT, false));
+    }
+
+    private Path indexFile() {
+        return executionsFolder().resolve(ScriptingProvider.EXECUTION_INDEX_FILE);
+    }
+
+    @Test
+    void testScriptWithoutExecutions() {
+        assertTrue(scriptingProvider.getExecutionIndex(SCRIPT).isEmpty());
+        assertFalse(Files.exists(executionsFolder()));
+
+        scriptingProvider.loadExecutionIndex(script);
+
+        assertTrue(ScriptingBackend.getExecutions().isEmpty());
+    }
+
+    @Test
+    void testRunningExecutionDoesNotWriteCatalog() throws IOException {
+        ExecutionDTO dto = execution(null);
+
+        scriptingProvider.saveExecution(dto);
+
+        assertTrue(Files.exists(executionsFolder().resolve(dto.getExecutionId() + ".json")));
+        assertFalse(Files.exists(indexFile()));
+    }
+
+    @Test
+    void testFinishedExecutionIsCatalogued() throws IOException {
+        ExecutionDTO dto = execution(42L);
+
+        scriptingProvider.saveExecution(dto);
+
+        assertTrue(Files.exists(indexFile()));
+        List<ExecutionIndexEntry> index = scriptingProvider.getExecutionIndex(SCRIPT);
+        assertEquals(1, index.size());
+        assertEquals(dto.getExecutionId(), index.get(0).getExecutionId());
+        assertEquals(Long.valueOf(42), index.get(0).getExecutionTime());
+    }
+
+    @Test
+    void testCatalogIsRebuiltFromExecutionFiles() throws IOException {
+        ExecutionDTO finished = execution(42L);
+        ExecutionDTO unfinished = execution(null);
+        scriptingProvider.saveExecution(finished);
+        scriptingProvider.saveExecution(unfinished);
+        Files.delete(indexFile());
+
+        List<ExecutionIndexEntry> index = scriptingProvider.getExecutionIndex(SCRIPT);
+
+        assertEquals(2, index.size());
+        assertTrue(Files.exists(indexFile()));
+    }
+
+    @Test
+    void testDeletedExecutionFileLeavesCatalog() throws IOException {
+        ExecutionDTO dto = execution(42L);
+        scriptingProvider.saveExecution(dto);
+        Files.delete(executionsFolder().resolve(dto.getExecutionId() + ".json"));
+
+        assertTrue(scriptingProvider.getExecutionIndex(SCRIPT).isEmpty());
+    }
+
+    @Test
+    void testLoadedExecutionWithoutExecutionTimeIsUnfinished() throws IOException {
+        ExecutionDTO finished = execution(42L);
+        finished.setError(new ScriptExecutionError(ScriptExecutionError.Type.GUEST, "failed"));
+        ExecutionDTO unfinished = execution(null);
+        scriptingProvider.saveExecution(finished);
+        scriptingProvider.saveExecution(unfinished);
+
+        scriptingProvider.loadExecutionIndex(script);
+
+        ExecutionDTO loadedFinished = ScriptingBackend.getExecutionDTO(finished.getExecutionId());
+        assertTrue(loadedFinished.isSummary());
+        assertFalse(loadedFinished.isCancelled());
+        assertEquals(ScriptExecutionError.Type.GUEST, loadedFinished.getError().type());
+        ExecutionDTO loadedUnfinished = ScriptingBackend.getExecutionDTO(unfinished.getExecutionId());
+        assertTrue(loadedUnfinished.isCancelled());
+        assertEquals(Long.valueOf(0), loadedUnfinished.getExecutionTime());
+    }
+
+    @Test
+    void testRefreshedExecutionWithoutExecutionTimeIsRunning() throws IOException {
+        ExecutionDTO dto = execution(null);
+        scriptingProvider.saveExecution(dto);
+
+        ExecutionDTO refreshed = scriptingProvider.refreshExecutionIndex(script, dto.getExecutionId());
+
+        assertNotNull(refreshed);
+        assertNull(refreshed.getExecutionTime());
+        assertNull(refreshed.getError());
+        assertFalse(refreshed.isCancelled());
+    }
+
+    @Test
+    void testDeleteExecutions() throws IOException {
+        ExecutionDTO kept = execution(1L);
+        ExecutionDTO deleted = execution(2L);
+        scriptingProvider.saveExecution(kept);
+        scriptingProvider.saveExecution(deleted);
+
+        scriptingProvider.deleteExecutions(SCRIPT, List.of(deleted.getExecutionId()));
+
+        List<ExecutionIndexEntry> index = scriptingProvider.getExecutionIndex(SCRIPT);
+        assertEquals(1, index.size());
+        assertEquals(kept.getExecutionId(), index.get(0).getExecutionId());
+        assertFalse(Files.exists(executionsFolder().resolve(deleted.getExecutionId() + ".json")));
+    }
+
+    @Test
+    void testExecutionScriptNames() throws IOException {
+        FileUtils.deleteDirectory(new File(scriptingProvider.getScriptExecutionsRootDirectory()));
+        assertEquals(List.of(), scriptingProvider.getExecutionScriptNames());
+
+        scriptingProvider.saveExecution(execution(1L));
+
+        assertEquals(List.of(SCRIPT), scriptingProvider.getExecutionScriptNames());
+    }
+}
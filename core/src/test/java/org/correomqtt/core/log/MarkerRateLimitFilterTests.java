@@ -0,0 +1,68 @@
+package org.correomqtt.core.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MarkerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MarkerRateLimitFilterTests {
+
+    private final LoggerContext context = new LoggerContext();
+    private final MarkerRateLimitFilter filter = new MarkerRateLimitFilter();
+
+    @BeforeEach
+    void setUp() {
+        filter.setMaxPerSecond(2);
+        filter.start();
+    }
+
+    private LoggingEvent event(String loggerName, Level level, String marker) {
+        Logger logger = context.getLogger(loggerName);
+        LoggingEvent event = new LoggingEvent(Logger.class.getName(), logger, level, "message", null, null);
+        if (marker != null) {
+            event.addMarker(MarkerFactory.getMarker(marker));
+        }
+        return event;
+    }
+
+    @Test
+    void testEventsAreLimitedPerMarker() {
+        assertEquals(FilterReply.NEUTRAL, filter.decide(event("org.correomqtt.core.Task", Level.INFO, "a")));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(event("org.correomqtt.core.Task", Level.INFO, "a")));
+        assertEquals(FilterReply.DENY, filter.decide(event("org.correomqtt.core.Task", Level.INFO, "a")));
+
+        assertEquals(FilterReply.NEUTRAL, filter.decide(event("org.correomqtt.core.Task", Level.INFO, "b")));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(event("org.correomqtt.core.Task", Level.INFO, null)));
+    }
+
+    @Test
+    void testWarningsAlwaysPass() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(FilterReply.NEUTRAL, filter.decide(event("org.correomqtt.core.Task", Level.WARN, "a")));
+        }
+    }
+
+    @Test
+    void testScriptOutputAlwaysPasses() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(FilterReply.NEUTRAL, filter.decide(event("script.js-execution", Level.INFO, "script.js")));
+        }
+    }
+
+    @Test
+    void testSampling() {
+        filter.setMaxPerSecond(100);
+        filter.setSampleRate(3);
+
+        assertEquals(FilterReply.NEUTRAL, filter.decide(event("org.correomqtt.core.Task", Level.INFO, "a")));
+        assertEquals(FilterReply.DENY, filter.decide(event("org.correomqtt.core.Task", Level.INFO, "a")));
+        assertEquals(FilterReply.DENY, filter.decide(event("org.correomqtt.core.Task", Level.INFO, "a")));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(event("org.correomqtt.core.Task", Level.INFO, "a")));
+    }
+}
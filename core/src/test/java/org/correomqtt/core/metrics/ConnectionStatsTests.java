@@ -0,0 +1,61 @@
+package org.correomqtt.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ConnectionStatsTests {
+
+    @Test
+    void testUtf8Length() {
+        for (String text : List.of("", "ascii", "gr\u00fc\u00dfe", "\u20ac100", "\ud83d\ude00 smile", "lone \ud83d surrogate", "\ude00")) {
+            assertEquals(text.getBytes(StandardCharsets.UTF_8).length, ConnectionStats.utf8Length(text), text);
+        }
+        assertEquals(0, ConnectionStats.utf8Length(null));
+    }
+
+    @Test
+    void testCounters() {
+        ConnectionStats stats = new ConnectionStats("connection");
+        stats.incoming(10);
+        stats.incoming(5);
+        stats.outgoing(7, 1_000);
+        stats.dropped();
+        stats.reconnect();
+
+        ConnectionStatsSnapshot snapshot = stats.snapshot();
+
+        assertEquals("connection", snapshot.connectionId());
+        assertEquals(2, snapshot.messagesIn());
+        assertEquals(15, snapshot.bytesIn());
+        assertEquals(1, snapshot.messagesOut());
+        assertEquals(7, snapshot.bytesOut());
+        assertEquals(1, snapshot.dropped());
+        assertEquals(1, snapshot.reconnects());
+
+        stats.reset();
+
+        assertEquals(0, stats.snapshot().messagesIn());
+    }
+
+    @Test
+    void testCollectorForgetsRemovedConnections() {
+        ConnectionStatsCollector collector = new ConnectionStatsCollector();
+        ConnectionStats stats = collector.get("connection");
+        stats.incoming(10);
+
+        assertSame(stats, collector.get("connection"));
+        assertEquals(1, collector.snapshot("connection").messagesIn());
+
+        collector.remove("connection");
+
+        // polling a removed connection does not register it again
+        assertEquals(0, collector.snapshot("connection").messagesIn());
+        assertNotSame(stats, collector.get("connection"));
+    }
+}
@@ -0,0 +1,36 @@
+package org.correomqtt.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CounterTests {
+
+    private final Counter counter = new Counter("test");
+
+    @Test
+    void testIncrementAndAdd() {
+        counter.increment();
+        counter.increment();
+        counter.add(40);
+
+        assertEquals(42, counter.get());
+    }
+
+    @Test
+    void testSnapshotOnlyHasCount() {
+        counter.add(3);
+
+        MetricSnapshot snapshot = counter.snapshot();
+
+        assertEquals(new MetricSnapshot("test", MetricType.COUNTER, 3, 0, 0, 0, 0, 0), snapshot);
+    }
+
+    @Test
+    void testReset() {
+        counter.add(3);
+        counter.reset();
+
+        assertEquals(0, counter.get());
+    }
+}
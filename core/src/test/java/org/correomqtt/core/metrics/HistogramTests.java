@@ -0,0 +1,102 @@
+package org.correomqtt.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistogramTests {
+
+    private final Histogram histogram = new Histogram("test");
+
+    @Test
+    void testSmallValuesAreExact() {
+        for (int value = 0; value < 8; value++) {
+            assertEquals(value, Histogram.indexOf(value));
+            assertEquals(value, Histogram.valueOf(value));
+        }
+    }
+
+    @Test
+    void testBucketPrecision() {
+        for (long value = 1; value > 0 && value < Long.MAX_VALUE / 3; value = value * 3 + 1) {
+            int index = Histogram.indexOf(value);
+            long upperBound = Histogram.valueOf(index);
+
+            assertTrue(upperBound >= value, "bucket of " + value + " ends at " + upperBound);
+            assertTrue(upperBound - value <= value / 8, "bucket of " + value + " ends at " + upperBound);
+            assertTrue(index == 0 || Histogram.valueOf(index - 1) < value);
+        }
+    }
+
+    @Test
+    void testLargestValue() {
+        assertEquals(Long.MAX_VALUE, Histogram.valueOf(Histogram.indexOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void testEmpty() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(0d, histogram.snapshot().mean());
+    }
+
+    @Test
+    void testPercentiles() {
+        for (int value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertInBucketOf(500, histogram.getPercentile(50));
+        assertInBucketOf(900, histogram.getPercentile(90));
+        // the bucket of 990 ends above the largest value
+        assertEquals(1000, histogram.getPercentile(99));
+        assertEquals(1000, histogram.getPercentile(100));
+    }
+
+    @Test
+    void testPercentileIsCappedAtMax() {
+        histogram.record(1001);
+
+        assertEquals(1001, histogram.getPercentile(50));
+        assertEquals(1001, histogram.snapshot().max());
+    }
+
+    @Test
+    void testNegativeValuesCountAsZero() {
+        histogram.record(-5);
+
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(99));
+    }
+
+    @Test
+    void testSnapshot() {
+        histogram.record(10);
+        histogram.record(20);
+        histogram.record(30);
+
+        MetricSnapshot snapshot = histogram.snapshot();
+
+        assertEquals("test", snapshot.name());
+        assertEquals(MetricType.HISTOGRAM, snapshot.type());
+        assertEquals(3, snapshot.count());
+        assertEquals(20d, snapshot.mean());
+        assertEquals(30, snapshot.max());
+    }
+
+    @Test
+    void testReset() {
+        histogram.record(10);
+
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.snapshot().max());
+    }
+
+    private static void assertInBucketOf(long expected, long actual) {
+        assertEquals(Histogram.valueOf(Histogram.indexOf(expected)), actual);
+    }
+}
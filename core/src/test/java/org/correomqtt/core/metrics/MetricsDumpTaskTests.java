@@ -0,0 +1,55 @@
+package org.correomqtt.core.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.io.FileUtils;
+import org.correomqtt.di.SoyEvents;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsDumpTaskTests {
+
+    private static final String TARGET_DIRECTORY_PROPERTY = "correomqtt.dir";
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("correomqtt");
+        System.setProperty(TARGET_DIRECTORY_PROPERTY, directory.toString());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        System.clearProperty(TARGET_DIRECTORY_PROPERTY);
+        FileUtils.deleteDirectory(directory.toFile());
+    }
+
+    @Test
+    void testDumpWritesSnapshot() throws IOException {
+        Metrics.counter("metrics.dump.tests.counter").add(7);
+
+        File file = new MetricsDumpTask(new SoyEvents()).execute();
+
+        assertEquals(directory.resolve("diagnostics.json").toFile(), file);
+        JsonNode metrics = new ObjectMapper().readTree(file);
+        assertTrue(metrics.isArray());
+        JsonNode counter = null;
+        for (JsonNode metric : metrics) {
+            if (metric.get("name").asText().equals("metrics.dump.tests.counter")) {
+                counter = metric;
+            }
+        }
+        assertEquals("COUNTER", counter.get("type").asText());
+        assertEquals(7, counter.get("count").asLong());
+    }
+}
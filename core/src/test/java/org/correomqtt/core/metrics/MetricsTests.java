@@ -0,0 +1,39 @@
+package org.correomqtt.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsTests {
+
+    @Test
+    void testSameNameIsSameMetric() {
+        assertSame(Metrics.counter("metrics.tests.counter"), Metrics.counter("metrics.tests.counter"));
+        assertSame(Metrics.timer("metrics.tests.timer"), Metrics.timer("metrics.tests.timer"));
+    }
+
+    @Test
+    void testNameIsRegisteredForOneType() {
+        Metrics.timer("metrics.tests.type");
+
+        assertThrows(IllegalArgumentException.class, () -> Metrics.counter("metrics.tests.type"));
+        assertThrows(IllegalArgumentException.class, () -> Metrics.histogram("metrics.tests.type"));
+    }
+
+    @Test
+    void testSnapshotIsSortedByName() {
+        Metrics.counter("metrics.tests.b").increment();
+        Metrics.counter("metrics.tests.a").add(2);
+
+        List<MetricSnapshot> snapshot = Metrics.snapshot();
+
+        List<String> names = snapshot.stream().map(MetricSnapshot::name).toList();
+        assertEquals(names.stream().sorted().toList(), names);
+        assertTrue(snapshot.stream().anyMatch(s -> s.name().equals("metrics.tests.a") && s.count() >= 2));
+    }
+}
@@ -0,0 +1,73 @@
+package org.correomqtt.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SlidingWindowRateTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private long now = 100 * SECOND;
+    private final SlidingWindowRate rate = new SlidingWindowRate(5, () -> now);
+
+    @Test
+    void testRunningSecondIsNotCounted() {
+        rate.add(10);
+
+        assertEquals(0d, rate.getRatePerSecond());
+    }
+
+    @Test
+    void testRateOverWindow() {
+        rate.add(10);
+        now += SECOND;
+        rate.add(20);
+        now += SECOND;
+
+        assertEquals(30d / 5, rate.getRatePerSecond());
+    }
+
+    @Test
+    void testAddsInSameSecondAreSummed() {
+        rate.add(10);
+        now += SECOND / 2;
+        rate.add(15);
+        now += SECOND;
+
+        assertEquals(25d / 5, rate.getRatePerSecond());
+    }
+
+    @Test
+    void testOldSecondsLeaveTheWindow() {
+        rate.add(10);
+        now += 5 * SECOND;
+        assertEquals(10d / 5, rate.getRatePerSecond());
+
+        now += SECOND;
+        assertEquals(0d, rate.getRatePerSecond());
+    }
+
+    @Test
+    void testRecycledBucketStartsFromZero() {
+        rate.add(10);
+        // same bucket, six seconds later
+        now += 6 * SECOND;
+        rate.add(3);
+        now += SECOND;
+
+        assertEquals(3d / 5, rate.getRatePerSecond());
+    }
+
+    @Test
+    void testReset() {
+        rate.add(10);
+        now += SECOND;
+
+        rate.reset();
+
+        assertEquals(0d, rate.getRatePerSecond());
+    }
+}
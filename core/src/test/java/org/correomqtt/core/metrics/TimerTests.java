@@ -0,0 +1,34 @@
+package org.correomqtt.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimerTests {
+
+    private final Timer timer = new Timer("test");
+
+    @Test
+    void testStopRecordsElapsedTime() throws InterruptedException {
+        long start = timer.start();
+        Thread.sleep(5);
+        timer.stop(start);
+
+        assertEquals(1, timer.getCount());
+        assertTrue(timer.snapshot().max() >= 5_000_000, "recorded " + timer.snapshot().max() + "ns");
+    }
+
+    @Test
+    void testSnapshotIsTimer() {
+        timer.record(1_000);
+        timer.record(3_000);
+
+        MetricSnapshot snapshot = timer.snapshot();
+
+        assertEquals(MetricType.TIMER, snapshot.type());
+        assertEquals(2, snapshot.count());
+        assertEquals(2_000, snapshot.mean());
+        assertEquals(3_000, snapshot.max());
+    }
+}
@@ -0,0 +1,185 @@
+package org.correomqtt.core.plugin;
+
+import org.correomqtt.core.plugin.marketplace.PluginInstallEvent;
+import org.correomqtt.core.plugin.spi.MessageValidatorHook;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessageValidatorTests {
+
+    private final AtomicInteger createdValidators = new AtomicInteger();
+    private final AtomicInteger validations = new AtomicInteger();
+
+    private final MessageValidator messageValidator = new MessageValidator(topic -> {
+        if (topic.startsWith("unvalidated")) {
+            return List.of();
+        }
+        createdValidators.incrementAndGet();
+        return List.of(new ContainsValidator("a"), new ContainsValidator("b"));
+    });
+
+    private class ContainsValidator implements MessageValidatorHook<Object> {
+
+        private final String text;
+
+        ContainsValidator(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public Validation isMessageValid(String message) {
+            validations.incrementAndGet();
+            return new Validation(message.contains(text), "contains " + text);
+        }
+    }
+
+    @Test
+    void testFirstValidValidatorWins() {
+        MessageValidatorHook.Validation validation = messageValidator.validateMessage("topic", "b");
+
+        assertTrue(validation.isValid());
+        assertEquals("contains b", validation.getTooltip());
+
+        validation = messageValidator.validateMessage("topic", "c");
+
+        assertFalse(validation.isValid());
+        assertEquals("contains b", validation.getTooltip());
+    }
+
+    @Test
+    void testNoValidators() {
+        assertNull(messageValidator.validateMessage("unvalidated", "payload"));
+        assertNull(messageValidator.validateMessage(null, "payload"));
+    }
+
+    @Test
+    void testValidatorsAreCreatedOncePerTopic() {
+        messageValidator.validateMessage("topic", "a");
+        messageValidator.validateMessage("topic", "b");
+        messageValidator.validateMessage("other", "a");
+
+        assertEquals(2, createdValidators.get());
+    }
+
+    @Test
+    void testTopicsAreBounded() {
+        messageValidator.validateMessage("topic0", "a");
+        for (int i = 1; i <= 1_000; i++) {
+            messageValidator.validateMessage("topic" + i, "a");
+        }
+        assertEquals(1_001, createdValidators.get());
+
+        // the least recently used topic is gone
+        messageValidator.validateMessage("topic0", "a");
+        assertEquals(1_002, createdValidators.get());
+        messageValidator.validateMessage("topic1000", "a");
+        assertEquals(1_002, createdValidators.get());
+    }
+
+    @Test
+    void testResultIsCachedPerMessage() {
+        MessageValidatorHook.Validation first = messageValidator.validateMessage("id", "topic", "a");
+        MessageValidatorHook.Validation second = messageValidator.validateMessage("id", "topic", "a");
+
+        assertSame(first, second);
+        assertEquals(1, validations.get());
+    }
+
+    @Test
+    void testChangedPayloadIsValidatedAgain() {
+        MessageValidatorHook.Validation first = messageValidator.validateMessage("id", "topic", "a");
+        MessageValidatorHook.Validation second = messageValidator.validateMessage("id", "topic", "c");
+
+        assertTrue(first.isValid());
+        assertFalse(second.isValid());
+    }
+
+    @Test
+    void testPluginChangesClearCaches() {
+        MessageValidatorHook.Validation first = messageValidator.validateMessage("id", "topic", "a");
+
+        messageValidator.onPluginInstalled(new PluginInstallEvent("plugin", "1.0"));
+        MessageValidatorHook.Validation second = messageValidator.validateMessage("id", "topic", "a");
+
+        assertEquals(2, createdValidators.get());
+        assertEquals(2, validations.get());
+        assertTrue(second.isValid());
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void testValidatorIsNotUsedConcurrently() throws Exception {
+        AtomicBoolean overlapped = new AtomicBoolean();
+        MessageValidator pooledValidator = new MessageValidator(topic -> {
+            AtomicBoolean inUse = new AtomicBoolean();
+            return List.of(message -> {
+                if (!inUse.compareAndSet(false, true)) {
+                    overlapped.set(true);
+                }
+                Thread.onSpinWait();
+                inUse.set(false);
+                return new MessageValidatorHook.Validation(true, "");
+            });
+        });
+
+        runConcurrently(4, () -> {
+            for (int j = 0; j < 10_000; j++) {
+                pooledValidator.validateMessage("topic", "payload");
+            }
+        });
+
+        assertFalse(overlapped.get());
+    }
+
+    @Test
+    void testSameTopicIsValidatedConcurrently() throws Exception {
+        // each batch only passes, when the other one validates at the same time
+        CyclicBarrier bothValidating = new CyclicBarrier(2);
+        MessageValidator pooledValidator = new MessageValidator(topic -> List.of(message -> {
+            try {
+                bothValidating.await(10, TimeUnit.SECONDS);
+                return new MessageValidatorHook.Validation(true, "");
+            } catch (Exception e) {
+                return new MessageValidatorHook.Validation(false, e.toString());
+            }
+        }));
+        List<MessageValidatorHook.Validation> validations = Collections.synchronizedList(new ArrayList<>());
+
+        runConcurrently(2, () -> validations.add(pooledValidator.validateMessage("topic", "payload")));
+
+        assertEquals(2, validations.size());
+        assertTrue(validations.stream().allMatch(MessageValidatorHook.Validation::isValid));
+    }
+
+    private static void runConcurrently(int threads, Runnable runnable) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(runnable));
+            }
+            for (Future<?> future : futures) {
+                future.get(20, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.correomqtt.core.scripting;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScriptFanOutDTOTests {
+
+    private static final ScriptFileDTO SCRIPT = ScriptFileDTO.builder().name("script.js").build();
+
+    @Test
+    void testInstancesGetFanOutIdAndNumber() {
+        ScriptFanOutDTO fanOut = ScriptFanOutDTO.forInstances(SCRIPT, "", "connection", 3, 2);
+
+        assertEquals(3, fanOut.getTotal());
+        for (int i = 0; i < 3; i++) {
+            ExecutionDTO execution = fanOut.getExecutions().get(i);
+            assertEquals(fanOut.getFanOutId(), execution.getFanOutId());
+            assertEquals(Integer.valueOf(i + 1), execution.getInstance());
+            assertEquals("connection", execution.getConnectionId());
+        }
+    }
+
+    @Test
+    void testFanOutsOfSameConnectionHaveDifferentIds() {
+        ScriptFanOutDTO first = ScriptFanOutDTO.forInstances(SCRIPT, "", "connection", 1, 1);
+        ScriptFanOutDTO second = ScriptFanOutDTO.forInstances(SCRIPT, "", "connection", 1, 1);
+
+        assertNotEquals(first.getFanOutId().substring(0, 8), second.getFanOutId().substring(0, 8));
+    }
+
+    @Test
+    void testCounts() {
+        ScriptFanOutDTO fanOut = ScriptFanOutDTO.forConnections(SCRIPT, "", List.of("a", "b", "c", "d", "e"), 5);
+        List<ExecutionDTO> executions = fanOut.getExecutions();
+        LocalDateTime start = LocalDateTime.now();
+        // a: pending
+        // b: running
+        executions.get(1).setStartTime(start);
+        // c: succeeded
+        executions.get(2).setStartTime(start);
+        executions.get(2).setExecutionTime(10L);
+        // d: failed
+        executions.get(3).setStartTime(start);
+        executions.get(3).setExecutionTime(10L);
+        executions.get(3).setError(new ScriptExecutionError(ScriptExecutionError.Type.GUEST, "failed"));
+        // e: cancelled
+        executions.get(4).setStartTime(start);
+        executions.get(4).setExecutionTime(10L);
+        executions.get(4).setError(new ScriptExecutionError(ScriptExecutionError.Type.HOST, "cancelled"));
+        executions.get(4).setCancelled(true);
+
+        ScriptFanOutDTO.Counts counts = fanOut.getCounts();
+
+        assertEquals(new ScriptFanOutDTO.Counts(5, 1, 1, 1, 1), counts);
+        assertEquals(3, counts.finished());
+        assertFalse(fanOut.isFinished());
+
+        executions.get(0).setCancelled(true);
+        executions.get(1).setExecutionTime(5L);
+
+        assertTrue(fanOut.isFinished());
+        assertEquals(2, fanOut.getSucceeded());
+        assertEquals(2, fanOut.getCancelled());
+    }
+}
@@ -0,0 +1,62 @@
+package org.correomqtt.core.scripting;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ScriptLogOutputStreamTests {
+
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    private final List<String> lines = new ArrayList<>();
+    private final ScriptLogOutputStream out = new ScriptLogOutputStream(lines::add);
+
+    @Test
+    void testLines() {
+        byte[] bytes = "first\r\nsecond\nthi".getBytes(StandardCharsets.UTF_8);
+        out.write(bytes, 0, bytes.length);
+        out.write('r');
+        out.write('d');
+        out.close();
+
+        assertEquals(List.of("first", "second", "third"), lines);
+    }
+
+    @Test
+    void testLongLineIsSplitAtCharacter() {
+        // the limit is reached within the three bytes of the euro sign
+        String text = "a".repeat(MAX_LINE_LENGTH - 1) + "\u20AC" + "b";
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        out.write(bytes, 0, bytes.length);
+        out.close();
+
+        assertEquals(List.of("a".repeat(MAX_LINE_LENGTH - 1), "\u20ACb"), lines);
+    }
+
+    @Test
+    void testLongLineIsSplitAtCharacterWhenWrittenByteByByte() {
+        String text = "a".repeat(MAX_LINE_LENGTH - 2) + "\uD83D\uDE00" + "b";
+        for (byte b : text.getBytes(StandardCharsets.UTF_8)) {
+            out.write(b);
+        }
+        out.close();
+
+        assertEquals(List.of("a".repeat(MAX_LINE_LENGTH - 2), "\uD83D\uDE00b"), lines);
+    }
+
+    @Test
+    void testCharacterBoundary() {
+        byte[] euro = "\u20AC".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(0, ScriptLogOutputStream.characterBoundary(new byte[]{euro[0]}));
+        assertEquals(0, ScriptLogOutputStream.characterBoundary(new byte[]{euro[0], euro[1]}));
+        assertEquals(3, ScriptLogOutputStream.characterBoundary(euro));
+        assertEquals(1, ScriptLogOutputStream.characterBoundary(new byte[]{'a'}));
+        assertEquals(0, ScriptLogOutputStream.characterBoundary(new byte[0]));
+    }
+}
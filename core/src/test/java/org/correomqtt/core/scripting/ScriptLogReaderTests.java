@@ -0,0 +1,147 @@
+package org.correomqtt.core.scripting;
+
+import org.correomqtt.core.concurrent.CancellationToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ScriptLogReaderTests {
+
+    private Path directory;
+    private Path log;
+    private Path archive;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("correomqtt");
+        log = directory.resolve("execution.log");
+        archive = directory.resolve("execution.log.gz");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(log);
+        Files.deleteIfExists(archive);
+        Files.delete(directory);
+    }
+
+    private static String lines(int from, int to) {
+        return IntStream.range(from, to)
+                .mapToObj(i -> "line " + i + "\n")
+                .collect(Collectors.joining());
+    }
+
+    @Test
+    void testNoLog() throws IOException {
+        assertNull(ScriptLogReader.open(log, archive));
+    }
+
+    @Test
+    void testSmallLog() throws IOException {
+        Files.writeString(log, "first\r\nsecond\nunfinished", StandardCharsets.UTF_8);
+
+        try (ScriptLogReader reader = ScriptLogReader.open(log, archive)) {
+            assertEquals(3, reader.getLineCount());
+
+            ScriptLogWindow window = reader.read(0, 10);
+
+            assertEquals(0, window.firstLine());
+            assertEquals(List.of("first", "second", "unfinished"), window.lines());
+            assertEquals(3, window.lineCount());
+        }
+    }
+
+    @Test
+    void testWindows() throws IOException {
+        Files.writeString(log, lines(0, 1000), StandardCharsets.UTF_8);
+
+        try (ScriptLogReader reader = ScriptLogReader.open(log, archive)) {
+            assertEquals(1000, reader.getLineCount());
+
+            ScriptLogWindow middle = reader.read(300, 3);
+            assertEquals(300, middle.firstLine());
+            assertEquals(List.of("line 300", "line 301", "line 302"), middle.lines());
+            assertEquals(303, middle.lastLine());
+
+            ScriptLogWindow last = reader.read(-1, 2);
+            assertEquals(998, last.firstLine());
+            assertEquals(List.of("line 998", "line 999"), last.lines());
+
+            // a window is not read beyond the end of the log
+            ScriptLogWindow end = reader.read(999, 5);
+            assertEquals(995, end.firstLine());
+            assertEquals(5, end.lines().size());
+        }
+    }
+
+    @Test
+    void testRefreshIndexesAppendedLines() throws IOException {
+        Files.writeString(log, lines(0, 200) + "line 2", StandardCharsets.UTF_8);
+
+        try (ScriptLogReader reader = ScriptLogReader.open(log, archive)) {
+            assertEquals(201, reader.getLineCount());
+
+            Files.writeString(log, "00\n" + lines(201, 300), StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+            assertEquals(300, reader.refresh());
+            assertEquals(List.of("line 200", "line 201"), reader.read(200, 2).lines());
+            assertEquals(List.of("line 299"), reader.read(-1, 1).lines());
+        }
+    }
+
+    @Test
+    void testFind() throws IOException {
+        Files.writeString(log, lines(0, 1000) + "Needle\n" + lines(1001, 1100) + "needle\n", StandardCharsets.UTF_8);
+
+        try (ScriptLogReader reader = ScriptLogReader.open(log, archive)) {
+            CancellationToken token = new CancellationToken();
+
+            assertEquals(1000, reader.find("needle", true, 0, token));
+            assertEquals(1100, reader.find("needle", false, 0, token));
+            assertEquals(1100, reader.find("needle", true, 1001, token));
+            assertEquals(-1, reader.find("needle", true, 1101, token));
+            assertEquals(-1, reader.find("missing", true, 0, token));
+        }
+    }
+
+    @Test
+    void testCancelledFind() throws IOException {
+        Files.writeString(log, lines(0, 10), StandardCharsets.UTF_8);
+
+        try (ScriptLogReader reader = ScriptLogReader.open(log, archive)) {
+            CancellationToken token = new CancellationToken();
+            token.cancel();
+
+            assertThrows(CancellationException.class, () -> reader.find("missing", true, 0, token));
+        }
+    }
+
+    @Test
+    void testCompactedLog() throws IOException {
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(archive))) {
+            out.write(lines(0, 500).getBytes(StandardCharsets.UTF_8));
+        }
+
+        try (ScriptLogReader reader = ScriptLogReader.open(log, archive)) {
+            assertEquals(500, reader.getLineCount());
+            assertEquals(List.of("line 250"), reader.read(250, 1).lines());
+            assertEquals(250, reader.find("line 250", false, 0, new CancellationToken()));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.correomqtt.core.scripting;
+
+import org.correomqtt.core.model.ScriptRetentionSettings;
+import org.correomqtt.core.scripting.ScriptRetentionSelection.RetainedExecution;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScriptRetentionSelectionTests {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    private static RetainedExecution execution(String id, LocalDateTime startTime) {
+        return new RetainedExecution("script.js", id, startTime);
+    }
+
+    private static ScriptRetentionSettings settings(int maxAgeDays, int maxExecutions) {
+        return ScriptRetentionSettings.builder()
+                .enabled(true)
+                .maxAgeDays(maxAgeDays)
+                .maxExecutionsPerScript(maxExecutions)
+                .build();
+    }
+
+    @Test
+    void testDisabledByDefault() {
+        assertFalse(new ScriptRetentionSettings().isEnabled());
+        assertFalse(ScriptRetentionSettings.builder().build().isEnabled());
+    }
+
+    @Test
+    void testExpiredByAge() {
+        List<RetainedExecution> retained = new ArrayList<>();
+        List<RetainedExecution> expired = ScriptRetentionSelection.expired(List.of(
+                execution("new", NOW.minusDays(1)),
+                execution("old", NOW.minusDays(31)),
+                execution("unknown", null)
+        ), settings(30, 0), NOW, retained);
+
+        assertEquals(List.of("old"), expired.stream().map(RetainedExecution::executionId).toList());
+        assertEquals(2, retained.size());
+    }
+
+    @Test
+    void testExpiredByCountKeepsNewest() {
+        List<RetainedExecution> retained = new ArrayList<>();
+        List<RetainedExecution> expired = ScriptRetentionSelection.expired(List.of(
+                execution("e1", NOW.minusHours(4)),
+                execution("e3", NOW.minusHours(2)),
+                execution("e2", NOW.minusHours(3)),
+                execution("e4", NOW.minusHours(1))
+        ), settings(0, 2), NOW, retained);
+
+        assertEquals(List.of("e2", "e1"), expired.stream().map(RetainedExecution::executionId).toList());
+        assertEquals(List.of("e4", "e3"), retained.stream().map(RetainedExecution::executionId).toList());
+    }
+
+    @Test
+    void testNoLimitsKeepEverything() {
+        List<RetainedExecution> retained = new ArrayList<>();
+        List<RetainedExecution> expired = ScriptRetentionSelection.expired(List.of(
+                execution("e1", NOW.minusDays(400)),
+                execution("e2", NOW)
+        ), settings(0, 0), NOW, retained);
+
+        assertTrue(expired.isEmpty());
+        assertEquals(2, retained.size());
+    }
+
+    @Test
+    void testCompactOnlyOlderExecutions() {
+        ScriptRetentionSettings settings = ScriptRetentionSettings.builder().compactLogsAfterHours(24).build();
+        List<RetainedExecution> toCompact = ScriptRetentionSelection.toCompact(List.of(
+                execution("recent", NOW.minusHours(23)),
+                execution("old", NOW.minusHours(25)),
+                execution("unknown", null)
+        ), settings, NOW);
+
+        assertEquals(List.of("old"), toCompact.stream().map(RetainedExecution::executionId).toList());
+    }
+
+    @Test
+    void testCompactDisabled() {
+        ScriptRetentionSettings settings = ScriptRetentionSettings.builder().compactLogsAfterHours(0).build();
+        assertTrue(ScriptRetentionSelection.toCompact(List.of(execution("old", NOW.minusDays(10))), settings, NOW).isEmpty());
+    }
+
+    @Test
+    void testExceedingTotalSizeDeletesOldestFirst() {
+        List<RetainedExecution> retained = List.of(
+                execution("e3", NOW.minusHours(1)),
+                execution("e1", NOW.minusHours(3)),
+                execution("e2", NOW.minusHours(2))
+        );
+
+        List<RetainedExecution> exceeding = ScriptRetentionSelection.exceedingTotalSize(retained, 150, e -> 100);
+
+        assertEquals(List.of("e1", "e2"), exceeding.stream().map(RetainedExecution::executionId).toList());
+    }
+
+    @Test
+    void testExceedingTotalSizeWithinBudget() {
+        List<RetainedExecution> retained = List.of(execution("e1", NOW), execution("e2", NOW.minusHours(1)));
+
+        assertTrue(ScriptRetentionSelection.exceedingTotalSize(retained, 200, e -> 100).isEmpty());
+        assertTrue(ScriptRetentionSelection.exceedingTotalSize(retained, 0, e -> 100).isEmpty());
+    }
+
+    @Test
+    void testByScript() {
+        Map<String, List<String>> byScript = ScriptRetentionSelection.byScript(List.of(
+                new RetainedExecution("a.js", "1", NOW),
+                new RetainedExecution("b.js", "2", NOW),
+                new RetainedExecution("a.js", "3", NOW)
+        ));
+
+        assertEquals(List.of("1", "3"), byScript.get("a.js"));
+        assertEquals(List.of("2"), byScript.get("b.js"));
+    }
+}
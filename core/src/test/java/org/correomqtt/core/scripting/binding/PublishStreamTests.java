@@ -0,0 +1,83 @@
+package org.correomqtt.core.scripting.binding;
+
+import org.correomqtt.core.concurrent.TaskScope;
+import org.correomqtt.core.concurrent.TaskScopes;
+import org.correomqtt.core.model.MessageDTO;
+import org.correomqtt.core.pubsub.MessagePublisher;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MarkerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PublishStreamTests {
+
+    private final TaskScope scope = new TaskScopes().get("connection");
+    private final List<String> published = new ArrayList<>();
+    private Runnable onPublish = () -> {
+    };
+
+    private final MessagePublisher messagePublisher = new MessagePublisher(null, null, null, null) {
+        @Override
+        public MessageDTO publish(String connectionId, MessageDTO messageDTO) {
+            onPublish.run();
+            published.add(messageDTO.getPayload());
+            return messageDTO;
+        }
+
+        @Override
+        public void publishFailed(String connectionId, MessageDTO messageDTO) {
+            // not needed
+        }
+    };
+
+    private PublishStream stream() {
+        return new PublishStream(messagePublisher, scope, "connection", "topic", 0, false, 0,
+                LoggerFactory.getLogger(PublishStreamTests.class), MarkerFactory.getMarker("script"));
+    }
+
+    @Test
+    void testStreamIsRegisteredUntilClosed() throws InterruptedException {
+        PublishStream stream = stream();
+        assertEquals(1, scope.getRunningCount());
+
+        stream.send("a");
+        stream.send("b");
+        assertEquals(1, scope.getRunningCount());
+
+        stream.close();
+
+        assertEquals(List.of("a", "b"), published);
+        assertEquals(2, stream.getStats().getPublished());
+        assertEquals(0, scope.getRunningCount());
+    }
+
+    @Test
+    void testCancelledScopeEndsStream() throws InterruptedException {
+        PublishStream stream = stream();
+        onPublish = scope::cancelAll;
+
+        stream.send("a");
+
+        assertThrows(CancellationException.class, () -> stream.send("b"));
+        assertEquals(List.of("a"), published);
+        assertEquals(0, scope.getRunningCount());
+    }
+
+    @Test
+    void testDisconnectBetweenSendsEndsStream() throws InterruptedException {
+        PublishStream stream = stream();
+        stream.send("a");
+
+        scope.cancelAll();
+
+        assertThrows(CancellationException.class, () -> stream.send("b"));
+        assertEquals(List.of("a"), published);
+        assertEquals(0, scope.getRunningCount());
+    }
+}
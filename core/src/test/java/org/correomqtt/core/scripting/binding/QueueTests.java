@@ -0,0 +1,112 @@
+package org.correomqtt.core.scripting.binding;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueueTests {
+
+    private final Queue queue = new Queue(LoggerFactory.getLogger(QueueTests.class));
+    private final List<Integer> processed = new ArrayList<>();
+
+    private void add(int value) {
+        queue.add(new QueueEvent(() -> processed.add(value)));
+    }
+
+    private void processAll() throws InterruptedException {
+        queue.jumpOut();
+        queue.process();
+    }
+
+    @Test
+    void testDropOldest() throws InterruptedException {
+        queue.configure(3, "DROP_OLDEST");
+        for (int i = 1; i <= 5; i++) {
+            add(i);
+        }
+
+        assertEquals(3, queue.getDepth());
+        assertEquals(2, queue.getDropped());
+        processAll();
+        assertEquals(List.of(3, 4, 5), processed);
+    }
+
+    @Test
+    void testDropNewest() throws InterruptedException {
+        queue.configure(3, "DROP_NEWEST");
+        for (int i = 1; i <= 5; i++) {
+            add(i);
+        }
+
+        assertEquals(3, queue.getDepth());
+        assertEquals(2, queue.getDropped());
+        processAll();
+        assertEquals(List.of(1, 2, 3), processed);
+    }
+
+    @Test
+    void testContinueMarkerIsNotCounted() throws InterruptedException {
+        queue.configure(2, "DROP_OLDEST");
+        queue.jumpOut();
+        add(1);
+        add(2);
+
+        assertEquals(2, queue.getDepth());
+        assertEquals(0, queue.getDropped());
+
+        // the first marker ends the first run
+        queue.process();
+        assertTrue(processed.isEmpty());
+        processAll();
+        assertEquals(List.of(1, 2), processed);
+    }
+
+    @Test
+    void testPeakDepth() throws InterruptedException {
+        add(1);
+        add(2);
+        add(3);
+        processAll();
+        add(4);
+
+        assertEquals(1, queue.getDepth());
+        assertEquals(3, queue.getPeakDepth());
+    }
+
+    @Test
+    void testBatchesDoNotChangeOrder() throws InterruptedException {
+        queue.setBatchSize(2);
+        for (int i = 1; i <= 5; i++) {
+            add(i);
+        }
+
+        processAll();
+
+        assertEquals(2, queue.getBatchSize());
+        assertEquals(List.of(1, 2, 3, 4, 5), processed);
+        assertEquals(0, queue.getDepth());
+    }
+
+    @Test
+    void testClosedQueueAcceptsNothing() {
+        add(1);
+        queue.close();
+        add(2);
+
+        assertEquals(0, queue.getDepth());
+        assertEquals(0, queue.getDropped());
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> queue.setCapacity(0));
+        assertThrows(IllegalArgumentException.class, () -> queue.setBatchSize(0));
+        assertThrows(IllegalArgumentException.class, () -> queue.setOverflowPolicy("BLOCK"));
+    }
+}
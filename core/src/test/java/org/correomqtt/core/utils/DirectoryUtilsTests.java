@@ -0,0 +1,50 @@
+package org.correomqtt.core.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DirectoryUtilsTests {
+
+    private static final String TARGET_DIRECTORY_PROPERTY = "correomqtt.dir";
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(TARGET_DIRECTORY_PROPERTY);
+    }
+
+    @Test
+    void testOverrideWinsOverPlatformDirectory() {
+        System.clearProperty(TARGET_DIRECTORY_PROPERTY);
+        String platformDirectory = DirectoryUtils.getTargetDirectoryPath();
+        String override = platformDirectory + File.separator + "override";
+
+        System.setProperty(TARGET_DIRECTORY_PROPERTY, override);
+
+        assertEquals(override, DirectoryUtils.getTargetDirectoryPath());
+        assertEquals(override + File.separator, DirectoryUtils.getLogDirectory());
+    }
+
+    @Test
+    void testPlatformDirectoryWithoutOverride() {
+        String home = File.separator + "home" + File.separator + "user";
+
+        assertEquals(home + File.separator + ".correomqtt",
+                DirectoryUtils.getPlatformDirectoryPath("linux", home, null, "work"));
+        assertEquals(home + File.separator + "Library" + File.separator + "Application Support" + File.separator + "CorreoMqtt",
+                DirectoryUtils.getPlatformDirectoryPath("mac os x", home, null, "work"));
+        assertEquals("appdata" + File.separator + "CorreoMqtt",
+                DirectoryUtils.getPlatformDirectoryPath("windows 11", home, "appdata", "work"));
+        assertEquals("work", DirectoryUtils.getPlatformDirectoryPath("other", home, null, "work"));
+    }
+
+    @Test
+    void testMissingUserDirectoryIsReported() {
+        assertThrows(IllegalStateException.class, () -> DirectoryUtils.getPlatformDirectoryPath("linux", null, null, "work"));
+        assertThrows(IllegalStateException.class, () -> DirectoryUtils.getPlatformDirectoryPath("windows 11", "home", null, "work"));
+    }
+}
@@ -0,0 +1,88 @@
+package org.correomqtt.core.validation;
+
+import org.correomqtt.core.model.MessageDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessageSourceTests {
+
+    private Path journal;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        journal = Files.createTempFile("journal", ".jsonl");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(journal);
+    }
+
+    private static MessageDTO message(String topic) {
+        return MessageDTO.builder().topic(topic).payload("payload").build();
+    }
+
+    @Test
+    void testList() throws IOException {
+        List<MessageDTO> messages = new ArrayList<>(List.of(message("a"), message("b")));
+        try (MessageSource source = MessageSource.of(messages)) {
+            messages.clear();
+
+            assertEquals("a", source.next().getTopic());
+            assertEquals("b", source.next().getTopic());
+            assertNull(source.next());
+        }
+    }
+
+    @Test
+    void testJournalSkipsBlankLines() throws IOException {
+        Files.writeString(journal, """
+                {"topic":"a","payload":"1","messageId":"m1"}
+
+                {"topic":"b","payload":"2","messageId":"m2"}
+                """, StandardCharsets.UTF_8);
+
+        try (MessageSource source = MessageSource.journal(journal)) {
+            MessageDTO first = source.next();
+            assertEquals("a", first.getTopic());
+            assertEquals("1", first.getPayload());
+            assertEquals("m1", first.getMessageId());
+            assertEquals("b", source.next().getTopic());
+            assertNull(source.next());
+        }
+    }
+
+    @Test
+    void testMalformedLineDoesNotEndTheJournal() throws IOException {
+        Files.writeString(journal, """
+                {"topic":"a","payload":"1"}
+
+                {"topic":"b",
+                {"topic":"c","payload":"3"}
+                """, StandardCharsets.UTF_8);
+
+        try (MessageSource source = MessageSource.journal(journal)) {
+            assertEquals("a", source.next().getTopic());
+
+            MalformedMessageException e = assertThrows(MalformedMessageException.class, source::next);
+            assertEquals(3, e.getLine());
+            assertTrue(e.getMessage().startsWith("Line 3 "));
+
+            assertEquals("c", source.next().getTopic());
+            assertNull(source.next());
+        }
+    }
+}
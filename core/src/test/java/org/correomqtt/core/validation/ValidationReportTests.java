@@ -0,0 +1,84 @@
+package org.correomqtt.core.validation;
+
+import org.correomqtt.core.model.MessageDTO;
+import org.correomqtt.core.plugin.spi.MessageValidatorHook;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ValidationReportTests {
+
+    private static final MessageValidatorHook.Validation VALID = new MessageValidatorHook.Validation(true, "ok");
+    private static final MessageValidatorHook.Validation INVALID = new MessageValidatorHook.Validation(false, "broken");
+
+    private static MessageDTO message(String topic, String id) {
+        return MessageDTO.builder().topic(topic).messageId(id).build();
+    }
+
+    @Test
+    void testCounts() {
+        ValidationReport report = new ValidationReport(10);
+        report.add(message("a", "1"), VALID);
+        report.add(message("a", "2"), INVALID);
+        report.add(message("b", "3"), null);
+        report.addError(message("b", "4"), new IllegalStateException("boom"));
+
+        assertEquals(4, report.getProcessed());
+        assertEquals(1, report.getPassed());
+        assertEquals(2, report.getFailed());
+        assertEquals(1, report.getUnvalidated());
+
+        ValidationReport.TopicStats a = report.getTopics().get("a");
+        assertEquals(1, a.getPassed());
+        assertEquals(1, a.getFailed());
+        assertEquals(2, a.getTotal());
+        ValidationReport.TopicStats b = report.getTopics().get("b");
+        assertEquals(1, b.getUnvalidated());
+        assertEquals(1, b.getFailed());
+
+        assertEquals(List.of("broken", "Validator failed: boom"),
+                report.getFailures().stream().map(ValidationReport.ValidationFailure::reason).toList());
+    }
+
+    @Test
+    void testOnlyFirstFailuresAreKept() {
+        ValidationReport report = new ValidationReport(2);
+        for (int i = 0; i < 5; i++) {
+            report.add(message("a", String.valueOf(i)), INVALID);
+        }
+
+        assertEquals(5, report.getFailed());
+        assertEquals(List.of("0", "1"),
+                report.getFailures().stream().map(ValidationReport.ValidationFailure::messageId).toList());
+    }
+
+    @Test
+    void testMalformedMessageIsFailedWithoutTopic() {
+        ValidationReport report = new ValidationReport(10);
+        report.addMalformed(new MalformedMessageException(7, "Line 7 is not a message", null));
+
+        assertEquals(1, report.getProcessed());
+        assertEquals(1, report.getFailed());
+        assertEquals(0, report.getTopics().size());
+        ValidationReport.ValidationFailure failure = report.getFailures().get(0);
+        assertNull(failure.topic());
+        assertEquals("Line 7 is not a message", failure.reason());
+    }
+
+    @Test
+    void testSnapshotIsNotChangedAnymore() {
+        ValidationReport report = new ValidationReport(10);
+        report.add(message("a", "1"), INVALID);
+
+        ValidationReport snapshot = report.snapshot();
+        report.add(message("a", "2"), INVALID);
+
+        assertEquals(1, snapshot.getFailed());
+        assertEquals(1, snapshot.getFailures().size());
+        assertEquals(1, snapshot.getTopics().get("a").getFailed());
+        assertEquals(2, report.getTopics().get("a").getFailed());
+    }
+}
@@ -174,8 +174,10 @@ class EventBus {
         if (event.isLogable()) {
             log.debug("SoyEvents: Fire event {}", event.getClass());
         }
+        long start = System.nanoTime();
         List<ObserverInfo> observerInfos = getCallbacksToExecute(event);
         executeFire(event, observerInfos);
+        SoyDi.getInstrumentation().record(SoyInstrumentation.FIRE, System.nanoTime() - start);
         return observerInfos.size();
     }
 
@@ -184,7 +186,11 @@ class EventBus {
             log.debug("SoyEvents: Fire async event {}", event.getClass());
         }
         List<ObserverInfo> observerInfos = getCallbacksToExecute(event);
-        CompletableFuture.runAsync(() -> executeFire(event, observerInfos));
+        CompletableFuture.runAsync(() -> {
+            long start = System.nanoTime();
+            executeFire(event, observerInfos);
+            SoyDi.getInstrumentation().record(SoyInstrumentation.FIRE_ASYNC, System.nanoTime() - start);
+        });
         return observerInfos.size();
     }
 
@@ -31,6 +31,7 @@ public class SoyDi {
     private static final Map<Class<?>, Object> SINGLETON_INSTANCES = new HashMap<>();
     private static final Set<ClassLoader> CLASS_LOADER = new HashSet<>();
     private static boolean initialized = false;
+    private static volatile SoyInstrumentation instrumentation = SoyInstrumentation.NOOP;
 
     private SoyDi() {
     }
@@ -42,6 +43,14 @@ public class SoyDi {
         initialized = true;
     }
 
+    public static void setInstrumentation(SoyInstrumentation instrumentation) {
+        SoyDi.instrumentation = instrumentation == null ? SoyInstrumentation.NOOP : instrumentation;
+    }
+
+    static SoyInstrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
     public static void addClassLoader(ClassLoader classLoader) {
         init();
         CLASS_LOADER.add(classLoader);
@@ -222,7 +231,12 @@ public class SoyDi {
     }
 
     public static synchronized <T> T inject(Class<T> clazz) {
-        return inject(clazz, new ArrayList<>());
+        long start = System.nanoTime();
+        try {
+            return inject(clazz, new ArrayList<>());
+        } finally {
+            instrumentation.record(SoyInstrumentation.INJECT, System.nanoTime() - start);
+        }
     }
 
     @SuppressWarnings("unchecked")
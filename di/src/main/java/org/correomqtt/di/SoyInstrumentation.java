@@ -0,0 +1,17 @@
+package org.correomqtt.di;
+
+/**
+ * Receives timings of injections and event dispatches. Set via {@link SoyDi#setInstrumentation(SoyInstrumentation)}.
+ */
+@FunctionalInterface
+public interface SoyInstrumentation {
+
+    String INJECT = "di.inject";
+    String FIRE = "di.fire";
+    String FIRE_ASYNC = "di.fireAsync";
+
+    SoyInstrumentation NOOP = (name, durationNanos) -> {
+    };
+
+    void record(String name, long durationNanos);
+}
@@ -6,6 +6,7 @@ import javafx.stage.Screen;
 import javafx.stage.Stage;
 import lombok.extern.slf4j.Slf4j;
 import org.correomqtt.di.SoyDi;
+import org.correomqtt.core.metrics.Metrics;
 import org.correomqtt.core.utils.VersionUtils;
 
 @Slf4j
@@ -15,6 +16,7 @@ public class FxApplication extends Application {
     @Override
     public void init() {
         startLog();
+        Metrics.installDiInstrumentation();
         SoyDi.scan("org.correomqtt");
         HostServicesWrapper hostServicesWrapper = SoyDi.inject(HostServicesWrapper.class);
         hostServicesWrapper.setHostServices(getHostServices());
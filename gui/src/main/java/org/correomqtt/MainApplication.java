@@ -20,11 +20,12 @@ import org.correomqtt.core.exception.CorreoMqttUnableToCheckVersionException;
 import org.correomqtt.core.model.GlobalUISettings;
 import org.correomqtt.core.model.SettingsDTO;
 import org.correomqtt.core.plugin.PluginManager;
+import org.correomqtt.core.scripting.ScriptRetentionScheduler;
 import org.correomqtt.core.settings.SettingsManager;
 import org.correomqtt.core.shortcut.ShortcutConnectionIdEvent;
 import org.correomqtt.core.utils.VersionUtils;
 import org.correomqtt.gui.keyring.KeyringManager;
-import org.correomqtt.gui.plugin.CorreoExtensionFactory;
+import org.correomqtt.core.plugin.CorreoExtensionFactory;
 import org.correomqtt.gui.plugin.PluginLauncher;
 import org.correomqtt.gui.theme.ThemeManager;
 import org.correomqtt.gui.utils.AlertHelper;
@@ -64,6 +65,7 @@ public class MainApplication {
     private final PluginCheckUtils pluginCheckUtils;
     private final MainViewController mainViewController;
     private final CorreoCore correoCore;
+    private final ScriptRetentionScheduler scriptRetentionScheduler;
     private final SoyEvents soyEvents;
     private ResourceBundle resources;
     private Scene scene;
@@ -82,6 +84,7 @@ public class MainApplication {
                            PluginCheckUtils pluginCheckUtils,
                            MainViewController mainViewController,
                            CorreoCore correoCore,
+                           ScriptRetentionScheduler scriptRetentionScheduler,
                            SoyEvents soyEvents) {
         this.pluginManager = pluginManager;
         this.pluginLauncher = pluginLauncher;
@@ -94,6 +97,7 @@ public class MainApplication {
         this.pluginCheckUtils = pluginCheckUtils;
         this.mainViewController = mainViewController;
         this.correoCore = correoCore;
+        this.scriptRetentionScheduler = scriptRetentionScheduler;
         this.soyEvents = soyEvents;
     }
 
@@ -145,6 +149,7 @@ public class MainApplication {
         themeManager.saveCSS();
 
         correoCore.init();
+        scriptRetentionScheduler.start();
     }
 
     private void loadPrimaryStage() throws IOException {
@@ -0,0 +1,11 @@
+package org.correomqtt.gui.formats;
+
+/**
+ * How likely a payload is in a certain format, judged by its first bytes only.
+ */
+public enum FormatConfidence {
+    NONE,
+    POSSIBLE,
+    LIKELY,
+    CERTAIN
+}
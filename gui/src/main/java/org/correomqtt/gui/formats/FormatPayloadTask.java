@@ -0,0 +1,132 @@
+package org.correomqtt.gui.formats;
+
+import org.correomqtt.core.concurrent.SimpleResultTask;
+import org.correomqtt.core.concurrent.TaskExecutorType;
+import org.correomqtt.core.plugin.PluginManager;
+import org.correomqtt.di.Assisted;
+import org.correomqtt.di.DefaultBean;
+import org.correomqtt.di.Inject;
+import org.correomqtt.di.SoyEvents;
+import org.correomqtt.gui.plugin.spi.DetailViewFormatHook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Detects the format of a payload and computes its pretty string and highlighting in the background.
+ */
+@DefaultBean
+public class FormatPayloadTask extends SimpleResultTask<FormattedPayload> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FormatPayloadTask.class);
+    private static final int SNIFF_CHARS = 256;
+
+    private final PluginManager pluginManager;
+    private final String payload;
+
+    @Inject
+    public FormatPayloadTask(PluginManager pluginManager,
+                             SoyEvents soyEvents,
+                             @Assisted String payload) {
+        super(soyEvents);
+        this.pluginManager = pluginManager;
+        this.payload = payload;
+    }
+
+    @Override
+    protected TaskExecutorType getExecutorType() {
+        return TaskExecutorType.CPU;
+    }
+
+    @Override
+    protected FormattedPayload execute() {
+        byte[] prefix = payload.substring(0, Math.min(payload.length(), SNIFF_CHARS)).getBytes(StandardCharsets.UTF_8);
+        for (DetailViewFormatHook candidate : getCandidates(prefix)) {
+            getCancellationToken().throwIfCancelled();
+            DetailViewFormatHook format = createInstance(candidate);
+            if (format != null && isValid(format)) {
+                FormattedPayload result = format(format);
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+        Plain plain = new Plain();
+        plain.setText(payload);
+        return new FormattedPayload(plain, payload, plain.getFxSpans());
+    }
+
+    /**
+     * @return the formats, that might match the payload, the most confident first
+     */
+    private List<DetailViewFormatHook> getCandidates(byte[] prefix) {
+        List<DetailViewFormatHook> candidates = new ArrayList<>();
+        Map<DetailViewFormatHook, FormatConfidence> confidences = new IdentityHashMap<>();
+        for (DetailViewFormatHook format : pluginManager.getExtensions(DetailViewFormatHook.class)) {
+            if (format == null) {
+                continue;
+            }
+            FormatConfidence confidence = sniff(format, prefix);
+            if (confidence != FormatConfidence.NONE) {
+                candidates.add(format);
+                confidences.put(format, confidence);
+            }
+        }
+        // stable, so formats with the same confidence keep the order of the plugins
+        candidates.sort(Comparator.comparing(confidences::get, Comparator.reverseOrder()));
+        return candidates;
+    }
+
+    /**
+     * The extensions of the plugin manager are shared and keep the text they were given, so every task formats with
+     * its own instance.
+     */
+    private DetailViewFormatHook createInstance(DetailViewFormatHook format) {
+        try {
+            return pluginManager.getExtensionFactory().create(format.getClass());
+        } catch (Exception e) {
+            LOGGER.error("Creating format failed. ", e);
+            return null;
+        }
+    }
+
+    private static FormatConfidence sniff(DetailViewFormatHook format, byte[] prefix) {
+        try {
+            FormatConfidence confidence = format.sniff(prefix);
+            return confidence == null ? FormatConfidence.POSSIBLE : confidence;
+        } catch (Exception e) {
+            LOGGER.error("Format sniffing failed. ", e);
+            return FormatConfidence.POSSIBLE;
+        }
+    }
+
+    private boolean isValid(Format format) {
+        try {
+            format.setText(payload);
+            return format.isValid();
+        } catch (Exception e) {
+            LOGGER.error("Formatting check failed. ", e);
+            return false;
+        }
+    }
+
+    private FormattedPayload format(Format format) {
+        try {
+            String text = format.getPrettyString();
+            getCancellationToken().throwIfCancelled();
+            return new FormattedPayload(format, text, format.getFxSpans());
+        } catch (RuntimeException e) {
+            if (getCancellationToken().isCancelled()) {
+                throw e;
+            }
+            LOGGER.error("Formatter failed. ", e);
+            return null;
+        }
+    }
+}
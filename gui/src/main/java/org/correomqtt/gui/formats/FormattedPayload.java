@@ -0,0 +1,11 @@
+package org.correomqtt.gui.formats;
+
+import org.fxmisc.richtext.model.StyleSpans;
+
+import java.util.Collection;
+
+/**
+ * Result of the format detection, ready to be shown in a code area.
+ */
+public record FormattedPayload(Format format, String text, StyleSpans<Collection<String>> spans) {
+}
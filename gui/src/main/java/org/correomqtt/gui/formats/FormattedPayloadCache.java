@@ -0,0 +1,61 @@
+package org.correomqtt.gui.formats;
+
+import org.correomqtt.di.Inject;
+import org.correomqtt.di.SingletonBean;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the formatted payloads of the recently shown messages, so toggling the formatting or selecting a message
+ * again does not parse the payload again.
+ */
+@SingletonBean
+public class FormattedPayloadCache {
+
+    private static final int MAX_ENTRIES = 32;
+    private static final long MAX_CHARS = 16L * 1024 * 1024;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long chars;
+
+    @Inject
+    public FormattedPayloadCache() {
+        // empty
+    }
+
+    public synchronized FormattedPayload get(String messageId, String payload) {
+        if (messageId == null) {
+            return null;
+        }
+        Entry entry = entries.get(messageId);
+        if (entry == null || !entry.payload().equals(payload)) {
+            return null;
+        }
+        return entry.formatted();
+    }
+
+    public synchronized void put(String messageId, String payload, FormattedPayload formatted) {
+        if (messageId == null) {
+            return;
+        }
+        long size = (long) payload.length() + formatted.text().length();
+        if (size > MAX_CHARS) {
+            return;
+        }
+        Entry previous = entries.put(messageId, new Entry(payload, formatted, size));
+        if (previous != null) {
+            chars -= previous.size();
+        }
+        chars += size;
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while ((chars > MAX_CHARS || entries.size() > MAX_ENTRIES) && it.hasNext()) {
+            chars -= it.next().getValue().size();
+            it.remove();
+        }
+    }
+
+    private record Entry(String payload, FormattedPayload formatted, long size) {
+    }
+}
@@ -31,7 +31,6 @@ public class KeyringManager {
     private final AlertHelper alertHelper;
     private final KeyringFactory keyringFactory;
     private String masterPassword;
-    private static final String KEYRING_LABEL = "CorreoMQTT_MasterPassword";
     private Keyring keyring;
 
     @Inject
@@ -67,7 +66,7 @@ public class KeyringManager {
             masterPassword = null;
             getMasterPassword();
             if (!keyring.requiresUserinput()) {
-                keyring.setPassword(KEYRING_LABEL, masterPassword);
+                keyring.setPassword(Keyring.MASTER_PASSWORD_LABEL, masterPassword);
             }
 
             List<ConnectionConfigDTO> connections = settingsManager.getConnectionConfigs();
@@ -97,10 +96,10 @@ public class KeyringManager {
                         resources.getString("onPasswordRequiredContent")
                 );
             } else {
-                masterPassword = keyring.getPassword(KEYRING_LABEL);
+                masterPassword = keyring.getPassword(Keyring.MASTER_PASSWORD_LABEL);
                 if (masterPassword == null || masterPassword.isEmpty()) {
-                    keyring.setPassword(KEYRING_LABEL, UUID.randomUUID().toString());
-                    masterPassword = keyring.getPassword(KEYRING_LABEL);
+                    keyring.setPassword(Keyring.MASTER_PASSWORD_LABEL, UUID.randomUUID().toString());
+                    masterPassword = keyring.getPassword(Keyring.MASTER_PASSWORD_LABEL);
                 }
             }
         }
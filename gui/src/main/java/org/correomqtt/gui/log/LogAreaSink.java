@@ -0,0 +1,80 @@
+package org.correomqtt.gui.log;
+
+import javafx.application.Platform;
+import org.correomqtt.gui.utils.LogAreaUtils;
+import org.fxmisc.richtext.StyleClassedTextArea;
+import org.fxmisc.richtext.model.StyleSpansBuilder;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Collects log messages from any thread and appends them to a text area in one styled change per FX pulse. The area
+ * is capped at a maximum number of lines, older lines are removed from the top.
+ */
+public class LogAreaSink {
+
+    public static final int DEFAULT_MAX_LINES = 10_000;
+
+    private final StyleClassedTextArea area;
+    private final int maxLines;
+    private final Queue<String> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    public LogAreaSink(StyleClassedTextArea area) {
+        this(area, DEFAULT_MAX_LINES);
+    }
+
+    public LogAreaSink(StyleClassedTextArea area, int maxLines) {
+        this.area = area;
+        this.maxLines = maxLines;
+    }
+
+    public void append(String msg) {
+        if (msg == null || msg.isEmpty()) {
+            return;
+        }
+        pending.add(msg);
+        if (scheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::flush);
+        }
+    }
+
+    /**
+     * Removes all lines from the area and drops messages, that are not shown yet. Must be called in the FX thread.
+     */
+    public void clear() {
+        pending.clear();
+        area.clear();
+    }
+
+    private void flush() {
+        scheduled.set(false);
+        ArrayDeque<String> batch = new ArrayDeque<>();
+        String msg;
+        while ((msg = pending.poll()) != null) {
+            batch.add(msg);
+            // every message has at least one line, so older ones would be trimmed right away
+            if (batch.size() > maxLines) {
+                batch.pollFirst();
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        StringBuilder text = new StringBuilder();
+        StyleSpansBuilder<Collection<String>> spans = new StyleSpansBuilder<>();
+        batch.forEach(m -> LogAreaUtils.collectColorful(m, text, spans));
+        LogAreaUtils.appendStyled(area, text, spans);
+
+        int excess = area.getParagraphs().size() - maxLines;
+        if (excess > 0) {
+            area.deleteText(0, area.getAbsolutePosition(excess, 0));
+        }
+        area.requestFollowCaret();
+    }
+}
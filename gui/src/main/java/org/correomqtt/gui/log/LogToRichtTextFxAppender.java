@@ -3,10 +3,8 @@ package org.correomqtt.gui.log;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.AppenderBase;
 import ch.qos.logback.core.encoder.Encoder;
-import javafx.application.Platform;
 import lombok.Getter;
 import lombok.Setter;
-import org.correomqtt.gui.utils.LogAreaUtils;
 import org.fxmisc.richtext.StyleClassedTextArea;
 
 import java.nio.charset.StandardCharsets;
@@ -16,10 +14,10 @@ public class LogToRichtTextFxAppender extends AppenderBase<ILoggingEvent> {
     @Setter
     @Getter
     protected Encoder<ILoggingEvent> encoder;
-    private final StyleClassedTextArea area;
+    private final LogAreaSink sink;
 
     public LogToRichtTextFxAppender(StyleClassedTextArea area) {
-        this.area = area;
+        this.sink = new LogAreaSink(area);
     }
 
     @Override
@@ -34,10 +32,7 @@ public class LogToRichtTextFxAppender extends AppenderBase<ILoggingEvent> {
     }
 
     private void addData(byte[] bytes) {
-        String msg = new String(bytes, StandardCharsets.UTF_8);
-        Platform.runLater(() ->
-                LogAreaUtils.appendColorful(area, msg)
-        );
+        sink.append(new String(bytes, StandardCharsets.UTF_8));
     }
 
     @Override
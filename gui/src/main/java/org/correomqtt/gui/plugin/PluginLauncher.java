@@ -6,9 +6,7 @@ import org.correomqtt.core.plugin.repository.BundledPluginList;
 import org.correomqtt.core.settings.SettingsManager;
 import org.correomqtt.di.Inject;
 import org.correomqtt.di.SingletonBean;
-import org.correomqtt.di.SoyDi;
 import org.correomqtt.preloader.PreloaderNotification;
-import org.pf4j.PluginState;
 import org.pf4j.update.PluginInfo;
 import org.pf4j.update.UpdateManager;
 import org.slf4j.Logger;
@@ -44,14 +42,7 @@ public class PluginLauncher {
             }
             notifyPreloader.accept(new PreloaderNotification(resources.getString("preloaderStartPlugins")));
             pluginManager.startPlugins();
-            pluginManager.getPlugins()
-                    .stream()
-                    .filter(pw -> pw.getPluginState() == PluginState.STARTED)
-                    .forEach(pw -> {
-                                SoyDi.addClassLoader(pw.getPluginClassLoader());
-                                SoyDi.scan(pw.getPlugin().getClass().getPackageName());
-                            }
-                    );
+            pluginManager.registerStartedPlugins();
         } catch (Exception e) {
             LOGGER.error("Error or Exception during loading plugins ", e);
         }
@@ -2,6 +2,32 @@ package org.correomqtt.gui.plugin.spi;
 
 import org.correomqtt.core.plugin.spi.BaseExtensionPoint;
 import org.correomqtt.gui.formats.Format;
+import org.correomqtt.gui.formats.FormatConfidence;
 
 public interface DetailViewFormatHook extends Format, BaseExtensionPoint<Object> {
+
+    /**
+     * Cheap check before the payload is parsed. Only formats with a confidence above {@link FormatConfidence#NONE} are
+     * tried, the most confident first. It is called on a shared instance, so it must not keep any state.
+     *
+     * @param prefix the first bytes of the payload in UTF-8
+     */
+    default FormatConfidence sniff(byte[] prefix) {
+        return FormatConfidence.POSSIBLE;
+    }
+
+    /**
+     * @return the index of the first byte of the prefix after a UTF-8 byte order mark and whitespace, or the length of
+     * the prefix, if it holds nothing else
+     */
+    static int skipBomAndWhitespace(byte[] prefix) {
+        int i = 0;
+        if (prefix.length >= 3 && (prefix[0] & 0xFF) == 0xEF && (prefix[1] & 0xFF) == 0xBB && (prefix[2] & 0xFF) == 0xBF) {
+            i = 3;
+        }
+        while (i < prefix.length && Character.isWhitespace(prefix[i])) {
+            i++;
+        }
+        return i;
+    }
 }
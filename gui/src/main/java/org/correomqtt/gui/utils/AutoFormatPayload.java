@@ -1,75 +1,137 @@
 package org.correomqtt.gui.utils;
 
-import java.util.Arrays;
+import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
-import org.correomqtt.core.plugin.PluginManager;
+import org.correomqtt.core.concurrent.SimpleTaskErrorResult;
 import org.correomqtt.di.DefaultBean;
+import org.correomqtt.di.Inject;
 import org.correomqtt.gui.formats.Format;
-import org.correomqtt.gui.formats.Plain;
-import org.correomqtt.gui.plugin.spi.DetailViewFormatHook;
+import org.correomqtt.gui.formats.FormatPayloadTask;
+import org.correomqtt.gui.formats.FormatPayloadTaskFactory;
+import org.correomqtt.gui.formats.FormattedPayload;
+import org.correomqtt.gui.formats.FormattedPayloadCache;
 import org.fxmisc.richtext.CodeArea;
+import org.fxmisc.richtext.model.StyleSpans;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import org.correomqtt.di.Inject;
-import java.util.ArrayList;
-import java.util.Objects;
+import java.util.Collection;
+import java.util.function.Consumer;
 
+/**
+ * Formats a payload in the background and shows it in a code area. A new request cancels the previous one of the same
+ * instance.
+ */
 @DefaultBean
 public class AutoFormatPayload {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AutoFormatPayload.class);
-    private final PluginManager pluginManager;
+
+    // larger texts are highlighted in chunks, starting with the visible part
+    private static final int INCREMENTAL_HIGHLIGHT_THRESHOLD = 200_000;
+    private static final int HIGHLIGHT_CHUNK_SIZE = 50_000;
+
+    private final FormatPayloadTaskFactory formatPayloadTaskFactory;
+    private final FormattedPayloadCache formattedPayloadCache;
+    private FormatPayloadTask runningTask;
+    private int generation;
 
     @Inject
-    public AutoFormatPayload(PluginManager pluginManager) {
-        // private Constructor
-        this.pluginManager = pluginManager;
+    public AutoFormatPayload(FormatPayloadTaskFactory formatPayloadTaskFactory,
+                             FormattedPayloadCache formattedPayloadCache) {
+        this.formatPayloadTaskFactory = formatPayloadTaskFactory;
+        this.formattedPayloadCache = formattedPayloadCache;
+    }
+
+    public void autoFormatPayload(final String payload, boolean doFormatting, String connectionId, CodeArea codeArea) {
+        autoFormatPayload(payload, null, doFormatting, connectionId, codeArea, null, null);
+    }
+
+    /**
+     * Formats the payload of a received or published message. The result is cached for the message id.
+     */
+    public void autoFormatPayload(final String payload, String messageId, boolean doFormatting, String connectionId, CodeArea codeArea, Consumer<Format> onFormatted) {
+        autoFormatPayload(payload, messageId, doFormatting, connectionId, codeArea, null, onFormatted);
     }
 
-    public Format autoFormatPayload(final String payload, boolean doFormatting, String connectionId, CodeArea codeArea) {
-        return autoFormatPayload(payload, doFormatting, connectionId, codeArea, null);
+    public void autoFormatPayload(final String payload, boolean doFormatting, String connectionId, CodeArea codeArea, ChangeListener<String> listener) {
+        autoFormatPayload(payload, null, doFormatting, connectionId, codeArea, listener, null);
     }
 
-    public Format autoFormatPayload(final String payload, boolean doFormatting, String connectionId, CodeArea codeArea, ChangeListener<String> listener) {
+    /**
+     * Must be called in the FX thread. The callback is called in the FX thread, once the formatted text is shown.
+     */
+    public void autoFormatPayload(final String payload,
+                                  String messageId,
+                                  boolean doFormatting,
+                                  String connectionId,
+                                  CodeArea codeArea,
+                                  ChangeListener<String> listener,
+                                  Consumer<Format> onFormatted) {
 
         if (!doFormatting) {
-            return null;
+            return;
         }
 
+        cancel();
+
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Auto formatting payload: {}", connectionId);
         }
 
-        Format foundFormat;
-        // Find the first format that is valid.
-        ArrayList<Format> availableFormats = new ArrayList<>(pluginManager.getExtensions(DetailViewFormatHook.class));
-        availableFormats.add(new Plain());
-        foundFormat = availableFormats.stream()
-                .filter(Objects::nonNull)
-                .filter(format -> {
-                            try {
-                                format.setText(payload);
-                                return format.isValid();
-                            } catch (Exception e) {
-                                LOGGER.error("Formatting check failed. ", e);
-                                return false;
-                            }
-                        }
-                )
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Plain format did not match."));
+        int requestGeneration = generation;
+        String textBefore = codeArea.getText();
+        FormattedPayload cached = formattedPayloadCache.get(messageId, payload);
+        if (cached != null) {
+            onFormatted(cached, requestGeneration, textBefore, codeArea, listener, onFormatted);
+            return;
+        }
+        runningTask = formatPayloadTaskFactory.create(payload);
+        runningTask.onSuccess(result -> {
+                    formattedPayloadCache.put(messageId, payload, result);
+                    onFormatted(result, requestGeneration, textBefore, codeArea, listener, onFormatted);
+                })
+                .onError(this::onFormatFailed)
+                .run();
+    }
+
+    /**
+     * Cancels a running formatting and the pending highlighting of the last result.
+     */
+    public void cancel() {
+        generation++;
+        if (runningTask != null) {
+            runningTask.cancel();
+            runningTask = null;
+        }
+    }
+
+    @FxThread
+    protected void onFormatted(FormattedPayload result,
+                               int requestGeneration,
+                               String textBefore,
+                               CodeArea codeArea,
+                               ChangeListener<String> listener,
+                               Consumer<Format> onFormatted) {
 
+        // the area changed in the meantime, e.g. by typing, so the result is outdated
+        if (requestGeneration != generation || !codeArea.getText().equals(textBefore)) {
+            return;
+        }
+        runningTask = null;
 
         // ChangeListener<String> listener is needed to disable it when the text of the PublishCodeArea changes. It is reenabled after the manipulation.
         if (listener != null) {
             codeArea.textProperty().removeListener(listener);
         }
 
-        codeArea.clear();
         try {
-            codeArea.replaceText(0, 0, foundFormat.getPrettyString());
-            codeArea.setStyleSpans(0, foundFormat.getFxSpans());
+            codeArea.replaceText(result.text());
+            if (result.text().length() <= INCREMENTAL_HIGHLIGHT_THRESHOLD) {
+                codeArea.setStyleSpans(0, result.spans());
+            } else {
+                highlightIncrementally(codeArea, result.spans(), requestGeneration);
+            }
         } catch (Exception e) {
             LOGGER.error("Formatter failed. ", e);
         }
@@ -77,7 +139,61 @@ public class AutoFormatPayload {
         if (listener != null) {
             codeArea.textProperty().addListener(listener);
         }
-        return foundFormat;
 
+        if (onFormatted != null) {
+            onFormatted.accept(result.format());
+        }
+    }
+
+    private void highlightIncrementally(CodeArea codeArea, StyleSpans<Collection<String>> spans, int requestGeneration) {
+        int length = spans.length();
+        int visibleFrom = 0;
+        int visibleTo = Math.min(length, HIGHLIGHT_CHUNK_SIZE);
+        try {
+            visibleFrom = codeArea.getAbsolutePosition(codeArea.firstVisibleParToAllParIndex(), 0);
+            int lastParagraph = codeArea.lastVisibleParToAllParIndex();
+            visibleTo = Math.min(length, codeArea.getAbsolutePosition(lastParagraph, codeArea.getParagraphLength(lastParagraph)));
+        } catch (RuntimeException e) {
+            // no layout yet, the area shows the beginning of the text
+        }
+        highlightChunk(codeArea, spans, visibleFrom, visibleTo);
+
+        int from = visibleFrom;
+        int to = visibleTo;
+        Runnable next = new Runnable() {
+            private int position;
+
+            @Override
+            public void run() {
+                if (requestGeneration != generation) {
+                    return;
+                }
+                if (position == from) {
+                    position = to;
+                }
+                if (position >= length) {
+                    return;
+                }
+                int end = Math.min(length, position + HIGHLIGHT_CHUNK_SIZE);
+                if (position < from) {
+                    end = Math.min(end, from);
+                }
+                highlightChunk(codeArea, spans, position, end);
+                position = end;
+                Platform.runLater(this);
+            }
+        };
+        Platform.runLater(next);
+    }
+
+    private static void highlightChunk(CodeArea codeArea, StyleSpans<Collection<String>> spans, int from, int to) {
+        if (to > from) {
+            codeArea.setStyleSpans(from, spans.subView(from, to));
+        }
+    }
+
+    @FxThread
+    protected void onFormatFailed(SimpleTaskErrorResult result) {
+        LOGGER.error("Formatting payload failed. ", result.getUnexpectedError());
     }
 }
@@ -1,9 +1,21 @@
 package org.correomqtt.gui.utils;
 
 import org.fxmisc.richtext.StyleClassedTextArea;
+import org.fxmisc.richtext.model.StyleSpansBuilder;
+
+import java.util.Collection;
+import java.util.List;
 
 public class LogAreaUtils {
 
+    private static final List<String> CYAN = List.of("cyan");
+    private static final List<String> BLUE = List.of("blue");
+    private static final List<String> ORANGE = List.of("orange");
+    private static final List<String> YELLOW = List.of("yellow");
+    private static final List<String> MAGENTA = List.of("magenta");
+    private static final List<String> RED = List.of("red");
+    private static final List<String> DEFAULT = List.of("default");
+
     private LogAreaUtils() {
         // private constructor
     }
@@ -13,36 +25,61 @@ public class LogAreaUtils {
         if (msg == null)
             return;
 
+        StringBuilder text = new StringBuilder(msg.length());
+        StyleSpansBuilder<Collection<String>> spans = new StyleSpansBuilder<>();
+        collectColorful(msg, text, spans);
+        appendStyled(area, text, spans);
+    }
+
+    /**
+     * Adds the message without ANSI color codes to the text and the matching style classes to the spans.
+     */
+    public static void collectColorful(String msg, StringBuilder text, StyleSpansBuilder<Collection<String>> spans) {
         String[] matches = msg.split("\u001B");
-        String cssClass;
+        List<String> cssClass;
         for (String match : matches) {
             String str;
             if (match.startsWith("[36m")) {
-                cssClass = "cyan";
+                cssClass = CYAN;
                 str = match.substring(4);
             } else if (match.startsWith("[34m")) {
-                cssClass = "blue";
+                cssClass = BLUE;
                 str = match.substring(4);
             } else if (match.startsWith("[31m")) {
-                cssClass = "orange";
+                cssClass = ORANGE;
                 str = match.substring(4);
             } else if (match.startsWith("[33m")) {
-                cssClass = "yellow";
+                cssClass = YELLOW;
                 str = match.substring(4);
             } else if (match.startsWith("[35m")) {
-                cssClass = "magenta";
+                cssClass = MAGENTA;
                 str = match.substring(4);
             } else if (match.startsWith("[1;31m")) {
-                cssClass = "red";
+                cssClass = RED;
                 str = match.substring(6);
             } else if (match.startsWith("[0;39m")) {
-                cssClass = "default";
+                cssClass = DEFAULT;
                 str = match.substring(6);
             } else {
-                cssClass = "default";
+                cssClass = DEFAULT;
                 str = match;
             }
-            area.append(str, cssClass);
+            if (!str.isEmpty()) {
+                text.append(str);
+                spans.add(cssClass, str.length());
+            }
+        }
+    }
+
+    /**
+     * Appends the text in a single change of the area, instead of one change per colored part.
+     */
+    public static void appendStyled(StyleClassedTextArea area, CharSequence text, StyleSpansBuilder<Collection<String>> spans) {
+        if (text.isEmpty()) {
+            return;
         }
+        int start = area.getLength();
+        area.appendText(text.toString());
+        area.setStyleSpans(start, spans.create());
     }
 }
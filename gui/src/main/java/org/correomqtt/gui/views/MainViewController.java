@@ -39,6 +39,8 @@ import org.correomqtt.gui.views.connectionsettings.ConnectionSettingsViewControl
 import org.correomqtt.gui.views.connectionsettings.ConnectionSettingsViewDelegate;
 import org.correomqtt.gui.views.importexport.ConnectionExportViewControllerFactory;
 import org.correomqtt.gui.views.importexport.ConnectionImportViewControllerFactory;
+import org.correomqtt.gui.views.diagnostics.DiagnosticsTabController;
+import org.correomqtt.gui.views.diagnostics.DiagnosticsTabControllerFactory;
 import org.correomqtt.gui.views.log.LogTabController;
 import org.correomqtt.gui.views.log.LogTabControllerFactory;
 import org.correomqtt.gui.views.onboarding.ConnectionOnboardingDelegate;
@@ -70,6 +72,7 @@ public class MainViewController implements ConnectionOnboardingDelegate, Connect
     private final HostServices hostServices;
     private final AboutViewControllerFactory aboutViewControllerFactory;
     private final LogTabControllerFactory logTabControllerFactory;
+    private final DiagnosticsTabControllerFactory diagnosticsTabControllerFactory;
     private final SettingsViewControllerFactory settingsViewControllerFactory;
     private final ConnectionExportViewControllerFactory exportViewCtrlFactory;
     private final ConnectionImportViewControllerFactory importViewCtrlFactory;
@@ -84,6 +87,10 @@ public class MainViewController implements ConnectionOnboardingDelegate, Connect
     @FXML
     private AnchorPane logAnchorPane;
     @FXML
+    private Tab diagnosticsTab;
+    @FXML
+    private AnchorPane diagnosticsAnchorPane;
+    @FXML
     private Tab addTab;
     @FXML
     private AnchorPane tabPaneAnchorPane;
@@ -121,6 +128,8 @@ public class MainViewController implements ConnectionOnboardingDelegate, Connect
 
     private LogTabController logViewController;
 
+    private DiagnosticsTabController diagnosticsViewController;
+
     private String closedTabId;
 
     @Inject
@@ -131,6 +140,7 @@ public class MainViewController implements ConnectionOnboardingDelegate, Connect
                               CheckNewVersionUtils checkNewVersionUtils,
                               AboutViewControllerFactory aboutViewControllerFactory,
                               LogTabControllerFactory logTabControllerFactory,
+                              DiagnosticsTabControllerFactory diagnosticsTabControllerFactory,
                               SettingsViewControllerFactory settingsViewControllerFactory,
                               ConnectionExportViewControllerFactory exportViewCtrlFactory,
                               ConnectionImportViewControllerFactory importViewCtrlFactory,
@@ -146,6 +156,7 @@ public class MainViewController implements ConnectionOnboardingDelegate, Connect
         this.hostServices = guiCore.getHostServices();
         this.aboutViewControllerFactory = aboutViewControllerFactory;
         this.logTabControllerFactory = logTabControllerFactory;
+        this.diagnosticsTabControllerFactory = diagnosticsTabControllerFactory;
         this.settingsViewControllerFactory = settingsViewControllerFactory;
         this.exportViewCtrlFactory = exportViewCtrlFactory;
         this.importViewCtrlFactory = importViewCtrlFactory;
@@ -159,6 +170,7 @@ public class MainViewController implements ConnectionOnboardingDelegate, Connect
         tabPane.setTabClosingPolicy(TabPane.TabClosingPolicy.ALL_TABS);
         setupAddTab();
         createLogTab();
+        createDiagnosticsTab();
         connectionViewControllers = new HashMap<>();
         final String os = System.getProperty("os.name");
         if (os != null && os.startsWith("Mac")) {
@@ -196,6 +208,17 @@ public class MainViewController implements ConnectionOnboardingDelegate, Connect
         logViewController.getLogViewAnchor().prefHeightProperty().bind(logAnchorPane.heightProperty());
     }
 
+    private void createDiagnosticsTab() {
+        LoaderResult<DiagnosticsTabController> result = diagnosticsTabControllerFactory.create().load();
+        diagnosticsViewController = result.getController();
+        diagnosticsTab.setClosable(false);
+        diagnosticsTab.setGraphic(new FontIcon("mdi-speedometer"));
+        diagnosticsTab.setOnSelectionChanged(event -> diagnosticsViewController.setActive(diagnosticsTab.isSelected()));
+        diagnosticsAnchorPane.getChildren().add(diagnosticsViewController.getDiagnosticsViewAnchor());
+        diagnosticsViewController.getDiagnosticsViewAnchor().prefWidthProperty().bind(diagnosticsAnchorPane.widthProperty());
+        diagnosticsViewController.getDiagnosticsViewAnchor().prefHeightProperty().bind(diagnosticsAnchorPane.heightProperty());
+    }
+
     private void setMenuEventHandler() {
         closeItem.setOnAction(event -> soyEvents.fireAsync(new ShutdownRequestEvent()));
         connectionsItem.setOnAction(event -> connectionSettingsCtrlFactory.create(null).showAsDialog());
@@ -217,7 +240,7 @@ public class MainViewController implements ConnectionOnboardingDelegate, Connect
 
     private void calcTabWidth() {
         ObservableList<Tab> tabs = FXCollections.observableArrayList(tabPane.getTabs());
-        tabPane.setTabMaxWidth((tabPane.widthProperty().doubleValue() - 80) / Math.max(1, tabs.size() - 2) - 25);
+        tabPane.setTabMaxWidth((tabPane.widthProperty().doubleValue() - 80) / Math.max(1, tabs.size() - 3) - 25);
     }
 
     private void openPluginSettings() {
@@ -261,7 +284,7 @@ public class MainViewController implements ConnectionOnboardingDelegate, Connect
         tab.setContent(result.getMainRegion());
         tab.setOnCloseRequest(event -> this.onTabClose(result, tabId));
         connectionViewControllers.put(tabId, result.getController());
-        tabPane.getTabs().add(tabPane.getTabs().size() - 1, tab);
+        tabPane.getTabs().add(tabPane.getTabs().indexOf(logTab), tab);
         selectionModel = tabPane.getSelectionModel();
         selectionModel.select(tab);
         LOGGER.debug("New tab created");
@@ -1,15 +1,23 @@
 package org.correomqtt.gui.views.connections;
 
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.ToggleButton;
+import javafx.scene.control.Tooltip;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.util.Duration;
 import org.correomqtt.core.CoreManager;
 import org.correomqtt.core.connection.ConnectionLifecycleTaskFactories;
 import org.correomqtt.core.connection.ConnectionState;
 import org.correomqtt.core.connection.ConnectionStateChangedEvent;
+import org.correomqtt.core.metrics.ConnectionStatsCollector;
+import org.correomqtt.core.metrics.ConnectionStatsSnapshot;
 import org.correomqtt.core.model.ConnectionConfigDTO;
 import org.correomqtt.di.Assisted;
 import org.correomqtt.di.DefaultBean;
@@ -24,6 +32,7 @@ import org.correomqtt.gui.views.LoaderResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Locale;
 import java.util.ResourceBundle;
 
 import static org.correomqtt.core.connection.ConnectionState.CONNECTED;
@@ -31,9 +40,14 @@ import static org.correomqtt.core.connection.ConnectionState.CONNECTED;
 @DefaultBean
 public class ControlBarController extends BaseConnectionController {
     private static final Logger LOGGER = LoggerFactory.getLogger(ControlBarController.class);
+    private static final Duration STATS_REFRESH_INTERVAL = Duration.seconds(1);
+    private static final double NANOS_PER_MILLI = 1_000_000d;
 
     private final ConnectionLifecycleTaskFactories connectionLifecycleTaskFactories;
+    private final ConnectionStatsCollector connectionStatsCollector;
     private final ControlBarDelegate delegate;
+    private final Timeline statsTimeline = new Timeline(new KeyFrame(STATS_REFRESH_INTERVAL, event -> updateStats()));
+    private final Tooltip statsTooltip = new Tooltip();
 
     @FXML
     private AnchorPane mainViewHBoxAnchorPane;
@@ -68,6 +82,15 @@ public class ControlBarController extends BaseConnectionController {
     @FXML
     private Label brokerInfo;
 
+    @FXML
+    private VBox statsBox;
+
+    @FXML
+    private Label statsInLabel;
+
+    @FXML
+    private Label statsOutLabel;
+
     @FXML
     private ResourceBundle resources;
 
@@ -78,11 +101,13 @@ public class ControlBarController extends BaseConnectionController {
     @Inject
     public ControlBarController(CoreManager coreManager,
                                 ConnectionLifecycleTaskFactories connectionLifecycleTaskFactories,
+                                ConnectionStatsCollector connectionStatsCollector,
                                 ThemeManager themeManager,
                                 @Assisted String connectionId,
                                 @Assisted ControlBarDelegate delegate) {
         super(coreManager, themeManager, connectionId);
         this.connectionLifecycleTaskFactories = connectionLifecycleTaskFactories;
+        this.connectionStatsCollector = connectionStatsCollector;
         this.delegate = delegate;
     }
 
@@ -112,6 +137,9 @@ public class ControlBarController extends BaseConnectionController {
         disconnectBtn.setManaged(false);
         reconnectBtn.setVisible(false);
         reconnectBtn.setManaged(false);
+        statsTimeline.setCycleCount(Animation.INDEFINITE);
+        Tooltip.install(statsBox, statsTooltip);
+        updateStats();
 
         int indexToInsert = controllViewButtonHBox.getChildrenUnmodifiable().indexOf(controlViewSButton) + 1;
 
@@ -212,6 +240,38 @@ public class ControlBarController extends BaseConnectionController {
     }
 
 
+    private void updateStats() {
+        ConnectionStatsSnapshot stats = connectionStatsCollector.snapshot(getConnectionId());
+        statsInLabel.setText(resources.getString("controlBarViewStatsIn") + " "
+                + formatRate(stats.messagesInPerSecond()) + " msg/s, " + formatBytes(stats.bytesInPerSecond()) + "/s");
+        statsOutLabel.setText(resources.getString("controlBarViewStatsOut") + " "
+                + formatRate(stats.messagesOutPerSecond()) + " msg/s, " + formatBytes(stats.bytesOutPerSecond()) + "/s");
+        statsTooltip.setText(resources.getString("controlBarViewStatsLatency") + ": "
+                + formatLatency(stats.publishLatencyP50()) + " / "
+                + formatLatency(stats.publishLatencyP90()) + " / "
+                + formatLatency(stats.publishLatencyP99()) + "\n"
+                + resources.getString("controlBarViewStatsTotal") + ": " + stats.messagesIn() + " / " + stats.messagesOut() + "\n"
+                + resources.getString("controlBarViewStatsDropped") + ": " + stats.dropped() + "\n"
+                + resources.getString("controlBarViewStatsReconnects") + ": " + stats.reconnects());
+    }
+
+    private static String formatRate(double rate) {
+        return String.format(Locale.ROOT, "%.1f", rate);
+    }
+
+    private static String formatBytes(double bytes) {
+        if (bytes < 1024) {
+            return String.format(Locale.ROOT, "%.0f B", bytes);
+        } else if (bytes < 1024 * 1024) {
+            return String.format(Locale.ROOT, "%.1f KB", bytes / 1024);
+        }
+        return String.format(Locale.ROOT, "%.1f MB", bytes / (1024 * 1024));
+    }
+
+    private static String formatLatency(long nanos) {
+        return String.format(Locale.ROOT, "%.2f ms", nanos / NANOS_PER_MILLI);
+    }
+
     @FxThread
     @SuppressWarnings("unused")
     public void onConnectionStateChanged(@Observes ConnectionStateChangedEvent event) {
@@ -269,6 +329,13 @@ public class ControlBarController extends BaseConnectionController {
 
         updateBrokerInfo();
 
+        if (state == CONNECTED) {
+            statsTimeline.play();
+        } else {
+            statsTimeline.stop();
+            updateStats();
+        }
+
         GuiConnectionState guiState = GuiConnectionState.of(state);
 
         delegate.setConnectionState(guiState);
@@ -39,7 +39,6 @@ import org.correomqtt.gui.contextmenu.DetailContextMenu;
 import org.correomqtt.gui.contextmenu.DetailContextMenuDelegate;
 import org.correomqtt.gui.contextmenu.DetailContextMenuFactory;
 import org.correomqtt.gui.controls.IconCheckMenuItem;
-import org.correomqtt.gui.formats.Format;
 import org.correomqtt.gui.menuitem.DetailViewManipulatorTaskMenuItem;
 import org.correomqtt.gui.model.MessagePropertiesDTO;
 import org.correomqtt.gui.model.Search;
@@ -208,8 +207,13 @@ public class DetailViewController extends BaseConnectionController implements
         });
 
         detailViewFormatToggleButton.setOnMouseClicked(mouseEvent -> {
-            autoFormatPayload.autoFormatPayload(messageDTO.getPayload(), detailViewFormatToggleButton.isSelected(), getConnectionId(), codeArea);
-            showSearchResult();
+            if (detailViewFormatToggleButton.isSelected()) {
+                autoFormatPayload.autoFormatPayload(messageDTO.getPayload(), messageDTO.getMessageId(), true, getConnectionId(), codeArea,
+                        format -> showSearchResult());
+            } else {
+                autoFormatPayload.cancel();
+                showSearchResult();
+            }
         });
 
         initializeManipulation();
@@ -375,7 +379,7 @@ public class DetailViewController extends BaseConnectionController implements
 
         executeOnOpenDetailViewExtensions();
 
-        validateMessage(messageDTO.getTopic(), messageDTO.getPayload());
+        validateMessage(messageDTO.getMessageId(), messageDTO.getTopic(), messageDTO.getPayload());
 
         detailViewRetained.setManaged(messageDTO.isRetained());
         detailViewRetained.setVisible(messageDTO.isRetained());
@@ -420,13 +424,13 @@ public class DetailViewController extends BaseConnectionController implements
         });
     }
 
-    private void validateMessage(String topic, String payload) {
+    private void validateMessage(String messageId, String topic, String payload) {
         detailViewValid.setVisible(false);
         detailViewValid.setManaged(false);
         detailViewInvalid.setVisible(false);
         detailViewInvalid.setManaged(false);
 
-        MessageValidatorHook.Validation validation = messageValidator.validateMessage(topic, payload);
+        MessageValidatorHook.Validation validation = messageValidator.validateMessage(messageId, topic, payload);
         if (validation != null) {
             updateValidatorLabel(detailViewValid, validation.isValid(), validation.getTooltip());
             updateValidatorLabel(detailViewInvalid, !validation.isValid(), validation.getTooltip());
@@ -448,6 +452,7 @@ public class DetailViewController extends BaseConnectionController implements
             LOGGER.debug("Clearing payload: {}", getConnectionId());
         }
 
+        autoFormatPayload.cancel();
         detailViewSearchButton.setDisable(true);
         closeSearch();
         noPayloadLabel.setManaged(true);
@@ -480,9 +485,13 @@ public class DetailViewController extends BaseConnectionController implements
 
         codeArea.setEditable(false);
 
-        Format format = autoFormatPayload.autoFormatPayload(payload, true, getConnectionId(), codeArea);
-        detailViewFormatToggleButton.setSelected(format.isFormatable());
-        detailViewFormatToggleButton.setDisable(!format.isFormatable());
+        // the old payload must not be shown while the new one is formatted
+        codeArea.clear();
+        detailViewFormatToggleButton.setDisable(true);
+        autoFormatPayload.autoFormatPayload(payload, messageDTO.getMessageId(), true, getConnectionId(), codeArea, format -> {
+            detailViewFormatToggleButton.setSelected(format.isFormatable());
+            detailViewFormatToggleButton.setDisable(!format.isFormatable());
+        });
     }
 
     private void updateValidatorLabel(Label label, boolean isVisible, String tooltip) {
@@ -518,7 +527,7 @@ public class DetailViewController extends BaseConnectionController implements
         detailViewFormatToggleButton.setSelected(false);
 
         if (messageDTO != null) {
-            validateMessage(messageDTO.getTopic(), codeArea.getText());
+            validateMessage(messageDTO.getMessageId(), messageDTO.getTopic(), codeArea.getText());
             autoFormatPayload.autoFormatPayload(codeArea.getText(), true, getConnectionId(), codeArea);
         }
     }
@@ -60,6 +60,7 @@ public class MessageListViewController extends BaseConnectionController implemen
     private final MessageListViewDelegate delegate;
     private final DetailViewControllerFactory detailViewControllerFactory;
     private final MessageViewCellFactory messageViewCellFactory;
+    private final MessageRenderStateCache messageRenderStateCache;
     private final MessageListContextMenuFactory messageListContextMenuFactory;
     private final MessageUtils messageUtils;
     @FXML
@@ -98,6 +99,7 @@ public class MessageListViewController extends BaseConnectionController implemen
                                      DetailViewControllerFactory detailViewControllerFactory,
                                      ThemeManager themeManager,
                                      MessageViewCellFactory messageViewCellFactory,
+                                     MessageRenderStateCache messageRenderStateCache,
                                      MessageListContextMenuFactory messageListContextMenuFactory,
                                      MessageUtils messageUtils,
                                      @Assisted String connectionId,
@@ -105,6 +107,7 @@ public class MessageListViewController extends BaseConnectionController implemen
         super(coreManager, themeManager, connectionId);
         this.detailViewControllerFactory = detailViewControllerFactory;
         this.messageViewCellFactory = messageViewCellFactory;
+        this.messageRenderStateCache = messageRenderStateCache;
         this.messageListContextMenuFactory = messageListContextMenuFactory;
         this.messageUtils = messageUtils;
         this.delegate = delegate;
@@ -159,7 +162,7 @@ public class MessageListViewController extends BaseConnectionController implemen
     }
 
     private ListCell<MessagePropertiesDTO> createCell(ListView<MessagePropertiesDTO> listView) {
-        MessageViewCell cell = messageViewCellFactory.create(listView, this.delegate.produceListViewConfig());
+        MessageViewCell cell = messageViewCellFactory.create(listView, this.delegate.produceListViewConfig(), messageRenderStateCache);
         MessageListContextMenu contextMenu = messageListContextMenuFactory.create(this);
         cell.setContextMenu(contextMenu);
         cell.itemProperty().addListener((observable, oldValue, newValue) -> contextMenu.setObject(newValue));
@@ -267,6 +270,7 @@ public class MessageListViewController extends BaseConnectionController implemen
         }
 
         messages.clear();
+        messageRenderStateCache.clear();
 
         copyToFormButton.setDisable(true);
         showDetailsButton.setDisable(true);
@@ -0,0 +1,67 @@
+package org.correomqtt.gui.views.connections;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.correomqtt.core.plugin.spi.MessageValidatorHook;
+
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * What a {@link MessageViewCell} shows for a message, computed once and reused while scrolling. Only accessed in the
+ * FX thread.
+ */
+@Getter
+class MessageRenderState {
+
+    private final String payloadPreview;
+    private MessageValidatorHook.Validation validation;
+    private boolean validated;
+    @Getter(AccessLevel.NONE)
+    private Future<?> pendingValidation;
+    private Consumer<MessageRenderState> onValidated;
+
+    MessageRenderState(String payloadPreview) {
+        this.payloadPreview = payloadPreview;
+    }
+
+    boolean isValidating() {
+        return pendingValidation != null;
+    }
+
+    void validationStarted(Future<?> validation) {
+        this.pendingValidation = validation;
+    }
+
+    /**
+     * Results of a cancelled validation are ignored.
+     */
+    void setValidation(Future<?> finishedValidation, MessageValidatorHook.Validation validation) {
+        if (finishedValidation != pendingValidation) {
+            return;
+        }
+        this.pendingValidation = null;
+        this.validation = validation;
+        this.validated = true;
+        if (onValidated != null) {
+            onValidated.accept(this);
+        }
+    }
+
+    /**
+     * Skips the validation, if it did not start yet. It is started again, once the message is shown again.
+     */
+    void cancelValidation() {
+        if (pendingValidation != null) {
+            pendingValidation.cancel(false);
+            pendingValidation = null;
+        }
+    }
+
+    /**
+     * Set by the cell that currently shows the message, to update it once the validation is done.
+     */
+    void setOnValidated(Consumer<MessageRenderState> onValidated) {
+        this.onValidated = onValidated;
+    }
+}
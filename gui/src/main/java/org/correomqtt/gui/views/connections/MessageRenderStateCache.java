@@ -0,0 +1,134 @@
+package org.correomqtt.gui.views.connections;
+
+import javafx.application.Platform;
+import javafx.scene.layout.HBox;
+import org.correomqtt.core.concurrent.TaskExecutorType;
+import org.correomqtt.core.concurrent.TaskExecutors;
+import org.correomqtt.core.plugin.MessageValidator;
+import org.correomqtt.core.plugin.PluginManager;
+import org.correomqtt.core.plugin.spi.MessageValidatorHook;
+import org.correomqtt.di.DefaultBean;
+import org.correomqtt.di.Inject;
+import org.correomqtt.gui.model.MessagePropertiesDTO;
+import org.correomqtt.gui.plugin.spi.MessageListHook;
+import org.correomqtt.gui.transformer.MessageTransformer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Render states of the recently shown messages of one message list. The validation runs in the background and is
+ * cancelled, once the message is not shown anymore. Plugin labels are nodes, so only those of fewer messages are kept.
+ */
+@DefaultBean
+public class MessageRenderStateCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MessageRenderStateCache.class);
+    private static final int MAX_ENTRIES = 2000;
+    private static final int MAX_PLUGIN_LABEL_ENTRIES = 200;
+    private static final int MAX_PAYLOAD_LENGTH = 1000;
+
+    private final PluginManager pluginManager;
+    private final MessageValidator messageValidator;
+    private final Map<String, MessageRenderState> states = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, MessageRenderState> eldest) {
+            if (size() > MAX_ENTRIES) {
+                eldest.getValue().cancelValidation();
+                return true;
+            }
+            return false;
+        }
+    };
+    private final Map<String, HBox> pluginLabels = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, HBox> eldest) {
+            return size() > MAX_PLUGIN_LABEL_ENTRIES;
+        }
+    };
+
+    @Inject
+    public MessageRenderStateCache(PluginManager pluginManager,
+                                   MessageValidator messageValidator) {
+        this.pluginManager = pluginManager;
+        this.messageValidator = messageValidator;
+    }
+
+    MessageRenderState get(MessagePropertiesDTO messageDTO) {
+        String messageId = messageDTO.getMessageId();
+        MessageRenderState state = messageId == null ? null : states.get(messageId);
+        if (state == null) {
+            state = new MessageRenderState(createPayloadPreview(messageDTO.getPayload()));
+            if (messageId != null) {
+                states.put(messageId, state);
+            }
+        }
+        if (!state.isValidated() && !state.isValidating()) {
+            validate(state, messageId, messageDTO.getTopic(), messageDTO.getPayload());
+        }
+        return state;
+    }
+
+    /**
+     * Called once the state is not shown anymore.
+     */
+    void release(MessageRenderState state) {
+        state.cancelValidation();
+    }
+
+    HBox getPluginLabels(MessagePropertiesDTO messageDTO) {
+        String messageId = messageDTO.getMessageId();
+        HBox labels = messageId == null ? null : pluginLabels.get(messageId);
+        if (labels == null) {
+            labels = createPluginLabels(messageDTO);
+            if (messageId != null) {
+                pluginLabels.put(messageId, labels);
+            }
+        }
+        return labels;
+    }
+
+    private static String createPayloadPreview(String payload) {
+        if (payload == null) {
+            return "";
+        }
+        return payload.substring(0, Math.min(payload.length(), MAX_PAYLOAD_LENGTH))
+                .replace("\n", " ")
+                .replace("\r", " ")
+                .trim();
+    }
+
+    private void validate(MessageRenderState state, String messageId, String topic, String payload) {
+        // validations of different messages run in parallel
+        CompletableFuture<MessageValidatorHook.Validation> future = CompletableFuture.supplyAsync(
+                () -> messageValidator.validateMessage(messageId, topic, payload),
+                TaskExecutors.get(TaskExecutorType.CPU));
+        state.validationStarted(future);
+        future.whenComplete((validation, throwable) -> {
+            if (throwable instanceof CancellationException) {
+                return;
+            }
+            if (throwable != null) {
+                LOGGER.error("Validating message failed. ", throwable);
+            }
+            Platform.runLater(() -> state.setValidation(future, validation));
+        });
+    }
+
+    private HBox createPluginLabels(MessagePropertiesDTO messageDTO) {
+        HBox labels = new HBox();
+        pluginManager.getExtensions(MessageListHook.class)
+                .forEach(p -> p.onCreateEntry(MessageTransformer.propsToExtensionDTO(messageDTO), labels));
+        return labels;
+    }
+
+    void clear() {
+        states.values().forEach(MessageRenderState::cancelValidation);
+        states.clear();
+        pluginLabels.clear();
+    }
+}
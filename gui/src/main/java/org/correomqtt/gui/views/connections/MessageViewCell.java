@@ -3,134 +3,140 @@ package org.correomqtt.gui.views.connections;
 import org.correomqtt.di.Assisted;
 import org.correomqtt.di.DefaultBean;
 import org.correomqtt.di.Inject;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
+import javafx.geometry.Pos;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.control.Tooltip;
+import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.HBox;
-import javafx.scene.layout.Pane;
-import org.correomqtt.core.settings.SettingsManager;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.TextAlignment;
 import org.correomqtt.core.model.LabelType;
 import org.correomqtt.core.model.MessageListViewConfig;
 import org.correomqtt.core.model.RetainedState;
-import org.correomqtt.core.plugin.MessageValidator;
-import org.correomqtt.core.plugin.PluginManager;
 import org.correomqtt.core.plugin.spi.MessageValidatorHook;
 import org.correomqtt.gui.model.MessagePropertiesDTO;
-import org.correomqtt.gui.plugin.spi.MessageListHook;
-import org.correomqtt.gui.transformer.MessageTransformer;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.time.format.DateTimeFormatter;
-import java.util.ResourceBundle;
+import java.util.Objects;
 import java.util.function.Supplier;
 
+/**
+ * Message list entry. The nodes are built once per cell, everything derived from the message is taken from the
+ * {@link MessageRenderStateCache}, so scrolling back to a recently shown message does not validate or run plugins
+ * again.
+ */
 @SuppressWarnings("java:S110")
 @DefaultBean
 public class MessageViewCell extends ListCell<MessagePropertiesDTO> {
 
     public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(MessageViewCell.class);
-    private static final int MAX_PAYLOAD_LENGTH = 1000;
+    private static final String STYLESHEET = Objects.requireNonNull(
+            MessageViewCell.class.getResource("/org/correomqtt/gui/css/messageView.css")).toExternalForm();
 
-    private final PluginManager pluginManager;
-    private final MessageValidator messageValidator;
-    private final SettingsManager settingsManager;
     private final ListView<MessagePropertiesDTO> listView;
     private final Supplier<MessageListViewConfig> listViewConfigGetter;
+    private final MessageRenderStateCache renderStateCache;
 
-    @SuppressWarnings("unused")
-    @FXML
-    private Pane mainNode;
-
-    @SuppressWarnings("unused")
-    @FXML
+    private AnchorPane mainNode;
     private Label topicLabel;
-
-    @SuppressWarnings("unused")
-    @FXML
     private HBox labelBox;
-
-    @SuppressWarnings("unused")
-    @FXML
     private Label validLabel;
-
-    @SuppressWarnings("unused")
-    @FXML
     private Label invalidLabel;
-
-    @SuppressWarnings("unused")
-    @FXML
     private Label retainedLabel;
-
-    @SuppressWarnings("unused")
-    @FXML
     private Label qosLabel;
-
-    @SuppressWarnings("unused")
-    @FXML
     private Label payloadLabel;
-
-    @FXML
     private Label subscriptionLabel;
-
-    @FXML
     private Label timestampLabel;
-
-    private FXMLLoader loader;
-
-
-    @FXML
-    private ResourceBundle resources;
-
+    private MessageRenderState renderState;
 
     @Inject
-    public MessageViewCell(PluginManager pluginManager,
-                           MessageValidator messageValidator,
-                           SettingsManager settingsManager,
-                           @Assisted ListView<MessagePropertiesDTO> listView,
-                           @Assisted Supplier<MessageListViewConfig> listViewConfigGetter) {
-        this.pluginManager = pluginManager;
-        this.messageValidator = messageValidator;
-        this.settingsManager = settingsManager;
+    public MessageViewCell(@Assisted ListView<MessagePropertiesDTO> listView,
+                           @Assisted Supplier<MessageListViewConfig> listViewConfigGetter,
+                           @Assisted MessageRenderStateCache renderStateCache) {
         this.listView = listView;
         this.listViewConfigGetter = listViewConfigGetter;
+        this.renderStateCache = renderStateCache;
     }
 
     @Override
     protected void updateItem(MessagePropertiesDTO messageDTO, boolean empty) {
         super.updateItem(messageDTO, empty);
+        if (renderState != null) {
+            renderState.setOnValidated(null);
+            renderStateCache.release(renderState);
+            renderState = null;
+        }
         if (empty || messageDTO == null) {
             setText(null);
             setGraphic(null);
         } else {
-
-            if (loader == null) {
-                try {
-                    loader = new FXMLLoader(MessageViewCell.class.getResource("messageView.fxml"),
-                            ResourceBundle.getBundle("org.correomqtt.i18n", settingsManager.getSettings().getCurrentLocale()));
-                    loader.setController(this);
-                    loader.load();
-
-                } catch (Exception e) {
-                    LOGGER.error("Exception receiving message:", e);
-                    setText(resources.getString("commonRowCreationError"));
-                    setGraphic(null);
-                    return;
-                }
-
+            if (mainNode == null) {
+                createNodes();
             }
-            mainNode.prefWidthProperty().bind(listView.widthProperty().subtract(20));
             setUpMessage(messageDTO);
             setText(null);
             setGraphic(mainNode);
         }
     }
 
+    private void createNodes() {
+        topicLabel = new Label();
+        topicLabel.getStyleClass().add("topic");
+        HBox.setHgrow(topicLabel, Priority.NEVER);
+
+        subscriptionLabel = new Label();
+        subscriptionLabel.getStyleClass().add("subscription");
+
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.SOMETIMES);
+
+        labelBox = new HBox();
+        validLabel = createTag("valid");
+        validLabel.setText(" ");
+        validLabel.setTooltip(new Tooltip());
+        invalidLabel = createTag("invalid");
+        invalidLabel.setText(" ");
+        invalidLabel.setTooltip(new Tooltip());
+        retainedLabel = createTag();
+        qosLabel = createTag();
+        timestampLabel = createTag();
+
+        HBox tags = new HBox(labelBox, validLabel, invalidLabel, retainedLabel, qosLabel, timestampLabel);
+        HBox firstLine = new HBox(topicLabel, subscriptionLabel, spacer, tags);
+        firstLine.setAlignment(Pos.CENTER_LEFT);
+        firstLine.getStyleClass().add("firstLine");
+
+        payloadLabel = new Label();
+        payloadLabel.getStyleClass().addAll("secondLine", "payload");
+
+        VBox content = new VBox(firstLine, payloadLabel);
+        AnchorPane.setTopAnchor(content, 0.0);
+        AnchorPane.setRightAnchor(content, 0.0);
+        AnchorPane.setBottomAnchor(content, 0.0);
+        AnchorPane.setLeftAnchor(content, 0.0);
+
+        mainNode = new AnchorPane(content);
+        mainNode.getStylesheets().add(STYLESHEET);
+        mainNode.getStyleClass().addAll("basicColors", "messageView");
+        mainNode.prefWidthProperty().bind(listView.widthProperty().subtract(20));
+    }
+
+    private static Label createTag(String... styleClasses) {
+        Label label = new Label();
+        label.setAlignment(Pos.CENTER);
+        label.setTextAlignment(TextAlignment.CENTER);
+        label.setMinWidth(Region.USE_PREF_SIZE);
+        label.setMaxWidth(Region.USE_PREF_SIZE);
+        label.getStyleClass().add("tag");
+        label.getStyleClass().addAll(styleClasses);
+        return label;
+    }
+
     private void setUpMessage(MessagePropertiesDTO messageDTO) {
         topicLabel.getStyleClass().removeAll("published", "succeeded", "failed");
 
@@ -148,9 +154,12 @@ public class MessageViewCell extends ListCell<MessagePropertiesDTO> {
             }
         }
 
-        executeOnCreateMessageEntryExtensions(messageDTO);
-
-        validateMessage(messageDTO);
+        renderState = renderStateCache.get(messageDTO);
+        labelBox.getChildren().setAll(renderStateCache.getPluginLabels(messageDTO));
+        showValidation(renderState);
+        if (!renderState.isValidated()) {
+            renderState.setOnValidated(this::showValidation);
+        }
 
         subscriptionLabel.setVisible(false);
         subscriptionLabel.setManaged(false);
@@ -163,7 +172,9 @@ public class MessageViewCell extends ListCell<MessagePropertiesDTO> {
             subscriptionLabel.setText(messageDTO.getSubscription().getTopic());
         }
 
-        if (listViewConfigGetter.get().isVisible(LabelType.RETAINED)) {
+        MessageListViewConfig listViewConfig = listViewConfigGetter.get();
+
+        if (listViewConfig.isVisible(LabelType.RETAINED)) {
             retainedLabel.setText(messageDTO.isRetained() ? RetainedState.RETAINED.name() : RetainedState.NOT_RETAINED.name());
             retainedLabel.setVisible(true);
             retainedLabel.setManaged(true);
@@ -172,7 +183,7 @@ public class MessageViewCell extends ListCell<MessagePropertiesDTO> {
             retainedLabel.setManaged(false);
         }
 
-        if (listViewConfigGetter.get().isVisible(LabelType.QOS)) {
+        if (listViewConfig.isVisible(LabelType.QOS)) {
             qosLabel.setText(messageDTO.getQos().toString());
             qosLabel.setVisible(true);
             qosLabel.setManaged(true);
@@ -181,7 +192,7 @@ public class MessageViewCell extends ListCell<MessagePropertiesDTO> {
             qosLabel.setManaged(false);
         }
 
-        if (listViewConfigGetter.get().isVisible(LabelType.TIMESTAMP)) {
+        if (listViewConfig.isVisible(LabelType.TIMESTAMP)) {
             timestampLabel.setText(messageDTO.getDateTime().format(FORMATTER));
             timestampLabel.setVisible(true);
             timestampLabel.setManaged(true);
@@ -190,35 +201,20 @@ public class MessageViewCell extends ListCell<MessagePropertiesDTO> {
             timestampLabel.setManaged(false);
         }
 
-        String payload = messageDTO.getPayload();
-        payloadLabel.setText(payload.substring(0, Math.min(payload.length(), MAX_PAYLOAD_LENGTH))
-                .replace("\n", " ")
-                .replace("\r", " "
-                ).trim());
+        payloadLabel.setText(renderState.getPayloadPreview());
     }
 
-    private void executeOnCreateMessageEntryExtensions(MessagePropertiesDTO messageDTO) {
-        labelBox.getChildren().clear();
-        pluginManager.getExtensions(MessageListHook.class)
-                .forEach(p -> p.onCreateEntry(MessageTransformer.propsToExtensionDTO(messageDTO), labelBox));
+    private void showValidation(MessageRenderState state) {
+        MessageValidatorHook.Validation validation = state.getValidation();
+        updateValidatorLabel(validLabel, validation != null && validation.isValid(), validation);
+        updateValidatorLabel(invalidLabel, validation != null && !validation.isValid(), validation);
     }
 
-    private void validateMessage(MessagePropertiesDTO messageDTO) {
-        validLabel.setVisible(false);
-        validLabel.setManaged(false);
-        invalidLabel.setVisible(false);
-        invalidLabel.setManaged(false);
-
-        MessageValidatorHook.Validation validation = messageValidator.validateMessage(messageDTO.getTopic(), messageDTO.getPayload());
-        if (validation != null) {
-            updateValidatorLabel(validLabel, validation.isValid(), validation.getTooltip());
-            updateValidatorLabel(invalidLabel, !validation.isValid(), validation.getTooltip());
-        }
-    }
-
-    private void updateValidatorLabel(Label label, boolean isVisible, String tooltip) {
+    private void updateValidatorLabel(Label label, boolean isVisible, MessageValidatorHook.Validation validation) {
         label.setVisible(isVisible);
         label.setManaged(isVisible);
-        label.setTooltip(new Tooltip(tooltip));
+        if (isVisible) {
+            label.getTooltip().setText(validation.getTooltip());
+        }
     }
 }
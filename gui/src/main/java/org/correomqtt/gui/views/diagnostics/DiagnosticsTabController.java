@@ -0,0 +1,143 @@
+package org.correomqtt.gui.views.diagnostics;
+
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.fxml.FXML;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.AnchorPane;
+import javafx.util.Duration;
+import lombok.Getter;
+import org.correomqtt.core.CoreManager;
+import org.correomqtt.core.metrics.MetricSnapshot;
+import org.correomqtt.core.metrics.Metrics;
+import org.correomqtt.core.metrics.MetricsDumpTaskFactory;
+import org.correomqtt.di.DefaultBean;
+import org.correomqtt.di.Inject;
+import org.correomqtt.gui.theme.ThemeManager;
+import org.correomqtt.gui.utils.FxThread;
+import org.correomqtt.gui.views.LoaderResult;
+import org.correomqtt.gui.views.base.BaseControllerImpl;
+
+import java.io.File;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.function.Function;
+
+@DefaultBean
+public class DiagnosticsTabController extends BaseControllerImpl {
+
+    private static final Duration REFRESH_INTERVAL = Duration.seconds(1);
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private final MetricsDumpTaskFactory metricsDumpTaskFactory;
+    private final Timeline refreshTimeline = new Timeline(new KeyFrame(REFRESH_INTERVAL, event -> refresh()));
+
+    @Getter
+    @FXML
+    private AnchorPane diagnosticsViewAnchor;
+    @FXML
+    private TableView<MetricSnapshot> metricsTableView;
+    @FXML
+    private TableColumn<MetricSnapshot, String> nameColumn;
+    @FXML
+    private TableColumn<MetricSnapshot, String> countColumn;
+    @FXML
+    private TableColumn<MetricSnapshot, String> meanColumn;
+    @FXML
+    private TableColumn<MetricSnapshot, String> p50Column;
+    @FXML
+    private TableColumn<MetricSnapshot, String> p90Column;
+    @FXML
+    private TableColumn<MetricSnapshot, String> p99Column;
+    @FXML
+    private TableColumn<MetricSnapshot, String> maxColumn;
+    @FXML
+    private Button resetButton;
+    @FXML
+    private Button dumpButton;
+    @FXML
+    private Label statusLabel;
+
+    @FXML
+    private ResourceBundle resources;
+
+    @Inject
+    public DiagnosticsTabController(CoreManager coreManager,
+                                    ThemeManager themeManager,
+                                    MetricsDumpTaskFactory metricsDumpTaskFactory) {
+        super(coreManager, themeManager);
+        this.metricsDumpTaskFactory = metricsDumpTaskFactory;
+    }
+
+    public LoaderResult<DiagnosticsTabController> load() {
+        return load(DiagnosticsTabController.class, "diagnosticsView.fxml", () -> this);
+    }
+
+    @FXML
+    private void initialize() {
+        refreshTimeline.setCycleCount(Animation.INDEFINITE);
+        nameColumn.setCellValueFactory(cell -> new SimpleStringProperty(cell.getValue().name()));
+        countColumn.setCellValueFactory(cell -> new SimpleStringProperty(Long.toString(cell.getValue().count())));
+        setupValueColumn(meanColumn, s -> (long) s.mean());
+        setupValueColumn(p50Column, MetricSnapshot::p50);
+        setupValueColumn(p90Column, MetricSnapshot::p90);
+        setupValueColumn(p99Column, MetricSnapshot::p99);
+        setupValueColumn(maxColumn, MetricSnapshot::max);
+        resetButton.setOnAction(event -> {
+            Metrics.reset();
+            refresh();
+        });
+        dumpButton.setOnAction(event -> dump());
+    }
+
+    private void setupValueColumn(TableColumn<MetricSnapshot, String> column, Function<MetricSnapshot, Long> getter) {
+        column.setCellValueFactory(cell -> new SimpleStringProperty(format(cell.getValue(), getter.apply(cell.getValue()))));
+    }
+
+    private static String format(MetricSnapshot snapshot, long value) {
+        return switch (snapshot.type()) {
+            case COUNTER -> "";
+            case TIMER -> String.format(Locale.ROOT, "%.3f ms", value / NANOS_PER_MILLI);
+            case HISTOGRAM -> Long.toString(value);
+        };
+    }
+
+    /**
+     * Metrics are only polled while the tab is visible.
+     */
+    public void setActive(boolean active) {
+        if (active) {
+            refresh();
+            refreshTimeline.play();
+        } else {
+            refreshTimeline.stop();
+        }
+    }
+
+    private void refresh() {
+        metricsTableView.setItems(FXCollections.observableArrayList(Metrics.snapshot()));
+    }
+
+    private void dump() {
+        metricsDumpTaskFactory.create()
+                .onSuccess(this::onDumpSucceeded)
+                .onError(error -> onDumpFailed())
+                .run();
+    }
+
+    @FxThread
+    protected void onDumpSucceeded(File file) {
+        statusLabel.setText(resources.getString("diagnosticsViewDumpSuccess") + " " + file.getAbsolutePath());
+    }
+
+    @FxThread
+    protected void onDumpFailed() {
+        statusLabel.setText(resources.getString("diagnosticsViewDumpFailed"));
+    }
+}
@@ -12,8 +12,7 @@ import org.correomqtt.core.log.LogEvent;
 import org.correomqtt.core.utils.LoggerUtils;
 import org.correomqtt.di.DefaultBean;
 import org.correomqtt.gui.theme.ThemeManager;
-import org.correomqtt.gui.utils.FxThread;
-import org.correomqtt.gui.utils.LogAreaUtils;
+import org.correomqtt.gui.log.LogAreaSink;
 import org.correomqtt.gui.views.LoaderResult;
 import org.correomqtt.gui.views.base.BaseControllerImpl;
 import org.fxmisc.richtext.CodeArea;
@@ -33,6 +32,7 @@ public class LogTabController extends BaseControllerImpl {
     private CodeArea logTextArea;
     @FXML
     private Button trashButton;
+    private volatile LogAreaSink sink;
 
     @Inject
     public LogTabController(CoreManager coreManager,
@@ -48,19 +48,22 @@ public class LogTabController extends BaseControllerImpl {
 
     @FXML
     private void initialize() {
-        trashButton.setOnAction(event -> logTextArea.clear());
+        LogAreaSink areaSink = new LogAreaSink(logTextArea);
+        trashButton.setOnAction(event -> areaSink.clear());
         LogDispatchAppender appender = (LogDispatchAppender) LoggerUtils.findLogAppender(LOG_APPENDER_GUI_NAME);
         if (appender == null) {
             throw new IllegalStateException("There is no LogAppender with name = " + LOG_APPENDER_GUI_NAME);
         }
-        appender.popCache(soyEvents).forEach(msg -> LogAreaUtils.appendColorful(logTextArea, msg));
-        logTextArea.requestFollowCaret();
+        sink = areaSink;
+        appender.popCache(soyEvents).forEach(areaSink::append);
     }
 
-    @FxThread
     @SuppressWarnings("unused")
     public void updateLog(@Observes LogEvent event) {
-        LogAreaUtils.appendColorful(logTextArea, event.logMsg());
-        logTextArea.requestFollowCaret();
+        // called from the logging thread, the sink appends the lines in batches in the FX thread
+        LogAreaSink areaSink = sink;
+        if (areaSink != null) {
+            areaSink.append(event.logMsg());
+        }
     }
 }
@@ -22,6 +22,7 @@ public class ExecutionTransformer {
     }
 
     public static void updatePropsByDto(ExecutionPropertiesDTO props, ExecutionDTO dto) {
+        props.getConnectionIdProperty().setValue(dto.getConnectionId());
         props.getErrorProperty().setValue(dto.getError());
         props.getStartTimeProperty().setValue(dto.getStartTime());
         props.getExecutionTimeProperty().setValue(dto.getExecutionTime());
@@ -13,6 +13,7 @@ import javafx.scene.layout.Region;
 import lombok.AllArgsConstructor;
 import org.correomqtt.core.CoreManager;
 import org.correomqtt.core.events.ObservesFilterNames;
+import org.correomqtt.core.model.ConnectionConfigDTO;
 import org.correomqtt.core.scripting.BaseExecutionEvent;
 import org.correomqtt.core.scripting.ExecutionDTO;
 import org.correomqtt.core.scripting.ScriptExecuteTaskFactories;
@@ -20,7 +21,11 @@ import org.correomqtt.core.scripting.ScriptExecutionCancelledEvent;
 import org.correomqtt.core.scripting.ScriptExecutionFailedEvent;
 import org.correomqtt.core.scripting.ScriptExecutionProgressEvent;
 import org.correomqtt.core.scripting.ScriptExecutionSuccessEvent;
+import org.correomqtt.core.scripting.ScriptExecutionsChangedEvent;
 import org.correomqtt.core.scripting.ScriptExecutionsDeletedEvent;
+import org.correomqtt.core.scripting.ScriptFanOutDTO;
+import org.correomqtt.core.scripting.ScriptFanOutMode;
+import org.correomqtt.core.scripting.ScriptFanOutProgressEvent;
 import org.correomqtt.core.scripting.ScriptingBackend;
 import org.correomqtt.di.DefaultBean;
 import org.correomqtt.di.Inject;
@@ -35,6 +40,7 @@ import org.correomqtt.gui.views.base.BaseControllerImpl;
 
 import java.text.MessageFormat;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
 
@@ -58,6 +64,8 @@ public class ExecutionViewController extends BaseControllerImpl {
     @FXML
     private Label emptyLabel;
     @FXML
+    private Label fanOutLabel;
+    @FXML
     private AnchorPane executionHolder;
     @FXML
     private ListView<ExecutionPropertiesDTO> executionListView;
@@ -113,6 +121,26 @@ public class ExecutionViewController extends BaseControllerImpl {
         executionList.clear();
     }
 
+    @FxThread
+    @SuppressWarnings("unused")
+    public void onExecutionsChanged(@Observes ScriptExecutionsChangedEvent event) {
+        String filename = event.getFilename();
+        Map<String, ExecutionDTO> executions = new HashMap<>();
+        ScriptingBackend.getExecutions().stream()
+                .filter(e -> filename.equals(e.getScriptFile().getName()))
+                .forEach(e -> executions.put(e.getExecutionId(), e));
+        executionList.removeIf(props -> filename.equals(props.getScriptFilePropertiesDTO().getName())
+                && !executions.containsKey(props.getExecutionId()));
+        executionList.forEach(props -> {
+            ExecutionDTO dto = executions.remove(props.getExecutionId());
+            if (dto != null) {
+                ExecutionTransformer.updatePropsByDto(props, dto);
+            }
+        });
+        executions.values().forEach(dto -> executionList.add(ExecutionTransformer.dtoToProps(dto)));
+        updateExistence();
+    }
+
     @FxThread
     @ObservesFilter(ObservesFilterNames.SCRIPT_NAME)
     public String getScriptFileName() {
@@ -130,6 +158,8 @@ public class ExecutionViewController extends BaseControllerImpl {
         filteredList.setPredicate(s -> s.getScriptFilePropertiesDTO().getName().equals(name));
         executionListView.getSelectionModel().selectFirst();
         headerLabel.setText(MessageFormat.format(resources.getString("scripting.executions"), name));
+        fanOutLabel.setManaged(false);
+        fanOutLabel.setVisible(false);
         updateExistence();
     }
 
@@ -235,6 +265,67 @@ public class ExecutionViewController extends BaseControllerImpl {
         return true;
     }
 
+    public boolean addFanOutExecution(ScriptFilePropertiesDTO dto, ConnectionPropertiesDTO selectedConnection, String jsCode,
+                                      ScriptFanOutMode mode, int instances, int concurrency) {
+
+        if (dto == null || (mode == ScriptFanOutMode.INSTANCES && selectedConnection == null)) {
+            alertHelper.warn(resources.getString("scriptStartWithoutConnectionNotPossibleTitle"),
+                    resources.getString("scriptStartWithoutConnectionNotPossibleContent"));
+            return false;
+        }
+
+        ScriptFanOutDTO fanOutDTO;
+        if (mode == ScriptFanOutMode.CONNECTIONS) {
+            List<String> connectionIds = coreManager.getConnectionManager().getSortedConnections()
+                    .stream()
+                    .map(ConnectionConfigDTO::getId)
+                    .toList();
+            if (connectionIds.isEmpty()) {
+                alertHelper.warn(resources.getString("scriptStartWithoutConnectionNotPossibleTitle"),
+                        resources.getString("scriptStartWithoutConnectionNotPossibleContent"));
+                return false;
+            }
+            fanOutDTO = ScriptFanOutDTO.forConnections(ScriptingTransformer.propsToDTO(dto), jsCode, connectionIds, concurrency);
+        } else {
+            fanOutDTO = ScriptFanOutDTO.forInstances(ScriptingTransformer.propsToDTO(dto), jsCode, selectedConnection.getId(),
+                    instances, concurrency);
+        }
+
+        fanOutDTO.getExecutions().forEach(e -> executionList.add(0, ExecutionTransformer.dtoToProps(e)));
+        executionListView.getSelectionModel().selectFirst();
+        updateExistence();
+        updateFanOutProgress(fanOutDTO);
+
+        scriptExecuteTaskFactories.getFanOutFactory().create(fanOutDTO)
+                .onError(error -> alertHelper.unexpectedAlert(error.getUnexpectedError()))
+                .run();
+        return true;
+    }
+
+    @FxThread
+    @SuppressWarnings("unused")
+    public void onScriptFanOutProgress(@Observes ScriptFanOutProgressEvent event) {
+        ScriptFanOutDTO fanOutDTO = event.getFanOutDTO();
+        fanOutDTO.getExecutions().forEach(e -> executionList.stream()
+                .filter(epd -> epd.getExecutionId().equals(e.getExecutionId()))
+                .findFirst()
+                .ifPresent(props -> ExecutionTransformer.updatePropsByDto(props, e)));
+        updateFanOutProgress(fanOutDTO);
+    }
+
+    private void updateFanOutProgress(ScriptFanOutDTO fanOutDTO) {
+        ScriptFanOutDTO.Counts counts = fanOutDTO.getCounts();
+        fanOutLabel.setText(MessageFormat.format(resources.getString("scripting.fanout.progress"),
+                counts.finished(),
+                counts.total(),
+                counts.running(),
+                counts.succeeded(),
+                counts.failed(),
+                counts.cancelled()));
+        fanOutLabel.setManaged(true);
+        fanOutLabel.setVisible(true);
+    }
+
     @FxThread
     @SuppressWarnings("unused")
     public void onScriptExecutionCancelled(@Observes ScriptExecutionCancelledEvent event) {
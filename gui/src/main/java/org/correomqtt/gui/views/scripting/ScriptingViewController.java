@@ -22,12 +22,15 @@ import org.correomqtt.HostServicesWrapper;
 import org.correomqtt.core.CoreManager;
 import org.correomqtt.core.concurrent.TaskErrorResult;
 import org.correomqtt.core.fileprovider.ScriptingProvider;
+import org.correomqtt.core.scripting.ExecutionCatalogWatcher;
 import org.correomqtt.core.scripting.ScriptDeleteTask;
 import org.correomqtt.core.scripting.ScriptExecutionCancelledEvent;
 import org.correomqtt.core.scripting.ScriptExecutionFailedEvent;
 import org.correomqtt.core.scripting.ScriptExecutionProgressEvent;
 import org.correomqtt.core.scripting.ScriptExecutionSuccessEvent;
+import org.correomqtt.core.scripting.ScriptExecutionsChangedEvent;
 import org.correomqtt.core.scripting.ScriptExecutionsDeletedEvent;
+import org.correomqtt.core.scripting.ScriptFanOutMode;
 import org.correomqtt.core.scripting.ScriptFileDTO;
 import org.correomqtt.core.scripting.ScriptNewTask;
 import org.correomqtt.core.scripting.ScriptTaskFactories;
@@ -71,6 +74,7 @@ public class ScriptingViewController extends BaseControllerImpl implements Scrip
     private final ScriptTaskFactories scriptTaskFactories;
     private final ExecutionViewControllerFactory executionViewControllerFactory;
     private final ScriptingProvider scriptingProvider;
+    private final ExecutionCatalogWatcher executionCatalogWatcher;
     private final HostServices hostServices;
     private ResourceBundle resources;
     @FXML
@@ -111,6 +115,7 @@ public class ScriptingViewController extends BaseControllerImpl implements Scrip
                                    ScriptTaskFactories scriptTaskFactories,
                                    ExecutionViewControllerFactory executionViewControllerFactory,
                                    ScriptingProvider scriptingProvider,
+                                   ExecutionCatalogWatcher executionCatalogWatcher,
                                    HostServicesWrapper hostServicesWrapper
     ) {
         super(coreManager, themeManager);
@@ -121,6 +126,7 @@ public class ScriptingViewController extends BaseControllerImpl implements Scrip
         this.scriptTaskFactories = scriptTaskFactories;
         this.executionViewControllerFactory = executionViewControllerFactory;
         this.scriptingProvider = scriptingProvider;
+        this.executionCatalogWatcher = executionCatalogWatcher;
         this.hostServices = hostServicesWrapper.getHostServices();
     }
 
@@ -170,6 +176,7 @@ public class ScriptingViewController extends BaseControllerImpl implements Scrip
                     .stream()
                     .map(ScriptingTransformer::dtoToProps)
                     .toList();
+            executionCatalogWatcher.start();
         } catch (IOException e) {
             LOGGER.error("Error reading scripts. ", e);
             //TODO ioerror
@@ -268,7 +275,8 @@ public class ScriptingViewController extends BaseControllerImpl implements Scrip
             ScriptExecutionSuccessEvent.class,
             ScriptExecutionProgressEvent.class,
             ScriptExecutionFailedEvent.class,
-            ScriptExecutionsDeletedEvent.class
+            ScriptExecutionsDeletedEvent.class,
+            ScriptExecutionsChangedEvent.class
     })
     public void onScriptExecutionFinished() {
         scriptListView.refresh();
@@ -436,6 +444,12 @@ public class ScriptingViewController extends BaseControllerImpl implements Scrip
         return executionController.addExecution(dto, selectedConnection, scriptCode);
     }
 
+    @Override
+    public boolean addFanOutExecution(ScriptFilePropertiesDTO dto, ConnectionPropertiesDTO selectedConnection, String scriptCode,
+                                      ScriptFanOutMode mode, int instances, int concurrency) {
+        return executionController.addFanOutExecution(dto, selectedConnection, scriptCode, mode, instances, concurrency);
+    }
+
     @Override
     public void onPlainTextChange(ScriptFilePropertiesDTO dto) {
         scriptListView.refresh();
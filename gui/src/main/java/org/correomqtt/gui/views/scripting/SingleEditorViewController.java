@@ -14,6 +14,7 @@ import org.correomqtt.core.mqtt.CorreoMqttClient;
 import org.correomqtt.core.scripting.ScriptExecutionCancelledEvent;
 import org.correomqtt.core.scripting.ScriptExecutionFailedEvent;
 import org.correomqtt.core.scripting.ScriptExecutionSuccessEvent;
+import org.correomqtt.core.scripting.ScriptFanOutMode;
 import org.correomqtt.core.scripting.ScriptFileDTO;
 import org.correomqtt.core.scripting.ScriptLoadTask;
 import org.correomqtt.core.scripting.ScriptSaveTask;
@@ -74,6 +75,8 @@ public class SingleEditorViewController extends BaseControllerImpl {
     @FXML
     private Button scriptingRunButton;
     @FXML
+    private Button scriptingFanOutButton;
+    @FXML
     private ComboBox<ConnectionPropertiesDTO> connectionList;
     private ResourceBundle resources;
 
@@ -171,6 +174,7 @@ public class SingleEditorViewController extends BaseControllerImpl {
 
     public void disableActionsOnRunningScript(boolean disable) {
         scriptingRunButton.setDisable(disable);
+        scriptingFanOutButton.setDisable(disable);
         scriptingRenameButton.setDisable(disable);
         scriptingDeleteButton.setDisable(disable);
         scriptingSaveButton.setDisable(disable);
@@ -200,6 +204,63 @@ public class SingleEditorViewController extends BaseControllerImpl {
         }
     }
 
+    public void onFanOutClicked() {
+        List<FanOutChoice> choices = List.of(
+                new FanOutChoice(ScriptFanOutMode.INSTANCES, resources.getString("scripting.fanout.mode.instances")),
+                new FanOutChoice(ScriptFanOutMode.CONNECTIONS, resources.getString("scripting.fanout.mode.connections")));
+        FanOutChoice choice = alertHelper.select(resources.getString("scripting.fanout.title"),
+                resources.getString("scripting.fanout.mode.content"), choices);
+        if (choice == null) {
+            return;
+        }
+
+        int instances = 0;
+        if (choice.mode() == ScriptFanOutMode.INSTANCES) {
+            instances = askPositiveNumber("scripting.fanout.instances.header", "scripting.fanout.instances.content", "10");
+            if (instances < 1) {
+                return;
+            }
+        }
+
+        int concurrency = askPositiveNumber("scripting.fanout.concurrency.header", "scripting.fanout.concurrency.content", "4");
+        if (concurrency < 1) {
+            return;
+        }
+
+        ConnectionPropertiesDTO selectedConnection = connectionList.getSelectionModel().getSelectedItem();
+        if (delegate.addFanOutExecution(scriptFilePropertiesDTO, selectedConnection, codeArea.getText(), choice.mode(),
+                instances, concurrency)) {
+            disableActionsOnRunningScript(true);
+        }
+    }
+
+    private int askPositiveNumber(String headerKey, String contentKey, String defaultValue) {
+        String input = alertHelper.input(resources.getString("scripting.fanout.title"),
+                resources.getString(headerKey),
+                resources.getString(contentKey),
+                defaultValue);
+        if (input == null) {
+            return 0;
+        }
+        try {
+            int value = Integer.parseInt(input.trim());
+            if (value > 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+        alertHelper.warn(resources.getString("scripting.fanout.title"), resources.getString("scripting.fanout.invalidNumber"));
+        return 0;
+    }
+
+    private record FanOutChoice(ScriptFanOutMode mode, String label) {
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
     @FxThread
     @Observes(ConnectionStateChangedEvent.class)
     public void onConnectionChangedEvent() {
@@ -1,5 +1,6 @@
 package org.correomqtt.gui.views.scripting;
 
+import org.correomqtt.core.scripting.ScriptFanOutMode;
 import org.correomqtt.gui.model.ConnectionPropertiesDTO;
 
 public interface SingleEditorViewDelegate {
@@ -9,5 +10,8 @@ public interface SingleEditorViewDelegate {
 
     boolean addExecution(ScriptFilePropertiesDTO dto, ConnectionPropertiesDTO selectedConnection, String scriptCode);
 
+    boolean addFanOutExecution(ScriptFilePropertiesDTO dto, ConnectionPropertiesDTO selectedConnection, String scriptCode,
+                               ScriptFanOutMode mode, int instances, int concurrency);
+
     void onPlainTextChange(ScriptFilePropertiesDTO dto);
 }
\ No newline at end of file
@@ -3,10 +3,19 @@ package org.correomqtt.gui.views.scripting;
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.encoder.Encoder;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+import javafx.scene.control.ToggleButton;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
+import javafx.util.Duration;
 import org.correomqtt.core.CoreManager;
 import org.correomqtt.core.scripting.ExecutionDTO;
 import org.correomqtt.core.scripting.ScriptExecuteTaskFactories;
@@ -14,7 +23,10 @@ import org.correomqtt.core.scripting.ScriptExecutionCancelledEvent;
 import org.correomqtt.core.scripting.ScriptExecutionFailedEvent;
 import org.correomqtt.core.scripting.ScriptExecutionProgressEvent;
 import org.correomqtt.core.scripting.ScriptExecutionSuccessEvent;
+import org.correomqtt.core.scripting.ScriptLogReader;
+import org.correomqtt.core.scripting.ScriptLogWindow;
 import org.correomqtt.core.scripting.ScriptingBackend;
+import org.correomqtt.core.scripting.binding.Queue;
 import org.correomqtt.di.Assisted;
 import org.correomqtt.di.DefaultBean;
 import org.correomqtt.di.Inject;
@@ -31,6 +43,8 @@ import org.fxmisc.richtext.CodeArea;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.text.MessageFormat;
 import java.util.ResourceBundle;
 
 import static org.correomqtt.core.events.ObservesFilterNames.SCRIPT_EXECUTION_ID;
@@ -41,10 +55,15 @@ import static org.correomqtt.core.utils.LoggerUtils.findPatternEncoder;
 public class SingleExecutionViewController extends BaseControllerImpl {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SingleExecutionViewController.class);
+    private static final Duration QUEUE_REFRESH_INTERVAL = Duration.seconds(1);
+    private static final Duration LOG_FOLLOW_INTERVAL = Duration.seconds(1);
     private final AlertHelper alertHelper;
     private final ScriptExecuteTaskFactories scriptExecuteTaskFactories;
     private final ExecutionPropertiesDTO executionPropertiesDTO;
+    private final Timeline queueRefreshTimeline = new Timeline(new KeyFrame(QUEUE_REFRESH_INTERVAL, event -> refreshQueueStats()));
+    private final Timeline logFollowTimeline = new Timeline(new KeyFrame(LOG_FOLLOW_INTERVAL, event -> followLog()));
     private ResourceBundle resources;
+    private ExecutionDTO executionDTO;
     @FXML
     private VBox mainNode;
     @FXML
@@ -53,7 +72,30 @@ public class SingleExecutionViewController extends BaseControllerImpl {
     private CodeArea logArea;
     @FXML
     private Button scriptingStopButton;
+    @FXML
+    private Label queueLabel;
+    @FXML
+    private HBox logPagingBar;
+    @FXML
+    private Button logPreviousButton;
+    @FXML
+    private Button logNextButton;
+    @FXML
+    private ToggleButton logFollowButton;
+    @FXML
+    private Label logLinesLabel;
+    @FXML
+    private TextField logSearchField;
+    @FXML
+    private Button logSearchButton;
     private LogToRichtTextFxAppender appender;
+    // large logs are shown in windows of lines, read from this reader
+    private ScriptLogReader logReader;
+    private ScriptLogWindow logWindow;
+    private boolean logWindowLoading;
+    private int[] pendingLogWindow;
+    private String lastLogSearch;
+    private int lastLogMatch = -1;
 
     @Inject
     public SingleExecutionViewController(
@@ -80,24 +122,208 @@ public class SingleExecutionViewController extends BaseControllerImpl {
         logArea.prefWidthProperty().bind(logHolder.widthProperty());
         logArea.prefHeightProperty().bind(logHolder.heightProperty());
         ExecutionDTO dto = ScriptingBackend.getExecutionDTO(executionPropertiesDTO.getExecutionId());
-        if (dto != null) {
-            scriptExecuteTaskFactories.getLoadLogFactory().create(dto)
-                    .onSuccess(log -> {
-                        LogAreaUtils.appendColorful(logArea, log);
-                        if (executionPropertiesDTO.getState() == ScriptState.RUNNING) {
-                            scriptingStopButton.setDisable(false);
-                            connectLog(dto);
-                        } else {
-                            scriptingStopButton.setDisable(true);
-                        }
+        executionDTO = dto;
+        queueRefreshTimeline.setCycleCount(Animation.INDEFINITE);
+        logFollowTimeline.setCycleCount(Animation.INDEFINITE);
+        refreshQueueStats();
+        if (dto == null) {
+            return;
+        }
+        if (dto.isSummary()) {
+            scriptExecuteTaskFactories.getLoadExecutionFactory().create(dto)
+                    .onSuccess(loaded -> {
+                        executionDTO = loaded;
+                        refreshQueueStats();
+                        loadLog(loaded);
                     })
                     .onError(error -> alertHelper.unexpectedAlert(error.getUnexpectedError()))
                     .run();
+        } else {
+            loadLog(dto);
+        }
+    }
+
+    private void loadLog(ExecutionDTO dto) {
+        scriptExecuteTaskFactories.getOpenLogFactory().create(dto)
+                .onSuccess(reader -> onLogOpened(dto, reader))
+                .onError(error -> alertHelper.unexpectedAlert(error.getUnexpectedError()))
+                .run();
+    }
+
+    @FxThread
+    protected void onLogOpened(ExecutionDTO dto, ScriptLogReader reader) {
+        if (reader != null && reader.isLarge()) {
+            showPagedLog(reader);
+        } else {
+            closeLogReader(reader);
+            loadCompleteLog(dto);
+        }
+    }
+
+    private void showPagedLog(ScriptLogReader reader) {
+        logReader = reader;
+        logPagingBar.setManaged(true);
+        logPagingBar.setVisible(true);
+        boolean running = executionPropertiesDTO.getState() == ScriptState.RUNNING;
+        scriptingStopButton.setDisable(!running);
+        logFollowButton.setDisable(!running);
+        logFollowButton.setSelected(running);
+        if (running) {
+            logFollowTimeline.play();
+            queueRefreshTimeline.play();
+        }
+        showLogWindow(-1, -1);
+    }
+
+    private void showLogWindow(int firstLine, int selectLine) {
+        if (logReader == null) {
+            return;
+        }
+        if (logWindowLoading) {
+            // only the latest request is of interest
+            pendingLogWindow = new int[]{firstLine, selectLine};
+            return;
+        }
+        logWindowLoading = true;
+        scriptExecuteTaskFactories.getReadLogFactory().create(logReader, firstLine)
+                .onSuccess(window -> onLogWindowRead(window, selectLine))
+                .onError(error -> alertHelper.unexpectedAlert(error.getUnexpectedError()))
+                .onFinally(this::onLogWindowDone)
+                .run();
+    }
+
+    @FxThread
+    protected void onLogWindowDone() {
+        logWindowLoading = false;
+        int[] pending = pendingLogWindow;
+        pendingLogWindow = null;
+        if (pending != null) {
+            showLogWindow(pending[0], pending[1]);
+        }
+    }
+
+    @FxThread
+    protected void onLogWindowRead(ScriptLogWindow window, int selectLine) {
+        logWindow = window;
+        logArea.clear();
+        LogAreaUtils.appendColorful(logArea, String.join("\n", window.lines()));
+        logLinesLabel.setText(MessageFormat.format(resources.getString("scripting.log.lines"),
+                window.lines().isEmpty() ? 0 : window.firstLine() + 1, window.lastLine(), window.lineCount()));
+        logPreviousButton.setDisable(window.firstLine() == 0);
+        logNextButton.setDisable(window.lastLine() >= window.lineCount());
+        if (selectLine >= window.firstLine() && selectLine < window.lastLine()) {
+            logArea.moveTo(selectLine - window.firstLine(), 0);
+            logArea.selectLine();
+            logArea.requestFollowCaret();
+        } else if (logFollowButton.isSelected()) {
+            logArea.moveTo(logArea.getLength());
+            logArea.requestFollowCaret();
+        }
+    }
+
+    @FXML
+    private void onLogPreviousClicked() {
+        if (logWindow != null) {
+            logFollowButton.setSelected(false);
+            showLogWindow(Math.max(0, logWindow.firstLine() - ScriptLogReader.WINDOW_LINES), -1);
+        }
+    }
+
+    @FXML
+    private void onLogNextClicked() {
+        if (logWindow != null) {
+            showLogWindow(logWindow.lastLine(), -1);
         }
     }
 
+    @FXML
+    private void onLogFollowClicked() {
+        if (logFollowButton.isSelected()) {
+            showLogWindow(-1, -1);
+        }
+    }
+
+    @FXML
+    private void onLogSearch() {
+        String text = logSearchField.getText();
+        if (logReader == null || text == null || text.isEmpty()) {
+            return;
+        }
+        if (!text.equals(lastLogSearch)) {
+            lastLogSearch = text;
+            lastLogMatch = -1;
+        }
+        logSearchField.setDisable(true);
+        logSearchButton.setDisable(true);
+        scriptExecuteTaskFactories.getSearchLogFactory().create(logReader, text, lastLogMatch + 1)
+                .onSuccess(this::onLogSearchFinished)
+                .onError(error -> alertHelper.unexpectedAlert(error.getUnexpectedError()))
+                .onFinally(this::onLogSearchDone)
+                .run();
+    }
+
+    @FxThread
+    protected void onLogSearchFinished(Integer line) {
+        if (line < 0) {
+            lastLogMatch = -1;
+            logLinesLabel.setText(MessageFormat.format(resources.getString("scripting.log.search.notFound"), lastLogSearch));
+            return;
+        }
+        lastLogMatch = line;
+        logFollowButton.setSelected(false);
+        showLogWindow(Math.max(0, line - ScriptLogReader.WINDOW_LINES / 2), line);
+    }
+
+    @FxThread
+    protected void onLogSearchDone() {
+        logSearchField.setDisable(false);
+        logSearchButton.setDisable(false);
+    }
+
+    private void followLog() {
+        if (logFollowButton.isSelected()) {
+            showLogWindow(-1, -1);
+        }
+    }
+
+    private void stopFollowLog() {
+        if (logReader == null) {
+            return;
+        }
+        logFollowTimeline.stop();
+        followLog();
+        logFollowButton.setDisable(true);
+    }
+
+    private void closeLogReader(ScriptLogReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (IOException e) {
+            LOGGER.debug("Unable to close log.", e);
+        }
+    }
+
+    private void loadCompleteLog(ExecutionDTO dto) {
+        scriptExecuteTaskFactories.getLoadLogFactory().create(dto)
+                .onSuccess(log -> {
+                    LogAreaUtils.appendColorful(logArea, log);
+                    if (executionPropertiesDTO.getState() == ScriptState.RUNNING) {
+                        scriptingStopButton.setDisable(false);
+                        connectLog(dto);
+                        queueRefreshTimeline.play();
+                    } else {
+                        scriptingStopButton.setDisable(true);
+                    }
+                })
+                .onError(error -> alertHelper.unexpectedAlert(error.getUnexpectedError()))
+                .run();
+    }
+
     private void connectLog(ExecutionDTO dto) {
-        if (appender != null) {
+        if (appender != null || logReader != null) {
             return;
         }
         scriptingStopButton.setDisable(false);
@@ -113,10 +339,36 @@ public class SingleExecutionViewController extends BaseControllerImpl {
         scriptLogger.addAppender(appender);
     }
 
+    private void refreshQueueStats() {
+        ExecutionDTO dto = executionDTO;
+        Queue queue = dto == null ? null : dto.getQueue();
+        if (queue != null && dto.getExecutionTime() == null) {
+            showQueueStats(MessageFormat.format(resources.getString("scripting.queue.running"),
+                    queue.getDepth(), queue.getCapacity(), queue.getPeakDepth(), queue.getDropped()));
+        } else if (dto != null && dto.getQueuePeakDepth() != null) {
+            showQueueStats(MessageFormat.format(resources.getString("scripting.queue.finished"),
+                    dto.getQueuePeakDepth(), dto.getQueueDropped()));
+        } else {
+            queueLabel.setVisible(false);
+        }
+    }
+
+    private void showQueueStats(String text) {
+        queueLabel.setText(text);
+        queueLabel.setVisible(true);
+    }
+
+    private void stopQueueRefresh() {
+        queueRefreshTimeline.stop();
+        refreshQueueStats();
+    }
+
     @SuppressWarnings("unused")
     // NOT IN FX THREAD
     public void onScriptExecutionProgress(@Observes ScriptExecutionProgressEvent event) {
+        executionDTO = event.getExecutionDTO();
         connectLog(event.getExecutionDTO());
+        Platform.runLater(queueRefreshTimeline::play);
     }
 
     @SuppressWarnings("unused")
@@ -124,6 +376,8 @@ public class SingleExecutionViewController extends BaseControllerImpl {
     public void onScriptExecutionCancelled(@Observes ScriptExecutionCancelledEvent event) {
         scriptingStopButton.setDisable(true);
         disconnectLog(event.getExecutionDTO());
+        stopQueueRefresh();
+        stopFollowLog();
     }
 
     private void disconnectLog(ExecutionDTO dto) {
@@ -138,6 +392,8 @@ public class SingleExecutionViewController extends BaseControllerImpl {
     public void onScriptExecutionSuccess(@Observes ScriptExecutionSuccessEvent event) {
         scriptingStopButton.setDisable(true);
         disconnectLog(event.getExecutionDTO());
+        stopQueueRefresh();
+        stopFollowLog();
     }
 
     @FxThread
@@ -145,9 +401,15 @@ public class SingleExecutionViewController extends BaseControllerImpl {
     public void onScriptExecutionFailed(@Observes ScriptExecutionFailedEvent event) {
         scriptingStopButton.setDisable(true);
         disconnectLog(event.getExecutionDTO());
+        stopQueueRefresh();
+        stopFollowLog();
     }
 
     public void cleanup() {
+        queueRefreshTimeline.stop();
+        logFollowTimeline.stop();
+        closeLogReader(logReader);
+        logReader = null;
         if (appender != null) {
             appender.stop();
         }
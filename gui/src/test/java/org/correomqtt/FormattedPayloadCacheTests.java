@@ -0,0 +1,68 @@
+package org.correomqtt;
+
+import org.correomqtt.gui.formats.FormattedPayload;
+import org.correomqtt.gui.formats.FormattedPayloadCache;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class FormattedPayloadCacheTests {
+
+    private final FormattedPayloadCache cache = new FormattedPayloadCache();
+
+    private static FormattedPayload formatted(String text) {
+        return new FormattedPayload(null, text, null);
+    }
+
+    @Test
+    void testCachedPerMessageAndPayload() {
+        FormattedPayload formatted = formatted("{ }");
+        cache.put("id", "{}", formatted);
+
+        assertSame(formatted, cache.get("id", "{}"));
+        assertNull(cache.get("id", "[]"));
+        assertNull(cache.get("other", "{}"));
+    }
+
+    @Test
+    void testMessagesWithoutIdAreNotCached() {
+        cache.put(null, "{}", formatted("{ }"));
+
+        assertNull(cache.get(null, "{}"));
+    }
+
+    @Test
+    void testLeastRecentlyUsedIsEvicted() {
+        for (int i = 0; i < 32; i++) {
+            cache.put("id" + i, "payload", formatted("text"));
+        }
+        cache.get("id0", "payload");
+
+        cache.put("id32", "payload", formatted("text"));
+
+        assertNotNull(cache.get("id0", "payload"));
+        assertNull(cache.get("id1", "payload"));
+        assertNotNull(cache.get("id32", "payload"));
+    }
+
+    @Test
+    void testSizeIsBounded() {
+        String large = "x".repeat(5 * 1024 * 1024);
+        cache.put("first", large, formatted(large));
+        cache.put("second", large, formatted(large));
+
+        // both together exceed the limit of characters
+        assertNull(cache.get("first", large));
+        assertNotNull(cache.get("second", large));
+    }
+
+    @Test
+    void testTooLargePayloadIsNotCached() {
+        String tooLarge = "x".repeat(16 * 1024 * 1024);
+        cache.put("id", tooLarge, formatted("x"));
+
+        assertNull(cache.get("id", tooLarge));
+    }
+}
@@ -0,0 +1,77 @@
+package org.correomqtt;
+
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import org.correomqtt.gui.log.LogAreaSink;
+import org.fxmisc.richtext.StyleClassedTextArea;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+import org.testfx.util.WaitForAsyncUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogAreaSinkTests extends ApplicationTest {
+
+    private StyleClassedTextArea area;
+
+    @Override
+    public void start(Stage stage) {
+        area = new StyleClassedTextArea();
+        stage.setScene(new Scene(area, 400, 300));
+        stage.show();
+    }
+
+    @Test
+    void testMessagesAreAppendedInOrder() {
+        LogAreaSink sink = new LogAreaSink(area);
+        sink.append("first\n");
+        sink.append(null);
+        sink.append("");
+        sink.append("second\n");
+        WaitForAsyncUtils.waitForFxEvents();
+
+        assertEquals("first\nsecond\n", area.getText());
+    }
+
+    @Test
+    void testColorCodesAreRemoved() {
+        LogAreaSink sink = new LogAreaSink(area);
+        sink.append("\u001B[36mcyan\u001B[0;39m default\n");
+        WaitForAsyncUtils.waitForFxEvents();
+
+        assertEquals("cyan default\n", area.getText());
+        assertTrue(area.getStyleOfChar(0).contains("cyan"));
+    }
+
+    @Test
+    void testAreaIsCapped() {
+        LogAreaSink sink = new LogAreaSink(area, 3);
+        for (int i = 0; i < 10; i++) {
+            sink.append("line " + i + "\n");
+        }
+        WaitForAsyncUtils.waitForFxEvents();
+        sink.append("line 10\n");
+        WaitForAsyncUtils.waitForFxEvents();
+
+        assertTrue(area.getParagraphs().size() <= 3, area.getText());
+        assertTrue(area.getText().endsWith("line 9\nline 10\n"), area.getText());
+        assertFalse(area.getText().contains("line 7"), area.getText());
+    }
+
+    @Test
+    void testClearDropsPendingMessages() {
+        LogAreaSink sink = new LogAreaSink(area);
+        sink.append("shown\n");
+        WaitForAsyncUtils.waitForFxEvents();
+
+        interact(() -> {
+            sink.append("dropped\n");
+            sink.clear();
+        });
+        WaitForAsyncUtils.waitForFxEvents();
+
+        assertEquals("", area.getText());
+    }
+}
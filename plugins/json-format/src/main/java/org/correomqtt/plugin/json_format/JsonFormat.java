@@ -1,16 +1,13 @@
 package org.correomqtt.plugin.json_format;
 
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.JsonToken;
-import com.fasterxml.jackson.core.PrettyPrinter;
+import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.core.util.DefaultIndenter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
-import com.fasterxml.jackson.databind.MapperFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.util.ArrayList;
-import java.util.List;
+import org.correomqtt.gui.formats.FormatConfidence;
 import org.correomqtt.gui.plugin.spi.DetailViewFormatHook;
 import org.fxmisc.richtext.model.StyleSpans;
 import org.fxmisc.richtext.model.StyleSpansBuilder;
@@ -19,6 +16,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -32,68 +30,74 @@ public class JsonFormat implements DetailViewFormatHook {
     private static final String NUMBER_CLASS = "numberJSON";
     private static final String BOOLEAN_CLASS = "booleanJSON";
     private static final String NULL_CLASS = "nullJSON";
-    private static ObjectMapper OBJECT_MAPPER;
-    private static final PrettyPrinter PRETTY_PRINTER = new DefaultPrettyPrinter().withObjectIndenter(new DefaultIndenter().withLinefeed("\n"));
+    private static final DefaultPrettyPrinter PRETTY_PRINTER = new DefaultPrettyPrinter().withObjectIndenter(new DefaultIndenter().withLinefeed("\n"));
+
+    // payloads may be larger than the parser defaults allow, but a single value still has to fit into the view
+    private static final int MAX_NESTING_DEPTH = 10_000;
+    private static final int MAX_STRING_LENGTH = 64 * 1024 * 1024;
+    private static final int MAX_NUMBER_LENGTH = 10_000;
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .streamReadConstraints(StreamReadConstraints.builder()
+                    .maxNestingDepth(MAX_NESTING_DEPTH)
+                    .maxStringLength(MAX_STRING_LENGTH)
+                    .maxNumberLength(MAX_NUMBER_LENGTH)
+                    .build())
+            .build();
 
     private String text;
-    private Object jsonObject;
+    private FormattedJson formattedJson;
+    private boolean parsed;
+
+    @Override
+    public FormatConfidence sniff(byte[] prefix) {
+        int i = DetailViewFormatHook.skipBomAndWhitespace(prefix);
+        if (i == prefix.length) {
+            // the payload may start after the sniffed window
+            return FormatConfidence.POSSIBLE;
+        }
+        return switch (prefix[i]) {
+            case '{', '[' -> FormatConfidence.LIKELY;
+            // scalars are valid json, too
+            case '"', '-', 't', 'f', 'n', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9' -> FormatConfidence.POSSIBLE;
+            default -> FormatConfidence.NONE;
+        };
+    }
 
     @Override
     public void setText(String text) {
         this.text = text;
-        this.jsonObject = createJsonObject();
+        this.formattedJson = null;
+        this.parsed = false;
     }
 
     @Override
     public boolean isValid() {
-        return getParsedJsonObject() != null;
-    }
-
-    private Object getParsedJsonObject() {
-
-        if (jsonObject == null) {
-            jsonObject = createJsonObject();
-        }
-
-        return jsonObject;
-    }
-
-    private static ObjectMapper getObjectMapper() {
-
-        if (OBJECT_MAPPER == null) {
-
-            OBJECT_MAPPER = new ObjectMapper();
-            OBJECT_MAPPER.configure(MapperFeature.CAN_OVERRIDE_ACCESS_MODIFIERS, false);
-        }
-
-        return OBJECT_MAPPER;
+        return getFormattedJson() != null;
     }
 
-    private Object createJsonObject() {
-
-        try {
-            jsonObject = getObjectMapper().readValue(text, Object.class);
-        } catch (IOException e) {
-            LOGGER.trace("JSON could not be parsed. ", e);
-            return null;
+    private FormattedJson getFormattedJson() {
+        if (!parsed) {
+            formattedJson = format(text);
+            parsed = true;
         }
-
-        return jsonObject;
+        return formattedJson;
     }
 
     @Override
     public String getPrettyString() {
+        FormattedJson json = getFormattedJson();
+        return json == null ? text : json.pretty();
+    }
 
-        if (getParsedJsonObject() == null) {
-            return text;
-        }
-
-        try {
-            return getObjectMapper().writer(PRETTY_PRINTER).writeValueAsString(getParsedJsonObject());
-        } catch (JsonProcessingException e) {
-            LOGGER.trace("Could not write pretty JSON. ", e);
-            return text;
+    @Override
+    public StyleSpans<Collection<String>> getFxSpans() {
+        FormattedJson json = getFormattedJson();
+        if (json != null) {
+            return json.spans();
         }
+        StyleSpansBuilder<Collection<String>> spansBuilder = new StyleSpansBuilder<>();
+        spansBuilder.add(Collections.emptyList(), text == null ? 0 : text.length());
+        return spansBuilder.create();
     }
 
     public static String mapJsonToStyle(JsonToken jsonToken) {
@@ -112,58 +116,144 @@ public class JsonFormat implements DetailViewFormatHook {
         };
     }
 
-    private List<JsonMatch> getMatches(String json) {
-
-        List<JsonMatch> matches = new ArrayList<>();
-
-        try (JsonParser parser = new JsonFactory().createParser(json)) {
-            while (!parser.isClosed()) {
-                var token = parser.nextToken();
-                int start = (int) parser.getTokenLocation().getCharOffset();
-                int end = start + parser.getTextLength();
-
-                // parser does not include " by default
-                if (token == JsonToken.VALUE_STRING || token == JsonToken.FIELD_NAME) {
-                    end += 2;
-                }
-
+    /**
+     * Pretty prints the json and computes the style spans in a single pass over the tokens.
+     *
+     * @return null, if the text is not a single json value
+     */
+    private static FormattedJson format(String text) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilderWriter out = new StringBuilderWriter(text.length() + text.length() / 4);
+        StyleSpansBuilder<Collection<String>> spansBuilder = new StyleSpansBuilder<>();
+        int lastPos = 0;
+        try (JsonParser parser = JSON_FACTORY.createParser(text);
+             JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            // the printer keeps the nesting level, so every run needs its own
+            generator.setPrettyPrinter(PRETTY_PRINTER.createInstance());
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return null;
+            }
+            while (token != null) {
                 String styleClass = mapJsonToStyle(token);
-
-                if (!styleClass.isEmpty()) {
-                    JsonMatch match = new JsonMatch(styleClass, start, end);
-                    matches.add(match);
+                if (styleClass.isEmpty()) {
+                    copyToken(parser, generator, token);
+                } else {
+                    // flush around the token, so its position in the output is known
+                    generator.flush();
+                    int before = out.length();
+                    copyToken(parser, generator, token);
+                    generator.flush();
+                    int start = out.tokenStart(before);
+                    int end = out.length();
+                    if (start > lastPos) {
+                        spansBuilder.add(Collections.emptyList(), start - lastPos);
+                    }
+                    spansBuilder.add(Collections.singleton(styleClass), end - start);
+                    lastPos = end;
                 }
+                if (parser.getParsingContext().inRoot()) {
+                    // the root value is complete, anything else means this is not plain json
+                    if (parser.nextToken() != null) {
+                        return null;
+                    }
+                    break;
+                }
+                token = parser.nextToken();
             }
+            generator.flush();
         } catch (IOException e) {
-            // if not valid json, just ignore
+            LOGGER.trace("JSON could not be formatted. ", e);
+            return null;
         }
+        int length = out.length();
+        if (length > lastPos || lastPos == 0) {
+            spansBuilder.add(Collections.emptyList(), length - lastPos);
+        }
+        return new FormattedJson(out.toString(), spansBuilder.create());
+    }
 
-        return matches;
+    private static void copyToken(JsonParser parser, JsonGenerator generator, JsonToken token) throws IOException {
+        switch (token) {
+            case START_OBJECT -> generator.writeStartObject();
+            case END_OBJECT -> generator.writeEndObject();
+            case START_ARRAY -> generator.writeStartArray();
+            case END_ARRAY -> generator.writeEndArray();
+            case FIELD_NAME -> generator.writeFieldName(parser.getCurrentName());
+            case VALUE_STRING -> generator.writeString(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            // keeps the number as written, e.g. without losing precision
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> generator.writeNumber(parser.getText());
+            case VALUE_TRUE -> generator.writeBoolean(true);
+            case VALUE_FALSE -> generator.writeBoolean(false);
+            case VALUE_NULL -> generator.writeNull();
+            default -> generator.copyCurrentEvent(parser);
+        }
     }
 
-    @Override
-    public StyleSpans<Collection<String>> getFxSpans() {
+    private record FormattedJson(String pretty, StyleSpans<Collection<String>> spans) {
+    }
 
-        StyleSpansBuilder<Collection<String>> spansBuilder = new StyleSpansBuilder<>();
-        var prettyString = getPrettyString();
-        int lastPos = 0;
+    /**
+     * Unsynchronized writer, that allows to look at the text written so far.
+     */
+    private static class StringBuilderWriter extends Writer {
 
-        for (JsonMatch match : getMatches(prettyString)) {
-            if (match.getStart() > lastPos) {
-                int length = match.getStart() - lastPos;
-                spansBuilder.add(Collections.emptyList(), length);
+        private final StringBuilder builder;
+
+        StringBuilderWriter(int capacity) {
+            builder = new StringBuilder(capacity);
+        }
+
+        int length() {
+            return builder.length();
+        }
+
+        /**
+         * The pretty printer writes separators and indentation in front of a token. Tokens never start with one of
+         * those characters.
+         */
+        int tokenStart(int from) {
+            int i = from;
+            while (i < builder.length()) {
+                char c = builder.charAt(i);
+                if (c != ',' && c != ':' && !Character.isWhitespace(c)) {
+                    break;
+                }
+                i++;
             }
+            return i;
+        }
 
-            // add current token with style, then remember pos for next iteration
-            spansBuilder.add(Collections.singleton(match.getType()), match.getEnd() - match.getStart());
-            lastPos = match.getEnd();
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            builder.append(cbuf, off, len);
         }
 
-        // prevent exception if empty string
-        if (lastPos == 0) {
-            spansBuilder.add(Collections.emptyList(), prettyString.length());
+        @Override
+        public void write(String str, int off, int len) {
+            builder.append(str, off, off + len);
         }
 
-        return spansBuilder.create();
+        @Override
+        public void write(int c) {
+            builder.append((char) c);
+        }
+
+        @Override
+        public void flush() {
+            // nothing buffered
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+
+        @Override
+        public String toString() {
+            return builder.toString();
+        }
     }
 }
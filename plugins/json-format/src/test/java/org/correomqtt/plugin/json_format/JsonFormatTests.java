@@ -0,0 +1,183 @@
+package org.correomqtt.plugin.json_format;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.correomqtt.gui.formats.FormatConfidence;
+import org.fxmisc.richtext.model.StyleSpan;
+import org.fxmisc.richtext.model.StyleSpans;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonFormatTests {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private record Segment(String style, String text) {
+    }
+
+    private static JsonFormat format(String text) {
+        JsonFormat format = new JsonFormat();
+        format.setText(text);
+        return format;
+    }
+
+    /**
+     * The styled parts of the pretty string, as the view shows them.
+     */
+    private static List<Segment> segments(String pretty, StyleSpans<Collection<String>> spans) {
+        List<Segment> segments = new ArrayList<>();
+        int pos = 0;
+        for (StyleSpan<Collection<String>> span : spans) {
+            if (!span.getStyle().isEmpty()) {
+                segments.add(new Segment(span.getStyle().iterator().next(), pretty.substring(pos, pos + span.getLength())));
+            }
+            pos += span.getLength();
+        }
+        assertEquals(pretty.length(), pos);
+        return segments;
+    }
+
+    /**
+     * Formatting as it was done before the streaming pass: read into an object graph, write it back and tokenize the
+     * result again.
+     */
+    private static String oldPrettyString(String text) throws IOException {
+        Object json = OBJECT_MAPPER.readValue(text, Object.class);
+        return OBJECT_MAPPER.writer(new DefaultPrettyPrinter().withObjectIndenter(new DefaultIndenter().withLinefeed("\n")))
+                .writeValueAsString(json);
+    }
+
+    private static List<Segment> oldSegments(String pretty) throws IOException {
+        List<Segment> segments = new ArrayList<>();
+        try (JsonParser parser = new JsonFactory().createParser(pretty)) {
+            while (!parser.isClosed()) {
+                JsonToken token = parser.nextToken();
+                int start = (int) parser.getTokenLocation().getCharOffset();
+                int end = start + parser.getTextLength();
+                if (token == JsonToken.VALUE_STRING || token == JsonToken.FIELD_NAME) {
+                    end += 2;
+                }
+                String style = JsonFormat.mapJsonToStyle(token);
+                if (!style.isEmpty()) {
+                    segments.add(new Segment(style, pretty.substring(start, end)));
+                }
+            }
+        }
+        return segments;
+    }
+
+    private static void assertSameAsBefore(String text) throws IOException {
+        JsonFormat format = format(text);
+        assertTrue(format.isValid());
+        String expected = oldPrettyString(text);
+        assertEquals(expected, format.getPrettyString());
+        assertEquals(oldSegments(expected), segments(format.getPrettyString(), format.getFxSpans()));
+    }
+
+    @Test
+    void testNested() throws IOException {
+        assertSameAsBefore("{\"a\":{\"b\":[1,2,{\"c\":null}],\"d\":true},\"e\":[[false,-3.5],[]],\"f\":\"text\"}");
+    }
+
+    @Test
+    void testEmpty() throws IOException {
+        assertSameAsBefore("{}");
+        assertSameAsBefore("[]");
+        assertSameAsBefore("{\"a\":{},\"b\":[]}");
+    }
+
+    @Test
+    void testScalarRoot() throws IOException {
+        assertSameAsBefore("\"text\"");
+        assertSameAsBefore("42");
+        assertSameAsBefore("true");
+        assertSameAsBefore("null");
+    }
+
+    @Test
+    void testUnicode() throws IOException {
+        assertSameAsBefore("{\"schl\u00fcssel\":\"\u20ac \ud83d\ude00\",\"escaped\":\"\\u00fc\"}");
+    }
+
+    @Test
+    void testEscapedStrings() throws IOException {
+        String text = "{\"a\\\"b\":\"line\\nbreak\",\"c\":\"back\\\\slash\"}";
+        JsonFormat format = format(text);
+
+        assertTrue(format.isValid());
+        assertEquals(oldPrettyString(text), format.getPrettyString());
+        // the escapes are part of the styled tokens
+        assertEquals(List.of(
+                new Segment("keyJSON", "\"a\\\"b\""),
+                new Segment("valueJSON", "\"line\\nbreak\""),
+                new Segment("keyJSON", "\"c\""),
+                new Segment("valueJSON", "\"back\\\\slash\"")
+        ), segments(format.getPrettyString(), format.getFxSpans()));
+    }
+
+    @Test
+    void testNumbersAreKeptAsWritten() {
+        JsonFormat format = format("[1.50,12345678901234567890123]");
+
+        assertTrue(format.isValid());
+        assertEquals(List.of(
+                new Segment("numberJSON", "1.50"),
+                new Segment("numberJSON", "12345678901234567890123")
+        ), segments(format.getPrettyString(), format.getFxSpans()));
+    }
+
+    @Test
+    void testTrailingGarbage() {
+        String text = "{\"a\":1} trailing";
+        JsonFormat format = format(text);
+
+        assertFalse(format.isValid());
+        assertEquals(text, format.getPrettyString());
+        assertEquals(List.of(), segments(text, format.getFxSpans()));
+    }
+
+    @Test
+    void testInvalid() {
+        for (String text : List.of("", "   ", "{\"a\":", "[1,2", "no json")) {
+            JsonFormat format = format(text);
+
+            assertFalse(format.isValid());
+            assertEquals(text, format.getPrettyString());
+            assertEquals(List.of(), segments(text, format.getFxSpans()));
+        }
+    }
+
+    @Test
+    void testTooLongNumberIsInvalid() {
+        assertFalse(format("1".repeat(20_000)).isValid());
+    }
+
+    @Test
+    void testSniff() {
+        JsonFormat format = new JsonFormat();
+
+        assertEquals(FormatConfidence.LIKELY, format.sniff("{\"a\":1}".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(FormatConfidence.LIKELY, format.sniff("\uFEFF \n[1]".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(FormatConfidence.POSSIBLE, format.sniff("42".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(FormatConfidence.NONE, format.sniff("<a/>".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testSniffOnlyWhitespaceIsPossible() {
+        // the json may start after the sniffed window
+        assertEquals(FormatConfidence.POSSIBLE, new JsonFormat().sniff(" \n\t".repeat(100).getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -1,5 +1,6 @@
 package org.correomqtt.plugin.xml_format;
 
+import org.correomqtt.gui.formats.FormatConfidence;
 import org.correomqtt.gui.plugin.spi.DetailViewFormatHook;
 import org.fxmisc.richtext.model.StyleSpans;
 import org.fxmisc.richtext.model.StyleSpansBuilder;
@@ -30,6 +31,7 @@ import javax.xml.xpath.XPathFactory;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.regex.Matcher;
@@ -60,6 +62,8 @@ public class XmlFormatPlugin implements DetailViewFormatHook {
     private static final String VALUE_CLASS = "avalueXML";
     private static final String EQUALSYMBOL_CLASS = TAG_CLASS;
 
+    private static final byte[] XML_DECLARATION = "<?xml".getBytes(StandardCharsets.US_ASCII);
+
     private String text;
     private Document xmlDocument;
 
@@ -121,6 +125,34 @@ public class XmlFormatPlugin implements DetailViewFormatHook {
         return spansBuilder.create();
     }
 
+    @Override
+    public FormatConfidence sniff(byte[] prefix) {
+        int i = DetailViewFormatHook.skipBomAndWhitespace(prefix);
+        if (i == prefix.length) {
+            // the payload may start after the sniffed window
+            return FormatConfidence.POSSIBLE;
+        }
+        if (prefix[i] != '<') {
+            return FormatConfidence.NONE;
+        }
+        if (startsWith(prefix, i, XML_DECLARATION)) {
+            return FormatConfidence.CERTAIN;
+        }
+        return FormatConfidence.LIKELY;
+    }
+
+    private static boolean startsWith(byte[] bytes, int offset, byte[] start) {
+        if (bytes.length - offset < start.length) {
+            return false;
+        }
+        for (int i = 0; i < start.length; i++) {
+            if (bytes[offset + i] != start[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public void setText(String text) {
         this.text = text;
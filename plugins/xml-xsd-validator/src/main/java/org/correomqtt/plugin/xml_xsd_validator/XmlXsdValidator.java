@@ -17,12 +17,18 @@ import javax.xml.validation.Validator;
 import java.io.File;
 import java.io.IOException;
 import java.io.StringReader;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @DefaultBean
 @Extension
 public class XmlXsdValidator implements MessageValidatorHook<XmlXsdValidatorConfig> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(XmlXsdValidator.class);
+
+    // compiled schemas are thread safe and shared by all instances, they are compiled again once the file changes
+    private static final Map<File, CompiledSchema> SCHEMAS = new ConcurrentHashMap<>();
+
     private final PluginConfigProvider pluginConfigProvider;
 
     private String schemaFile;
@@ -42,10 +48,7 @@ public class XmlXsdValidator implements MessageValidatorHook<XmlXsdValidatorConf
     @Override
     public Validation isMessageValid(String payload) {
         try {
-            SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-            factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-            factory.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
-            Schema schema = factory.newSchema(new File(pluginConfigProvider.getPluginPath(), schemaFile));
+            Schema schema = getSchema(new File(pluginConfigProvider.getPluginPath(), schemaFile));
             Validator validator = schema.newValidator();
             validator.validate(new StreamSource(new StringReader(payload)));
         } catch (IOException | SAXException e) {
@@ -57,4 +60,23 @@ public class XmlXsdValidator implements MessageValidatorHook<XmlXsdValidatorConf
         }
         return new Validation(true, schemaFile);
     }
+
+    private static Schema getSchema(File file) throws SAXException {
+        long lastModified = file.lastModified();
+        long length = file.length();
+        CompiledSchema compiled = SCHEMAS.get(file);
+        if (compiled != null && compiled.lastModified() == lastModified && compiled.length() == length) {
+            return compiled.schema();
+        }
+        // the factory is not thread safe, so each compilation uses its own
+        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        factory.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+        Schema schema = factory.newSchema(file);
+        SCHEMAS.put(file, new CompiledSchema(lastModified, length, schema));
+        return schema;
+    }
+
+    private record CompiledSchema(long lastModified, long length, Schema schema) {
+    }
 }